@@ -0,0 +1,25 @@
+package com.ll.quizzle.domain.member.cache;
+
+import com.ll.quizzle.domain.member.entity.Member;
+
+/**
+ * WebSocket 메시지에 표시할 회원 정보만 담은 불변 스냅샷입니다.
+ * 엔티티와 달리 영속성 컨텍스트와 무관하므로 노드 로컬 캐시에 그대로 보관합니다.
+ */
+public record MemberProfile(
+	Long id,
+	String email,
+	String nickname,
+	String avatarUrl,
+	int level
+) {
+	public static MemberProfile from(Member member) {
+		return new MemberProfile(
+			member.getId(),
+			member.getEmail(),
+			member.getNickname(),
+			member.getAvatar() != null ? member.getAvatar().getUrl() : null,
+			member.getLevel()
+		);
+	}
+}
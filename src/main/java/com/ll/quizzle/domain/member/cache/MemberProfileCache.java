@@ -0,0 +1,176 @@
+package com.ll.quizzle.domain.member.cache;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.ll.quizzle.domain.member.entity.Member;
+import com.ll.quizzle.domain.member.repository.MemberRepository;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * WebSocket 메시지 경로에서 닉네임, 아바타, 레벨을 조회할 때 사용하는 노드 로컬 회원 프로필 캐시입니다.
+ * - 적재: 캐시에 없는 회원만 모아 한 번의 IN 쿼리로 가져옵니다.
+ * - 축출: Caffeine(W-TinyLFU) 크기 제한
+ * - 무효화: 프로필이 바뀌는 트랜잭션이 커밋된 뒤 member:profile:invalidate 채널로 모든 노드에 알립니다.
+ * - 지표: member.profile 이름으로 hit/miss/eviction 이 Micrometer 에 노출됩니다.
+ */
+@Slf4j
+@Component
+public class MemberProfileCache implements MessageListener {
+
+	public static final String INVALIDATE_CHANNEL = "member:profile:invalidate";
+	private static final String CACHE_NAME = "member.profile";
+
+	private final MemberRepository memberRepository;
+	private final RedisTemplate<String, String> stringRedisTemplate;
+	private final RedisMessageListenerContainer listenerContainer;
+	private final Cache<Long, MemberProfile> profiles;
+	// 이메일은 바뀌지 않으므로 이메일 -> ID 인덱스는 프로필 무효화와 무관하게 유지합니다.
+	private final Cache<String, Long> emailIndex;
+
+	public MemberProfileCache(MemberRepository memberRepository,
+		RedisTemplate<String, String> stringRedisTemplate,
+		RedisMessageListenerContainer listenerContainer,
+		MeterRegistry meterRegistry,
+		@Value("${quizzle.member.profile-cache.maximum-size:50000}") long maximumSize) {
+		this.memberRepository = memberRepository;
+		this.stringRedisTemplate = stringRedisTemplate;
+		this.listenerContainer = listenerContainer;
+		this.profiles = Caffeine.newBuilder()
+			.maximumSize(maximumSize)
+			.recordStats()
+			.build();
+		this.emailIndex = Caffeine.newBuilder()
+			.maximumSize(maximumSize)
+			.build();
+		CaffeineCacheMetrics.monitor(meterRegistry, profiles, CACHE_NAME);
+	}
+
+	@PostConstruct
+	public void init() {
+		listenerContainer.addMessageListener(this, new ChannelTopic(INVALIDATE_CHANNEL));
+		log.debug("회원 프로필 캐시 무효화 채널 구독 완료: {}", INVALIDATE_CHANNEL);
+	}
+
+	public Optional<MemberProfile> get(Long memberId) {
+		return Optional.ofNullable(getAll(List.of(memberId)).get(memberId));
+	}
+
+	/**
+	 * 여러 회원의 프로필을 조회합니다. 캐시에 없는 회원은 한 번의 쿼리로 함께 적재하며,
+	 * 존재하지 않는 회원은 결과에서 빠집니다. 반환 순서는 요청한 ID 순서를 따릅니다.
+	 */
+	public Map<Long, MemberProfile> getAll(Collection<Long> memberIds) {
+		Map<Long, MemberProfile> loaded = profiles.getAll(memberIds, this::loadAll);
+		Map<Long, MemberProfile> result = new LinkedHashMap<>();
+		for (Long memberId : memberIds) {
+			MemberProfile profile = loaded.get(memberId);
+			if (profile != null) {
+				result.put(memberId, profile);
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * 이메일로 여러 회원의 프로필을 조회합니다. 이메일 인덱스에 없는 회원만 한 번의 쿼리로 적재합니다.
+	 */
+	public Map<String, MemberProfile> getAllByEmails(Collection<String> emails) {
+		Map<String, MemberProfile> result = new HashMap<>();
+		Map<Long, String> indexedIds = new HashMap<>();
+		List<String> misses = new ArrayList<>();
+
+		for (String email : emails) {
+			Long memberId = emailIndex.getIfPresent(email);
+			if (memberId != null) {
+				indexedIds.put(memberId, email);
+			} else {
+				misses.add(email);
+			}
+		}
+
+		if (!indexedIds.isEmpty()) {
+			getAll(indexedIds.keySet()).forEach((memberId, profile) -> result.put(profile.email(), profile));
+		}
+
+		if (!misses.isEmpty()) {
+			for (Member member : memberRepository.findAllWithAvatarByEmailIn(misses)) {
+				MemberProfile profile = MemberProfile.from(member);
+				profiles.put(profile.id(), profile);
+				emailIndex.put(profile.email(), profile.id());
+				result.put(profile.email(), profile);
+			}
+		}
+
+		return result;
+	}
+
+	/**
+	 * 현재 트랜잭션이 커밋된 뒤 모든 노드에서 해당 회원의 프로필을 제거합니다.
+	 * 롤백되면 아무 일도 하지 않으며, 트랜잭션 밖에서 호출하면 즉시 제거합니다.
+	 */
+	public void invalidateAfterCommit(Long memberId) {
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			invalidate(memberId);
+			return;
+		}
+
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCommit() {
+				invalidate(memberId);
+			}
+		});
+	}
+
+	public void invalidate(Long memberId) {
+		profiles.invalidate(memberId);
+		stringRedisTemplate.convertAndSend(INVALIDATE_CHANNEL, memberId.toString());
+	}
+
+	@Override
+	public void onMessage(@NonNull Message message, byte[] pattern) {
+		String body = new String(message.getBody(), StandardCharsets.UTF_8);
+		try {
+			profiles.invalidate(Long.valueOf(body.replace("\"", "").trim()));
+			log.debug("회원 프로필 캐시 무효화 수신: memberId={}", body);
+		} catch (NumberFormatException e) {
+			log.warn("잘못된 회원 프로필 무효화 메시지: {}", body);
+		}
+	}
+
+	private Map<Long, MemberProfile> loadAll(Set<? extends Long> memberIds) {
+		Map<Long, MemberProfile> loaded = new HashMap<>();
+		for (Member member : memberRepository.findAllWithAvatarByIdIn(new ArrayList<>(memberIds))) {
+			MemberProfile profile = MemberProfile.from(member);
+			loaded.put(profile.id(), profile);
+			emailIndex.put(profile.email(), profile.id());
+		}
+		log.debug("회원 프로필 캐시 적재: 요청={}, 조회={}", memberIds.size(), loaded.size());
+		return loaded;
+	}
+}
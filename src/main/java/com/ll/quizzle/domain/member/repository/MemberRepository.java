@@ -1,12 +1,20 @@
 package com.ll.quizzle.domain.member.repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import com.ll.quizzle.domain.member.entity.Member;
 
+import jakarta.persistence.LockModeType;
+
 public interface MemberRepository extends JpaRepository<Member, Long> {
     Optional<Member> findByEmail(String memberEmail);
     Optional<Member> findById(Long id);
@@ -14,4 +22,24 @@ public interface MemberRepository extends JpaRepository<Member, Long> {
     boolean existsByNickname(String nickname);
     
     List<Member> findAllByOrderByExpDesc();
+
+    // 프로필 캐시 일괄 적재용: 아바타까지 한 번의 쿼리로 가져옵니다.
+    @EntityGraph(attributePaths = "avatar")
+    List<Member> findAllWithAvatarByIdIn(Collection<Long> ids);
+
+    @EntityGraph(attributePaths = "avatar")
+    List<Member> findAllWithAvatarByEmailIn(Collection<String> emails);
+
+    // 퀴즈 정산용: 경험치를 계산하는 동안 다른 변경이 끼어들지 않도록 한 번의 쿼리로 잠급니다.
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT m FROM Member m WHERE m.id IN :ids")
+    List<Member> findAllForUpdateByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Member m SET m.exp = m.exp + :gain WHERE m.id IN :ids")
+    int increaseExp(@Param("ids") Collection<Long> ids, @Param("gain") int gain);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Member m SET m.level = :level, m.pointBalance = m.pointBalance + :reward WHERE m.id IN :ids")
+    int levelUp(@Param("ids") Collection<Long> ids, @Param("level") int level, @Param("reward") int reward);
 }
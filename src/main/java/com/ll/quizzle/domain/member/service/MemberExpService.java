@@ -1,5 +1,6 @@
 package com.ll.quizzle.domain.member.service;
 
+import com.ll.quizzle.domain.member.cache.MemberProfileCache;
 import com.ll.quizzle.domain.member.entity.Member;
 import com.ll.quizzle.domain.member.repository.MemberRepository;
 import com.ll.quizzle.domain.point.service.PointService;
@@ -9,15 +10,23 @@ import com.ll.quizzle.global.exceptions.ServiceException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
 @Service
 public class MemberExpService {
 
     private final MemberRepository memberRepository;
     private final PointService pointService; // PointService 주입
+    private final MemberProfileCache memberProfileCache;
 
-    public MemberExpService(MemberRepository memberRepository, PointService pointService) {
+    public MemberExpService(MemberRepository memberRepository, PointService pointService,
+                            MemberProfileCache memberProfileCache) {
         this.memberRepository = memberRepository;
         this.pointService = pointService;
+        this.memberProfileCache = memberProfileCache;
     }
 
     @Transactional
@@ -39,5 +48,46 @@ public class MemberExpService {
         }
 
         memberRepository.save(member);
+        memberProfileCache.invalidateAfterCommit(memberId);
+    }
+
+    /**
+     * 퀴즈 정산 보상을 한 트랜잭션에서 일괄 반영합니다.
+     * 대상 회원을 한 번에 잠가 읽은 뒤, 같은 경험치를 받는 회원끼리, 같은 레벨로 오르는 회원끼리 묶어 UPDATE 합니다.
+     * 레벨업 규칙과 보상은 updateMemberExp 와 같습니다. (레벨은 내려가지 않고, 레벨업 시 LEVEL_UP 포인트 지급)
+     */
+    @Transactional
+    public void applyQuizRewards(Map<Long, Integer> expByMemberId) {
+        if (expByMemberId.isEmpty()) {
+            return;
+        }
+
+        Map<Integer, List<Long>> membersByGain = new HashMap<>();
+        Map<Integer, List<Long>> membersByNewLevel = new HashMap<>();
+        List<Long> leveledUp = new ArrayList<>();
+
+        for (Member member : memberRepository.findAllForUpdateByIdIn(expByMemberId.keySet())) {
+            int gain = expByMemberId.getOrDefault(member.getId(), 0);
+            if (gain <= 0) {
+                continue;
+            }
+            membersByGain.computeIfAbsent(gain, key -> new ArrayList<>()).add(member.getId());
+
+            int newLevel = (member.getExp() + gain) / 100;
+            if (newLevel > member.getLevel()) {
+                membersByNewLevel.computeIfAbsent(newLevel, key -> new ArrayList<>()).add(member.getId());
+                leveledUp.add(member.getId());
+            }
+        }
+
+        membersByGain.forEach((gain, memberIds) -> memberRepository.increaseExp(memberIds, gain));
+
+        int reward = PointReason.LEVEL_UP.getDefaultAmount();
+        membersByNewLevel.forEach((level, memberIds) -> memberRepository.levelUp(memberIds, level, reward));
+        if (!leveledUp.isEmpty()) {
+            pointService.recordRewardHistories(leveledUp, PointReason.LEVEL_UP);
+        }
+
+        membersByGain.values().forEach(memberIds -> memberIds.forEach(memberProfileCache::invalidateAfterCommit));
     }
 }
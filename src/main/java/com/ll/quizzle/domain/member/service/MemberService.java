@@ -15,6 +15,7 @@ import org.springframework.transaction.annotation.Transactional;
 
 import com.ll.quizzle.domain.avatar.entity.Avatar;
 import com.ll.quizzle.domain.avatar.repository.AvatarRepository;
+import com.ll.quizzle.domain.member.cache.MemberProfileCache;
 import com.ll.quizzle.domain.member.dto.response.MemberProfileEditResponse;
 import com.ll.quizzle.domain.member.dto.response.MemberRankingResponse;
 import com.ll.quizzle.domain.member.entity.Member;
@@ -53,6 +54,7 @@ public class MemberService {
 	private final AuthTokenService authTokenService;
 	private final JwtProperties jwtProperties;
 	private final Rq rq;
+	private final MemberProfileCache memberProfileCache;
 
 	private static final String LOGOUT_PREFIX = "LOGOUT:";
 
@@ -117,6 +119,7 @@ public class MemberService {
 
 			member.changeAvatar(defaultAvatar);
 			memberRepository.save(member);
+			memberProfileCache.invalidateAfterCommit(member.getId());
 		}
 
 		GeneratedToken tokens = authTokenService.generateToken(
@@ -220,6 +223,7 @@ public class MemberService {
 
 		member.changeNickname(newNickname);
 		memberRepository.save(member);
+		memberProfileCache.invalidateAfterCommit(memberId);
 		return MemberProfileEditResponse.from(member);
 	}
 
@@ -240,6 +244,7 @@ public class MemberService {
 
 		member.changeAvatar(avatar);
 		memberRepository.save(member);
+		memberProfileCache.invalidateAfterCommit(memberId);
 	}
 
 	@Transactional(readOnly = true)
@@ -2,6 +2,9 @@ package com.ll.quizzle.domain.point.service;
 
 import static com.ll.quizzle.global.exceptions.ErrorCode.*;
 
+import java.util.Collection;
+import java.util.List;
+
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -60,6 +63,19 @@ public class PointService {
 		pointRepository.save(point);
 	}
 
+	// 잔액이 일괄 UPDATE 로 이미 반영된 보상의 지급 이력만 남김
+	public void recordRewardHistories(Collection<Long> memberIds, PointReason reason) {
+		int amount = reason.getDefaultAmount();
+		if (amount <= 0) {
+			throw POINT_POLICY_NOT_FOUND.throwServiceException();
+		}
+
+		List<Point> points = memberIds.stream()
+			.map(memberId -> new Point(memberRepository.getReferenceById(memberId), amount, PointType.REWARD, reason))
+			.toList();
+		pointRepository.saveAll(points);
+	}
+
 	// 정책 기반 포인트 처리
 	public void applyPointPolicy(Member member, PointReason reason) {
 		int amount = reason.getDefaultAmount();
@@ -0,0 +1,161 @@
+package com.ll.quizzle.domain.quiz.bank;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.text.Normalizer;
+import java.util.HexFormat;
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Set;
+import java.util.SplittableRandom;
+
+/**
+ * 문제 본문의 지문입니다. 같은 문제는 contentHash 로, 표현만 조금 다른 문제는 minHash 로 찾습니다.
+ * - 정규화: NFKC 로 맞춘 뒤 소문자로 바꾸고 글자와 숫자만 남깁니다. (띄어쓰기, 문장 부호, 보기 기호 차이를 무시합니다)
+ * - contentHash: 정규화한 본문의 SHA-256 (hex 64자)
+ * - minHash: 정규화한 본문의 글자 2-gram 집합에 대한 MinHash 서명. 한국어는 형태소 분석 없이도 음절 bigram 으로 충분히 비교되며,
+ *   조사나 어미만 바뀐 문장은 3-gram 보다 bigram 에서 유사도가 높게 나옵니다.
+ * - bandKeys: 서명을 BANDS 개 구간으로 나눈 LSH 키. 유사도가 높은 문제끼리는 적어도 한 구간이 같을 확률이 높아 후보 조회에 사용합니다.
+ *   (ROWS=4, BANDS=16 이면 유사도 0.7 인 두 문제가 후보로 잡힐 확률은 약 99%, 0.3 이면 약 12% 입니다)
+ */
+public record QuestionFingerprint(String contentHash, int[] minHash, Set<Long> bandKeys) {
+
+    static final int SHINGLE_SIZE = 2;
+    static final int BANDS = 16;
+    static final int ROWS = 4;
+    static final int SIGNATURE_SIZE = BANDS * ROWS;
+    public static final int SIGNATURE_BYTES = SIGNATURE_SIZE * Integer.BYTES;
+
+    private static final long PRIME = (1L << 31) - 1;
+    private static final long[] COEFFICIENTS_A = new long[SIGNATURE_SIZE];
+    private static final long[] COEFFICIENTS_B = new long[SIGNATURE_SIZE];
+
+    static {
+        // 노드와 재시작에 관계없이 같은 서명이 나와야 하므로 고정된 시드를 사용합니다.
+        SplittableRandom random = new SplittableRandom(0x51_75_69_7A_7A_6C_65L);
+        for (int i = 0; i < SIGNATURE_SIZE; i++) {
+            COEFFICIENTS_A[i] = 1 + random.nextLong(PRIME - 1);
+            COEFFICIENTS_B[i] = random.nextLong(PRIME);
+        }
+    }
+
+    /**
+     * 본문에서 지문을 만듭니다. 정규화 후 남는 글자가 없으면 null 을 돌려줍니다.
+     */
+    public static QuestionFingerprint of(String question) {
+        String normalized = normalize(question);
+        if (normalized.isEmpty()) {
+            return null;
+        }
+        int[] minHash = minHash(shingles(normalized));
+        return new QuestionFingerprint(sha256(normalized), minHash, bandKeys(minHash));
+    }
+
+    /**
+     * 두 서명에서 추정한 자카드 유사도 (0~1)
+     */
+    public double similarity(int[] other) {
+        if (other == null || other.length != minHash.length) {
+            return 0;
+        }
+        int same = 0;
+        for (int i = 0; i < minHash.length; i++) {
+            if (minHash[i] == other[i]) {
+                same++;
+            }
+        }
+        return (double) same / minHash.length;
+    }
+
+    public byte[] minHashBytes() {
+        ByteBuffer buffer = ByteBuffer.allocate(minHash.length * Integer.BYTES);
+        buffer.asIntBuffer().put(minHash);
+        return buffer.array();
+    }
+
+    public static int[] minHashFromBytes(byte[] bytes) {
+        if (bytes == null) {
+            return null;
+        }
+        int[] minHash = new int[bytes.length / Integer.BYTES];
+        ByteBuffer.wrap(bytes).asIntBuffer().get(minHash);
+        return minHash;
+    }
+
+    static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        String folded = Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+        StringBuilder builder = new StringBuilder(folded.length());
+        folded.codePoints()
+                .filter(Character::isLetterOrDigit)
+                .forEach(builder::appendCodePoint);
+        return builder.toString();
+    }
+
+    private static Set<Integer> shingles(String normalized) {
+        Set<Integer> shingles = new LinkedHashSet<>();
+        if (normalized.length() <= SHINGLE_SIZE) {
+            shingles.add(mix32(normalized.hashCode()));
+            return shingles;
+        }
+        for (int i = 0; i + SHINGLE_SIZE <= normalized.length(); i++) {
+            shingles.add(mix32(normalized.substring(i, i + SHINGLE_SIZE).hashCode()));
+        }
+        return shingles;
+    }
+
+    private static int[] minHash(Set<Integer> shingles) {
+        int[] signature = new int[SIGNATURE_SIZE];
+        for (int i = 0; i < SIGNATURE_SIZE; i++) {
+            long min = Long.MAX_VALUE;
+            for (int shingle : shingles) {
+                long value = (COEFFICIENTS_A[i] * Integer.toUnsignedLong(shingle) + COEFFICIENTS_B[i]) % PRIME;
+                if (value < min) {
+                    min = value;
+                }
+            }
+            signature[i] = (int) min;
+        }
+        return signature;
+    }
+
+    private static Set<Long> bandKeys(int[] minHash) {
+        Set<Long> keys = new LinkedHashSet<>(BANDS);
+        for (int band = 0; band < BANDS; band++) {
+            long key = band;
+            for (int row = 0; row < ROWS; row++) {
+                key = key * 0x100000001B3L + minHash[band * ROWS + row];
+            }
+            keys.add(mix64(key));
+        }
+        return keys;
+    }
+
+    private static String sha256(String normalized) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(normalized.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 을 사용할 수 없습니다.", e);
+        }
+    }
+
+    private static int mix32(int h) {
+        h ^= h >>> 16;
+        h *= 0x85EBCA6B;
+        h ^= h >>> 13;
+        h *= 0xC2B2AE35;
+        h ^= h >>> 16;
+        return h;
+    }
+
+    private static long mix64(long z) {
+        z = (z ^ (z >>> 33)) * 0xFF51AFD7ED558CCDL;
+        z = (z ^ (z >>> 33)) * 0xC4CEB9FE1A85EC53L;
+        return z ^ (z >>> 33);
+    }
+}
@@ -0,0 +1,287 @@
+package com.ll.quizzle.domain.quiz.bank;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.ll.quizzle.domain.quiz.dto.request.QuizGenerationRequest;
+import com.ll.quizzle.domain.quiz.dto.response.QuizGenerationResponse;
+import com.ll.quizzle.domain.quiz.entity.QuizQuestion;
+import com.ll.quizzle.domain.quiz.repository.QuizQuestionRepository;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * GPT 로 생성한 문제를 DB 에 쌓아 두고, 같은 조건의 퀴즈를 GPT 호출 없이 조립하는 문제 은행입니다.
+ * - 저장: 생성이 끝날 때마다 문제 단위로 저장합니다. 같은 문제(contentHash)와 유사도가 similarity-threshold 이상인
+ *   문제(MinHash)는 건너뛰므로, 같은 주제를 반복 생성해도 은행에는 서로 다른 문제만 남습니다.
+ * - 조립: 소분류 × 정답 유형 × 난이도 풀의 ID 목록을 노드 로컬에 캐시해 두고, 무작위로 뽑은 ID 로 한 번만 조회합니다.
+ * - 보충: 풀이 문제 수 × min-pool-multiple 보다 작으면 조립하지 않습니다. 이때 호출된 GPT 결과가 다시 저장되어 풀이 채워집니다.
+ * - 조립 중 DB 오류(테이블이 아직 없는 경우 포함)는 풀 부족과 같이 보고 GPT 생성으로 넘어갑니다.
+ */
+@Slf4j
+@Service
+public class QuizQuestionBank {
+
+    private final QuizQuestionRepository quizQuestionRepository;
+    private final boolean enabled;
+    private final int minPoolMultiple;
+    private final double similarityThreshold;
+    private final Cache<String, long[]> pools;
+    private final ThreadPoolExecutor depositExecutor;
+
+    private final Counter hitCounter;
+    private final Counter missCounter;
+    private final Counter depositedCounter;
+    private final Counter exactDuplicateCounter;
+    private final Counter nearDuplicateCounter;
+
+    public QuizQuestionBank(QuizQuestionRepository quizQuestionRepository,
+                            MeterRegistry meterRegistry,
+                            @Value("${quizzle.quiz.bank.enabled:true}") boolean enabled,
+                            @Value("${quizzle.quiz.bank.min-pool-multiple:3}") int minPoolMultiple,
+                            @Value("${quizzle.quiz.bank.similarity-threshold:0.7}") double similarityThreshold,
+                            @Value("${quizzle.quiz.bank.pool-cache-seconds:60}") long poolCacheSeconds) {
+        this.quizQuestionRepository = quizQuestionRepository;
+        this.enabled = enabled;
+        this.minPoolMultiple = Math.max(1, minPoolMultiple);
+        this.similarityThreshold = similarityThreshold;
+        this.pools = Caffeine.newBuilder()
+                .maximumSize(1_000)
+                .expireAfterWrite(Duration.ofSeconds(poolCacheSeconds))
+                .build();
+        // 저장은 노드마다 한 번에 하나씩 처리하여 같은 문제가 동시에 저장되는 경우를 줄입니다.
+        this.depositExecutor = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(256), new CustomizableThreadFactory("quiz-bank-"),
+                (task, executor) -> log.warn("문제 은행 저장 대기열이 가득 차 저장을 건너뜁니다."));
+
+        this.hitCounter = Counter.builder("quiz.bank.hits")
+                .description("문제 은행에서 조립한 퀴즈 수")
+                .register(meterRegistry);
+        this.missCounter = Counter.builder("quiz.bank.misses")
+                .description("문제 은행의 풀이 부족하여 GPT 로 생성한 퀴즈 수")
+                .register(meterRegistry);
+        this.depositedCounter = Counter.builder("quiz.bank.deposited")
+                .description("문제 은행에 새로 저장한 문제 수")
+                .register(meterRegistry);
+        this.exactDuplicateCounter = Counter.builder("quiz.bank.duplicates")
+                .tag("kind", "exact")
+                .description("이미 저장된 문제와 본문이 같아 건너뛴 문제 수")
+                .register(meterRegistry);
+        this.nearDuplicateCounter = Counter.builder("quiz.bank.duplicates")
+                .tag("kind", "near")
+                .description("이미 저장된 문제와 유사하여 건너뛴 문제 수")
+                .register(meterRegistry);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        depositExecutor.shutdown();
+    }
+
+    /**
+     * 풀이 충분하면 요청한 문제 수만큼 무작위로 뽑아 1번부터 번호를 매긴 퀴즈를 돌려줍니다.
+     */
+    public Optional<QuizGenerationResponse> assemble(QuizGenerationRequest request) {
+        return assemble(request, minPoolMultiple);
+    }
+
+    /**
+     * GPT 생성이 부하로 거절되었을 때 사용합니다. 풀이 min-pool-multiple 배에 못 미쳐도 문제 수만큼만 있으면 조립합니다.
+     * (풀이 작을수록 같은 문제가 반복해서 나올 수 있지만, 생성을 기다리다 실패하는 것보다 낫습니다)
+     */
+    public Optional<QuizGenerationResponse> assembleFallback(QuizGenerationRequest request) {
+        return assemble(request, 1);
+    }
+
+    private Optional<QuizGenerationResponse> assemble(QuizGenerationRequest request, int poolMultiple) {
+        if (!enabled || !isPoolRequest(request)) {
+            return Optional.empty();
+        }
+
+        try {
+            return assembleFromPool(request, poolMultiple);
+        } catch (DataAccessException e) {
+            log.warn("문제 은행 조회 실패, GPT 로 생성합니다: {}", e.getMessage());
+            missCounter.increment();
+            return Optional.empty();
+        }
+    }
+
+    private Optional<QuizGenerationResponse> assembleFromPool(QuizGenerationRequest request, int poolMultiple) {
+        int problemCount = request.problemCount();
+        String poolKey = poolKey(request);
+        long[] pool = pools.get(poolKey, key -> loadPool(request));
+        if (pool.length < (long) problemCount * poolMultiple) {
+            missCounter.increment();
+            return Optional.empty();
+        }
+
+        List<Long> ids = sample(pool, problemCount);
+        Map<Long, QuizQuestion> questions = quizQuestionRepository.findAllById(ids).stream()
+                .collect(Collectors.toMap(QuizQuestion::getId, Function.identity()));
+        if (questions.size() < problemCount) {
+            // 캐시된 풀에 지워진 문제가 섞여 있으므로 다음 요청에서 다시 읽습니다.
+            pools.invalidate(poolKey);
+            missCounter.increment();
+            return Optional.empty();
+        }
+
+        Map<Integer, String> quizText = new LinkedHashMap<>();
+        Map<Integer, String> answerMap = new LinkedHashMap<>();
+        int number = 1;
+        for (Long id : ids) {
+            QuizQuestion question = questions.get(id);
+            quizText.put(number, question.getQuestion());
+            answerMap.put(number, question.getAnswer());
+            number++;
+        }
+        hitCounter.increment();
+        return Optional.of(new QuizGenerationResponse(quizText, answerMap));
+    }
+
+    /**
+     * 생성된 퀴즈를 요청 스레드와 별도로 은행에 저장합니다.
+     */
+    public void depositAsync(QuizGenerationRequest request, QuizGenerationResponse response) {
+        if (!enabled || !isPoolRequest(request) || response == null || depositExecutor.isShutdown()) {
+            return;
+        }
+        depositExecutor.execute(() -> {
+            try {
+                deposit(request, response);
+            } catch (Exception e) {
+                log.warn("문제 은행 저장 실패: {}", e.getMessage());
+            }
+        });
+    }
+
+    /**
+     * 정답이 있는 문제 중 은행과 이번 퀴즈 안에서 중복되지 않는 문제만 저장하고, 저장한 문제 수를 돌려줍니다.
+     */
+    public int deposit(QuizGenerationRequest request, QuizGenerationResponse response) {
+        List<Entry> entries = new ArrayList<>();
+        for (Map.Entry<Integer, String> question : new TreeMap<>(response.quizText()).entrySet()) {
+            String answer = response.answerMap().get(question.getKey());
+            QuestionFingerprint fingerprint = QuestionFingerprint.of(question.getValue());
+            if (answer == null || answer.isBlank() || fingerprint == null) {
+                continue;
+            }
+            entries.add(new Entry(question.getValue(), answer, fingerprint));
+        }
+        if (entries.isEmpty()) {
+            return 0;
+        }
+
+        Set<String> existing = new HashSet<>(quizQuestionRepository.findExistingContentHashes(
+                entries.stream().map(entry -> entry.fingerprint().contentHash()).toList()));
+        Set<Long> bandKeys = new LinkedHashSet<>();
+        entries.forEach(entry -> bandKeys.addAll(entry.fingerprint().bandKeys()));
+        List<int[]> neighbors = new ArrayList<>(quizQuestionRepository.findNearDuplicateCandidates(
+                        request.subCategory(), request.answerType(), bandKeys).stream()
+                .map(QuizQuestion::minHashSignature)
+                .toList());
+
+        List<QuizQuestion> accepted = new ArrayList<>();
+        for (Entry entry : entries) {
+            if (existing.contains(entry.fingerprint().contentHash())) {
+                exactDuplicateCounter.increment();
+                continue;
+            }
+            if (isNearDuplicate(entry.fingerprint(), neighbors)) {
+                nearDuplicateCounter.increment();
+                continue;
+            }
+            // 같은 퀴즈 안의 중복도 걸러지도록 받아들인 문제를 비교 대상에 넣습니다.
+            neighbors.add(entry.fingerprint().minHash());
+            accepted.add(QuizQuestion.of(request, entry.question(), entry.answer(), entry.fingerprint()));
+        }
+
+        int inserted;
+        try {
+            inserted = quizQuestionRepository.insertAll(accepted);
+        } catch (DataIntegrityViolationException e) {
+            // 다른 노드가 같은 문제를 먼저 저장한 경우이며, 다음 생성 때 다시 걸러집니다.
+            log.debug("다른 노드가 먼저 저장한 문제가 있어 저장을 건너뜁니다: {}", e.getMessage());
+            return 0;
+        }
+        if (inserted > 0) {
+            depositedCounter.increment(inserted);
+            pools.invalidate(poolKey(request));
+        }
+        log.debug("문제 은행 저장: {} - 저장 {}, 중복 {}", poolKey(request), inserted, entries.size() - inserted);
+        return inserted;
+    }
+
+    private boolean isNearDuplicate(QuestionFingerprint fingerprint, List<int[]> neighbors) {
+        for (int[] neighbor : neighbors) {
+            if (fingerprint.similarity(neighbor) >= similarityThreshold) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private long[] loadPool(QuizGenerationRequest request) {
+        return quizQuestionRepository.findPoolIds(request.subCategory(), request.answerType(), request.difficulty())
+                .stream()
+                .mapToLong(Long::longValue)
+                .toArray();
+    }
+
+    /**
+     * 풀에서 서로 다른 ID 를 count 개 뽑습니다. (Floyd 알고리즘으로 풀 크기와 관계없이 count 번만 뽑습니다)
+     */
+    static List<Long> sample(long[] pool, int count) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        Set<Integer> picked = new LinkedHashSet<>();
+        for (int i = pool.length - count; i < pool.length; i++) {
+            int index = random.nextInt(i + 1);
+            picked.add(picked.contains(index) ? i : index);
+        }
+        List<Long> ids = new ArrayList<>(count);
+        for (int index : picked) {
+            ids.add(pool[index]);
+        }
+        // Floyd 알고리즘은 뒤쪽 위치가 나중에 뽑히는 경향이 있어 순서를 섞습니다.
+        Collections.shuffle(ids, random);
+        return ids;
+    }
+
+    private static boolean isPoolRequest(QuizGenerationRequest request) {
+        return request.subCategory() != null && request.answerType() != null && request.difficulty() != null
+                && request.problemCount() > 0;
+    }
+
+    private static String poolKey(QuizGenerationRequest request) {
+        return request.subCategory() + ":" + request.answerType() + ":" + request.difficulty();
+    }
+
+    private record Entry(String question, String answer, QuestionFingerprint fingerprint) {
+    }
+}
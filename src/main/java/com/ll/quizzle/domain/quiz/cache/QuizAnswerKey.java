@@ -0,0 +1,108 @@
+package com.ll.quizzle.domain.quiz.cache;
+
+import java.util.List;
+
+/**
+ * 한 퀴즈의 정답표를 파싱이 끝난 형태로 보관합니다.
+ * 정답은 문제 번호 순서대로 정규화(trim + 소문자)된 한 글자씩 char 배열에 담기 때문에,
+ * 채점 시에는 문자열 분리나 새 객체 생성 없이 비교만 수행합니다.
+ */
+public final class QuizAnswerKey {
+
+    /**
+     * 저장된 정답 형식이 올바르지 않은 문제를 표시하는 값
+     */
+    static final char MALFORMED = '\0';
+
+    private static final String[] ANSWER_STRINGS = new String[128];
+
+    static {
+        for (char c = 0; c < ANSWER_STRINGS.length; c++) {
+            ANSWER_STRINGS[c] = String.valueOf(c);
+        }
+    }
+
+    private final char[] answers;
+    private final long ttlNanos;
+
+    private QuizAnswerKey(char[] answers, long ttlNanos) {
+        this.answers = answers;
+        this.ttlNanos = ttlNanos;
+    }
+
+    /**
+     * Redis 의 quiz:{quizId}:answers 목록("번호:정답")을 한 번만 파싱합니다.
+     * 목록의 위치가 곧 문제 번호이며, 형식이 잘못된 항목은 채점 시점에 오류로 처리되도록 표시만 해둡니다.
+     */
+    public static QuizAnswerKey parse(List<?> entries, long ttlNanos) {
+        char[] answers = new char[entries.size()];
+        for (int i = 0; i < answers.length; i++) {
+            Object entry = entries.get(i);
+            answers[i] = entry == null ? MALFORMED : parseEntry(entry.toString());
+        }
+        return new QuizAnswerKey(answers, ttlNanos);
+    }
+
+    /**
+     * 이진 퀴즈 문서에서 읽은 정답으로 만듭니다. 문서에 저장할 때 이미 정규화되었으므로 파싱하지 않습니다.
+     */
+    public static QuizAnswerKey of(char[] answers, long ttlNanos) {
+        return new QuizAnswerKey(answers, ttlNanos);
+    }
+
+    private static char parseEntry(String entry) {
+        String[] parts = entry.split(":");
+        if (parts.length != 2) {
+            return MALFORMED;
+        }
+        String answer = parts[1].trim().toLowerCase();
+        if (answer.length() != 1 || answer.charAt(0) >= ANSWER_STRINGS.length) {
+            return MALFORMED;
+        }
+        return answer.charAt(0);
+    }
+
+    public int totalQuestions() {
+        return answers.length;
+    }
+
+    public boolean isValidQuestion(int questionNumber) {
+        return questionNumber > 0 && questionNumber <= answers.length;
+    }
+
+    public boolean isWellFormed(int questionNumber) {
+        return answers[questionNumber - 1] != MALFORMED;
+    }
+
+    /**
+     * 제출한 답을 trim + 대소문자 무시로 비교합니다. 부분 문자열을 만들지 않고 인덱스만 이동합니다.
+     */
+    public boolean isCorrect(int questionNumber, String submittedAnswer) {
+        char expected = answers[questionNumber - 1];
+        if (expected == MALFORMED || submittedAnswer == null) {
+            return false;
+        }
+
+        int start = 0;
+        int end = submittedAnswer.length();
+        while (start < end && Character.isWhitespace(submittedAnswer.charAt(start))) {
+            start++;
+        }
+        while (end > start && Character.isWhitespace(submittedAnswer.charAt(end - 1))) {
+            end--;
+        }
+
+        return end - start == 1 && Character.toLowerCase(submittedAnswer.charAt(start)) == expected;
+    }
+
+    /**
+     * 응답에 실어 보낼 정답 문자열. 미리 만들어 둔 문자열을 돌려주므로 새 객체를 만들지 않습니다.
+     */
+    public String correctAnswer(int questionNumber) {
+        return ANSWER_STRINGS[answers[questionNumber - 1]];
+    }
+
+    long ttlNanos() {
+        return ttlNanos;
+    }
+}
@@ -0,0 +1,168 @@
+package com.ll.quizzle.domain.quiz.cache;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.PatternTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.ll.quizzle.domain.quiz.document.QuizDocumentStore;
+
+import jakarta.annotation.PostConstruct;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 진행 중인 퀴즈의 정답표를 노드 로컬에 보관하는 캐시입니다.
+ * 정답표는 RedisQuizAnswerService.saveQuiz 이후 바뀌지 않으므로 퀴즈당 한 번만 Redis 에서 읽어 파싱합니다.
+ * 이진 퀴즈 문서(quiz:{quizId}:document)의 정답 부분을 먼저 읽고, 없으면 기존 정답 목록(quiz:{quizId}:answers)을 읽습니다.
+ * (스트리밍 생성 중에는 문제가 하나 저장될 때마다 무효화되어 다시 읽습니다.)
+ * - 만료: Redis 정답 목록의 남은 TTL 에 맞춰 함께 만료됩니다.
+ * - 종료: quiz:{quizId}:notifications 채널의 quizEnd 이벤트를 받으면 모든 노드에서 제거됩니다.
+ * - 무효화: 정답표가 다시 저장되면 quiz:answer-key:invalidate 채널로 다른 노드에 알립니다.
+ */
+@Slf4j
+@Component
+public class QuizAnswerKeyCache implements MessageListener {
+
+    public static final String INVALIDATE_CHANNEL = "quiz:answer-key:invalidate";
+    private static final String NOTIFICATION_PATTERN = "quiz:*:notifications";
+    private static final String QUIZ_END_EVENT = "quizEnd";
+    private static final Duration DEFAULT_TTL = Duration.ofMinutes(30);
+
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final RedisTemplate<String, String> stringRedisTemplate;
+    private final QuizDocumentStore quizDocumentStore;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final Cache<String, QuizAnswerKey> cache;
+
+    public QuizAnswerKeyCache(RedisTemplate<String, Object> redisTemplate,
+                              RedisTemplate<String, String> stringRedisTemplate,
+                              QuizDocumentStore quizDocumentStore,
+                              RedisMessageListenerContainer listenerContainer,
+                              @Value("${quizzle.quiz.answer-key-cache.maximum-size:10000}") long maximumSize) {
+        this.redisTemplate = redisTemplate;
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.quizDocumentStore = quizDocumentStore;
+        this.listenerContainer = listenerContainer;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(new Expiry<String, QuizAnswerKey>() {
+                    @Override
+                    public long expireAfterCreate(String quizId, QuizAnswerKey answerKey, long currentTime) {
+                        return answerKey.ttlNanos();
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String quizId, QuizAnswerKey answerKey, long currentTime, long currentDuration) {
+                        return answerKey.ttlNanos();
+                    }
+
+                    @Override
+                    public long expireAfterRead(String quizId, QuizAnswerKey answerKey, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .build();
+    }
+
+    @PostConstruct
+    public void init() {
+        listenerContainer.addMessageListener(this, List.of(
+                new ChannelTopic(INVALIDATE_CHANNEL),
+                new PatternTopic(NOTIFICATION_PATTERN)
+        ));
+        log.debug("정답표 캐시 무효화 채널 구독 완료: {}, {}", INVALIDATE_CHANNEL, NOTIFICATION_PATTERN);
+    }
+
+    /**
+     * 정답표를 조회합니다. 캐시에 없으면 Redis 에서 한 번 읽어 적재하며, 정답 목록이 없으면 null 을 반환합니다.
+     */
+    public QuizAnswerKey get(String quizId) {
+        return cache.get(quizId, this::load);
+    }
+
+    /**
+     * 이 노드와 다른 모든 노드의 캐시에서 해당 퀴즈의 정답표를 제거합니다.
+     */
+    public void invalidate(String quizId) {
+        cache.invalidate(quizId);
+        stringRedisTemplate.convertAndSend(INVALIDATE_CHANNEL, quizId);
+    }
+
+    public long size() {
+        return cache.estimatedSize();
+    }
+
+    @Override
+    public void onMessage(@NonNull Message message, byte[] pattern) {
+        String channel = new String(message.getChannel(), StandardCharsets.UTF_8);
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+
+        if (INVALIDATE_CHANNEL.equals(channel)) {
+            cache.invalidate(body);
+            log.debug("정답표 캐시 무효화 수신: quizId={}", body);
+            return;
+        }
+
+        if (body.contains(QUIZ_END_EVENT)) {
+            String quizId = channel.substring("quiz:".length(), channel.length() - ":notifications".length());
+            cache.invalidate(quizId);
+            log.debug("퀴즈 종료로 정답표 캐시 제거: quizId={}", quizId);
+        }
+    }
+
+    private QuizAnswerKey load(String quizId) {
+        QuizDocumentStore.Answers document = quizDocumentStore.readAnswers(quizId);
+        if (document != null) {
+            log.debug("정답표 캐시 적재: quizId={}, 문제 수={}", quizId, document.answers().length);
+            return QuizAnswerKey.of(document.answers(), ttlNanos(document.ttlMillis()));
+        }
+        return loadList(quizId);
+    }
+
+    /**
+     * 목록 형식으로 저장된 퀴즈를 읽습니다. write-format 이 binary 로 바뀐 뒤 퀴즈 TTL 이 지나면 더 이상 쓰이지 않습니다.
+     */
+    private QuizAnswerKey loadList(String quizId) {
+        String answerListKey = String.format("quiz:%s:answers", quizId);
+
+        List<Object> results = redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public Object execute(@NonNull RedisOperations operations) throws DataAccessException {
+                operations.opsForList().range(answerListKey, 0, -1);
+                operations.pTtl(answerListKey);
+                return null;
+            }
+        });
+
+        List<?> entries = (List<?>) results.get(0);
+        if (entries == null || entries.isEmpty()) {
+            return null;
+        }
+
+        log.debug("정답표 캐시 적재: quizId={}, 문제 수={}", quizId, entries.size());
+        return QuizAnswerKey.parse(entries, ttlNanos((Long) results.get(1)));
+    }
+
+    private static long ttlNanos(Long ttlMillis) {
+        return ttlMillis != null && ttlMillis > 0
+                ? TimeUnit.MILLISECONDS.toNanos(ttlMillis)
+                : DEFAULT_TTL.toNanos();
+    }
+}
@@ -0,0 +1,88 @@
+package com.ll.quizzle.domain.quiz.client;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 관측한 응답 시간으로 동시 호출 한도를 조절하는 AIMD 한도입니다.
+ * - 기준 응답 시간: 최근 sample-window 개 응답 중 가장 빠른 값. 창이 바뀔 때마다 새로 잡으므로, 상류가 계속 느려지면 기준도 따라갑니다.
+ * - 감소: 실패(제한 시간 초과 포함)하거나 응답 시간이 기준 × latency-tolerance 를 넘으면 한도를 backoff-ratio 배로 줄입니다.
+ * - 증가: 빠르게 성공했고 한도의 절반 이상을 쓰고 있었다면 한도를 1 늘립니다. (한도를 다 쓰지 않는 동안에는 늘리지 않습니다)
+ */
+final class AdaptiveConcurrencyLimit {
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final double backoffRatio;
+    private final double latencyTolerance;
+    private final int sampleWindow;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private volatile double limit;
+
+    private long baselineNanos;
+    private long windowMinNanos = Long.MAX_VALUE;
+    private int windowSamples;
+
+    AdaptiveConcurrencyLimit(int initialLimit, int minLimit, int maxLimit, double backoffRatio,
+                             double latencyTolerance, int sampleWindow) {
+        this.minLimit = Math.max(1, minLimit);
+        this.maxLimit = Math.max(this.minLimit, maxLimit);
+        this.backoffRatio = backoffRatio;
+        this.latencyTolerance = latencyTolerance;
+        this.sampleWindow = Math.max(1, sampleWindow);
+        this.limit = Math.min(this.maxLimit, Math.max(this.minLimit, initialLimit));
+    }
+
+    /**
+     * 한도 안이면 자리를 하나 차지하고 그때의 동시 호출 수(자신 포함)를, 한도를 넘으면 0 을 돌려줍니다.
+     */
+    int tryAcquire() {
+        while (true) {
+            int current = inFlight.get();
+            if (current >= (int) limit) {
+                return 0;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return current + 1;
+            }
+        }
+    }
+
+    /**
+     * 자리를 반환하고 결과를 한도에 반영합니다. inFlightAtStart 는 tryAcquire 가 돌려준 값입니다.
+     */
+    synchronized void release(long rttNanos, boolean dropped, int inFlightAtStart) {
+        inFlight.decrementAndGet();
+
+        if (dropped) {
+            decrease();
+            return;
+        }
+
+        windowMinNanos = Math.min(windowMinNanos, rttNanos);
+        baselineNanos = baselineNanos == 0 ? rttNanos : Math.min(baselineNanos, rttNanos);
+        if (++windowSamples >= sampleWindow) {
+            baselineNanos = windowMinNanos;
+            windowMinNanos = Long.MAX_VALUE;
+            windowSamples = 0;
+        }
+
+        if (rttNanos > baselineNanos * latencyTolerance) {
+            decrease();
+        } else if (inFlightAtStart * 2 >= limit) {
+            limit = Math.min(maxLimit, limit + 1);
+        }
+    }
+
+    private void decrease() {
+        limit = Math.max(minLimit, limit * backoffRatio);
+    }
+
+    int limit() {
+        return (int) limit;
+    }
+
+    int inFlight() {
+        return inFlight.get();
+    }
+}
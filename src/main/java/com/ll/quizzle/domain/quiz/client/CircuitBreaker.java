@@ -0,0 +1,127 @@
+package com.ll.quizzle.domain.quiz.client;
+
+import java.util.function.LongSupplier;
+
+/**
+ * 최근 호출 결과로 상류 호출을 막거나 여는 서킷 브레이커입니다.
+ * - CLOSED: 최근 window-size 개 결과 중 실패 비율이 failure-rate-threshold 이상이면(최소 minimum-calls 개) OPEN 으로 바뀝니다.
+ * - OPEN: open-duration 동안 모든 호출을 막고, 시간이 지나면 HALF_OPEN 으로 바뀝니다.
+ * - HALF_OPEN: 시험 호출을 half-open-probes 개까지만 보내, 모두 성공하면 CLOSED 로, 하나라도 실패하면 다시 OPEN 으로 바뀝니다.
+ */
+final class CircuitBreaker {
+
+    enum State {
+        CLOSED, HALF_OPEN, OPEN
+    }
+
+    private final int windowSize;
+    private final int minimumCalls;
+    private final double failureRateThreshold;
+    private final long openNanos;
+    private final int halfOpenProbes;
+    private final LongSupplier nanoClock;
+
+    private final boolean[] outcomes;
+    private int position;
+    private int recorded;
+    private int failures;
+
+    private volatile State state = State.CLOSED;
+    private long openedAtNanos;
+    private int probesInFlight;
+    private int probeSuccesses;
+
+    CircuitBreaker(int windowSize, int minimumCalls, double failureRateThreshold, long openNanos, int halfOpenProbes,
+                   LongSupplier nanoClock) {
+        this.windowSize = Math.max(1, windowSize);
+        this.minimumCalls = Math.min(this.windowSize, Math.max(1, minimumCalls));
+        this.failureRateThreshold = failureRateThreshold;
+        this.openNanos = openNanos;
+        this.halfOpenProbes = Math.max(1, halfOpenProbes);
+        this.nanoClock = nanoClock;
+        this.outcomes = new boolean[this.windowSize];
+    }
+
+    /**
+     * 호출할 수 있으면 허가를 받은 상태를, 막혀 있으면 null 을 돌려줍니다. 결과는 받은 상태와 함께 onSuccess / onFailure 로 알려야 합니다.
+     */
+    synchronized State tryAcquire() {
+        if (state == State.OPEN) {
+            if (nanoClock.getAsLong() - openedAtNanos < openNanos) {
+                return null;
+            }
+            state = State.HALF_OPEN;
+            probesInFlight = 0;
+            probeSuccesses = 0;
+        }
+        if (state == State.HALF_OPEN) {
+            if (probesInFlight >= halfOpenProbes) {
+                return null;
+            }
+            probesInFlight++;
+        }
+        return state;
+    }
+
+    /**
+     * 허가를 받았지만 호출하지 않았을 때 시험 호출 자리를 돌려줍니다.
+     */
+    synchronized void cancel(State acquiredIn) {
+        if (acquiredIn == State.HALF_OPEN && state == State.HALF_OPEN) {
+            probesInFlight--;
+        }
+    }
+
+    synchronized void onSuccess(State acquiredIn) {
+        if (acquiredIn == State.HALF_OPEN && state == State.HALF_OPEN) {
+            probesInFlight--;
+            if (++probeSuccesses >= halfOpenProbes) {
+                close();
+            }
+        } else if (acquiredIn == State.CLOSED && state == State.CLOSED) {
+            record(false);
+        }
+    }
+
+    synchronized void onFailure(State acquiredIn) {
+        if (acquiredIn == State.HALF_OPEN && state == State.HALF_OPEN) {
+            open();
+        } else if (acquiredIn == State.CLOSED && state == State.CLOSED) {
+            record(true);
+            if (recorded >= minimumCalls && (double) failures / recorded >= failureRateThreshold) {
+                open();
+            }
+        }
+    }
+
+    State state() {
+        return state;
+    }
+
+    private void record(boolean failure) {
+        if (recorded == windowSize) {
+            if (outcomes[position]) {
+                failures--;
+            }
+        } else {
+            recorded++;
+        }
+        outcomes[position] = failure;
+        if (failure) {
+            failures++;
+        }
+        position = (position + 1) % windowSize;
+    }
+
+    private void open() {
+        state = State.OPEN;
+        openedAtNanos = nanoClock.getAsLong();
+    }
+
+    private void close() {
+        state = State.CLOSED;
+        position = 0;
+        recorded = 0;
+        failures = 0;
+    }
+}
@@ -1,71 +1,243 @@
 package com.ll.quizzle.domain.quiz.client;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.ll.quizzle.global.config.OpenAIProperties;
 import com.ll.quizzle.global.exceptions.ErrorCode;
+import com.ll.quizzle.global.exceptions.ServiceException;
+import jakarta.annotation.PreDestroy;
+import org.springframework.stereotype.Component;
 
-import java.io.IOException;
 import java.net.URI;
 import java.net.http.HttpClient;
 import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
+/**
+ * OpenAI Chat Completions 호출 클라이언트
+ * HttpClient 하나를 애플리케이션 전체에서 재사용하므로 커넥션 풀과 TLS 세션이 유지되어 요청마다 핸드셰이크를 하지 않습니다.
+ * - HTTP/2 를 우선 사용하고, 서버가 지원하지 않으면 HTTP/1.1 keep-alive 커넥션을 재사용합니다.
+ * - 응답 처리는 가상 스레드에서 실행되며, 호출 스레드는 sendRequestAsync 로 기다리지 않을 수 있습니다.
+ * - 연결(connect-timeout), 응답 헤더(request-timeout), 전체 응답 수신(read-timeout) 제한 시간을 각각 설정합니다.
+ *   read-timeout 을 넘기면 호출자에게 실패를 알리는 것과 함께 HTTP 교환을 취소하여, 응답을 끝까지 받지 않고 스트림을 닫습니다.
+ * - streamRequestAsync 는 stream=true 로 요청하여 SSE 로 도착하는 조각(delta)을 받는 즉시 넘겨줍니다.
+ */
+@Component
 public class OpenAIClient {
 
     private final OpenAIProperties openAIProperties;
     private final String apiUrl;
     private final String model;
     private final ObjectMapper objectMapper;
+    private final ExecutorService executor;
+    private final HttpClient httpClient;
 
     public OpenAIClient(OpenAIProperties openAIProperties) {
         this.openAIProperties = openAIProperties;
         this.apiUrl = openAIProperties.getApiUrl();
         this.model = openAIProperties.getModel();
         this.objectMapper = new ObjectMapper();
+        this.executor = Executors.newVirtualThreadPerTaskExecutor();
+        this.httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_2)
+                .connectTimeout(openAIProperties.getConnectTimeout())
+                .executor(executor)
+                .build();
     }
 
+    /**
+     * 응답 본문을 돌려줄 때까지 기다립니다. 실패는 ServiceException 으로 던집니다.
+     */
     public String sendRequest(String systemPrompt, String userMessage) {
-        Map<String, Object> body = Map.of(
-                "model", model,
-                "messages", List.of(
-                        Map.of("role", "system", "content", systemPrompt),
-                        Map.of("role", "user", "content", userMessage)
-                ),
-                "temperature", 0.7
-        );
+        return join(sendRequestAsync(systemPrompt, userMessage));
+    }
+
+    /**
+     * future 가 완료될 때까지 기다립니다. CompletionException 을 벗겨 ServiceException 으로 던집니다.
+     */
+    public static <T> T join(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            throw toServiceException(unwrap(e));
+        }
+    }
 
-        String requestBody;
+    /**
+     * 요청을 보내고 응답 본문으로 완료되는 future 를 돌려줍니다.
+     * 200 이외의 상태, 제한 시간 초과, 입출력 오류는 ServiceException 으로 완료됩니다.
+     */
+    public CompletableFuture<String> sendRequestAsync(String systemPrompt, String userMessage) {
+        return sendRequestAsync(model, systemPrompt, userMessage);
+    }
+
+    /**
+     * 설정된 기본 모델 대신 model 로 요청합니다. 같은 커넥션 풀을 함께 사용합니다.
+     */
+    public CompletableFuture<String> sendRequestAsync(String model, String systemPrompt, String userMessage) {
+        HttpRequest request;
         try {
-            requestBody = objectMapper.writeValueAsString(body);
+            request = buildRequest(model, systemPrompt, userMessage, false);
         } catch (JsonProcessingException e) {
-            ErrorCode.INTERNAL_SERVER_ERROR.throwServiceException(e);
-            return null; // Unreachable
+            return CompletableFuture.failedFuture(toServiceException(e));
         }
 
-        HttpRequest request = HttpRequest.newBuilder()
-                .uri(URI.create(apiUrl))
-                .header("Content-Type", "application/json")
-                .header("Authorization", "Bearer " + openAIProperties.getApiKey())
-                .POST(HttpRequest.BodyPublishers.ofString(requestBody))
-                .build();
+        return withReadTimeout(httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofString()))
+                .handle((response, throwable) -> {
+                    if (throwable != null) {
+                        throw new CompletionException(toServiceException(unwrap(throwable)));
+                    }
+                    if (response.statusCode() != 200) {
+                        throw new CompletionException(toServiceException(
+                                new RuntimeException("OpenAI API returned status " + response.statusCode())));
+                    }
+                    return response.body();
+                });
+    }
 
+    /**
+     * stream=true 로 요청하고, SSE 이벤트(data: {...})마다 choices[0].delta.content 를 onDelta 로 넘깁니다.
+     * onDelta 는 응답을 읽는 가상 스레드에서 도착 순서대로 호출되며, data: [DONE] 또는 스트림 종료 시 future 가 완료됩니다.
+     * read-timeout 은 스트림 전체에 적용되며, 제한 시간을 넘기거나 onDelta 가 예외를 던지면 스트림을 닫고 ServiceException 으로 완료됩니다.
+     */
+    public CompletableFuture<Void> streamRequestAsync(String systemPrompt, String userMessage, Consumer<String> onDelta) {
+        HttpRequest request;
         try {
-            HttpResponse<String> response = HttpClient.newHttpClient()
-                    .send(request, HttpResponse.BodyHandlers.ofString());
+            request = buildRequest(model, systemPrompt, userMessage, true);
+        } catch (JsonProcessingException e) {
+            return CompletableFuture.failedFuture(toServiceException(e));
+        }
 
-            if (response.statusCode() != 200) {
-                ErrorCode.INTERNAL_SERVER_ERROR.throwServiceException(
-                        new RuntimeException("OpenAI API returned status " + response.statusCode()));
+        CompletableFuture<Void> result = new CompletableFuture<>();
+        CompletableFuture<HttpResponse<Stream<String>>> exchange =
+                httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofLines());
+        // 응답 헤더가 오기 전에 실패하면(제한 시간 초과 포함) 아직 진행 중인 교환을 취소합니다.
+        result.whenComplete((ignored, failure) -> {
+            if (failure != null) {
+                exchange.cancel(true);
             }
+        });
+        exchange.whenComplete((response, throwable) -> {
+            if (throwable != null) {
+                result.completeExceptionally(toServiceException(unwrap(throwable)));
+                return;
+            }
+            try (Stream<String> lines = response.body()) {
+                if (response.statusCode() != 200) {
+                    result.completeExceptionally(toServiceException(
+                            new RuntimeException("OpenAI API returned status " + response.statusCode())));
+                    return;
+                }
+                // 제한 시간 초과로 먼저 실패하면 읽기에 묶여 있는 스레드가 풀리도록 스트림을 닫습니다.
+                result.whenComplete((ignored, failure) -> {
+                    if (failure != null) {
+                        lines.close();
+                    }
+                });
+                readEvents(lines.iterator(), result, onDelta);
+                result.complete(null);
+            } catch (Exception e) {
+                result.completeExceptionally(toServiceException(e));
+            }
+        });
+        return result.orTimeout(openAIProperties.getReadTimeout().toMillis(), TimeUnit.MILLISECONDS)
+                .exceptionallyCompose(throwable -> CompletableFuture.failedFuture(toServiceException(unwrap(throwable))));
+    }
 
-            return response.body();
+    /**
+     * read-timeout 이 지나면 실패로 완료합니다. orTimeout 은 future 만 완료할 뿐 요청을 멈추지 않으므로 원래 future 를 cancel 합니다.
+     */
+    private <T> CompletableFuture<T> withReadTimeout(CompletableFuture<T> exchange) {
+        return exchange.copy()
+                .orTimeout(openAIProperties.getReadTimeout().toMillis(), TimeUnit.MILLISECONDS)
+                .whenComplete((ignored, throwable) -> {
+                    if (throwable != null) {
+                        exchange.cancel(true);
+                    }
+                });
+    }
 
-        } catch (IOException | InterruptedException e) {
-            ErrorCode.INTERNAL_SERVER_ERROR.throwServiceException(e);
-            return null; // Unreachable
+    private void readEvents(Iterator<String> lines, CompletableFuture<Void> result, Consumer<String> onDelta)
+            throws JsonProcessingException {
+        while (!result.isDone() && lines.hasNext()) {
+            String line = lines.next();
+            if (!line.startsWith("data:")) {
+                continue;
+            }
+            String data = line.substring("data:".length()).trim();
+            if ("[DONE]".equals(data)) {
+                return;
+            }
+            if (data.isEmpty()) {
+                continue;
+            }
+            JsonNode choices = objectMapper.readTree(data).path("choices");
+            if (choices.isEmpty()) {
+                continue;
+            }
+            String delta = choices.get(0).path("delta").path("content").asText("");
+            if (!delta.isEmpty()) {
+                onDelta.accept(delta);
+            }
+        }
+    }
+
+    private HttpRequest buildRequest(String model, String systemPrompt, String userMessage, boolean stream)
+            throws JsonProcessingException {
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("model", model);
+        body.put("messages", List.of(
+                Map.of("role", "system", "content", systemPrompt),
+                Map.of("role", "user", "content", userMessage)
+        ));
+        body.put("temperature", 0.7);
+        if (stream) {
+            body.put("stream", true);
         }
+
+        HttpRequest.Builder builder = HttpRequest.newBuilder()
+                .uri(URI.create(apiUrl))
+                .timeout(openAIProperties.getRequestTimeout())
+                .header("Content-Type", "application/json")
+                .header("Authorization", "Bearer " + openAIProperties.getApiKey());
+        if (stream) {
+            builder.header("Accept", "text/event-stream");
+        }
+        return builder.POST(HttpRequest.BodyPublishers.ofString(objectMapper.writeValueAsString(body))).build();
+    }
+
+    @PreDestroy
+    public void close() {
+        httpClient.shutdownNow();
+        executor.shutdownNow();
+    }
+
+    private static Throwable unwrap(Throwable throwable) {
+        return throwable instanceof CompletionException && throwable.getCause() != null
+                ? throwable.getCause()
+                : throwable;
+    }
+
+    private static ServiceException toServiceException(Throwable cause) {
+        if (cause instanceof ServiceException serviceException) {
+            return serviceException;
+        }
+        return new ServiceException(
+                ErrorCode.INTERNAL_SERVER_ERROR.getHttpStatus(),
+                ErrorCode.INTERNAL_SERVER_ERROR.getMessage(),
+                cause
+        );
     }
 }
@@ -0,0 +1,19 @@
+package com.ll.quizzle.domain.quiz.client;
+
+import java.util.Locale;
+
+/**
+ * 퀴즈 생성을 요청한 쪽. 호출자마다 동시 호출 칸(bulkhead)을 따로 두어, 한쪽이 몰려도 다른 쪽의 생성이 막히지 않게 합니다.
+ */
+public enum QuizGenerationCaller {
+    /** 사용자가 기다리는 /generate 요청 */
+    INTERACTIVE,
+    /** 사용자가 기다리는 /generate/stream 요청 */
+    STREAM,
+    /** 재고 보충처럼 사용자가 기다리지 않는 생성 */
+    BACKGROUND;
+
+    public String tag() {
+        return name().toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,169 @@
+package com.ll.quizzle.domain.quiz.client;
+
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.ll.quizzle.global.exceptions.ErrorCode;
+import com.ll.quizzle.global.exceptions.ServiceException;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * OpenAI 퀴즈 생성 호출 앞에서 부하를 덜어내는 관문입니다. 호출은 아래 순서로 허가를 받아야 시작됩니다.
+ * - 서킷 브레이커: 실패가 몰리면 open-seconds 동안 호출을 막고, 이후 시험 호출로 회복 여부를 확인합니다.
+ * - 호출자별 칸(bulkhead): INTERACTIVE / STREAM / BACKGROUND 마다 동시 호출 수를 따로 제한합니다.
+ * - 적응형 동시 호출 한도: 응답 시간이 기준보다 느려지거나 실패하면 한도를 줄이고, 빠르게 성공하면 다시 늘립니다.
+ * 허가를 받지 못한 호출은 상류를 기다리지 않고 QUIZ_GENERATION_OVERLOADED 로 바로 실패하며, 호출한 쪽은 재고나 문제 은행으로 대신 응답할 수 있습니다.
+ */
+@Slf4j
+@Component
+public class QuizGenerationGuard {
+
+    enum Rejection {
+        CIRCUIT_OPEN, BULKHEAD_FULL, LIMIT_EXCEEDED
+    }
+
+    private final AdaptiveConcurrencyLimit limit;
+    private final CircuitBreaker circuitBreaker;
+    private final Map<QuizGenerationCaller, Semaphore> bulkheads = new EnumMap<>(QuizGenerationCaller.class);
+    private final Map<QuizGenerationCaller, Map<Rejection, Counter>> rejectionCounters =
+            new EnumMap<>(QuizGenerationCaller.class);
+
+    public QuizGenerationGuard(MeterRegistry meterRegistry,
+                               @Value("${quizzle.quiz.resilience.limit.initial:8}") int initialLimit,
+                               @Value("${quizzle.quiz.resilience.limit.min:2}") int minLimit,
+                               @Value("${quizzle.quiz.resilience.limit.max:32}") int maxLimit,
+                               @Value("${quizzle.quiz.resilience.limit.backoff-ratio:0.9}") double backoffRatio,
+                               @Value("${quizzle.quiz.resilience.limit.latency-tolerance:2.0}") double latencyTolerance,
+                               @Value("${quizzle.quiz.resilience.limit.sample-window:50}") int sampleWindow,
+                               @Value("${quizzle.quiz.resilience.breaker.window-size:20}") int windowSize,
+                               @Value("${quizzle.quiz.resilience.breaker.minimum-calls:10}") int minimumCalls,
+                               @Value("${quizzle.quiz.resilience.breaker.failure-rate-threshold:0.5}") double failureRateThreshold,
+                               @Value("${quizzle.quiz.resilience.breaker.open-seconds:30}") long openSeconds,
+                               @Value("${quizzle.quiz.resilience.breaker.half-open-probes:2}") int halfOpenProbes,
+                               @Value("${quizzle.quiz.resilience.bulkhead.interactive:16}") int interactiveSlots,
+                               @Value("${quizzle.quiz.resilience.bulkhead.stream:8}") int streamSlots,
+                               @Value("${quizzle.quiz.resilience.bulkhead.background:2}") int backgroundSlots) {
+        this.limit = new AdaptiveConcurrencyLimit(initialLimit, minLimit, maxLimit, backoffRatio, latencyTolerance,
+                sampleWindow);
+        this.circuitBreaker = new CircuitBreaker(windowSize, minimumCalls, failureRateThreshold,
+                TimeUnit.SECONDS.toNanos(openSeconds), halfOpenProbes, System::nanoTime);
+        this.bulkheads.put(QuizGenerationCaller.INTERACTIVE, new Semaphore(Math.max(1, interactiveSlots)));
+        this.bulkheads.put(QuizGenerationCaller.STREAM, new Semaphore(Math.max(1, streamSlots)));
+        this.bulkheads.put(QuizGenerationCaller.BACKGROUND, new Semaphore(Math.max(1, backgroundSlots)));
+
+        Gauge.builder("quiz.generation.limit", limit, AdaptiveConcurrencyLimit::limit)
+                .description("퀴즈 생성의 현재 적응형 동시 호출 한도")
+                .register(meterRegistry);
+        Gauge.builder("quiz.generation.in-flight", limit, AdaptiveConcurrencyLimit::inFlight)
+                .description("진행 중인 퀴즈 생성 호출 수")
+                .register(meterRegistry);
+        Gauge.builder("quiz.generation.breaker.state", circuitBreaker, breaker -> breaker.state().ordinal())
+                .description("퀴즈 생성 서킷 브레이커 상태 (0: CLOSED, 1: HALF_OPEN, 2: OPEN)")
+                .register(meterRegistry);
+
+        for (QuizGenerationCaller caller : QuizGenerationCaller.values()) {
+            Map<Rejection, Counter> counters = new EnumMap<>(Rejection.class);
+            for (Rejection rejection : Rejection.values()) {
+                counters.put(rejection, Counter.builder("quiz.generation.rejections")
+                        .tag("caller", caller.tag())
+                        .tag("reason", rejection.name().toLowerCase(Locale.ROOT))
+                        .description("허가를 받지 못해 상류를 호출하지 않은 퀴즈 생성 수")
+                        .register(meterRegistry));
+            }
+            rejectionCounters.put(caller, counters);
+        }
+    }
+
+    /**
+     * 허가를 받으면 call 로 상류를 호출하고, 결과가 나오면 응답 시간과 성공 여부를 한도와 서킷 브레이커에 반영합니다.
+     * 허가를 받지 못하면 call 을 호출하지 않고 QUIZ_GENERATION_OVERLOADED 로 실패한 future 를 돌려줍니다.
+     */
+    public <T> CompletableFuture<T> execute(QuizGenerationCaller caller, Supplier<CompletableFuture<T>> call) {
+        CircuitBreaker.State permission = circuitBreaker.tryAcquire();
+        if (permission == null) {
+            return reject(caller, Rejection.CIRCUIT_OPEN);
+        }
+        Semaphore bulkhead = bulkheads.get(caller);
+        if (!bulkhead.tryAcquire()) {
+            circuitBreaker.cancel(permission);
+            return reject(caller, Rejection.BULKHEAD_FULL);
+        }
+        int inFlightAtStart = limit.tryAcquire();
+        if (inFlightAtStart == 0) {
+            bulkhead.release();
+            circuitBreaker.cancel(permission);
+            return reject(caller, Rejection.LIMIT_EXCEEDED);
+        }
+
+        long startNanos = System.nanoTime();
+        CompletableFuture<T> result;
+        try {
+            result = call.get();
+        } catch (Exception e) {
+            result = CompletableFuture.failedFuture(e);
+        }
+        return result.whenComplete((value, throwable) -> {
+            limit.release(System.nanoTime() - startNanos, throwable != null, inFlightAtStart);
+            bulkhead.release();
+
+            CircuitBreaker.State before = circuitBreaker.state();
+            if (throwable == null) {
+                circuitBreaker.onSuccess(permission);
+            } else {
+                circuitBreaker.onFailure(permission);
+            }
+            CircuitBreaker.State after = circuitBreaker.state();
+            if (before != after) {
+                log.warn("퀴즈 생성 서킷 브레이커 상태 변경: {} -> {}, 동시 호출 한도={}", before, after, limit.limit());
+            }
+        });
+    }
+
+    /**
+     * 관문이 허가하지 않아 실패한 호출인지 확인합니다. (CompletionException 으로 감싼 경우 포함)
+     * 상류가 503 으로 실패한 호출은 거절이 아니므로, 상태 코드가 아닌 예외 타입으로 구분합니다.
+     */
+    public static boolean isRejection(Throwable throwable) {
+        Throwable cause = throwable instanceof CompletionException && throwable.getCause() != null
+                ? throwable.getCause()
+                : throwable;
+        return cause instanceof RejectedException;
+    }
+
+    private <T> CompletableFuture<T> reject(QuizGenerationCaller caller, Rejection rejection) {
+        rejectionCounters.get(caller).get(rejection).increment();
+        log.debug("퀴즈 생성 거절: caller={}, reason={}, 동시 호출 한도={}", caller, rejection, limit.limit());
+        return CompletableFuture.failedFuture(new RejectedException());
+    }
+
+    int limit() {
+        return limit.limit();
+    }
+
+    CircuitBreaker.State breakerState() {
+        return circuitBreaker.state();
+    }
+
+    /**
+     * 관문이 허가하지 않아 상류를 호출하지 않은 경우에만 쓰는 QUIZ_GENERATION_OVERLOADED 예외입니다.
+     */
+    static final class RejectedException extends ServiceException {
+
+        private RejectedException() {
+            super(ErrorCode.QUIZ_GENERATION_OVERLOADED.getHttpStatus(), ErrorCode.QUIZ_GENERATION_OVERLOADED.getMessage());
+        }
+    }
+}
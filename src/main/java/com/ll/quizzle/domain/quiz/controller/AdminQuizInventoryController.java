@@ -0,0 +1,37 @@
+package com.ll.quizzle.domain.quiz.controller;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.ll.quizzle.domain.quiz.dto.response.QuizInventoryStatusResponse;
+import com.ll.quizzle.domain.quiz.inventory.QuizInventoryService;
+import com.ll.quizzle.global.response.RsData;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/v1/admin/quiz/inventory")
+@Tag(name = "AdminQuizInventoryController", description = "관리자용 퀴즈 재고 관리 API")
+public class AdminQuizInventoryController {
+
+    private final QuizInventoryService quizInventoryService;
+
+    @GetMapping
+    @Operation(summary = "퀴즈 재고 현황", description = "조합별 재고 수, 수요 점수, 보충 여부와 전체 적중률을 조회합니다.")
+    public RsData<QuizInventoryStatusResponse> getStatus() {
+        return RsData.success(HttpStatus.OK, quizInventoryService.status());
+    }
+
+    @PostMapping("/refill")
+    @Operation(summary = "퀴즈 재고 보충", description = "다음 주기를 기다리지 않고 재고 보충 회차를 바로 실행합니다.")
+    public RsData<QuizInventoryStatusResponse> refill() {
+        quizInventoryService.refill();
+        return RsData.success(HttpStatus.OK, quizInventoryService.status());
+    }
+}
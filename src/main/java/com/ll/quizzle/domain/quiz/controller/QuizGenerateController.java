@@ -1,19 +1,29 @@
 package com.ll.quizzle.domain.quiz.controller;
 
 import com.ll.quizzle.domain.quiz.dto.request.QuizGenerationRequest;
-import com.ll.quizzle.domain.quiz.dto.response.QuizGenerationResponse;
+import com.ll.quizzle.domain.quiz.dto.response.QuizGenerationJobResponse;
 import com.ll.quizzle.domain.quiz.dto.response.QuizResponse;
-import com.ll.quizzle.domain.quiz.service.GPTQuizService;
-import com.ll.quizzle.domain.quiz.service.RedisQuizAnswerService;
+import com.ll.quizzle.domain.quiz.dto.response.QuizStreamResponse;
+import com.ll.quizzle.domain.quiz.job.QuizGenerationJobService;
+import com.ll.quizzle.domain.quiz.service.QuizGenerationService;
+import com.ll.quizzle.domain.quiz.service.QuizRoomRegistry;
+import com.ll.quizzle.domain.quiz.service.StreamingQuizGenerationService;
+import com.ll.quizzle.domain.room.service.RoomService;
 import com.ll.quizzle.global.response.RsData;
+import com.ll.quizzle.global.security.oauth2.dto.SecurityUser;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+import static com.ll.quizzle.global.exceptions.ErrorCode.ROOM_NOT_FOUND;
+import static com.ll.quizzle.global.exceptions.ErrorCode.UNAUTHORIZED;
 
 @Tag(name = "Quiz Generation", description = "퀴즈 생성 관련 API")
 @RequiredArgsConstructor
@@ -21,19 +31,101 @@ import java.util.UUID;
 @RequestMapping("/api/v1/quiz")
 public class QuizGenerateController {
 
-    private final GPTQuizService gptQuizService;
-    private final RedisQuizAnswerService redisQuizAnswerService;
+    private final QuizGenerationService quizGenerationService;
+    private final StreamingQuizGenerationService streamingQuizGenerationService;
+    private final QuizGenerationJobService quizGenerationJobService;
+    private final QuizRoomRegistry quizRoomRegistry;
+    private final RoomService roomService;
 
-    @Operation(summary = "퀴즈 생성", description = "GPT를 이용하여 퀴즈를 생성하고, 생성된 퀴즈를 Redis에 저장합니다.")
+    /**
+     * 같은 조합의 미리 생성된 퀴즈가 있거나 문제 은행의 풀이 충분하면 바로 응답하고, 없으면 GPT 응답을 기다리는 동안 서블릿 스레드를 반환하도록 비동기로 응답합니다.
+     * 같은 조건으로 동시에 들어온 요청은 생성 결과 하나를 함께 쓰되, quizId 는 요청마다 따로 발급하여 저장합니다.
+     * GPT 호출이 부하로 거절되면 풀 크기 조건을 낮춰 문제 은행에서 조립하고, 그것도 안 되면 503 으로 바로 응답합니다.
+     * roomId 를 지정하면 그 방의 퀴즈로 기록하므로, 방장이 게임 시작 전에 요청한 경우에만 허용합니다.
+     */
+    @Operation(summary = "퀴즈 생성", description = "미리 생성된 재고, 문제 은행 또는 GPT를 이용하여 퀴즈를 생성하고, 생성된 퀴즈를 Redis에 저장합니다. "
+            + "roomId 를 지정하면 그 방의 퀴즈가 되어 방장이 라운드를 시작할 수 있고, 지정하지 않으면 요청한 회원만 시작할 수 있습니다.")
     @PostMapping("/generate")
-    public RsData<QuizResponse> generateQuiz(@Valid @RequestBody QuizGenerationRequest request) {
-        String quizId = UUID.randomUUID().toString();
+    public CompletableFuture<RsData<QuizResponse>> generateQuiz(
+            @Valid @RequestBody QuizGenerationRequest request,
+            @RequestParam(required = false) Long roomId,
+            @AuthenticationPrincipal SecurityUser securityUser) {
+        Long creatorId = securityUser != null ? securityUser.getId() : null;
+        if (roomId != null) {
+            if (creatorId == null) {
+                throw UNAUTHORIZED.throwServiceException();
+            }
+            roomService.verifyOwnerBeforeGame(roomId, creatorId);
+        }
+        return quizGenerationService.generate(request, roomId, creatorId)
+                .thenApply(response -> RsData.success(HttpStatus.OK, response));
+    }
 
-        QuizGenerationResponse generationResponse = gptQuizService.generateQuiz(request);
+    /**
+     * 첫 문제가 저장되는 즉시 응답하고, 나머지 문제는 생성되는 대로 퀴즈 토픽으로 전송합니다.
+     * quizId(방 ID)를 지정하면 그 방의 퀴즈를 새로 만들므로, 방장이 게임 시작 전에 요청한 경우에만 허용합니다.
+     */
+    @Operation(summary = "퀴즈 스트리밍 생성",
+            description = "GPT 응답을 스트리밍으로 받아 문제가 완성될 때마다 Redis에 저장하고 /topic/quiz/{quizId}/updates 로 전송합니다. "
+                    + "quizId 로 방 ID 를 지정하면 이미 구독 중인 방 토픽으로 전송되며, 게임 시작 전의 방장만 지정할 수 있습니다.")
+    @PostMapping("/generate/stream")
+    public CompletableFuture<RsData<QuizStreamResponse>> generateQuizStream(
+            @Valid @RequestBody QuizGenerationRequest request,
+            @RequestParam(required = false) String quizId,
+            @AuthenticationPrincipal SecurityUser securityUser) {
+        String targetQuizId;
+        Long roomId = null;
+        if (quizId == null || quizId.isBlank()) {
+            targetQuizId = UUID.randomUUID().toString();
+        } else {
+            if (securityUser == null) {
+                throw UNAUTHORIZED.throwServiceException();
+            }
+            roomId = parseRoomId(quizId);
+            roomService.verifyOwnerBeforeGame(roomId, securityUser.getId());
+            targetQuizId = quizId;
+        }
+        quizRoomRegistry.bind(targetQuizId, roomId, securityUser != null ? securityUser.getId() : null);
+
+        return streamingQuizGenerationService.generate(targetQuizId, request).firstQuestion()
+                .thenApply(question -> RsData.success(HttpStatus.OK, new QuizStreamResponse(
+                        targetQuizId, question.number(), question.text(), request.problemCount())));
+    }
 
-        redisQuizAnswerService.saveQuiz(quizId, generationResponse.quizText(), generationResponse.answerMap());
+    /**
+     * 생성을 기다리지 않고 작업 ID 를 바로 돌려줍니다. 결과는 상태 조회로 확인하거나, roomId 를 지정하면 방 토픽으로,
+     * 로그인한 경우 개인 큐(/user/queue/private)로 완료/실패 알림을 받습니다.
+     */
+    @Operation(summary = "퀴즈 생성 작업 등록",
+            description = "퀴즈 생성을 작업 대기열에 등록하고 작업 ID 를 반환합니다. 실패하면 백오프 후 재시도하며, "
+                    + "완료/실패는 /topic/room/{roomId} 와 /user/queue/private 로 전송됩니다.")
+    @PostMapping("/jobs")
+    @ResponseStatus(HttpStatus.ACCEPTED)
+    public RsData<QuizGenerationJobResponse> submitQuizJob(
+            @Valid @RequestBody QuizGenerationRequest request,
+            @RequestParam(required = false) Long roomId,
+            @AuthenticationPrincipal SecurityUser securityUser) {
+        String requester = securityUser != null ? securityUser.getUsername() : null;
+        Long requesterId = securityUser != null ? securityUser.getId() : null;
+        return RsData.success(HttpStatus.ACCEPTED,
+                quizGenerationJobService.submit(request, roomId, requester, requesterId));
+    }
+
+    @Operation(summary = "퀴즈 생성 작업 상태 조회",
+            description = "작업 상태를 조회합니다. 완료된 작업은 생성된 퀴즈를 함께 반환하며, 방 작업의 퀴즈는 요청자와 방장에게만 반환합니다.")
+    @GetMapping("/jobs/{jobId}")
+    public RsData<QuizGenerationJobResponse> getQuizJob(
+            @PathVariable String jobId,
+            @AuthenticationPrincipal SecurityUser securityUser) {
+        Long memberId = securityUser != null ? securityUser.getId() : null;
+        return RsData.success(HttpStatus.OK, quizGenerationJobService.status(jobId, memberId));
+    }
 
-        QuizResponse response = new QuizResponse(quizId, generationResponse.quizText(), generationResponse.answerMap());
-        return RsData.success(HttpStatus.OK, response);
+    private static Long parseRoomId(String quizId) {
+        try {
+            return Long.valueOf(quizId);
+        } catch (NumberFormatException e) {
+            throw ROOM_NOT_FOUND.throwServiceException();
+        }
     }
-}
\ No newline at end of file
+}
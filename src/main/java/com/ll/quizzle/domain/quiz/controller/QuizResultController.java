@@ -2,7 +2,6 @@ package com.ll.quizzle.domain.quiz.controller;
 
 import com.ll.quizzle.domain.quiz.dto.response.QuizResultResponse;
 import com.ll.quizzle.domain.quiz.service.QuizResultService;
-import com.ll.quizzle.domain.member.service.MemberExpService;
 import com.ll.quizzle.global.response.RsData;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -19,16 +18,10 @@ import java.util.List;
 public class QuizResultController {
 
     private final QuizResultService quizResultService;
-    private final MemberExpService memberExpService;
 
-    @Operation(summary = "퀴즈 결과 조회", description = "특정 퀴즈 결과를 조회하고, 각 사용자에 대해 EXP를 갱신합니다.")
+    @Operation(summary = "퀴즈 결과 조회", description = "정산된 퀴즈 결과를 조회합니다. 정산 전이면 실시간 순위를 반환하며, EXP 는 퀴즈 종료 시 한 번만 반영됩니다.")
     @GetMapping("/{quizId}/result")
     public RsData<List<QuizResultResponse>> getQuizResults(@PathVariable("quizId") String quizId) {
-
-        List<QuizResultResponse> results = quizResultService.getQuizResults(quizId);
-        // memberExpService.updateMemberExp가 Long 타입의 memberId를 기대하므로 String을 Long으로 변환함.
-        results.forEach(result -> memberExpService.updateMemberExp(Long.parseLong(result.memberId()), result.score()));
-
-        return RsData.success(HttpStatus.OK, results);
+        return RsData.success(HttpStatus.OK, quizResultService.getQuizResults(quizId));
     }
 }
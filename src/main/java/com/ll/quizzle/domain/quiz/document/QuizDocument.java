@@ -0,0 +1,246 @@
+package com.ll.quizzle.domain.quiz.document;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 퀴즈 한 벌(문제 + 정답)을 Redis 값 하나에 담는 이진 문서입니다. 한 번의 SET 으로 저장하고,
+ * 위치가 고정되어 있어 정답 부분이나 문제 하나만 GETRANGE 로 읽을 수 있습니다.
+ *
+ * <pre>
+ * 위치        크기        내용
+ * 0           2           매직 "QZ"
+ * 2           1           버전 (1)
+ * 3           1           예약 (0)
+ * 4           2           문제 수 N (부호 없음, big-endian)
+ * 6           N           정답. 문제당 1바이트(정규화된 ASCII 한 글자), 없거나 형식이 잘못되면 0
+ * 6+N         4(N+1)      문제 본문 시작 위치 표 (문서 처음 기준, big-endian). i 번 문제 = [표[i-1], 표[i])
+ * 10+5N       ...         문제 본문 (UTF-8, 구분자 없음)
+ * </pre>
+ *
+ * 정답은 채점과 같은 규칙(trim + 소문자, 한 글자)으로 저장할 때 정규화하므로 읽는 쪽에서는 파싱하지 않습니다.
+ */
+public final class QuizDocument {
+
+    static final byte[] MAGIC = {'Q', 'Z'};
+    static final int VERSION = 1;
+    static final int HEADER_SIZE = 6;
+    public static final int MAX_QUESTIONS = 0xFFFF;
+
+    /**
+     * 헤더, 정답, 위치 표를 한 번에 읽을 때 먼저 가져오는 크기. 문제가 23개 이하이면 이 범위에 모두 들어갑니다.
+     */
+    public static final int PREFETCH_SIZE = 128;
+
+    /**
+     * 정답이 없거나 형식이 잘못된 문제를 표시하는 값
+     */
+    public static final char NO_ANSWER = '\0';
+
+    private final String[] questions;
+    private final char[] answers;
+
+    private QuizDocument(String[] questions, char[] answers) {
+        this.questions = questions;
+        this.answers = answers;
+    }
+
+    /**
+     * 기존 목록 형식과 같이 문제와 정답을 각각 번호 순으로 정렬하여 위치를 문제 번호로 씁니다.
+     */
+    public static QuizDocument of(Map<Integer, String> quizText, Map<Integer, String> answerMap) {
+        int count = Math.max(quizText.size(), answerMap.size());
+        checkCount(count);
+        String[] questions = new String[count];
+        char[] answers = new char[count];
+        Arrays.fill(questions, "");
+
+        Iterator<String> texts = new TreeMap<>(quizText).values().iterator();
+        for (int i = 0; texts.hasNext(); i++) {
+            String text = texts.next();
+            questions[i] = text == null ? "" : text.trim();
+        }
+        Iterator<String> answerValues = new TreeMap<>(answerMap).values().iterator();
+        for (int i = 0; answerValues.hasNext(); i++) {
+            answers[i] = packAnswer(answerValues.next());
+        }
+        return new QuizDocument(questions, answers);
+    }
+
+    /**
+     * 스트리밍 생성을 시작할 때 문제 수만큼 빈 자리를 만듭니다. 빈 자리는 정답이 없는 문제로 취급되어 채점되지 않습니다.
+     */
+    public static QuizDocument reserved(int count) {
+        checkCount(count);
+        String[] questions = new String[count];
+        Arrays.fill(questions, "");
+        return new QuizDocument(questions, new char[count]);
+    }
+
+    public QuizDocument withQuestion(int number, String text, String answer) {
+        if (number < 1 || number > questions.length) {
+            throw new IllegalArgumentException("문제 번호가 범위를 벗어났습니다: " + number);
+        }
+        String[] nextQuestions = questions.clone();
+        char[] nextAnswers = answers.clone();
+        nextQuestions[number - 1] = text == null ? "" : text.trim();
+        nextAnswers[number - 1] = packAnswer(answer);
+        return new QuizDocument(nextQuestions, nextAnswers);
+    }
+
+    public QuizDocument truncate(int count) {
+        int size = Math.max(0, Math.min(count, questions.length));
+        return new QuizDocument(Arrays.copyOf(questions, size), Arrays.copyOf(answers, size));
+    }
+
+    public int size() {
+        return questions.length;
+    }
+
+    public String question(int number) {
+        return questions[number - 1];
+    }
+
+    public char answer(int number) {
+        return answers[number - 1];
+    }
+
+    public char[] answers() {
+        return answers.clone();
+    }
+
+    /**
+     * 모든 자리에 문제와 정답이 채워졌는지 여부
+     */
+    public boolean isComplete() {
+        for (int i = 0; i < questions.length; i++) {
+            if (questions[i].isEmpty() || answers[i] == NO_ANSWER) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public byte[] encode() {
+        int count = questions.length;
+        byte[][] bodies = new byte[count][];
+        int bodySize = 0;
+        for (int i = 0; i < count; i++) {
+            bodies[i] = questions[i].getBytes(StandardCharsets.UTF_8);
+            bodySize += bodies[i].length;
+        }
+
+        int bodyStart = prefixLength(count);
+        ByteBuffer buffer = ByteBuffer.allocate(bodyStart + bodySize);
+        buffer.put(MAGIC).put((byte)VERSION).put((byte)0).putShort((short)count);
+        for (char answer : answers) {
+            buffer.put((byte)answer);
+        }
+        int offset = bodyStart;
+        buffer.putInt(offset);
+        for (byte[] body : bodies) {
+            offset += body.length;
+            buffer.putInt(offset);
+        }
+        for (byte[] body : bodies) {
+            buffer.put(body);
+        }
+        return buffer.array();
+    }
+
+    public static QuizDocument decode(byte[] bytes) {
+        int count = questionCount(bytes);
+        if (bytes.length < prefixLength(count)) {
+            throw new IllegalArgumentException("퀴즈 문서가 잘렸습니다.");
+        }
+        String[] questions = new String[count];
+        for (int number = 1; number <= count; number++) {
+            int start = offset(bytes, count, number - 1);
+            int end = offset(bytes, count, number);
+            if (start > end || end > bytes.length) {
+                throw new IllegalArgumentException("퀴즈 문서의 문제 위치가 올바르지 않습니다: " + number);
+            }
+            questions[number - 1] = new String(bytes, start, end - start, StandardCharsets.UTF_8);
+        }
+        return new QuizDocument(questions, decodeAnswers(bytes));
+    }
+
+    /**
+     * 문서 앞부분(최소 HEADER_SIZE 바이트)으로 문제 수를 읽습니다.
+     */
+    public static int questionCount(byte[] prefix) {
+        if (prefix.length < HEADER_SIZE || prefix[0] != MAGIC[0] || prefix[1] != MAGIC[1]) {
+            throw new IllegalArgumentException("퀴즈 문서 형식이 아닙니다.");
+        }
+        if (prefix[2] != VERSION) {
+            throw new IllegalArgumentException("지원하지 않는 퀴즈 문서 버전입니다: " + prefix[2]);
+        }
+        return ((prefix[4] & 0xFF) << 8) | (prefix[5] & 0xFF);
+    }
+
+    /**
+     * 헤더, 정답, 위치 표를 합한 크기. 이만큼 읽으면 정답과 모든 문제의 위치를 알 수 있습니다.
+     */
+    public static int prefixLength(int count) {
+        return HEADER_SIZE + count + 4 * (count + 1);
+    }
+
+    /**
+     * 문서 앞부분에서 정답만 꺼냅니다. 본문은 읽지 않으므로 HEADER_SIZE + N 바이트만 있으면 됩니다.
+     */
+    public static char[] decodeAnswers(byte[] prefix) {
+        int count = questionCount(prefix);
+        if (prefix.length < HEADER_SIZE + count) {
+            throw new IllegalArgumentException("퀴즈 문서의 정답 부분이 잘렸습니다.");
+        }
+        char[] answers = new char[count];
+        for (int i = 0; i < count; i++) {
+            answers[i] = (char)(prefix[HEADER_SIZE + i] & 0x7F);
+        }
+        return answers;
+    }
+
+    /**
+     * 문서 앞부분(prefixLength 이상)에서 number 번 문제 본문의 [시작, 끝) 위치를 찾습니다. 번호가 범위를 벗어나면 null 입니다.
+     */
+    public static int[] questionRange(byte[] prefix, int number) {
+        int count = questionCount(prefix);
+        if (number < 1 || number > count) {
+            return null;
+        }
+        if (prefix.length < HEADER_SIZE + count + 4 * (number + 1)) {
+            throw new IllegalArgumentException("퀴즈 문서의 위치 표가 잘렸습니다.");
+        }
+        return new int[] {offset(prefix, count, number - 1), offset(prefix, count, number)};
+    }
+
+    /**
+     * 채점과 같은 규칙으로 정답을 한 글자로 정규화합니다. 한 글자가 아니거나 ASCII 가 아니면 NO_ANSWER 입니다.
+     */
+    static char packAnswer(String answer) {
+        if (answer == null) {
+            return NO_ANSWER;
+        }
+        String normalized = answer.trim().toLowerCase();
+        if (normalized.length() != 1 || normalized.charAt(0) >= 0x80) {
+            return NO_ANSWER;
+        }
+        return normalized.charAt(0);
+    }
+
+    private static int offset(byte[] bytes, int count, int index) {
+        int position = HEADER_SIZE + count + 4 * index;
+        return ((bytes[position] & 0xFF) << 24) | ((bytes[position + 1] & 0xFF) << 16)
+                | ((bytes[position + 2] & 0xFF) << 8) | (bytes[position + 3] & 0xFF);
+    }
+
+    private static void checkCount(int count) {
+        if (count > MAX_QUESTIONS) {
+            throw new IllegalArgumentException("퀴즈 문서에 담을 수 있는 문제 수를 넘었습니다: " + count);
+        }
+    }
+}
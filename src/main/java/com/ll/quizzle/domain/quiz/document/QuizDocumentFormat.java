@@ -0,0 +1,23 @@
+package com.ll.quizzle.domain.quiz.document;
+
+/**
+ * 퀴즈를 Redis 에 쓸 형식. 읽는 쪽은 항상 이진 문서를 먼저 찾고, 없으면 기존 목록 형식을 읽습니다.
+ * 롤링 배포 중에는 DUAL 로 두어 아직 목록만 읽는 노드도 같은 퀴즈를 채점할 수 있게 하고,
+ * 모든 노드가 바뀐 뒤 BINARY 로 바꿉니다. 목록 형식은 퀴즈 TTL(30분)이 지나면 모두 사라집니다.
+ */
+public enum QuizDocumentFormat {
+    /** 기존 quiz:{quizId}:questions / quiz:{quizId}:answers 목록만 */
+    LIST,
+    /** 목록과 이진 문서 모두 */
+    DUAL,
+    /** quiz:{quizId}:document 이진 문서만 */
+    BINARY;
+
+    public boolean writesList() {
+        return this != BINARY;
+    }
+
+    public boolean writesBinary() {
+        return this != LIST;
+    }
+}
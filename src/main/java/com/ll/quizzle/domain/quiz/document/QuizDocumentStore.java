@@ -0,0 +1,137 @@
+package com.ll.quizzle.domain.quiz.document;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.redis.connection.RedisStringCommands;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.types.Expiration;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.stereotype.Component;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * quiz:{quizId}:document 키에 QuizDocument 를 바이트 그대로 읽고 씁니다.
+ * - 쓰기: 문서 전체를 SET ... PX 한 번으로 저장합니다.
+ * - 정답: 앞부분 PREFETCH_SIZE 바이트와 남은 TTL 을 한 번의 파이프라인으로 읽습니다. 본문은 읽지 않습니다.
+ * - 문제 하나: 앞부분에서 위치를 찾은 뒤 해당 본문만 GETRANGE 로 읽습니다.
+ */
+@Slf4j
+@Component
+public class QuizDocumentStore {
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    public QuizDocumentStore(RedisTemplate<String, String> redisTemplate) {
+        this.redisTemplate = redisTemplate;
+    }
+
+    public void write(String quizId, QuizDocument document, Duration ttl) {
+        byte[] key = key(quizId);
+        byte[] value = document.encode();
+        redisTemplate.execute((RedisCallback<Boolean>)connection -> connection.stringCommands()
+                .set(key, value, Expiration.from(ttl), RedisStringCommands.SetOption.upsert()));
+    }
+
+    public void delete(String quizId) {
+        byte[] key = key(quizId);
+        redisTemplate.execute((RedisCallback<Long>)connection -> connection.keyCommands().del(key));
+    }
+
+    /**
+     * 문서 전체를 읽어 로컬에서 풉니다. 문서가 없거나 손상되었으면 비어 있습니다.
+     */
+    public Optional<QuizDocument> read(String quizId) {
+        byte[] key = key(quizId);
+        byte[] bytes = redisTemplate.execute((RedisCallback<byte[]>)connection -> connection.stringCommands().get(key));
+        if (bytes == null || bytes.length == 0) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(QuizDocument.decode(bytes));
+        } catch (IllegalArgumentException e) {
+            log.warn("손상된 퀴즈 문서: quizId={}, {}", quizId, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * 정답과 남은 TTL 을 읽습니다. 문서가 없으면 null 을 반환합니다.
+     */
+    public Answers readAnswers(String quizId) {
+        byte[] key = key(quizId);
+        List<Object> results = redisTemplate.executePipelined((RedisCallback<Object>)connection -> {
+            connection.stringCommands().getRange(key, 0, QuizDocument.PREFETCH_SIZE - 1);
+            connection.keyCommands().pTtl(key);
+            return null;
+        }, RedisSerializer.byteArray());
+
+        byte[] prefix = (byte[])results.get(0);
+        if (prefix == null || prefix.length == 0) {
+            return null;
+        }
+        try {
+            int count = QuizDocument.questionCount(prefix);
+            if (prefix.length < QuizDocument.HEADER_SIZE + count) {
+                prefix = readPrefix(key, QuizDocument.HEADER_SIZE + count);
+            }
+            return new Answers(QuizDocument.decodeAnswers(prefix), (Long)results.get(1));
+        } catch (IllegalArgumentException e) {
+            log.warn("손상된 퀴즈 문서: quizId={}, {}", quizId, e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * number 번 문제 본문만 읽습니다. 문서가 없거나 번호가 범위를 벗어나면 비어 있습니다.
+     */
+    public Optional<String> readQuestion(String quizId, int number) {
+        byte[] key = key(quizId);
+        byte[] prefix = readPrefix(key, QuizDocument.PREFETCH_SIZE);
+        if (prefix == null || prefix.length == 0) {
+            return Optional.empty();
+        }
+        try {
+            int required = QuizDocument.prefixLength(QuizDocument.questionCount(prefix));
+            if (prefix.length < required) {
+                prefix = readPrefix(key, required);
+            }
+            int[] range = QuizDocument.questionRange(prefix, number);
+            if (range == null) {
+                return Optional.empty();
+            }
+            if (range[0] == range[1]) {
+                return Optional.of("");
+            }
+            byte[] body = redisTemplate.execute((RedisCallback<byte[]>)connection ->
+                    connection.stringCommands().getRange(key, range[0], range[1] - 1L));
+            return Optional.ofNullable(body).map(bytes -> new String(bytes, StandardCharsets.UTF_8));
+        } catch (IllegalArgumentException e) {
+            log.warn("손상된 퀴즈 문서: quizId={}, {}", quizId, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    private byte[] readPrefix(byte[] key, int length) {
+        return redisTemplate.execute((RedisCallback<byte[]>)connection ->
+                connection.stringCommands().getRange(key, 0, length - 1L));
+    }
+
+    static String documentKey(String quizId) {
+        return "quiz:" + quizId + ":document";
+    }
+
+    private static byte[] key(String quizId) {
+        return documentKey(quizId).getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * @param ttlMillis 남은 TTL(ms). 만료가 없거나 알 수 없으면 null 또는 0 이하입니다.
+     */
+    public record Answers(char[] answers, Long ttlMillis) {
+    }
+}
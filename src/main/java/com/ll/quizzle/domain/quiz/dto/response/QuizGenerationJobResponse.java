@@ -0,0 +1,30 @@
+package com.ll.quizzle.domain.quiz.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.ll.quizzle.domain.quiz.job.QuizGenerationJobStatus;
+
+/**
+ * 퀴즈 생성 작업 상태 DTO
+ * 작업 등록, 상태 조회, 요청자 개인 큐(/user/queue/private) 알림에 함께 사용합니다.
+ * quiz 는 SUCCEEDED 일 때만, error 는 재시도 예정이거나 FAILED 일 때만 포함됩니다.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record QuizGenerationJobResponse(
+        String jobId,
+        QuizGenerationJobStatus status,
+        Long roomId,
+        int attempts,
+        String quizId,
+        QuizResponse quiz,
+        String error,
+        long requestedAt,
+        long updatedAt
+) {
+
+    /**
+     * 정답이 담긴 quiz 를 뺀 상태. 방 참가자 모두가 받는 방 토픽 알림에 사용합니다.
+     */
+    public QuizGenerationJobResponse withoutQuiz() {
+        return new QuizGenerationJobResponse(jobId, status, roomId, attempts, quizId, null, error, requestedAt, updatedAt);
+    }
+}
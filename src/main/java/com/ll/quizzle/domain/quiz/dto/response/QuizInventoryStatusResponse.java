@@ -0,0 +1,35 @@
+package com.ll.quizzle.domain.quiz.dto.response;
+
+import java.util.List;
+
+import com.ll.quizzle.domain.room.type.AnswerType;
+import com.ll.quizzle.domain.room.type.Difficulty;
+import com.ll.quizzle.domain.room.type.MainCategory;
+import com.ll.quizzle.domain.room.type.SubCategory;
+
+/**
+ * 관리자용 퀴즈 재고 현황 DTO
+ * hits/misses 는 모든 노드의 누적값이며, stocks 는 보충 우선순위가 높은 조합부터 정렬됩니다.
+ */
+public record QuizInventoryStatusResponse(
+        boolean enabled,
+        long hits,
+        long misses,
+        double hitRate,
+        int inFlight,
+        int lowWater,
+        int highWater,
+        List<Stock> stocks
+) {
+
+    public record Stock(
+            MainCategory mainCategory,
+            SubCategory subCategory,
+            AnswerType answerType,
+            Difficulty difficulty,
+            int problemCount,
+            long stock,
+            double demand,
+            boolean refilling
+    ) { }
+}
@@ -0,0 +1,12 @@
+package com.ll.quizzle.domain.quiz.dto.response;
+
+/**
+ * 스트리밍 생성 요청에 대한 응답 DTO
+ * 첫 문제가 저장된 시점에 반환되며, 나머지 문제는 /topic/quiz/{quizId}/updates 로 전송됩니다.
+ */
+public record QuizStreamResponse(
+        String quizId,
+        int questionNumber,
+        String question,
+        int totalQuestions
+) { }
@@ -0,0 +1,60 @@
+package com.ll.quizzle.domain.quiz.entity;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import com.ll.quizzle.domain.quiz.dto.response.QuizResultResponse;
+import com.ll.quizzle.global.jpa.entity.BaseTime;
+
+import jakarta.persistence.CollectionTable;
+import jakarta.persistence.Column;
+import jakarta.persistence.ElementCollection;
+import jakarta.persistence.Entity;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.OrderColumn;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 종료된 퀴즈의 정산 결과 스냅샷입니다.
+ * quizEnd 시점에 한 번만 저장되며 이후에는 읽기만 합니다.
+ * quiz_key 는 퀴즈를 생성할 때 발급한 quizId 로, 보통 UUID 이며 방 ID 와는 다릅니다. (방은 QuizRoomRegistry 로 찾습니다)
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class Quiz extends BaseTime {
+
+    @Column(name = "quiz_key", nullable = false, unique = true)
+    private String quizId;
+
+    @ElementCollection
+    @CollectionTable(name = "quiz_result", joinColumns = @JoinColumn(name = "quiz_id"))
+    @OrderColumn(name = "result_order")
+    private List<QuizResult> results = new ArrayList<>();
+
+    private Quiz(String quizId, List<QuizResult> results) {
+        this.quizId = quizId;
+        this.results = results;
+    }
+
+    public static Quiz settle(String quizId, List<QuizResultResponse> ranking) {
+        List<QuizResult> results = new ArrayList<>(ranking.size());
+        for (QuizResultResponse response : ranking) {
+            results.add(QuizResult.from(response));
+        }
+        return new Quiz(quizId, results);
+    }
+
+    public List<QuizResult> getResults() {
+        return Collections.unmodifiableList(results);
+    }
+
+    public List<QuizResultResponse> toResponses() {
+        return results.stream()
+                .map(QuizResult::toResponse)
+                .toList();
+    }
+}
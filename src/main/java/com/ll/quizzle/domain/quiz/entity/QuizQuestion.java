@@ -0,0 +1,98 @@
+package com.ll.quizzle.domain.quiz.entity;
+
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+import com.ll.quizzle.domain.quiz.bank.QuestionFingerprint;
+import com.ll.quizzle.domain.quiz.dto.request.QuizGenerationRequest;
+import com.ll.quizzle.domain.room.type.AnswerType;
+import com.ll.quizzle.domain.room.type.Difficulty;
+import com.ll.quizzle.domain.room.type.MainCategory;
+import com.ll.quizzle.domain.room.type.SubCategory;
+import com.ll.quizzle.global.jpa.entity.BaseTime;
+
+import jakarta.persistence.CollectionTable;
+import jakarta.persistence.Column;
+import jakarta.persistence.ElementCollection;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Index;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 문제 은행에 쌓아 두는 문제 한 개입니다. 한 번 저장되면 바뀌지 않습니다.
+ * - content_hash: 정규화한 본문의 해시로, 같은 문제가 두 번 저장되지 않게 합니다.
+ * - (sub_category, answer_type, difficulty, id) 인덱스로 퀴즈를 조립할 문제 풀을 찾습니다.
+ * - quiz_question_band: 유사 문제 후보를 찾기 위한 LSH 키 (QuestionFingerprint 참고)
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "quiz_question", indexes = {
+        @Index(name = "uk_quiz_question_content_hash", columnList = "content_hash", unique = true),
+        @Index(name = "idx_quiz_question_pool", columnList = "sub_category, answer_type, difficulty, id")
+})
+public class QuizQuestion extends BaseTime {
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "main_category", nullable = false)
+    private MainCategory mainCategory;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "sub_category", nullable = false)
+    private SubCategory subCategory;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "answer_type", nullable = false)
+    private AnswerType answerType;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "difficulty", nullable = false)
+    private Difficulty difficulty;
+
+    @Column(name = "question", nullable = false, length = 2000)
+    private String question;
+
+    @Column(name = "answer", nullable = false, length = 200)
+    private String answer;
+
+    @Column(name = "content_hash", nullable = false, length = 64)
+    private String contentHash;
+
+    @Column(name = "min_hash", nullable = false, length = QuestionFingerprint.SIGNATURE_BYTES)
+    private byte[] minHash;
+
+    @ElementCollection
+    @CollectionTable(name = "quiz_question_band",
+            joinColumns = @JoinColumn(name = "question_id"),
+            indexes = @Index(name = "idx_quiz_question_band_key", columnList = "band_key"))
+    @Column(name = "band_key", nullable = false)
+    private Set<Long> bandKeys = new LinkedHashSet<>();
+
+    private QuizQuestion(QuizGenerationRequest request, String question, String answer,
+                         QuestionFingerprint fingerprint) {
+        this.mainCategory = request.subCategory().getMainCategory();
+        this.subCategory = request.subCategory();
+        this.answerType = request.answerType();
+        this.difficulty = request.difficulty();
+        this.question = question;
+        this.answer = answer;
+        this.contentHash = fingerprint.contentHash();
+        this.minHash = fingerprint.minHashBytes();
+        this.bandKeys = new LinkedHashSet<>(fingerprint.bandKeys());
+    }
+
+    public static QuizQuestion of(QuizGenerationRequest request, String question, String answer,
+                                  QuestionFingerprint fingerprint) {
+        return new QuizQuestion(request, question, answer, fingerprint);
+    }
+
+    public int[] minHashSignature() {
+        return QuestionFingerprint.minHashFromBytes(minHash);
+    }
+}
@@ -0,0 +1,60 @@
+package com.ll.quizzle.domain.quiz.entity;
+
+import com.ll.quizzle.domain.quiz.dto.response.QuizResultResponse;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 정산 시점에 확정된 회원 한 명의 퀴즈 결과 (변경되지 않습니다)
+ */
+@Embeddable
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class QuizResult {
+
+    @Column(name = "member_id", nullable = false)
+    private Long memberId;
+
+    @Column(name = "correct_count", nullable = false)
+    private int correctCount;
+
+    @Column(name = "total_questions", nullable = false)
+    private int totalQuestions;
+
+    @Column(nullable = false)
+    private int score;
+
+    @Column(name = "result_rank", nullable = false)
+    private int rank;
+
+    @Column(nullable = false)
+    private int exp;
+
+    private QuizResult(Long memberId, int correctCount, int totalQuestions, int score, int rank, int exp) {
+        this.memberId = memberId;
+        this.correctCount = correctCount;
+        this.totalQuestions = totalQuestions;
+        this.score = score;
+        this.rank = rank;
+        this.exp = exp;
+    }
+
+    public static QuizResult from(QuizResultResponse response) {
+        return new QuizResult(
+                Long.valueOf(response.memberId()),
+                response.correctCount(),
+                response.totalQuestions(),
+                response.score(),
+                response.rank(),
+                response.exp()
+        );
+    }
+
+    public QuizResultResponse toResponse() {
+        return new QuizResultResponse(String.valueOf(memberId), correctCount, totalQuestions, score, rank, exp);
+    }
+}
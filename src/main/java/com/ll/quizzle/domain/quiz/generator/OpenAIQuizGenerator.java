@@ -0,0 +1,56 @@
+package com.ll.quizzle.domain.quiz.generator;
+
+import java.util.concurrent.CompletableFuture;
+
+import com.ll.quizzle.domain.quiz.bank.QuizQuestionBank;
+import com.ll.quizzle.domain.quiz.client.OpenAIClient;
+import com.ll.quizzle.domain.quiz.client.QuizGenerationCaller;
+import com.ll.quizzle.domain.quiz.client.QuizGenerationGuard;
+import com.ll.quizzle.domain.quiz.dto.request.QuizGenerationRequest;
+import com.ll.quizzle.domain.quiz.dto.response.QuizGenerationResponse;
+import com.ll.quizzle.domain.quiz.parser.QuizResponseParser;
+import com.ll.quizzle.domain.quiz.util.QuizPromptBuilder;
+
+/**
+ * OpenAI 모델 하나로 퀴즈를 생성하는 백엔드. 모델마다 하나씩 만들어 QuizGeneratorConfig 에서 등록합니다.
+ * 모든 호출은 QuizGenerationGuard 를 거치며, 생성된 문제는 헤지에서 진 응답이라도 문제 은행에 쌓습니다.
+ * 응답에 빠지거나 잘못된 문제가 있으면 QuizRepairStage 가 그 번호만 다시 요청해 채웁니다.
+ */
+public class OpenAIQuizGenerator implements QuizGenerator {
+
+    private final String name;
+    private final String model;
+    private final OpenAIClient openAIClient;
+    private final QuizGenerationGuard quizGenerationGuard;
+    private final QuizQuestionBank quizQuestionBank;
+    private final QuizRepairStage quizRepairStage;
+    private final QuizResponseParser quizResponseParser = new QuizResponseParser();
+
+    public OpenAIQuizGenerator(String name, String model, OpenAIClient openAIClient,
+                               QuizGenerationGuard quizGenerationGuard, QuizQuestionBank quizQuestionBank,
+                               QuizRepairStage quizRepairStage) {
+        this.name = name;
+        this.model = model;
+        this.openAIClient = openAIClient;
+        this.quizGenerationGuard = quizGenerationGuard;
+        this.quizQuestionBank = quizQuestionBank;
+        this.quizRepairStage = quizRepairStage;
+    }
+
+    @Override
+    public String name() {
+        return name;
+    }
+
+    @Override
+    public CompletableFuture<QuizGenerationResponse> generate(QuizGenerationRequest request, QuizGenerationCaller caller) {
+        String systemPrompt = QuizPromptBuilder.buildPrompt(request);
+        return quizGenerationGuard.execute(caller, () -> openAIClient.sendRequestAsync(model, systemPrompt, "퀴즈 생성"))
+                .thenApply(quizResponseParser::parseCompletion)
+                .thenCompose(completion -> quizRepairStage.complete(name, model, request, caller, completion))
+                .thenApply(response -> {
+                    quizQuestionBank.depositAsync(request, response);
+                    return response;
+                });
+    }
+}
@@ -0,0 +1,38 @@
+package com.ll.quizzle.domain.quiz.generator;
+
+import java.util.concurrent.CompletableFuture;
+
+import org.springframework.stereotype.Component;
+
+import com.ll.quizzle.domain.quiz.bank.QuizQuestionBank;
+import com.ll.quizzle.domain.quiz.client.QuizGenerationCaller;
+import com.ll.quizzle.domain.quiz.dto.request.QuizGenerationRequest;
+import com.ll.quizzle.domain.quiz.dto.response.QuizGenerationResponse;
+import com.ll.quizzle.global.exceptions.ErrorCode;
+import com.ll.quizzle.global.exceptions.ServiceException;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 문제 은행에 쌓인 문제로 퀴즈를 조립하는 백엔드. 풀에 문제 수만큼만 있어도 조립하며, 모자라면 바로 실패합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class QuestionBankQuizGenerator implements QuizGenerator {
+
+    private final QuizQuestionBank quizQuestionBank;
+
+    @Override
+    public String name() {
+        return "bank";
+    }
+
+    @Override
+    public CompletableFuture<QuizGenerationResponse> generate(QuizGenerationRequest request, QuizGenerationCaller caller) {
+        return quizQuestionBank.assembleFallback(request)
+                .map(CompletableFuture::completedFuture)
+                .orElseGet(() -> CompletableFuture.failedFuture(new ServiceException(
+                        ErrorCode.QUIZ_GENERATION_FAILED.getHttpStatus(),
+                        ErrorCode.QUIZ_GENERATION_FAILED.getMessage())));
+    }
+}
@@ -0,0 +1,21 @@
+package com.ll.quizzle.domain.quiz.generator;
+
+import java.util.concurrent.CompletableFuture;
+
+import com.ll.quizzle.domain.quiz.client.QuizGenerationCaller;
+import com.ll.quizzle.domain.quiz.dto.request.QuizGenerationRequest;
+import com.ll.quizzle.domain.quiz.dto.response.QuizGenerationResponse;
+
+/**
+ * 퀴즈 생성 백엔드. QuizGeneratorRouter 가 quizzle.quiz.generator.order 에 적힌 이름 순서대로 호출합니다.
+ * 실패는 예외로 완료하며, 호출 스레드를 붙잡지 않도록 비동기로 돌려줍니다.
+ */
+public interface QuizGenerator {
+
+    /**
+     * 설정과 지표 태그에 쓰는 이름
+     */
+    String name();
+
+    CompletableFuture<QuizGenerationResponse> generate(QuizGenerationRequest request, QuizGenerationCaller caller);
+}
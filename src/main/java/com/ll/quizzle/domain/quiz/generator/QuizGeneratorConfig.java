@@ -0,0 +1,38 @@
+package com.ll.quizzle.domain.quiz.generator;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.ll.quizzle.domain.quiz.bank.QuizQuestionBank;
+import com.ll.quizzle.domain.quiz.client.OpenAIClient;
+import com.ll.quizzle.domain.quiz.client.QuizGenerationGuard;
+import com.ll.quizzle.global.config.OpenAIProperties;
+
+/**
+ * OpenAI 모델 백엔드 등록. primary 는 openai.model, fallback 은 openai.fallback-model 을 사용하며,
+ * 대체 모델이 비어 있으면 주 모델로 한 번 더 요청합니다.
+ */
+@Configuration
+public class QuizGeneratorConfig {
+
+    @Bean
+    public OpenAIQuizGenerator primaryQuizGenerator(OpenAIProperties openAIProperties, OpenAIClient openAIClient,
+                                                    QuizGenerationGuard quizGenerationGuard,
+                                                    QuizQuestionBank quizQuestionBank,
+                                                    QuizRepairStage quizRepairStage) {
+        return new OpenAIQuizGenerator("primary", openAIProperties.getModel(), openAIClient, quizGenerationGuard,
+                quizQuestionBank, quizRepairStage);
+    }
+
+    @Bean
+    public OpenAIQuizGenerator fallbackQuizGenerator(OpenAIProperties openAIProperties, OpenAIClient openAIClient,
+                                                     QuizGenerationGuard quizGenerationGuard,
+                                                     QuizQuestionBank quizQuestionBank,
+                                                     QuizRepairStage quizRepairStage) {
+        String model = openAIProperties.getFallbackModel() == null || openAIProperties.getFallbackModel().isBlank()
+                ? openAIProperties.getModel()
+                : openAIProperties.getFallbackModel();
+        return new OpenAIQuizGenerator("fallback", model, openAIClient, quizGenerationGuard, quizQuestionBank,
+                quizRepairStage);
+    }
+}
@@ -0,0 +1,282 @@
+package com.ll.quizzle.domain.quiz.generator;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import com.ll.quizzle.domain.quiz.client.QuizGenerationCaller;
+import com.ll.quizzle.domain.quiz.dto.request.QuizGenerationRequest;
+import com.ll.quizzle.domain.quiz.dto.response.QuizGenerationResponse;
+import com.ll.quizzle.global.exceptions.ErrorCode;
+import com.ll.quizzle.global.exceptions.ServiceException;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * quizzle.quiz.generator.order 순서대로 QuizGenerator 백엔드를 호출하고 처음 도착한 올바른 결과를 돌려줍니다.
+ * - 헤지: 사용자 요청(INTERACTIVE)은 앞 백엔드가 자신의 응답 시간 p95(hedge.percentile) 안에 답하지 않으면
+ *   다음 백엔드를 함께 호출합니다. 기다리는 시간은 백엔드별 응답 시간 분포에서 매번 다시 읽으므로 상류가 느려지면 함께 늘어납니다.
+ * - 장애 대응: 호출 중인 백엔드가 모두 실패하면 기다리지 않고 다음 백엔드를 호출합니다.
+ * - 재고 보충(BACKGROUND)은 꼬리 지연보다 비용이 중요하므로 헤지 없이 장애 대응만 합니다.
+ * 스트리밍 생성(GPTQuizService.streamQuiz)은 완성된 응답을 주고받는 이 라우터를 거치지 않고 주 모델(openai.model)만 호출합니다.
+ * 문제가 없거나 정답이 빠진 결과는 실패로 취급합니다. 진 쪽 호출은 취소하지 않고 결과만 버립니다.
+ */
+@Slf4j
+@Component
+public class QuizGeneratorRouter {
+
+    private final List<Backend> backends;
+    private final boolean hedgeEnabled;
+    private final long initialDelayMillis;
+    private final long minDelayMillis;
+    private final long maxDelayMillis;
+    private final long minSamples;
+    private final ScheduledThreadPoolExecutor scheduler;
+
+    public QuizGeneratorRouter(List<QuizGenerator> generators,
+                               MeterRegistry meterRegistry,
+                               @Value("${quizzle.quiz.generator.order:primary,fallback}") List<String> order,
+                               @Value("${quizzle.quiz.generator.hedge.enabled:true}") boolean hedgeEnabled,
+                               @Value("${quizzle.quiz.generator.hedge.percentile:0.95}") double percentile,
+                               @Value("${quizzle.quiz.generator.hedge.initial-delay-ms:8000}") long initialDelayMillis,
+                               @Value("${quizzle.quiz.generator.hedge.min-delay-ms:500}") long minDelayMillis,
+                               @Value("${quizzle.quiz.generator.hedge.max-delay-ms:20000}") long maxDelayMillis,
+                               @Value("${quizzle.quiz.generator.hedge.min-samples:20}") long minSamples) {
+        Map<String, QuizGenerator> byName = generators.stream()
+                .collect(Collectors.toMap(QuizGenerator::name, Function.identity()));
+        this.backends = new ArrayList<>();
+        for (String name : order) {
+            QuizGenerator generator = byName.get(name.trim());
+            if (generator == null) {
+                throw new IllegalArgumentException("알 수 없는 퀴즈 생성 백엔드: " + name + " (사용 가능: " + byName.keySet() + ")");
+            }
+            backends.add(new Backend(generator, meterRegistry, percentile));
+        }
+        if (backends.isEmpty()) {
+            throw new IllegalArgumentException("quizzle.quiz.generator.order 에 백엔드가 하나 이상 필요합니다.");
+        }
+        this.hedgeEnabled = hedgeEnabled;
+        this.initialDelayMillis = initialDelayMillis;
+        this.minDelayMillis = minDelayMillis;
+        this.maxDelayMillis = Math.max(minDelayMillis, maxDelayMillis);
+        this.minSamples = minSamples;
+        this.scheduler = new ScheduledThreadPoolExecutor(1, new CustomizableThreadFactory("quiz-generator-hedge-"));
+        this.scheduler.setRemoveOnCancelPolicy(true);
+
+        for (Backend backend : backends) {
+            Gauge.builder("quiz.generator.hedge.delay", backend, this::hedgeDelayMillis)
+                    .tag("backend", backend.name())
+                    .description("이 백엔드를 호출한 뒤 다음 백엔드를 함께 호출하기까지 기다리는 시간(ms)")
+                    .register(meterRegistry);
+        }
+        log.info("퀴즈 생성 백엔드 순서: {}, 헤지={}", order, hedgeEnabled);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdownNow();
+    }
+
+    public CompletableFuture<QuizGenerationResponse> generate(QuizGenerationRequest request, QuizGenerationCaller caller) {
+        Attempt attempt = new Attempt(request, caller, hedgeEnabled && caller == QuizGenerationCaller.INTERACTIVE);
+        attempt.launchNext("first");
+        return attempt.result;
+    }
+
+    /**
+     * 다음 백엔드를 함께 호출하기까지 기다리는 시간. 표본이 모자라면 initial-delay 를 쓰고, 그 외에는 p95 를 [min, max] 로 자릅니다.
+     */
+    long hedgeDelayMillis(Backend backend) {
+        if (backend.latency.count() < minSamples) {
+            return initialDelayMillis;
+        }
+        ValueAtPercentile[] percentiles = backend.latency.takeSnapshot().percentileValues();
+        double millis = percentiles.length > 0 ? percentiles[0].value(TimeUnit.MILLISECONDS) : Double.NaN;
+        if (Double.isNaN(millis) || millis <= 0) {
+            // 최근 구간에 표본이 없으면 0 이 나옵니다.
+            return initialDelayMillis;
+        }
+        return Math.min(maxDelayMillis, Math.max(minDelayMillis, (long)millis));
+    }
+
+    List<Backend> backends() {
+        return backends;
+    }
+
+    static boolean isValid(QuizGenerationResponse response) {
+        return response != null
+                && response.quizText() != null && !response.quizText().isEmpty()
+                && response.answerMap() != null && response.answerMap().keySet().containsAll(response.quizText().keySet());
+    }
+
+    /**
+     * 요청 하나의 진행 상태. 백엔드 완료 콜백과 헤지 타이머가 서로 다른 스레드에서 들어오므로 상태 변경은 모두 this 로 동기화합니다.
+     */
+    private class Attempt {
+
+        private final QuizGenerationRequest request;
+        private final QuizGenerationCaller caller;
+        private final boolean hedging;
+        private final CompletableFuture<QuizGenerationResponse> result = new CompletableFuture<>();
+        private int launched;
+        private int failed;
+        private Throwable firstFailure;
+        private ScheduledFuture<?> hedgeTimer;
+
+        Attempt(QuizGenerationRequest request, QuizGenerationCaller caller, boolean hedging) {
+            this.request = request;
+            this.caller = caller;
+            this.hedging = hedging;
+        }
+
+        synchronized void launchNext(String reason) {
+            if (result.isDone() || launched >= backends.size()) {
+                return;
+            }
+            if (hedgeTimer != null) {
+                hedgeTimer.cancel(false);
+                hedgeTimer = null;
+            }
+            Backend backend = backends.get(launched++);
+            backend.attempts(reason).increment();
+            if (hedging && launched < backends.size()) {
+                long delay = hedgeDelayMillis(backend);
+                hedgeTimer = scheduler.schedule(() -> launchNext("hedge"), delay, TimeUnit.MILLISECONDS);
+            }
+
+            long startNanos = System.nanoTime();
+            CompletableFuture<QuizGenerationResponse> generation;
+            try {
+                generation = backend.generator.generate(request, caller);
+            } catch (RuntimeException e) {
+                generation = CompletableFuture.failedFuture(e);
+            }
+            generation.whenComplete((response, throwable) -> onComplete(backend, startNanos, response, throwable));
+        }
+
+        private void onComplete(Backend backend, long startNanos, QuizGenerationResponse response, Throwable throwable) {
+            long elapsed = System.nanoTime() - startNanos;
+            if (throwable == null && isValid(response)) {
+                backend.latency.record(elapsed, TimeUnit.NANOSECONDS);
+                if (result.complete(response)) {
+                    backend.wins.increment();
+                    cancelHedge();
+                }
+                return;
+            }
+
+            backend.failures.record(elapsed, TimeUnit.NANOSECONDS);
+            Throwable failure = throwable != null
+                    ? unwrap(throwable)
+                    : new ServiceException(ErrorCode.QUIZ_GENERATION_FAILED.getHttpStatus(),
+                            ErrorCode.QUIZ_GENERATION_FAILED.getMessage());
+            log.warn("퀴즈 생성 백엔드 실패: backend={}, 오류={}", backend.name(), failure.getMessage());
+            synchronized (this) {
+                if (firstFailure == null) {
+                    firstFailure = failure;
+                }
+                failed++;
+                if (result.isDone() || failed < launched) {
+                    // 아직 호출 중인 백엔드가 있으면 그 결과(또는 헤지 타이머)를 기다립니다.
+                    return;
+                }
+                if (launched < backends.size()) {
+                    launchNext("failover");
+                    return;
+                }
+            }
+            result.completeExceptionally(firstFailure);
+        }
+
+        private synchronized void cancelHedge() {
+            if (hedgeTimer != null) {
+                hedgeTimer.cancel(false);
+                hedgeTimer = null;
+            }
+        }
+    }
+
+    static final class Backend {
+
+        private final QuizGenerator generator;
+        private final Timer latency;
+        private final Timer failures;
+        private final Counter wins;
+        private final Counter firstAttempts;
+        private final Counter hedgeAttempts;
+        private final Counter failoverAttempts;
+
+        Backend(QuizGenerator generator, MeterRegistry meterRegistry, double percentile) {
+            this.generator = generator;
+            this.latency = Timer.builder("quiz.generator.latency")
+                    .tag("backend", generator.name())
+                    .tag("outcome", "success")
+                    .description("퀴즈 생성 백엔드 응답 시간")
+                    .publishPercentiles(percentile)
+                    .percentilePrecision(2)
+                    .distributionStatisticExpiry(Duration.ofMinutes(10))
+                    .distributionStatisticBufferLength(5)
+                    .register(meterRegistry);
+            this.failures = Timer.builder("quiz.generator.latency")
+                    .tag("backend", generator.name())
+                    .tag("outcome", "failure")
+                    .description("퀴즈 생성 백엔드 응답 시간")
+                    .register(meterRegistry);
+            this.wins = Counter.builder("quiz.generator.wins")
+                    .tag("backend", generator.name())
+                    .description("이 백엔드의 결과가 사용된 요청 수")
+                    .register(meterRegistry);
+            this.firstAttempts = attemptCounter(meterRegistry, generator, "first");
+            this.hedgeAttempts = attemptCounter(meterRegistry, generator, "hedge");
+            this.failoverAttempts = attemptCounter(meterRegistry, generator, "failover");
+        }
+
+        String name() {
+            return generator.name();
+        }
+
+        Timer latency() {
+            return latency;
+        }
+
+        private Counter attempts(String reason) {
+            return switch (reason) {
+                case "hedge" -> hedgeAttempts;
+                case "failover" -> failoverAttempts;
+                default -> firstAttempts;
+            };
+        }
+
+        private static Counter attemptCounter(MeterRegistry meterRegistry, QuizGenerator generator, String reason) {
+            return Counter.builder("quiz.generator.attempts")
+                    .tag("backend", generator.name())
+                    .tag("reason", reason)
+                    .description("퀴즈 생성 백엔드 호출 수")
+                    .register(meterRegistry);
+        }
+    }
+
+    private static Throwable unwrap(Throwable throwable) {
+        return throwable instanceof CompletionException && throwable.getCause() != null
+                ? throwable.getCause()
+                : throwable;
+    }
+}
@@ -0,0 +1,234 @@
+package com.ll.quizzle.domain.quiz.generator;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.ll.quizzle.domain.quiz.client.OpenAIClient;
+import com.ll.quizzle.domain.quiz.client.QuizGenerationCaller;
+import com.ll.quizzle.domain.quiz.client.QuizGenerationGuard;
+import com.ll.quizzle.domain.quiz.dto.request.QuizGenerationRequest;
+import com.ll.quizzle.domain.quiz.dto.response.QuizGenerationResponse;
+import com.ll.quizzle.domain.quiz.parser.QuizResponseParser;
+import com.ll.quizzle.domain.quiz.parser.QuizResponseParser.Completion;
+import com.ll.quizzle.domain.quiz.util.QuizPromptBuilder;
+import com.ll.quizzle.domain.room.type.AnswerType;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * OpenAI 응답 검증/보완 단계. 모델이 문제 수보다 적게 답하거나 정답 줄이 형식에 맞지 않으면 파서는 그 문제를 빼고 짧은 퀴즈를 만듭니다.
+ * 전체를 다시 생성하는 대신 1~problemCount 중 비었거나 잘못된 번호만 찾아 그 번호만 다시 요청하고 결과를 합칩니다.
+ * - 보완 요청도 같은 모델, 같은 caller 로 QuizGenerationGuard 를 거칩니다.
+ * - max-rounds 번 보완해도 남은 번호가 있거나 보완 요청이 실패하면 채운 만큼만 돌려줍니다. (기존과 같이 짧은 퀴즈)
+ * - 토큰 사용량은 첫 생성(initial)과 보완(repair)을 나눠 quiz.generator.tokens 로 기록하고,
+ *   보완에 성공하면 전체 재생성 대비 아낀 토큰(첫 생성 토큰 - 보완 토큰)을 quiz.generator.repair.tokens.saved 에 더합니다.
+ */
+@Slf4j
+@Component
+public class QuizRepairStage {
+
+    private final OpenAIClient openAIClient;
+    private final QuizGenerationGuard quizGenerationGuard;
+    private final MeterRegistry meterRegistry;
+    private final boolean enabled;
+    private final int maxRounds;
+    private final QuizResponseParser quizResponseParser = new QuizResponseParser();
+
+    public QuizRepairStage(OpenAIClient openAIClient,
+                           QuizGenerationGuard quizGenerationGuard,
+                           MeterRegistry meterRegistry,
+                           @Value("${quizzle.quiz.generator.repair.enabled:true}") boolean enabled,
+                           @Value("${quizzle.quiz.generator.repair.max-rounds:1}") int maxRounds) {
+        this.openAIClient = openAIClient;
+        this.quizGenerationGuard = quizGenerationGuard;
+        this.meterRegistry = meterRegistry;
+        this.enabled = enabled;
+        this.maxRounds = maxRounds;
+    }
+
+    /**
+     * 첫 생성 결과를 검사하고 필요하면 빠진 번호만 보완합니다. 빠진 번호가 없으면 첫 결과를 그대로 돌려줍니다.
+     */
+    public CompletableFuture<QuizGenerationResponse> complete(String backend, String model, QuizGenerationRequest request,
+                                                              QuizGenerationCaller caller, Completion initial) {
+        tokens(backend, "initial").increment(initial.totalTokens());
+        List<Integer> gaps = findGaps(request, initial.quiz());
+        if (gaps.isEmpty()) {
+            return CompletableFuture.completedFuture(initial.quiz());
+        }
+        if (!enabled || maxRounds <= 0) {
+            log.warn("퀴즈 생성 결과에 빠진 문제가 있습니다: backend={}, 번호={}", backend, gaps);
+            return CompletableFuture.completedFuture(initial.quiz());
+        }
+
+        Repair repair = new Repair(backend, model, request, caller, initial, gaps.size());
+        return repair.round(merge(request, initial.quiz(), gaps, Map.of(), Map.of()), gaps, 1);
+    }
+
+    /**
+     * 1~problemCount 중 문제 본문이 비었거나 정답이 없거나 문제 유형에 맞지 않는 번호 (오름차순)
+     */
+    static List<Integer> findGaps(QuizGenerationRequest request, QuizGenerationResponse response) {
+        List<Integer> gaps = new ArrayList<>();
+        for (int number = 1; number <= request.problemCount(); number++) {
+            String text = response.quizText() != null ? response.quizText().get(number) : null;
+            String answer = response.answerMap() != null ? response.answerMap().get(number) : null;
+            if (text == null || text.isBlank() || !isValidAnswer(request.answerType(), answer)) {
+                gaps.add(number);
+            }
+        }
+        return gaps;
+    }
+
+    /**
+     * base 의 올바른 문제에 보완 결과를 채워 1~problemCount 순서의 퀴즈를 만듭니다.
+     * 보완 결과는 요청한 번호를 우선 사용하고, 모델이 번호를 다시 매겨 답한 문제는 남은 빈 번호에 순서대로 채웁니다.
+     */
+    static QuizGenerationResponse merge(QuizGenerationRequest request, QuizGenerationResponse base, List<Integer> gaps,
+                                        Map<Integer, String> repairedText, Map<Integer, String> repairedAnswers) {
+        Set<Integer> open = new HashSet<>(gaps);
+        Map<Integer, Integer> assigned = new LinkedHashMap<>();
+        List<Integer> leftovers = new ArrayList<>();
+        for (Integer source : repairedText.keySet()) {
+            String text = repairedText.get(source);
+            if (text == null || text.isBlank() || !isValidAnswer(request.answerType(), repairedAnswers.get(source))) {
+                continue;
+            }
+            if (open.remove(source)) {
+                assigned.put(source, source);
+            } else {
+                leftovers.add(source);
+            }
+        }
+        for (Integer target : gaps) {
+            if (leftovers.isEmpty()) {
+                break;
+            }
+            if (open.remove(target)) {
+                assigned.put(target, leftovers.remove(0));
+            }
+        }
+
+        Map<Integer, String> quizText = new LinkedHashMap<>();
+        Map<Integer, String> answerMap = new LinkedHashMap<>();
+        for (int number = 1; number <= request.problemCount(); number++) {
+            Integer source = assigned.get(number);
+            if (source != null) {
+                quizText.put(number, repairedText.get(source));
+                answerMap.put(number, repairedAnswers.get(source));
+            } else if (!gaps.contains(number)) {
+                quizText.put(number, base.quizText().get(number));
+                answerMap.put(number, base.answerMap().get(number));
+            }
+        }
+        return new QuizGenerationResponse(quizText, answerMap);
+    }
+
+    private static boolean isValidAnswer(AnswerType answerType, String answer) {
+        if (answer == null || answer.length() != 1) {
+            return false;
+        }
+        char value = Character.toLowerCase(answer.charAt(0));
+        return answerType == AnswerType.MULTIPLE_CHOICE
+                ? value >= 'a' && value <= 'd'
+                : value == 'o' || value == 'x';
+    }
+
+    private Counter tokens(String backend, String phase) {
+        return Counter.builder("quiz.generator.tokens")
+                .tag("backend", backend)
+                .tag("phase", phase)
+                .description("퀴즈 생성에 사용한 OpenAI 토큰 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 한 생성 결과의 보완 진행 상태. 라운드마다 남은 번호만 다시 요청하고 결과를 누적합니다.
+     */
+    private class Repair {
+
+        private final String backend;
+        private final String model;
+        private final QuizGenerationRequest request;
+        private final QuizGenerationCaller caller;
+        private final Completion initial;
+        private final long startNanos = System.nanoTime();
+        private final int requested;
+        private long repairTokens;
+
+        Repair(String backend, String model, QuizGenerationRequest request, QuizGenerationCaller caller,
+               Completion initial, int requested) {
+            this.backend = backend;
+            this.model = model;
+            this.request = request;
+            this.caller = caller;
+            this.initial = initial;
+            this.requested = requested;
+            Counter.builder("quiz.generator.repair.questions")
+                    .tag("backend", backend)
+                    .tag("outcome", "requested")
+                    .description("보완 단계에서 다시 요청하거나 채운 문제 수")
+                    .register(meterRegistry)
+                    .increment(requested);
+        }
+
+        CompletableFuture<QuizGenerationResponse> round(QuizGenerationResponse current, List<Integer> gaps, int round) {
+            String systemPrompt = QuizPromptBuilder.buildRepairPrompt(request, gaps);
+            return quizGenerationGuard.execute(caller,
+                            () -> openAIClient.sendRequestAsync(model, systemPrompt, "빠진 문제 보완"))
+                    .thenApply(quizResponseParser::parseCompletion)
+                    .thenCompose(completion -> {
+                        repairTokens += completion.totalTokens();
+                        tokens(backend, "repair").increment(completion.totalTokens());
+                        QuizGenerationResponse merged = merge(request, current, gaps,
+                                completion.quiz().quizText(), completion.quiz().answerMap());
+                        List<Integer> remaining = findGaps(request, merged);
+                        if (remaining.isEmpty() || round >= maxRounds) {
+                            return CompletableFuture.completedFuture(finish(merged, remaining, null));
+                        }
+                        return round(merged, remaining, round + 1);
+                    })
+                    .exceptionally(throwable -> finish(current, gaps, throwable));
+        }
+
+        private QuizGenerationResponse finish(QuizGenerationResponse result, List<Integer> remaining, Throwable failure) {
+            String outcome = failure != null ? "failed" : remaining.isEmpty() ? "repaired" : "partial";
+            Timer.builder("quiz.generator.repair.latency")
+                    .tag("backend", backend)
+                    .tag("outcome", outcome)
+                    .description("보완 단계 전체 소요 시간")
+                    .register(meterRegistry)
+                    .record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+            Counter.builder("quiz.generator.repair.questions")
+                    .tag("backend", backend)
+                    .tag("outcome", "repaired")
+                    .description("보완 단계에서 다시 요청하거나 채운 문제 수")
+                    .register(meterRegistry)
+                    .increment(requested - remaining.size());
+
+            if (remaining.isEmpty()) {
+                Counter.builder("quiz.generator.repair.tokens.saved")
+                        .tag("backend", backend)
+                        .description("보완으로 전체 재생성을 피해 아낀 토큰 수 (첫 생성 토큰 - 보완 토큰)")
+                        .register(meterRegistry)
+                        .increment(Math.max(0, initial.totalTokens() - repairTokens));
+            } else {
+                log.warn("퀴즈 보완 후에도 빠진 문제가 있습니다: backend={}, 번호={}, 오류={}", backend, remaining,
+                        failure != null ? failure.getMessage() : null);
+            }
+            return result;
+        }
+    }
+}
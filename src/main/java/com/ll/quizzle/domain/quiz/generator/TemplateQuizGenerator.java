@@ -0,0 +1,49 @@
+package com.ll.quizzle.domain.quiz.generator;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import org.springframework.stereotype.Component;
+
+import com.ll.quizzle.domain.quiz.client.QuizGenerationCaller;
+import com.ll.quizzle.domain.quiz.dto.request.QuizGenerationRequest;
+import com.ll.quizzle.domain.quiz.dto.response.QuizGenerationResponse;
+import com.ll.quizzle.domain.room.type.AnswerType;
+
+/**
+ * 외부 호출 없이 요청 조건만으로 정해진 문제를 만드는 백엔드. 같은 요청에는 항상 같은 퀴즈를 돌려주므로
+ * 테스트나 API 키가 없는 로컬 환경에서 order 에 template 을 넣어 사용합니다.
+ */
+@Component
+public class TemplateQuizGenerator implements QuizGenerator {
+
+    private static final String[] CHOICES = {"a", "b", "c", "d"};
+
+    @Override
+    public String name() {
+        return "template";
+    }
+
+    @Override
+    public CompletableFuture<QuizGenerationResponse> generate(QuizGenerationRequest request, QuizGenerationCaller caller) {
+        Map<Integer, String> quizText = new LinkedHashMap<>();
+        Map<Integer, String> answerMap = new LinkedHashMap<>();
+        String topic = request.subCategory().getDescription();
+        String difficulty = request.difficulty().getDescription();
+
+        for (int number = 1; number <= request.problemCount(); number++) {
+            if (request.answerType() == AnswerType.MULTIPLE_CHOICE) {
+                String answer = CHOICES[(number - 1) % CHOICES.length];
+                quizText.put(number, String.format("%d. [%s/%s] %s 템플릿 문제 %d 의 정답은?\na) 보기1\nb) 보기2\nc) 보기3\nd) 보기4",
+                        number, topic, difficulty, topic, number));
+                answerMap.put(number, answer);
+            } else {
+                quizText.put(number, String.format("%d. [%s/%s] %s 템플릿 문제 %d 는 홀수 번째 문제이다.",
+                        number, topic, difficulty, topic, number));
+                answerMap.put(number, number % 2 == 1 ? "O" : "X");
+            }
+        }
+        return CompletableFuture.completedFuture(new QuizGenerationResponse(quizText, answerMap));
+    }
+}
@@ -0,0 +1,66 @@
+package com.ll.quizzle.domain.quiz.inventory;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import com.ll.quizzle.domain.quiz.dto.request.QuizGenerationRequest;
+import com.ll.quizzle.domain.room.type.AnswerType;
+import com.ll.quizzle.domain.room.type.Difficulty;
+import com.ll.quizzle.domain.room.type.MainCategory;
+import com.ll.quizzle.domain.room.type.SubCategory;
+
+/**
+ * 재고를 나누는 조합(소분류 × 정답 유형 × 난이도 × 문제 수). 대분류는 소분류에 따라 정해집니다.
+ */
+public record QuizInventoryKey(
+        SubCategory subCategory,
+        AnswerType answerType,
+        Difficulty difficulty,
+        int problemCount
+) {
+
+    /**
+     * 생성 요청을 조합으로 바꿉니다. 값이 비어 있거나 대분류와 소분류가 맞지 않으면 재고 대상이 아니므로 null 을 반환합니다.
+     */
+    public static QuizInventoryKey of(QuizGenerationRequest request) {
+        if (request.subCategory() == null || request.answerType() == null || request.difficulty() == null
+                || request.subCategory().getMainCategory() != request.mainCategory()) {
+            return null;
+        }
+        return new QuizInventoryKey(request.subCategory(), request.answerType(), request.difficulty(),
+                request.problemCount());
+    }
+
+    /**
+     * 재고로 관리할 모든 조합을 만듭니다.
+     */
+    public static List<QuizInventoryKey> all(Collection<Integer> problemCounts) {
+        List<QuizInventoryKey> keys = new ArrayList<>();
+        for (SubCategory subCategory : SubCategory.values()) {
+            for (AnswerType answerType : AnswerType.values()) {
+                for (Difficulty difficulty : Difficulty.values()) {
+                    for (int problemCount : problemCounts) {
+                        keys.add(new QuizInventoryKey(subCategory, answerType, difficulty, problemCount));
+                    }
+                }
+            }
+        }
+        return keys;
+    }
+
+    public MainCategory mainCategory() {
+        return subCategory.getMainCategory();
+    }
+
+    /**
+     * Redis 키와 수요 집계에 쓰는 조합 ID (예: PHYSICS:MULTIPLE_CHOICE:EASY:10)
+     */
+    public String id() {
+        return subCategory + ":" + answerType + ":" + difficulty + ":" + problemCount;
+    }
+
+    public QuizGenerationRequest toRequest() {
+        return new QuizGenerationRequest(mainCategory(), subCategory, answerType, problemCount, difficulty);
+    }
+}
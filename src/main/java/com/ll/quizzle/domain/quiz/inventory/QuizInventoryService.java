@@ -0,0 +1,414 @@
+package com.ll.quizzle.domain.quiz.inventory;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.zset.Aggregate;
+import org.springframework.data.redis.connection.zset.Weights;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ll.quizzle.domain.quiz.client.QuizGenerationCaller;
+import com.ll.quizzle.domain.quiz.dto.request.QuizGenerationRequest;
+import com.ll.quizzle.domain.quiz.dto.response.QuizGenerationResponse;
+import com.ll.quizzle.domain.quiz.dto.response.QuizInventoryStatusResponse;
+import com.ll.quizzle.domain.quiz.service.GPTQuizService;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 조합(소분류 × 정답 유형 × 난이도 × 문제 수)마다 미리 생성해 둔 퀴즈를 Redis 에 쌓아 두고, 생성 요청이 오면 바로 꺼내 줍니다.
+ * - 재고: quiz:inventory:stock:{조합} 목록에 QuizGenerationResponse JSON 으로 보관합니다.
+ * - 수위: 재고가 low-water 아래로 떨어지면 보충을 시작하고, high-water 에 도달할 때까지 계속 채웁니다.
+ * - 우선순위: 조합별 수요 점수(꺼내기 시도 횟수, 보충 주기마다 demand-decay 배로 감쇠) × 부족분 순으로 보충합니다.
+ * - 동시성: 노드당 동시에 생성하는 퀴즈는 max-concurrency 개이며, 조합마다 클레임 키로 여러 노드가 같은 조합을 겹쳐 채우지 않게 합니다.
+ * GPT 호출 비용이 들기 때문에 quizzle.quiz.inventory.enabled 가 true 일 때만 동작합니다.
+ */
+@Slf4j
+@Service
+public class QuizInventoryService {
+
+    static final String STOCK_KEY_PREFIX = "quiz:inventory:stock:";
+    static final String DEMAND_KEY = "quiz:inventory:demand";
+    static final String STATS_KEY = "quiz:inventory:stats";
+    static final String REFILLING_KEY = "quiz:inventory:refilling";
+    private static final String CLAIM_KEY_PREFIX = "quiz:inventory:claim:";
+    private static final Duration CLAIM_TTL = Duration.ofMinutes(3);
+
+    private static final RedisScript<String> TAKE_SCRIPT =
+            new DefaultRedisScript<>(new ClassPathResource("scripts/quiz/inventory-take.lua"), String.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final GPTQuizService gptQuizService;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final String nodeId = UUID.randomUUID().toString();
+
+    private final boolean enabled;
+    private final int lowWater;
+    private final int highWater;
+    private final Duration refillInterval;
+    private final double demandDecay;
+    private final Duration stockTtl;
+    private final List<QuizInventoryKey> keys;
+    private final Set<Integer> problemCounts;
+
+    private final Semaphore permits;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicBoolean passRunning = new AtomicBoolean();
+    private volatile long lastDecayNanos = System.nanoTime();
+    private ScheduledThreadPoolExecutor scheduler;
+
+    private final Counter hitCounter;
+    private final Counter missCounter;
+    private final Counter refillSuccessCounter;
+    private final Counter refillFailureCounter;
+
+    public QuizInventoryService(RedisTemplate<String, String> redisTemplate,
+                                GPTQuizService gptQuizService,
+                                MeterRegistry meterRegistry,
+                                @Value("${quizzle.quiz.inventory.enabled:false}") boolean enabled,
+                                @Value("${quizzle.quiz.inventory.low-water:2}") int lowWater,
+                                @Value("${quizzle.quiz.inventory.high-water:5}") int highWater,
+                                @Value("${quizzle.quiz.inventory.max-concurrency:2}") int maxConcurrency,
+                                @Value("${quizzle.quiz.inventory.refill-interval-seconds:30}") long refillIntervalSeconds,
+                                @Value("${quizzle.quiz.inventory.demand-decay:0.9}") double demandDecay,
+                                @Value("${quizzle.quiz.inventory.stock-ttl-hours:24}") long stockTtlHours,
+                                @Value("${quizzle.quiz.inventory.problem-counts:10}") List<Integer> problemCounts) {
+        this.redisTemplate = redisTemplate;
+        this.gptQuizService = gptQuizService;
+        this.enabled = enabled;
+        this.lowWater = Math.max(1, lowWater);
+        this.highWater = Math.max(this.lowWater, highWater);
+        this.permits = new Semaphore(Math.max(1, maxConcurrency));
+        this.refillInterval = Duration.ofSeconds(Math.max(1, refillIntervalSeconds));
+        this.demandDecay = demandDecay;
+        this.stockTtl = Duration.ofHours(stockTtlHours);
+        this.problemCounts = new LinkedHashSet<>(problemCounts);
+        this.keys = QuizInventoryKey.all(this.problemCounts);
+
+        this.hitCounter = Counter.builder("quiz.inventory.hits")
+                .description("재고에서 바로 꺼내 준 퀴즈 생성 요청 수")
+                .register(meterRegistry);
+        this.missCounter = Counter.builder("quiz.inventory.misses")
+                .description("재고가 없어 직접 생성한 퀴즈 생성 요청 수")
+                .register(meterRegistry);
+        this.refillSuccessCounter = Counter.builder("quiz.inventory.refills")
+                .tag("result", "success")
+                .description("재고 보충을 위해 생성한 퀴즈 수")
+                .register(meterRegistry);
+        this.refillFailureCounter = Counter.builder("quiz.inventory.refills")
+                .tag("result", "failure")
+                .description("재고 보충 생성 실패 수")
+                .register(meterRegistry);
+        meterRegistry.gauge("quiz.inventory.in-flight", inFlight);
+    }
+
+    @PostConstruct
+    public void init() {
+        if (!enabled) {
+            return;
+        }
+        scheduler = new ScheduledThreadPoolExecutor(1, new CustomizableThreadFactory("quiz-inventory-"));
+        scheduler.scheduleWithFixedDelay(this::refillSafely, 0, refillInterval.toMillis(), TimeUnit.MILLISECONDS);
+        log.info("퀴즈 재고 보충 시작: 조합={}, 수위={}~{}, 주기={}초", keys.size(), lowWater, highWater,
+                refillInterval.toSeconds());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+    }
+
+    /**
+     * 요청과 같은 조합의 재고가 있으면 하나를 꺼냅니다. 꺼내기 시도는 적중 여부와 관계없이 해당 조합의 수요로 집계됩니다.
+     */
+    public Optional<QuizGenerationResponse> take(QuizGenerationRequest request) {
+        QuizInventoryKey key = QuizInventoryKey.of(request);
+        if (!enabled || key == null || !problemCounts.contains(key.problemCount())) {
+            return Optional.empty();
+        }
+
+        String json = redisTemplate.execute(
+                TAKE_SCRIPT,
+                List.of(stockKey(key), DEMAND_KEY, STATS_KEY, REFILLING_KEY),
+                key.id(),
+                String.valueOf(lowWater)
+        );
+
+        if (json == null) {
+            missCounter.increment();
+            log.debug("퀴즈 재고 없음: {}", key.id());
+            // 수요가 확인된 조합이므로 다음 주기를 기다리지 않고 보충을 시작합니다.
+            if (scheduler != null && !scheduler.isShutdown()) {
+                scheduler.execute(this::refillSafely);
+            }
+            return Optional.empty();
+        }
+
+        try {
+            QuizGenerationResponse quiz = objectMapper.readValue(json, QuizGenerationResponse.class);
+            hitCounter.increment();
+            return Optional.of(quiz);
+        } catch (JsonProcessingException e) {
+            log.warn("손상된 퀴즈 재고 폐기: {}, {}", key.id(), e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * 보충 한 회차를 실행합니다. 우선순위가 높은 조합부터 남은 동시 생성 한도만큼 생성을 시작하고 바로 돌아옵니다.
+     * 생성이 끝날 때마다 다음 회차가 이어서 실행되므로, 부족한 조합은 주기를 기다리지 않고 high-water 까지 채워집니다.
+     */
+    public void refill() {
+        if (!enabled || !passRunning.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            decayDemandIfDue();
+            for (Candidate candidate : candidates(readStocks())) {
+                if (!permits.tryAcquire()) {
+                    break;
+                }
+                if (!claim(candidate.key())) {
+                    permits.release();
+                    continue;
+                }
+                generate(candidate.key());
+            }
+        } finally {
+            passRunning.set(false);
+        }
+    }
+
+    /**
+     * 관리자용 현황. 보충 우선순위가 높은 조합부터 정렬합니다.
+     */
+    public QuizInventoryStatusResponse status() {
+        List<StockLevel> levels = readStocks();
+        Map<Object, Object> stats = redisTemplate.opsForHash().entries(STATS_KEY);
+        long hits = parseLong(stats.get("hits"));
+        long misses = parseLong(stats.get("misses"));
+        double hitRate = hits + misses == 0 ? 0 : (double) hits / (hits + misses);
+
+        List<QuizInventoryStatusResponse.Stock> stocks = levels.stream()
+                .sorted(Comparator.comparingDouble(this::priority).reversed())
+                .map(level -> new QuizInventoryStatusResponse.Stock(
+                        level.key().mainCategory(),
+                        level.key().subCategory(),
+                        level.key().answerType(),
+                        level.key().difficulty(),
+                        level.key().problemCount(),
+                        level.stock(),
+                        level.demand(),
+                        level.refilling()
+                ))
+                .toList();
+
+        return new QuizInventoryStatusResponse(enabled, hits, misses, hitRate, inFlight.get(), lowWater, highWater,
+                stocks);
+    }
+
+    private void refillSafely() {
+        try {
+            refill();
+        } catch (Exception e) {
+            log.error("퀴즈 재고 보충 실패: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 모든 조합의 재고 수, 수요 점수, 보충 중 여부를 한 번의 파이프라인으로 읽습니다.
+     */
+    private List<StockLevel> readStocks() {
+        List<Object> results = redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public Object execute(@NonNull RedisOperations operations) throws DataAccessException {
+                for (QuizInventoryKey key : keys) {
+                    operations.opsForList().size(stockKey(key));
+                }
+                operations.opsForZSet().rangeWithScores(DEMAND_KEY, 0, -1);
+                operations.opsForSet().members(REFILLING_KEY);
+                return null;
+            }
+        });
+
+        Map<String, Double> demand = new HashMap<>();
+        @SuppressWarnings("unchecked")
+        Set<ZSetOperations.TypedTuple<String>> demandTuples =
+                (Set<ZSetOperations.TypedTuple<String>>) results.get(keys.size());
+        if (demandTuples != null) {
+            for (ZSetOperations.TypedTuple<String> tuple : demandTuples) {
+                demand.put(tuple.getValue(), tuple.getScore() != null ? tuple.getScore() : 0);
+            }
+        }
+        @SuppressWarnings("unchecked")
+        Set<String> refilling = (Set<String>) results.get(keys.size() + 1);
+
+        List<StockLevel> levels = new ArrayList<>(keys.size());
+        for (int i = 0; i < keys.size(); i++) {
+            QuizInventoryKey key = keys.get(i);
+            Object size = results.get(i);
+            levels.add(new StockLevel(
+                    key,
+                    size != null ? ((Number) size).longValue() : 0,
+                    demand.getOrDefault(key.id(), 0.0),
+                    refilling != null && refilling.contains(key.id())
+            ));
+        }
+        return levels;
+    }
+
+    /**
+     * 수위에 따라 보충 상태를 갱신하고, 보충이 필요한 조합을 우선순위 순으로 돌려줍니다.
+     * low-water 미만이면 보충을 시작하고, 한 번 시작한 조합은 high-water 에 도달할 때까지 계속 보충합니다.
+     */
+    List<Candidate> candidates(List<StockLevel> levels) {
+        Set<String> start = new HashSet<>();
+        Set<String> stop = new HashSet<>();
+        List<Candidate> candidates = new ArrayList<>();
+
+        for (StockLevel level : levels) {
+            String id = level.key().id();
+            if (level.stock() >= highWater) {
+                if (level.refilling()) {
+                    stop.add(id);
+                }
+                continue;
+            }
+            if (level.stock() < lowWater && !level.refilling()) {
+                start.add(id);
+            } else if (!level.refilling()) {
+                continue;
+            }
+            candidates.add(new Candidate(level.key(), priority(level)));
+        }
+
+        if (!start.isEmpty()) {
+            redisTemplate.opsForSet().add(REFILLING_KEY, start.toArray(String[]::new));
+        }
+        if (!stop.isEmpty()) {
+            redisTemplate.opsForSet().remove(REFILLING_KEY, stop.toArray());
+        }
+
+        candidates.sort(Comparator.comparingDouble(Candidate::priority).reversed());
+        return candidates;
+    }
+
+    private double priority(StockLevel level) {
+        long deficit = Math.max(0, highWater - level.stock());
+        return (1 + level.demand()) * deficit;
+    }
+
+    private boolean claim(QuizInventoryKey key) {
+        Boolean claimed = redisTemplate.opsForValue().setIfAbsent(CLAIM_KEY_PREFIX + key.id(), nodeId, CLAIM_TTL);
+        return Boolean.TRUE.equals(claimed);
+    }
+
+    private void generate(QuizInventoryKey key) {
+        inFlight.incrementAndGet();
+        CompletableFuture<QuizGenerationResponse> generation;
+        try {
+            generation = gptQuizService.generateQuizAsync(key.toRequest(), QuizGenerationCaller.BACKGROUND);
+        } catch (Exception e) {
+            generation = CompletableFuture.failedFuture(e);
+        }
+        generation.whenComplete((quiz, throwable) -> {
+            try {
+                if (throwable != null) {
+                    refillFailureCounter.increment();
+                    log.warn("퀴즈 재고 생성 실패: {}, {}", key.id(), throwable.getMessage());
+                } else if (!isComplete(quiz, key.problemCount())) {
+                    refillFailureCounter.increment();
+                    log.warn("문제 수가 맞지 않는 퀴즈 재고 폐기: {}", key.id());
+                } else {
+                    store(key, quiz);
+                    refillSuccessCounter.increment();
+                }
+            } catch (Exception e) {
+                refillFailureCounter.increment();
+                log.error("퀴즈 재고 저장 실패: {}, {}", key.id(), e.getMessage(), e);
+            } finally {
+                redisTemplate.delete(CLAIM_KEY_PREFIX + key.id());
+                inFlight.decrementAndGet();
+                permits.release();
+                if (scheduler != null && !scheduler.isShutdown()) {
+                    scheduler.execute(this::refillSafely);
+                }
+            }
+        });
+    }
+
+    private void store(QuizInventoryKey key, QuizGenerationResponse quiz) throws JsonProcessingException {
+        String json = objectMapper.writeValueAsString(quiz);
+        redisTemplate.opsForList().rightPush(stockKey(key), json);
+        redisTemplate.expire(stockKey(key), stockTtl);
+        log.debug("퀴즈 재고 보충: {}", key.id());
+    }
+
+    private static boolean isComplete(QuizGenerationResponse quiz, int problemCount) {
+        return quiz != null
+                && quiz.answerMap().size() == problemCount
+                && quiz.quizText().keySet().containsAll(quiz.answerMap().keySet());
+    }
+
+    /**
+     * 오래된 수요가 우선순위를 계속 지배하지 않도록, 주기마다 모든 조합의 수요 점수를 demand-decay 배로 줄입니다.
+     */
+    private void decayDemandIfDue() {
+        long now = System.nanoTime();
+        if (now - lastDecayNanos < refillInterval.toNanos()) {
+            return;
+        }
+        lastDecayNanos = now;
+        redisTemplate.opsForZSet().unionAndStore(DEMAND_KEY, List.of(), DEMAND_KEY, Aggregate.SUM,
+                Weights.of(demandDecay));
+    }
+
+    static String stockKey(QuizInventoryKey key) {
+        return STOCK_KEY_PREFIX + key.id();
+    }
+
+    private static long parseLong(Object value) {
+        return value != null ? Long.parseLong(value.toString()) : 0;
+    }
+
+    record StockLevel(QuizInventoryKey key, long stock, double demand, boolean refilling) {
+    }
+
+    record Candidate(QuizInventoryKey key, double priority) {
+    }
+}
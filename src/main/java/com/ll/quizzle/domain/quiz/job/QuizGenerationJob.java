@@ -0,0 +1,71 @@
+package com.ll.quizzle.domain.quiz.job;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ll.quizzle.domain.quiz.dto.request.QuizGenerationRequest;
+
+/**
+ * 작업 스트림(quiz:jobs) 항목 하나. 상태 해시가 만료되어도 다시 실행할 수 있도록 요청 전체를 항목에 담습니다.
+ * attempt 는 1 부터 시작하며, 재시도할 때마다 1 씩 늘어난 새 항목으로 다시 넣습니다.
+ */
+record QuizGenerationJob(
+        String jobId,
+        QuizGenerationRequest request,
+        Long roomId,
+        String requester,
+        Long requesterId,
+        int attempt,
+        long enqueuedAt
+) {
+
+    private static final String JOB_ID = "jobId";
+    private static final String REQUEST = "request";
+    private static final String ROOM_ID = "roomId";
+    private static final String REQUESTER = "requester";
+    private static final String REQUESTER_ID = "requesterId";
+    private static final String ATTEMPT = "attempt";
+    private static final String ENQUEUED_AT = "enqueuedAt";
+
+    QuizGenerationJob nextAttempt(long enqueuedAt) {
+        return new QuizGenerationJob(jobId, request, roomId, requester, requesterId, attempt + 1, enqueuedAt);
+    }
+
+    /**
+     * 스트림 필드로 변환합니다. 스트림 값은 null 일 수 없으므로 없는 값은 필드를 생략합니다.
+     */
+    Map<String, String> toFields(ObjectMapper objectMapper) throws JsonProcessingException {
+        Map<String, String> fields = new LinkedHashMap<>();
+        fields.put(JOB_ID, jobId);
+        fields.put(REQUEST, objectMapper.writeValueAsString(request));
+        if (roomId != null) {
+            fields.put(ROOM_ID, String.valueOf(roomId));
+        }
+        if (requester != null) {
+            fields.put(REQUESTER, requester);
+        }
+        if (requesterId != null) {
+            fields.put(REQUESTER_ID, String.valueOf(requesterId));
+        }
+        fields.put(ATTEMPT, String.valueOf(attempt));
+        fields.put(ENQUEUED_AT, String.valueOf(enqueuedAt));
+        return fields;
+    }
+
+    static QuizGenerationJob from(Map<?, ?> fields, ObjectMapper objectMapper) throws JsonProcessingException {
+        Object roomId = fields.get(ROOM_ID);
+        Object requester = fields.get(REQUESTER);
+        Object requesterId = fields.get(REQUESTER_ID);
+        return new QuizGenerationJob(
+                String.valueOf(fields.get(JOB_ID)),
+                objectMapper.readValue(String.valueOf(fields.get(REQUEST)), QuizGenerationRequest.class),
+                roomId != null ? Long.valueOf(roomId.toString()) : null,
+                requester != null ? requester.toString() : null,
+                requesterId != null ? Long.valueOf(requesterId.toString()) : null,
+                Integer.parseInt(String.valueOf(fields.get(ATTEMPT))),
+                Long.parseLong(String.valueOf(fields.get(ENQUEUED_AT)))
+        );
+    }
+}
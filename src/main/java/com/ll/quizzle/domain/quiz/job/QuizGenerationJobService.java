@@ -0,0 +1,215 @@
+package com.ll.quizzle.domain.quiz.job;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.stream.StreamRecords;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ll.quizzle.domain.quiz.dto.request.QuizGenerationRequest;
+import com.ll.quizzle.domain.quiz.dto.response.QuizGenerationJobResponse;
+import com.ll.quizzle.domain.quiz.dto.response.QuizResponse;
+import com.ll.quizzle.domain.room.service.RoomService;
+import com.ll.quizzle.global.exceptions.ErrorCode;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 퀴즈 생성 작업을 등록하고 상태를 관리합니다.
+ * - 등록: quiz:job:{jobId} 상태 해시를 만들고 quiz:jobs 스트림에 항목을 추가한 뒤 바로 돌아옵니다. 실행은 어느 노드의
+ *   QuizGenerationJobWorker 든 소비 그룹으로 나눠 가져갑니다.
+ * - 상태: 해시는 마지막 갱신 후 status-ttl 동안 남아 있어 폴링으로 조회할 수 있습니다.
+ *   방 작업의 jobId 는 방 토픽으로 참가자 모두에게 알려지므로, 정답이 담긴 quiz 는 요청자와 방장에게만 돌려줍니다.
+ */
+@Slf4j
+@Service
+public class QuizGenerationJobService {
+
+    static final String STREAM_KEY = "quiz:jobs";
+    private static final String JOB_KEY_PREFIX = "quiz:job:";
+
+    private static final String STATUS = "status";
+    private static final String ROOM_ID = "roomId";
+    private static final String REQUESTER_ID = "requesterId";
+    private static final String ATTEMPTS = "attempts";
+    private static final String QUIZ_ID = "quizId";
+    private static final String QUIZ = "quiz";
+    private static final String ERROR = "error";
+    private static final String REQUESTED_AT = "requestedAt";
+    private static final String UPDATED_AT = "updatedAt";
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RoomService roomService;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final Duration statusTtl;
+    private final Counter submittedCounter;
+
+    public QuizGenerationJobService(RedisTemplate<String, String> redisTemplate,
+                                    RoomService roomService,
+                                    MeterRegistry meterRegistry,
+                                    @Value("${quizzle.quiz.jobs.status-ttl-minutes:60}") long statusTtlMinutes) {
+        this.redisTemplate = redisTemplate;
+        this.roomService = roomService;
+        this.statusTtl = Duration.ofMinutes(statusTtlMinutes);
+        this.submittedCounter = Counter.builder("quiz.job.submitted")
+                .description("등록된 퀴즈 생성 작업 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 작업을 등록하고 QUEUED 상태를 돌려줍니다. roomId 와 requester 가 있으면 완료/실패를 방 토픽과 요청자 개인 큐로 알립니다.
+     * requesterId 는 로그인한 요청자의 회원 ID 로, 상태 조회 때 quiz 를 돌려줄지 정하는 데 사용합니다.
+     */
+    public QuizGenerationJobResponse submit(QuizGenerationRequest request, Long roomId, String requester,
+                                            Long requesterId) {
+        long now = System.currentTimeMillis();
+        QuizGenerationJob job = new QuizGenerationJob(UUID.randomUUID().toString(), request, roomId, requester,
+                requesterId, 1, now);
+
+        Map<String, String> state = new HashMap<>();
+        state.put(STATUS, QuizGenerationJobStatus.QUEUED.name());
+        if (roomId != null) {
+            state.put(ROOM_ID, String.valueOf(roomId));
+        }
+        if (requesterId != null) {
+            state.put(REQUESTER_ID, String.valueOf(requesterId));
+        }
+        state.put(ATTEMPTS, "0");
+        state.put(REQUESTED_AT, String.valueOf(now));
+        state.put(UPDATED_AT, String.valueOf(now));
+        redisTemplate.opsForHash().putAll(jobKey(job.jobId()), state);
+        redisTemplate.expire(jobKey(job.jobId()), statusTtl);
+
+        try {
+            enqueue(job);
+        } catch (RuntimeException e) {
+            redisTemplate.delete(jobKey(job.jobId()));
+            throw e;
+        }
+        submittedCounter.increment();
+        log.debug("퀴즈 생성 작업 등록: jobId={}, roomId={}", job.jobId(), roomId);
+        return find(job.jobId());
+    }
+
+    /**
+     * 작업 상태를 돌려줍니다. 방 작업의 quiz 는 요청자나 방장이 조회할 때만 포함하고, 다른 회원에게는 withoutQuiz() 를 돌려줍니다.
+     * 방이 없는 작업은 jobId 를 요청자만 알고 있으므로 그대로 돌려줍니다.
+     */
+    public QuizGenerationJobResponse status(String jobId, Long memberId) {
+        QuizGenerationJobResponse response = find(jobId);
+        if (response == null) {
+            throw ErrorCode.QUIZ_JOB_NOT_FOUND.throwServiceException();
+        }
+        if (response.quiz() == null || response.roomId() == null || canReadQuiz(jobId, response.roomId(), memberId)) {
+            return response;
+        }
+        return response.withoutQuiz();
+    }
+
+    void enqueue(QuizGenerationJob job) {
+        try {
+            redisTemplate.opsForStream().add(StreamRecords.newRecord()
+                    .in(STREAM_KEY)
+                    .ofMap(job.toFields(objectMapper)));
+        } catch (JsonProcessingException e) {
+            throw ErrorCode.INTERNAL_SERVER_ERROR.throwServiceException(e);
+        }
+    }
+
+    QuizGenerationJobResponse find(String jobId) {
+        Map<Object, Object> state = redisTemplate.opsForHash().entries(jobKey(jobId));
+        if (state.isEmpty()) {
+            return null;
+        }
+        Object roomId = state.get(ROOM_ID);
+        return new QuizGenerationJobResponse(
+                jobId,
+                QuizGenerationJobStatus.valueOf(state.get(STATUS).toString()),
+                roomId != null ? Long.valueOf(roomId.toString()) : null,
+                Integer.parseInt(state.getOrDefault(ATTEMPTS, "0").toString()),
+                (String) state.get(QUIZ_ID),
+                readQuiz(jobId, state.get(QUIZ)),
+                (String) state.get(ERROR),
+                Long.parseLong(state.getOrDefault(REQUESTED_AT, "0").toString()),
+                Long.parseLong(state.getOrDefault(UPDATED_AT, "0").toString())
+        );
+    }
+
+    private boolean canReadQuiz(String jobId, Long roomId, Long memberId) {
+        if (memberId == null) {
+            return false;
+        }
+        Object requesterId = redisTemplate.opsForHash().get(jobKey(jobId), REQUESTER_ID);
+        return memberId.toString().equals(requesterId) || roomService.isOwner(roomId, memberId);
+    }
+
+    QuizGenerationJobStatus currentStatus(String jobId) {
+        Object status = redisTemplate.opsForHash().get(jobKey(jobId), STATUS);
+        return status != null ? QuizGenerationJobStatus.valueOf(status.toString()) : null;
+    }
+
+    void markRunning(QuizGenerationJob job) {
+        update(job, QuizGenerationJobStatus.RUNNING, Map.of());
+    }
+
+    void markRetryScheduled(QuizGenerationJob job, String error) {
+        update(job, QuizGenerationJobStatus.RETRY_SCHEDULED, Map.of(ERROR, error));
+    }
+
+    void markSucceeded(QuizGenerationJob job, QuizResponse quiz) throws JsonProcessingException {
+        update(job, QuizGenerationJobStatus.SUCCEEDED, Map.of(
+                QUIZ_ID, quiz.quizId(),
+                QUIZ, objectMapper.writeValueAsString(quiz)
+        ));
+    }
+
+    void markFailed(QuizGenerationJob job, String error) {
+        update(job, QuizGenerationJobStatus.FAILED, Map.of(ERROR, error));
+    }
+
+    /**
+     * 상태 해시를 갱신합니다. 해시가 만료된 뒤 다시 실행된 작업도 조회할 수 있도록 방 정보와 (없으면) 요청 시각을 함께 씁니다.
+     */
+    private void update(QuizGenerationJob job, QuizGenerationJobStatus status, Map<String, String> fields) {
+        Map<String, String> state = new HashMap<>(fields);
+        state.put(STATUS, status.name());
+        state.put(ATTEMPTS, String.valueOf(job.attempt()));
+        if (job.roomId() != null) {
+            state.put(ROOM_ID, String.valueOf(job.roomId()));
+        }
+        if (job.requesterId() != null) {
+            state.put(REQUESTER_ID, String.valueOf(job.requesterId()));
+        }
+        state.put(UPDATED_AT, String.valueOf(System.currentTimeMillis()));
+        if (status != QuizGenerationJobStatus.RETRY_SCHEDULED && status != QuizGenerationJobStatus.FAILED) {
+            redisTemplate.opsForHash().delete(jobKey(job.jobId()), ERROR);
+        }
+        redisTemplate.opsForHash().putAll(jobKey(job.jobId()), state);
+        redisTemplate.opsForHash().putIfAbsent(jobKey(job.jobId()), REQUESTED_AT, String.valueOf(job.enqueuedAt()));
+        redisTemplate.expire(jobKey(job.jobId()), statusTtl);
+    }
+
+    private QuizResponse readQuiz(String jobId, Object json) {
+        if (json == null) {
+            return null;
+        }
+        try {
+            return objectMapper.readValue(json.toString(), QuizResponse.class);
+        } catch (JsonProcessingException e) {
+            log.warn("손상된 퀴즈 생성 작업 결과: jobId={}, {}", jobId, e.getMessage());
+            return null;
+        }
+    }
+
+    private static String jobKey(String jobId) {
+        return JOB_KEY_PREFIX + jobId;
+    }
+}
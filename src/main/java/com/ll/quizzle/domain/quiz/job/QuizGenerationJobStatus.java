@@ -0,0 +1,20 @@
+package com.ll.quizzle.domain.quiz.job;
+
+/**
+ * 퀴즈 생성 작업 상태
+ */
+public enum QuizGenerationJobStatus {
+    /** 작업 스트림에서 워커를 기다리는 중 */
+    QUEUED,
+    /** 워커가 생성 중 */
+    RUNNING,
+    /** 실패하여 백오프 후 다시 실행할 예정 */
+    RETRY_SCHEDULED,
+    SUCCEEDED,
+    /** 재시도를 모두 소진하여 데드 레터 스트림으로 옮겨짐 */
+    FAILED;
+
+    public boolean isFinished() {
+        return this == SUCCEEDED || this == FAILED;
+    }
+}
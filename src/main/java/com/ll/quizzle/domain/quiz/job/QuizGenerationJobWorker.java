@@ -0,0 +1,493 @@
+package com.ll.quizzle.domain.quiz.job;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.RedisStreamCommands.XClaimOptions;
+import org.springframework.data.redis.connection.stream.Consumer;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.PendingMessage;
+import org.springframework.data.redis.connection.stream.PendingMessages;
+import org.springframework.data.redis.connection.stream.ReadOffset;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.connection.stream.StreamOffset;
+import org.springframework.data.redis.connection.stream.StreamReadOptions;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StreamOperations;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ll.quizzle.domain.quiz.dto.response.QuizGenerationJobResponse;
+import com.ll.quizzle.domain.quiz.dto.response.QuizResponse;
+import com.ll.quizzle.domain.quiz.service.QuizGenerationService;
+import com.ll.quizzle.global.exceptions.ServiceException;
+import com.ll.quizzle.global.socket.core.MessageService;
+import com.ll.quizzle.global.socket.core.MessageServiceFactory;
+import com.ll.quizzle.global.socket.dto.response.WebSocketRoomMessageResponse;
+import com.ll.quizzle.global.socket.type.RoomMessageType;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * quiz:jobs 스트림을 소비 그룹(quiz-job-workers)으로 읽어 퀴즈 생성 작업을 실행합니다. 모든 노드가 같은 그룹에 참여하므로
+ * 작업은 노드 사이에 나뉘어 한 번씩 실행됩니다.
+ * - 동시 실행: 노드당 concurrency 개의 워커 슬롯만큼만 읽어 가며, 생성은 QuizGenerationService 로 비동기 실행합니다.
+ * - 재시도: 실패하면 attempt 를 늘려 quiz:jobs:retry 에 백오프(지수 + 지터) 시각으로 넣고, 시각이 되면 스트림으로 다시 옮깁니다.
+ * - 데드 레터: max-attempts 번 실패하면 quiz:jobs:dead 스트림으로 옮기고 FAILED 로 끝냅니다.
+ * - 회수: 워커가 처리 도중 사라져 visibility-timeout 넘게 확인(ack)되지 않은 항목은 다른 워커가 가져가 다시 실행합니다.
+ * 끝난 작업은 방 토픽(/topic/room/{roomId})과 요청자 개인 큐로 알리며, 방 토픽에는 정답을 포함하지 않습니다.
+ */
+@Slf4j
+@Component
+public class QuizGenerationJobWorker {
+
+    static final String GROUP = "quiz-job-workers";
+    static final String RETRY_KEY = "quiz:jobs:retry";
+    static final String DEAD_LETTER_KEY = "quiz:jobs:dead";
+    private static final int RETRY_BATCH_SIZE = 100;
+
+    private static final RedisScript<Long> RETRY_DUE_SCRIPT =
+            new DefaultRedisScript<>(new ClassPathResource("scripts/quiz/job-retry-due.lua"), Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final QuizGenerationService quizGenerationService;
+    private final QuizGenerationJobService quizGenerationJobService;
+    private final MessageServiceFactory messageServiceFactory;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final String consumerName = "worker-" + UUID.randomUUID();
+
+    private final boolean enabled;
+    private final int concurrency;
+    private final int maxAttempts;
+    private final long backoffBaseMillis;
+    private final long backoffMaxMillis;
+    private final Duration visibilityTimeout;
+    private final Duration pollBlock;
+    private final long deadLetterMaxLength;
+
+    private final Semaphore slots;
+    private volatile boolean running;
+    private ExecutorService poller;
+    private ScheduledThreadPoolExecutor maintenance;
+
+    private final AtomicLong waiting = new AtomicLong();
+    private final AtomicLong pending = new AtomicLong();
+    private final AtomicLong retryScheduled = new AtomicLong();
+    private final AtomicLong deadLettered = new AtomicLong();
+    private final Timer queueLatencyTimer;
+    private final Timer successTimer;
+    private final Timer failureTimer;
+    private final Counter succeededCounter;
+    private final Counter retriedCounter;
+    private final Counter deadLetterCounter;
+    private final Counter reclaimedCounter;
+
+    public QuizGenerationJobWorker(RedisTemplate<String, String> redisTemplate,
+                                   QuizGenerationService quizGenerationService,
+                                   QuizGenerationJobService quizGenerationJobService,
+                                   MessageServiceFactory messageServiceFactory,
+                                   MeterRegistry meterRegistry,
+                                   @Value("${quizzle.quiz.jobs.enabled:true}") boolean enabled,
+                                   @Value("${quizzle.quiz.jobs.concurrency:4}") int concurrency,
+                                   @Value("${quizzle.quiz.jobs.max-attempts:3}") int maxAttempts,
+                                   @Value("${quizzle.quiz.jobs.backoff-base-ms:1000}") long backoffBaseMillis,
+                                   @Value("${quizzle.quiz.jobs.backoff-max-ms:30000}") long backoffMaxMillis,
+                                   @Value("${quizzle.quiz.jobs.visibility-timeout-seconds:300}") long visibilityTimeoutSeconds,
+                                   @Value("${quizzle.quiz.jobs.poll-block-ms:2000}") long pollBlockMillis,
+                                   @Value("${quizzle.quiz.jobs.dead-letter-max-length:10000}") long deadLetterMaxLength) {
+        this.redisTemplate = redisTemplate;
+        this.quizGenerationService = quizGenerationService;
+        this.quizGenerationJobService = quizGenerationJobService;
+        this.messageServiceFactory = messageServiceFactory;
+        this.enabled = enabled;
+        this.concurrency = Math.max(1, concurrency);
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.backoffBaseMillis = Math.max(1, backoffBaseMillis);
+        this.backoffMaxMillis = Math.max(this.backoffBaseMillis, backoffMaxMillis);
+        this.visibilityTimeout = Duration.ofSeconds(visibilityTimeoutSeconds);
+        this.pollBlock = Duration.ofMillis(pollBlockMillis);
+        this.deadLetterMaxLength = deadLetterMaxLength;
+        this.slots = new Semaphore(this.concurrency);
+
+        Gauge.builder("quiz.job.queue.waiting", waiting, AtomicLong::get)
+                .description("워커를 기다리는 퀴즈 생성 작업 수")
+                .register(meterRegistry);
+        Gauge.builder("quiz.job.queue.pending", pending, AtomicLong::get)
+                .description("워커가 가져갔지만 아직 끝나지 않은 퀴즈 생성 작업 수 (모든 노드)")
+                .register(meterRegistry);
+        Gauge.builder("quiz.job.retry.scheduled", retryScheduled, AtomicLong::get)
+                .description("백오프 후 재시도를 기다리는 퀴즈 생성 작업 수")
+                .register(meterRegistry);
+        Gauge.builder("quiz.job.dead-letter", deadLettered, AtomicLong::get)
+                .description("데드 레터 스트림에 쌓인 퀴즈 생성 작업 수")
+                .register(meterRegistry);
+        Gauge.builder("quiz.job.in-flight", slots, permits -> this.concurrency - permits.availablePermits())
+                .description("이 노드에서 실행 중인 퀴즈 생성 작업 수")
+                .register(meterRegistry);
+        this.queueLatencyTimer = Timer.builder("quiz.job.queue.latency")
+                .description("작업이 스트림에 들어간 뒤 워커가 실행을 시작하기까지 걸린 시간")
+                .register(meterRegistry);
+        this.successTimer = Timer.builder("quiz.job.duration")
+                .tag("result", "success")
+                .description("워커가 퀴즈 생성 작업 한 번을 실행한 시간")
+                .register(meterRegistry);
+        this.failureTimer = Timer.builder("quiz.job.duration")
+                .tag("result", "failure")
+                .description("워커가 퀴즈 생성 작업 한 번을 실행한 시간")
+                .register(meterRegistry);
+        this.succeededCounter = Counter.builder("quiz.job.completed")
+                .tag("result", "succeeded")
+                .description("끝난 퀴즈 생성 작업 실행 수")
+                .register(meterRegistry);
+        this.retriedCounter = Counter.builder("quiz.job.completed")
+                .tag("result", "retried")
+                .description("끝난 퀴즈 생성 작업 실행 수")
+                .register(meterRegistry);
+        this.deadLetterCounter = Counter.builder("quiz.job.completed")
+                .tag("result", "dead_lettered")
+                .description("끝난 퀴즈 생성 작업 실행 수")
+                .register(meterRegistry);
+        this.reclaimedCounter = Counter.builder("quiz.job.reclaimed")
+                .description("응답 없는 워커에게서 회수한 퀴즈 생성 작업 수")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void init() {
+        if (!enabled) {
+            return;
+        }
+        createGroup();
+        running = true;
+        poller = Executors.newSingleThreadExecutor(new CustomizableThreadFactory("quiz-job-poller-"));
+        poller.execute(this::poll);
+
+        maintenance = new ScheduledThreadPoolExecutor(1, new CustomizableThreadFactory("quiz-job-maintenance-"));
+        maintenance.scheduleWithFixedDelay(this::moveDueRetriesSafely, 1, 1, TimeUnit.SECONDS);
+        long reclaimInterval = Math.max(10, visibilityTimeout.toSeconds() / 2);
+        maintenance.scheduleWithFixedDelay(this::reclaimSafely, reclaimInterval, reclaimInterval, TimeUnit.SECONDS);
+        maintenance.scheduleWithFixedDelay(this::refreshQueueMetricsSafely, 0, 5, TimeUnit.SECONDS);
+        log.info("퀴즈 생성 작업 워커 시작: consumer={}, 동시 실행={}, 최대 시도={}", consumerName, concurrency, maxAttempts);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        running = false;
+        if (poller != null) {
+            poller.shutdownNow();
+        }
+        if (maintenance != null) {
+            maintenance.shutdownNow();
+        }
+    }
+
+    private StreamOperations<String, Object, Object> streams() {
+        return redisTemplate.opsForStream();
+    }
+
+    private void createGroup() {
+        try {
+            streams().createGroup(QuizGenerationJobService.STREAM_KEY, ReadOffset.from("0"), GROUP);
+        } catch (Exception e) {
+            // 이미 그룹이 있으면 BUSYGROUP 오류가 납니다.
+            log.debug("퀴즈 생성 작업 소비 그룹 생성 건너뜀: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 빈 워커 슬롯이 있을 때만 그만큼 새 작업을 읽어 갑니다. 슬롯은 작업이 끝나(확인 또는 재시도 예약) 반환됩니다.
+     */
+    private void poll() {
+        while (running) {
+            int acquired = 0;
+            try {
+                slots.acquire();
+                acquired = 1 + slots.drainPermits();
+
+                List<MapRecord<String, Object, Object>> records = streams().read(
+                        Consumer.from(GROUP, consumerName),
+                        StreamReadOptions.empty().count(acquired).block(pollBlock),
+                        StreamOffset.create(QuizGenerationJobService.STREAM_KEY, ReadOffset.lastConsumed()));
+
+                int started = records != null ? records.size() : 0;
+                slots.release(acquired - started);
+                acquired = 0;
+                for (int i = 0; i < started; i++) {
+                    process(records.get(i));
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception e) {
+                slots.release(acquired);
+                if (!running) {
+                    return;
+                }
+                log.warn("퀴즈 생성 작업 읽기 실패: {}", e.getMessage());
+                if (e.getMessage() != null && e.getMessage().contains("NOGROUP")) {
+                    createGroup();
+                }
+                sleepQuietly(1000);
+            }
+        }
+    }
+
+    /**
+     * 슬롯 하나를 차지한 상태에서 호출됩니다. 처리 결과를 남긴 뒤에만 항목을 확인(ack)하므로, 도중에 노드가 사라지면 회수 대상이 됩니다.
+     */
+    void process(MapRecord<String, Object, Object> record) {
+        QuizGenerationJob job;
+        try {
+            job = QuizGenerationJob.from(record.getValue(), objectMapper);
+        } catch (Exception e) {
+            log.warn("손상된 퀴즈 생성 작업 폐기: id={}, {}", record.getId(), e.getMessage());
+            acknowledge(record.getId());
+            slots.release();
+            return;
+        }
+
+        long startNanos;
+        try {
+            QuizGenerationJobStatus status = quizGenerationJobService.currentStatus(job.jobId());
+            if (status != null && status.isFinished()) {
+                // 회수된 항목 중 이미 끝난 작업은 다시 실행하지 않습니다.
+                acknowledge(record.getId());
+                slots.release();
+                return;
+            }
+            queueLatencyTimer.record(Math.max(0, System.currentTimeMillis() - job.enqueuedAt()), TimeUnit.MILLISECONDS);
+            quizGenerationJobService.markRunning(job);
+            startNanos = System.nanoTime();
+        } catch (Exception e) {
+            log.warn("퀴즈 생성 작업 시작 실패, 회수 후 다시 실행: jobId={}, {}", job.jobId(), e.getMessage());
+            slots.release();
+            return;
+        }
+
+        CompletableFuture<QuizResponse> generation;
+        try {
+            generation = quizGenerationService.generate(job.request(), job.roomId(), job.requesterId());
+        } catch (Exception e) {
+            generation = CompletableFuture.failedFuture(e);
+        }
+        generation.whenComplete((quiz, throwable) -> {
+            boolean recorded = false;
+            try {
+                long elapsed = System.nanoTime() - startNanos;
+                if (throwable == null) {
+                    successTimer.record(elapsed, TimeUnit.NANOSECONDS);
+                    succeed(job, quiz);
+                } else {
+                    failureTimer.record(elapsed, TimeUnit.NANOSECONDS);
+                    fail(job, errorMessage(throwable));
+                }
+                recorded = true;
+            } catch (Exception e) {
+                log.error("퀴즈 생성 작업 결과 기록 실패, 회수 후 다시 실행: jobId={}, {}", job.jobId(), e.getMessage(), e);
+            } finally {
+                if (recorded) {
+                    acknowledge(record.getId());
+                }
+                slots.release();
+            }
+        });
+    }
+
+    private void succeed(QuizGenerationJob job, QuizResponse quiz) throws JsonProcessingException {
+        quizGenerationJobService.markSucceeded(job, quiz);
+        succeededCounter.increment();
+        log.info("퀴즈 생성 작업 완료: jobId={}, quizId={}, 시도={}", job.jobId(), quiz.quizId(), job.attempt());
+        notifyFinished(job, RoomMessageType.QUIZ_JOB_COMPLETED);
+    }
+
+    private void fail(QuizGenerationJob job, String error) throws JsonProcessingException {
+        if (job.attempt() >= maxAttempts) {
+            deadLetter(job, error);
+            return;
+        }
+        long delay = backoffMillis(job.attempt());
+        long dueAt = System.currentTimeMillis() + delay;
+        String member = objectMapper.writeValueAsString(job.nextAttempt(dueAt).toFields(objectMapper));
+        redisTemplate.opsForZSet().add(RETRY_KEY, member, dueAt);
+        quizGenerationJobService.markRetryScheduled(job, error);
+        retriedCounter.increment();
+        log.warn("퀴즈 생성 작업 실패, {}ms 후 재시도: jobId={}, 시도={}/{}, 오류={}", delay, job.jobId(), job.attempt(),
+                maxAttempts, error);
+    }
+
+    private void deadLetter(QuizGenerationJob job, String error) throws JsonProcessingException {
+        Map<String, String> fields = job.toFields(objectMapper);
+        fields.put("error", error);
+        fields.put("failedAt", String.valueOf(System.currentTimeMillis()));
+        streams().add(DEAD_LETTER_KEY, fields);
+        streams().trim(DEAD_LETTER_KEY, deadLetterMaxLength, true);
+        quizGenerationJobService.markFailed(job, error);
+        deadLetterCounter.increment();
+        log.error("퀴즈 생성 작업 최종 실패, 데드 레터로 이동: jobId={}, 시도={}, 오류={}", job.jobId(), job.attempt(), error);
+        notifyFinished(job, RoomMessageType.QUIZ_JOB_FAILED);
+    }
+
+    /**
+     * 지수 백오프에 지터를 더한 대기 시간. base × 2^(attempt-1) 를 backoff-max 로 자른 뒤, 그 절반 이상에서 무작위로 고릅니다.
+     */
+    long backoffMillis(int attempt) {
+        long exponential = backoffBaseMillis << Math.min(30, Math.max(0, attempt - 1));
+        long capped = Math.min(backoffMaxMillis, exponential);
+        return capped / 2 + ThreadLocalRandom.current().nextLong(capped / 2 + 1);
+    }
+
+    private void notifyFinished(QuizGenerationJob job, RoomMessageType type) {
+        try {
+            QuizGenerationJobResponse response = quizGenerationJobService.find(job.jobId());
+            if (response == null) {
+                return;
+            }
+            MessageService roomService = messageServiceFactory.getRoomService();
+            if (job.roomId() != null) {
+                roomService.send("/topic/room/" + job.roomId(), WebSocketRoomMessageResponse.of(
+                        type,
+                        type.getDescription(),
+                        objectMapper.writeValueAsString(response.withoutQuiz()),
+                        "SYSTEM",
+                        "SYSTEM",
+                        System.currentTimeMillis(),
+                        job.roomId().toString()
+                ));
+            }
+            if (job.requester() != null) {
+                roomService.sendToUser(job.requester(), response);
+            }
+        } catch (Exception e) {
+            log.warn("퀴즈 생성 작업 알림 실패: jobId={}, {}", job.jobId(), e.getMessage());
+        }
+    }
+
+    private void moveDueRetriesSafely() {
+        try {
+            redisTemplate.execute(RETRY_DUE_SCRIPT, List.of(RETRY_KEY, QuizGenerationJobService.STREAM_KEY),
+                    String.valueOf(System.currentTimeMillis()), String.valueOf(RETRY_BATCH_SIZE));
+        } catch (Exception e) {
+            log.warn("퀴즈 생성 작업 재시도 이동 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * visibility-timeout 넘게 확인되지 않은 항목을 이 워커로 가져와 다시 실행합니다.
+     * 이미 여러 번 전달된(max-attempts 초과) 항목은 처리 도중 워커를 멈추게 하는 작업일 수 있으므로 데드 레터로 보냅니다.
+     */
+    void reclaim() {
+        PendingMessages messages = streams().pending(QuizGenerationJobService.STREAM_KEY, GROUP, Range.unbounded(),
+                RETRY_BATCH_SIZE);
+        for (PendingMessage message : messages) {
+            if (message.getElapsedTimeSinceLastDelivery().compareTo(visibilityTimeout) < 0) {
+                continue;
+            }
+            if (!slots.tryAcquire()) {
+                return;
+            }
+            List<MapRecord<String, Object, Object>> claimed = streams().claim(QuizGenerationJobService.STREAM_KEY,
+                    GROUP, consumerName, XClaimOptions.minIdle(visibilityTimeout).ids(message.getId()));
+            if (claimed == null || claimed.isEmpty()) {
+                // 다른 워커가 먼저 가져갔거나 이미 확인된 항목입니다.
+                slots.release();
+                continue;
+            }
+            reclaimedCounter.increment();
+            MapRecord<String, Object, Object> record = claimed.get(0);
+            if (message.getTotalDeliveryCount() > maxAttempts) {
+                deadLetterReclaimed(record);
+                continue;
+            }
+            log.warn("응답 없는 워커의 퀴즈 생성 작업 회수: id={}, 소유자={}", message.getId(), message.getConsumerName());
+            process(record);
+        }
+    }
+
+    private void deadLetterReclaimed(MapRecord<String, Object, Object> record) {
+        try {
+            deadLetter(QuizGenerationJob.from(record.getValue(), objectMapper), "처리 중 워커가 응답하지 않았습니다.");
+        } catch (Exception e) {
+            log.warn("회수한 퀴즈 생성 작업 폐기: id={}, {}", record.getId(), e.getMessage());
+        } finally {
+            acknowledge(record.getId());
+            slots.release();
+        }
+    }
+
+    private void reclaimSafely() {
+        try {
+            reclaim();
+        } catch (Exception e) {
+            log.warn("퀴즈 생성 작업 회수 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 확인된 항목은 스트림에서 지우므로, 스트림 길이 = 대기 중 + 처리 중 입니다.
+     */
+    private void refreshQueueMetricsSafely() {
+        try {
+            Long length = streams().size(QuizGenerationJobService.STREAM_KEY);
+            long inProgress = streams().pending(QuizGenerationJobService.STREAM_KEY, GROUP).getTotalPendingMessages();
+            pending.set(inProgress);
+            waiting.set(Math.max(0, (length != null ? length : 0) - inProgress));
+            Long retries = redisTemplate.opsForZSet().zCard(RETRY_KEY);
+            retryScheduled.set(retries != null ? retries : 0);
+            Long dead = streams().size(DEAD_LETTER_KEY);
+            deadLettered.set(dead != null ? dead : 0);
+        } catch (Exception e) {
+            log.debug("퀴즈 생성 작업 대기열 지표 갱신 실패: {}", e.getMessage());
+        }
+    }
+
+    private void acknowledge(RecordId recordId) {
+        try {
+            streams().acknowledge(QuizGenerationJobService.STREAM_KEY, GROUP, recordId);
+            streams().delete(QuizGenerationJobService.STREAM_KEY, recordId);
+        } catch (Exception e) {
+            log.warn("퀴즈 생성 작업 확인 실패: id={}, {}", recordId, e.getMessage());
+        }
+    }
+
+    private static String errorMessage(Throwable throwable) {
+        Throwable cause = throwable instanceof CompletionException && throwable.getCause() != null
+                ? throwable.getCause()
+                : throwable;
+        if (cause instanceof ServiceException serviceException) {
+            return serviceException.getMsg();
+        }
+        return cause.getMessage() != null ? cause.getMessage() : cause.getClass().getSimpleName();
+    }
+
+    private static void sleepQuietly(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,176 @@
+package com.ll.quizzle.domain.quiz.parser;
+
+/**
+ * 퀴즈 본문의 한 줄이 문제 시작 줄인지, 정답 줄인지 판별하는 규칙입니다. QuizResponseParser 와 StreamingQuizParser 가 함께 사용합니다.
+ * 정규식과 부분 문자열을 만들지 않고 줄의 [start, end) 구간을 직접 훑습니다. (줄은 미리 trim 된 구간이어야 합니다)
+ * - 문제 줄: 줄 맨 앞의 "N." / "Question N." / "문제 N." (정규식 ^(?:Question\s+|문제\s*)?(\d+)\. 과 같습니다)
+ * - 정답 줄: 줄 안 어디든 "정답:" 또는 대소문자 구분 없는 "answer:" 뒤의 A~D, O, X (전각 콜론 포함)
+ */
+final class QuizLineScanner {
+
+    static final int NOT_FOUND = -1;
+
+    private static final String QUESTION_PREFIX = "Question";
+    private static final String KOREAN_QUESTION_PREFIX = "문제";
+    private static final String KOREAN_ANSWER = "정답";
+    private static final String ENGLISH_ANSWER = "answer";
+    private static final String[] ANSWERS = new String[128];
+
+    static {
+        for (char answer : "abcdox".toCharArray()) {
+            ANSWERS[answer] = String.valueOf(answer);
+        }
+    }
+
+    private QuizLineScanner() {
+    }
+
+    /**
+     * 문제 줄이면 문제 번호를, 아니면 NOT_FOUND 를 돌려줍니다.
+     */
+    static int questionNumber(CharSequence line, int start, int end) {
+        int digits = skipQuestionPrefix(line, start, end);
+        int position = digits;
+        int number = 0;
+        while (position < end && isDigit(line.charAt(position))) {
+            if (position - digits >= 9) {
+                // int 범위를 넘을 수 있는 번호는 기존과 같이 Integer.parseInt 의 예외를 그대로 던집니다.
+                int dot = nextNonDigit(line, position, end);
+                if (dot >= end || line.charAt(dot) != '.') {
+                    return NOT_FOUND;
+                }
+                return Integer.parseInt(line.subSequence(digits, dot).toString());
+            }
+            number = number * 10 + (line.charAt(position) - '0');
+            position++;
+        }
+        if (position == digits || position >= end || line.charAt(position) != '.') {
+            return NOT_FOUND;
+        }
+        return number;
+    }
+
+    /**
+     * 문제 줄에서 본문이 시작하는 위치. 줄이 "N." 으로 시작할 때만 번호와 뒤따르는 공백을 건너뜁니다.
+     * ("Question N." / "문제 N." 은 기존 동작과 같이 그대로 둡니다)
+     */
+    static int questionTextStart(CharSequence line, int start, int end) {
+        int position = start;
+        while (position < end && isDigit(line.charAt(position))) {
+            position++;
+        }
+        if (position == start || position >= end || line.charAt(position) != '.') {
+            return start;
+        }
+        position++;
+        while (position < end && isRegexSpace(line.charAt(position))) {
+            position++;
+        }
+        return position;
+    }
+
+    /**
+     * 정답 줄이면 소문자 정답("a"~"d", "o", "x")을, 아니면 null 을 돌려줍니다. 돌려주는 문자열은 미리 만들어 둔 상수입니다.
+     */
+    static String answer(CharSequence line, int start, int end) {
+        for (int position = start; position < end; position++) {
+            int afterKeyword = matchAnswerKeyword(line, position, end);
+            if (afterKeyword == NOT_FOUND || afterKeyword >= end) {
+                continue;
+            }
+            char colon = line.charAt(afterKeyword);
+            if (colon != ':' && colon != '：') {
+                continue;
+            }
+            int value = afterKeyword + 1;
+            while (value < end && isRegexSpace(line.charAt(value))) {
+                value++;
+            }
+            if (value < end) {
+                char candidate = Character.toLowerCase(line.charAt(value));
+                if (candidate < ANSWERS.length && ANSWERS[candidate] != null) {
+                    return ANSWERS[candidate];
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * String.trim 과 같은 기준(' ' 이하의 문자)으로 앞쪽 공백을 건너뜁니다.
+     */
+    static int trimStart(CharSequence text, int start, int end) {
+        while (start < end && text.charAt(start) <= ' ') {
+            start++;
+        }
+        return start;
+    }
+
+    static int trimEnd(CharSequence text, int start, int end) {
+        while (end > start && text.charAt(end - 1) <= ' ') {
+            end--;
+        }
+        return end;
+    }
+
+    private static int skipQuestionPrefix(CharSequence line, int start, int end) {
+        if (startsWith(line, start, end, QUESTION_PREFIX, false)) {
+            int position = start + QUESTION_PREFIX.length();
+            int digits = position;
+            while (position < end && isRegexSpace(line.charAt(position))) {
+                position++;
+            }
+            // "Question" 뒤에는 공백이 한 칸 이상 있어야 합니다.
+            if (position > digits) {
+                return position;
+            }
+        } else if (startsWith(line, start, end, KOREAN_QUESTION_PREFIX, false)) {
+            int position = start + KOREAN_QUESTION_PREFIX.length();
+            while (position < end && isRegexSpace(line.charAt(position))) {
+                position++;
+            }
+            return position;
+        }
+        return start;
+    }
+
+    private static int matchAnswerKeyword(CharSequence line, int position, int end) {
+        if (startsWith(line, position, end, KOREAN_ANSWER, false)) {
+            return position + KOREAN_ANSWER.length();
+        }
+        if (startsWith(line, position, end, ENGLISH_ANSWER, true)) {
+            return position + ENGLISH_ANSWER.length();
+        }
+        return NOT_FOUND;
+    }
+
+    private static boolean startsWith(CharSequence line, int position, int end, String prefix, boolean ignoreAsciiCase) {
+        if (end - position < prefix.length()) {
+            return false;
+        }
+        for (int i = 0; i < prefix.length(); i++) {
+            char actual = line.charAt(position + i);
+            char expected = prefix.charAt(i);
+            if (actual != expected && !(ignoreAsciiCase && actual < 128 && Character.toLowerCase(actual) == expected)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int nextNonDigit(CharSequence line, int position, int end) {
+        while (position < end && isDigit(line.charAt(position))) {
+            position++;
+        }
+        return position;
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    // 정규식 \s 와 같은 문자 집합입니다.
+    private static boolean isRegexSpace(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
+    }
+}
@@ -1,98 +1,168 @@
 package com.ll.quizzle.domain.quiz.parser;
 
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.ll.quizzle.domain.quiz.dto.request.QuizGenerationRequest;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.ll.quizzle.domain.quiz.dto.response.QuizGenerationResponse;
 import com.ll.quizzle.global.exceptions.ErrorCode;
 
 import java.io.IOException;
+import java.nio.CharBuffer;
 import java.util.LinkedHashMap;
 import java.util.Map;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
+/**
+ * Chat Completions 응답 본문에서 choices[0].message.content 를 읽어 문제와 정답으로 나눕니다.
+ * - JSON 트리를 만들지 않고 스트리밍 JsonParser 로 content 까지만 읽으며, content 는 문자열로 복사하지 않고 파서 버퍼 위에서 바로 훑습니다.
+ * - content 는 줄 단위로 한 번만 훑고, 줄 판별은 QuizLineScanner 가 정규식 없이 처리합니다.
+ * 스레드 안전하며 GPTQuizService 에서 하나를 공유합니다.
+ */
 public class QuizResponseParser {
 
-    private static final Pattern QUESTION_PATTERN =
-            Pattern.compile("^(?:Question\\s+|문제\\s*)?(\\d+)\\.");
-    private static final Pattern ANSWER_PATTERN =
-            Pattern.compile("(?i)(?:정답|answer)[:：]\\s*([A-DOX])");
-
-    private final ObjectMapper objectMapper = new ObjectMapper();
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
 
     public QuizGenerationResponse parse(String responseBody) {
-        try {
-            String content = extractContent(responseBody);
-            return parseContent(content);
+        try (JsonParser parser = JSON_FACTORY.createParser(responseBody)) {
+            // content 구간은 파서 버퍼를 가리키므로 파서를 닫기 전에 파싱을 끝냅니다.
+            return parseContent(locateContent(parser));
         } catch (IOException e) {
             ErrorCode.INTERNAL_SERVER_ERROR.throwServiceException(e);
             return null; // Unreachable
         }
     }
 
-    private String extractContent(String responseBody) throws IOException {
-        JsonNode root = objectMapper.readTree(responseBody);
-        return root.path("choices")
-                .get(0)
-                .path("message")
-                .path("content")
-                .asText();
+    /**
+     * parse 와 같이 문제와 정답을 읽고, 이어서 최상위 usage.total_tokens 까지 읽습니다. usage 가 없으면 0 입니다.
+     * 토큰 사용량은 본문 끝에 오므로 content 를 먼저 파싱한 뒤 나머지를 훑습니다.
+     */
+    public Completion parseCompletion(String responseBody) {
+        try (JsonParser parser = JSON_FACTORY.createParser(responseBody)) {
+            QuizGenerationResponse quiz = parseContent(locateContent(parser));
+            return new Completion(quiz, locateTotalTokens(parser));
+        } catch (IOException e) {
+            ErrorCode.INTERNAL_SERVER_ERROR.throwServiceException(e);
+            return null; // Unreachable
+        }
     }
 
-    private QuizGenerationResponse parseContent(String content) {
-        Map<Integer, String> questionMap = new LinkedHashMap<>();
-        Map<Integer, String> answerMap = new LinkedHashMap<>();
-        int currentQuestion = 0;
-        StringBuilder currentQuestionText = new StringBuilder();
+    public record Completion(QuizGenerationResponse quiz, long totalTokens) {
+    }
 
-        for (String line : content.split("\\r?\\n")) {
-            String trimmedLine = line.trim();
-            if (trimmedLine.isEmpty()) {
-                continue;
+    private long locateTotalTokens(JsonParser parser) throws IOException {
+        JsonToken token;
+        while ((token = parser.nextToken()) != null) {
+            if (token == JsonToken.FIELD_NAME && "usage".equals(parser.currentName())
+                    && parser.getParsingContext().getParent().inRoot()) {
+                return parser.nextToken() == JsonToken.START_OBJECT
+                        && findField(parser, "total_tokens") == JsonToken.VALUE_NUMBER_INT
+                        ? parser.getLongValue()
+                        : 0;
             }
+        }
+        return 0;
+    }
 
-            if (processQuestionLine(trimmedLine, questionMap, currentQuestionText)) {
-                // 새로운 질문 라인 발견 시, 이전 질문 저장 및 현재 질문 번호 업데이트
-                if (currentQuestion != 0) {
-                    questionMap.put(currentQuestion, currentQuestionText.toString().trim());
+    /**
+     * choices[0].message.content 위치까지 이동하여 그 값을 돌려줍니다. message 나 content 가 없으면 빈 문자열입니다.
+     */
+    private CharSequence locateContent(JsonParser parser) throws IOException {
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            throw new JsonParseException(parser, "응답 본문이 JSON 객체가 아닙니다.");
+        }
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken value = parser.nextToken();
+            if ("choices".equals(field) && value == JsonToken.START_ARRAY) {
+                if (parser.nextToken() != JsonToken.START_OBJECT) {
+                    break;
                 }
-                Matcher qm = QUESTION_PATTERN.matcher(trimmedLine);
-                qm.find(); // 반드시 매칭됨
-                currentQuestion = Integer.parseInt(qm.group(1));
-                currentQuestionText = new StringBuilder();
-                String questionText = trimmedLine.replaceFirst("^\\d+\\.\\s*", "");
-                currentQuestionText.append(questionText).append("\n");
-                continue;
+                return findField(parser, "message") == JsonToken.START_OBJECT
+                        && findField(parser, "content") == JsonToken.VALUE_STRING
+                        ? CharBuffer.wrap(parser.getTextCharacters(), parser.getTextOffset(), parser.getTextLength())
+                        : "";
             }
+            parser.skipChildren();
+        }
+        throw new JsonParseException(parser, "응답 본문에 choices[0] 가 없습니다.");
+    }
+
+    /**
+     * 현재 객체 안에서 name 필드를 찾아 그 값의 토큰을 돌려줍니다. 없으면 null 입니다.
+     */
+    private JsonToken findField(JsonParser parser, String name) throws IOException {
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken value = parser.nextToken();
+            if (name.equals(field)) {
+                return value;
+            }
+            parser.skipChildren();
+        }
+        return null;
+    }
 
-            if (processAnswerLine(trimmedLine, answerMap, currentQuestion)) {
-                continue;
+    QuizGenerationResponse parseContent(CharSequence content) {
+        Map<Integer, String> questionMap = new LinkedHashMap<>();
+        Map<Integer, String> answerMap = new LinkedHashMap<>();
+        int currentQuestion = 0;
+        StringBuilder currentQuestionText = new StringBuilder(256);
+
+        int length = content.length();
+        int lineStart = 0;
+        while (lineStart <= length) {
+            int lineEnd = indexOfNewline(content, lineStart, length);
+            int nextLine = lineEnd + 1;
+            // "\r\n" 줄바꿈의 \r 은 줄 내용에 포함하지 않습니다.
+            if (lineEnd > lineStart && content.charAt(lineEnd - 1) == '\r') {
+                lineEnd--;
             }
 
-            // 질문 내용 추가 (질문 시작 이후의 일반 라인)
-            if (currentQuestion != 0) {
-                currentQuestionText.append(line).append("\n");
+            int start = QuizLineScanner.trimStart(content, lineStart, lineEnd);
+            int end = QuizLineScanner.trimEnd(content, start, lineEnd);
+            if (start < end) {
+                int questionNumber = QuizLineScanner.questionNumber(content, start, end);
+                if (questionNumber != QuizLineScanner.NOT_FOUND) {
+                    // 새로운 질문 라인 발견 시, 이전 질문 저장 및 현재 질문 번호 업데이트
+                    if (currentQuestion != 0) {
+                        questionMap.put(currentQuestion, trimmed(currentQuestionText));
+                    }
+                    currentQuestion = questionNumber;
+                    currentQuestionText.setLength(0);
+                    currentQuestionText.append(content, QuizLineScanner.questionTextStart(content, start, end), end)
+                            .append('\n');
+                } else {
+                    String answer = QuizLineScanner.answer(content, start, end);
+                    if (answer != null && currentQuestion > 0) {
+                        answerMap.put(currentQuestion, answer);
+                    } else if (currentQuestion != 0) {
+                        // 질문 내용 추가 (질문 시작 이후의 일반 라인)
+                        currentQuestionText.append(content, lineStart, lineEnd).append('\n');
+                    }
+                }
             }
+            lineStart = nextLine;
         }
 
         if (currentQuestion != 0) {
-            questionMap.put(currentQuestion, currentQuestionText.toString().trim());
+            questionMap.put(currentQuestion, trimmed(currentQuestionText));
         }
 
         return new QuizGenerationResponse(questionMap, answerMap);
     }
 
-    private boolean processQuestionLine(String line, Map<Integer, String> questionMap, StringBuilder currentQuestionText) {
-        return QUESTION_PATTERN.matcher(line).find();
+    private static int indexOfNewline(CharSequence content, int from, int length) {
+        for (int i = from; i < length; i++) {
+            if (content.charAt(i) == '\n') {
+                return i;
+            }
+        }
+        return length;
     }
 
-    private boolean processAnswerLine(String line, Map<Integer, String> answerMap, int currentQuestion) {
-        Matcher am = ANSWER_PATTERN.matcher(line);
-        if (am.find() && currentQuestion > 0) {
-            answerMap.put(currentQuestion, am.group(1).toLowerCase());
-            return true;
-        }
-        return false;
+    static String trimmed(StringBuilder text) {
+        int start = QuizLineScanner.trimStart(text, 0, text.length());
+        int end = QuizLineScanner.trimEnd(text, start, text.length());
+        return text.substring(start, end);
     }
 }
@@ -0,0 +1,102 @@
+package com.ll.quizzle.domain.quiz.parser;
+
+import com.ll.quizzle.domain.quiz.dto.response.QuizGenerationResponse;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * 스트리밍으로 도착하는 GPT 응답 조각을 받아 문제 단위로 잘라내는 파서입니다.
+ * 줄 규칙은 QuizResponseParser 와 같으며(QuizLineScanner), 문제는 "정답:" 줄이 도착하는 순간 완성된 것으로 보고 바로 넘겨줍니다.
+ * 한 조각 안에서 끝나는 줄은 복사하지 않고 조각 위에서 바로 처리하며, 조각 경계에 걸친 줄만 모아 둡니다.
+ * 한 생성 요청 안에서만 사용하며 스레드 안전하지 않습니다.
+ */
+public class StreamingQuizParser {
+
+    private final Consumer<ParsedQuestion> onQuestion;
+    private final StringBuilder pendingLine = new StringBuilder();
+    private final Map<Integer, String> questionMap = new LinkedHashMap<>();
+    private final Map<Integer, String> answerMap = new LinkedHashMap<>();
+
+    private int currentQuestion = 0;
+    private final StringBuilder currentQuestionText = new StringBuilder(256);
+
+    public StreamingQuizParser(Consumer<ParsedQuestion> onQuestion) {
+        this.onQuestion = onQuestion;
+    }
+
+    /**
+     * 응답 조각을 이어 붙이고, 줄바꿈으로 끝난 줄만 처리합니다. 끝나지 않은 줄은 다음 조각을 기다립니다.
+     */
+    public void feed(String delta) {
+        int start = 0;
+        for (int i = 0; i < delta.length(); i++) {
+            if (delta.charAt(i) == '\n') {
+                if (pendingLine.isEmpty()) {
+                    processLine(delta, start, i);
+                } else {
+                    pendingLine.append(delta, start, i);
+                    processLine(pendingLine, 0, pendingLine.length());
+                    pendingLine.setLength(0);
+                }
+                start = i + 1;
+            }
+        }
+        pendingLine.append(delta, start, delta.length());
+    }
+
+    /**
+     * 스트림이 끝났을 때 남은 줄을 처리하고 지금까지 완성된 문제와 정답을 돌려줍니다.
+     * 정답 줄이 오지 않은 마지막 문제는 포함하지 않습니다.
+     */
+    public QuizGenerationResponse finish() {
+        if (!pendingLine.isEmpty()) {
+            processLine(pendingLine, 0, pendingLine.length());
+            pendingLine.setLength(0);
+        }
+        return new QuizGenerationResponse(questionMap, answerMap);
+    }
+
+    private void processLine(CharSequence text, int lineStart, int lineEnd) {
+        // "\r\n" 줄바꿈의 \r 은 줄 내용에 포함하지 않습니다.
+        if (lineEnd > lineStart && text.charAt(lineEnd - 1) == '\r') {
+            lineEnd--;
+        }
+        int start = QuizLineScanner.trimStart(text, lineStart, lineEnd);
+        int end = QuizLineScanner.trimEnd(text, start, lineEnd);
+        if (start == end) {
+            return;
+        }
+
+        int questionNumber = QuizLineScanner.questionNumber(text, start, end);
+        if (questionNumber != QuizLineScanner.NOT_FOUND) {
+            currentQuestion = questionNumber;
+            currentQuestionText.setLength(0);
+            currentQuestionText.append(text, QuizLineScanner.questionTextStart(text, start, end), end).append('\n');
+            return;
+        }
+
+        if (currentQuestion == 0) {
+            return;
+        }
+
+        String answer = QuizLineScanner.answer(text, start, end);
+        if (answer != null) {
+            // 같은 번호가 두 번 나오면 먼저 완성된 문제를 유지합니다.
+            if (!answerMap.containsKey(currentQuestion)) {
+                String questionText = QuizResponseParser.trimmed(currentQuestionText);
+                questionMap.put(currentQuestion, questionText);
+                answerMap.put(currentQuestion, answer);
+                onQuestion.accept(new ParsedQuestion(currentQuestion, questionText, answer));
+            }
+            currentQuestion = 0;
+            return;
+        }
+
+        currentQuestionText.append(text, lineStart, lineEnd).append('\n');
+    }
+
+    public record ParsedQuestion(int number, String text, String answer) {
+    }
+}
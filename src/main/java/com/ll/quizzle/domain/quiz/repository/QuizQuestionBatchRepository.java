@@ -0,0 +1,14 @@
+package com.ll.quizzle.domain.quiz.repository;
+
+import java.util.List;
+
+import com.ll.quizzle.domain.quiz.entity.QuizQuestion;
+
+public interface QuizQuestionBatchRepository {
+
+    /**
+     * 문제와 LSH 키를 JDBC 배치로 한 번에 저장하고 저장한 문제 수를 돌려줍니다.
+     * (IDENTITY 키는 Hibernate 배치 INSERT 가 되지 않아 별도로 둡니다)
+     */
+    int insertAll(List<QuizQuestion> questions);
+}
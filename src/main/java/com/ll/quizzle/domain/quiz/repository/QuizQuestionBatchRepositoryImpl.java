@@ -0,0 +1,85 @@
+package com.ll.quizzle.domain.quiz.repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.ll.quizzle.domain.quiz.entity.QuizQuestion;
+
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+public class QuizQuestionBatchRepositoryImpl implements QuizQuestionBatchRepository {
+
+    private static final int BATCH_SIZE = 500;
+
+    private static final String INSERT_QUESTION = """
+            insert into quiz_question
+                (main_category, sub_category, answer_type, difficulty, question, answer, content_hash, min_hash,
+                 create_date, modify_date)
+            values (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+    private static final String INSERT_BAND = "insert into quiz_question_band (question_id, band_key) values (?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    @Transactional
+    public int insertAll(List<QuizQuestion> questions) {
+        if (questions.isEmpty()) {
+            return 0;
+        }
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(INSERT_QUESTION, questions, BATCH_SIZE, (ps, question) -> {
+            ps.setString(1, question.getMainCategory().name());
+            ps.setString(2, question.getSubCategory().name());
+            ps.setString(3, question.getAnswerType().name());
+            ps.setString(4, question.getDifficulty().name());
+            ps.setString(5, question.getQuestion());
+            ps.setString(6, question.getAnswer());
+            ps.setString(7, question.getContentHash());
+            ps.setBytes(8, question.getMinHash());
+            ps.setTimestamp(9, now);
+            ps.setTimestamp(10, now);
+        });
+
+        // 배치 INSERT 는 생성된 키를 돌려주지 않는 드라이버가 있어 content_hash 로 다시 찾습니다.
+        Map<String, Long> ids = findIds(questions);
+        List<long[]> bands = new ArrayList<>(questions.size() * 16);
+        for (QuizQuestion question : questions) {
+            Long id = ids.get(question.getContentHash());
+            for (Long bandKey : question.getBandKeys()) {
+                bands.add(new long[]{id, bandKey});
+            }
+        }
+        jdbcTemplate.batchUpdate(INSERT_BAND, bands, BATCH_SIZE, (ps, band) -> {
+            ps.setLong(1, band[0]);
+            ps.setLong(2, band[1]);
+        });
+        return questions.size();
+    }
+
+    private Map<String, Long> findIds(List<QuizQuestion> questions) {
+        Map<String, Long> ids = new HashMap<>(questions.size() * 2);
+        for (int from = 0; from < questions.size(); from += BATCH_SIZE) {
+            List<QuizQuestion> chunk = questions.subList(from, Math.min(from + BATCH_SIZE, questions.size()));
+            String placeholders = String.join(", ", Collections.nCopies(chunk.size(), "?"));
+            jdbcTemplate.query(
+                    "select id, content_hash from quiz_question where content_hash in (" + placeholders + ")",
+                    rs -> {
+                        ids.put(rs.getString("content_hash"), rs.getLong("id"));
+                    },
+                    chunk.stream().map(QuizQuestion::getContentHash).toArray()
+            );
+        }
+        return ids;
+    }
+}
@@ -0,0 +1,33 @@
+package com.ll.quizzle.domain.quiz.repository;
+
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.ll.quizzle.domain.quiz.entity.QuizQuestion;
+import com.ll.quizzle.domain.room.type.AnswerType;
+import com.ll.quizzle.domain.room.type.Difficulty;
+import com.ll.quizzle.domain.room.type.SubCategory;
+
+public interface QuizQuestionRepository extends JpaRepository<QuizQuestion, Long>, QuizQuestionBatchRepository {
+
+    // idx_quiz_question_pool 만으로 처리되어 테이블을 읽지 않습니다.
+    @Query("select q.id from QuizQuestion q"
+            + " where q.subCategory = :subCategory and q.answerType = :answerType and q.difficulty = :difficulty")
+    List<Long> findPoolIds(@Param("subCategory") SubCategory subCategory,
+                           @Param("answerType") AnswerType answerType,
+                           @Param("difficulty") Difficulty difficulty);
+
+    @Query("select q.contentHash from QuizQuestion q where q.contentHash in :contentHashes")
+    List<String> findExistingContentHashes(@Param("contentHashes") Collection<String> contentHashes);
+
+    // 난이도가 달라도 같은 문제로 보므로 소분류와 정답 유형 안에서만 찾습니다.
+    @Query("select distinct q from QuizQuestion q join q.bandKeys b"
+            + " where q.subCategory = :subCategory and q.answerType = :answerType and b in :bandKeys")
+    List<QuizQuestion> findNearDuplicateCandidates(@Param("subCategory") SubCategory subCategory,
+                                                   @Param("answerType") AnswerType answerType,
+                                                   @Param("bandKeys") Collection<Long> bandKeys);
+}
@@ -1,4 +1,16 @@
 package com.ll.quizzle.domain.quiz.repository;
 
-public class QuizRepository {
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import com.ll.quizzle.domain.quiz.entity.Quiz;
+
+public interface QuizRepository extends JpaRepository<Quiz, Long> {
+
+    @EntityGraph(attributePaths = "results")
+    Optional<Quiz> findByQuizId(String quizId);
+
+    boolean existsByQuizId(String quizId);
 }
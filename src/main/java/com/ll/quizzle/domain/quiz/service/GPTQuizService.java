@@ -1,28 +1,77 @@
-
 package com.ll.quizzle.domain.quiz.service;
 
+import com.ll.quizzle.domain.quiz.bank.QuizQuestionBank;
 import com.ll.quizzle.domain.quiz.client.OpenAIClient;
+import com.ll.quizzle.domain.quiz.client.QuizGenerationCaller;
+import com.ll.quizzle.domain.quiz.client.QuizGenerationGuard;
 import com.ll.quizzle.domain.quiz.dto.request.QuizGenerationRequest;
 import com.ll.quizzle.domain.quiz.dto.response.QuizGenerationResponse;
-import com.ll.quizzle.domain.quiz.parser.QuizResponseParser;
+import com.ll.quizzle.domain.quiz.generator.QuizGeneratorRouter;
+import com.ll.quizzle.domain.quiz.parser.StreamingQuizParser;
+import com.ll.quizzle.domain.quiz.parser.StreamingQuizParser.ParsedQuestion;
 import com.ll.quizzle.domain.quiz.util.QuizPromptBuilder;
-import com.ll.quizzle.global.config.OpenAIProperties;
 import org.springframework.stereotype.Service;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+
+/**
+ * GPT 로 퀴즈를 생성합니다.
+ * - 생성된 문제는 모두 문제 은행에 쌓여 이후 같은 조건의 퀴즈를 GPT 호출 없이 조립하는 데 사용됩니다.
+ * - 모든 GPT 호출은 QuizGenerationGuard 를 거치며, 상류가 느려지거나 실패가 몰리면 기다리지 않고 QUIZ_GENERATION_OVERLOADED 로 실패합니다.
+ * - 한 번에 받는 생성은 QuizGeneratorRouter 가 설정된 백엔드(주 모델, 대체 모델, 문제 은행 등)를 헤지하며 호출합니다.
+ *   스트리밍 생성은 라우터를 거치지 않고 주 모델만 호출하므로, 실패하면 대체 백엔드 없이 그대로 실패합니다.
+ */
 @Service
 public class GPTQuizService {
 
     private final OpenAIClient openAIClient;
-    private final QuizResponseParser quizResponseParser;
+    private final QuizQuestionBank quizQuestionBank;
+    private final QuizGenerationGuard quizGenerationGuard;
+    private final QuizGeneratorRouter quizGeneratorRouter;
 
-    public GPTQuizService(OpenAIProperties openAIProperties) {
-        this.openAIClient = new OpenAIClient(openAIProperties);
-        this.quizResponseParser = new QuizResponseParser();
+    public GPTQuizService(OpenAIClient openAIClient, QuizQuestionBank quizQuestionBank,
+                          QuizGenerationGuard quizGenerationGuard, QuizGeneratorRouter quizGeneratorRouter) {
+        this.openAIClient = openAIClient;
+        this.quizQuestionBank = quizQuestionBank;
+        this.quizGenerationGuard = quizGenerationGuard;
+        this.quizGeneratorRouter = quizGeneratorRouter;
     }
 
     public QuizGenerationResponse generateQuiz(QuizGenerationRequest request) {
+        return OpenAIClient.join(generateQuizAsync(request));
+    }
+
+    public CompletableFuture<QuizGenerationResponse> generateQuizAsync(QuizGenerationRequest request) {
+        return generateQuizAsync(request, QuizGenerationCaller.INTERACTIVE);
+    }
+
+    /**
+     * 요청 스레드를 붙잡지 않고 퀴즈를 생성합니다. 응답 파싱은 HTTP 클라이언트의 가상 스레드에서 실행됩니다.
+     * caller 마다 동시 호출 칸이 따로 있어, 재고 보충(BACKGROUND)이 사용자 요청의 자리를 차지하지 않습니다.
+     * 헤지는 사용자 요청(INTERACTIVE)에만 적용됩니다.
+     */
+    public CompletableFuture<QuizGenerationResponse> generateQuizAsync(QuizGenerationRequest request,
+                                                                       QuizGenerationCaller caller) {
+        return quizGeneratorRouter.generate(request, caller);
+    }
+
+    /**
+     * stream=true 로 퀴즈를 생성합니다. 응답 조각을 받는 대로 파싱하여 "정답:" 줄이 도착한 문제부터 onQuestion 으로 넘깁니다.
+     * 반환되는 future 는 스트림이 끝나면 완성된 문제 전체로 완료됩니다.
+     * 문제가 이미 전송된 뒤에는 다른 백엔드의 결과로 바꿀 수 없으므로 QuizGeneratorRouter 를 거치지 않습니다.
+     */
+    public CompletableFuture<QuizGenerationResponse> streamQuiz(QuizGenerationRequest request,
+                                                                Consumer<ParsedQuestion> onQuestion) {
         String systemPrompt = QuizPromptBuilder.buildPrompt(request);
-        String responseBody = openAIClient.sendRequest(systemPrompt, "퀴즈 생성");
-        return quizResponseParser.parse(responseBody);
+        StreamingQuizParser parser = new StreamingQuizParser(onQuestion);
+        return quizGenerationGuard.execute(QuizGenerationCaller.STREAM,
+                        () -> openAIClient.streamRequestAsync(systemPrompt, "퀴즈 생성", parser::feed))
+                .thenApply(ignored -> deposit(request, parser.finish()));
+    }
+
+    private QuizGenerationResponse deposit(QuizGenerationRequest request, QuizGenerationResponse response) {
+        quizQuestionBank.depositAsync(request, response);
+        return response;
     }
 }
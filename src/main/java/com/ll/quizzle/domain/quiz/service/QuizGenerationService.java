@@ -0,0 +1,60 @@
+package com.ll.quizzle.domain.quiz.service;
+
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+import org.springframework.stereotype.Service;
+
+import com.ll.quizzle.domain.quiz.bank.QuizQuestionBank;
+import com.ll.quizzle.domain.quiz.client.QuizGenerationGuard;
+import com.ll.quizzle.domain.quiz.dto.request.QuizGenerationRequest;
+import com.ll.quizzle.domain.quiz.dto.response.QuizGenerationResponse;
+import com.ll.quizzle.domain.quiz.dto.response.QuizResponse;
+import com.ll.quizzle.domain.quiz.inventory.QuizInventoryService;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 퀴즈 한 벌을 마련하여 새 quizId 로 Redis 에 저장합니다. /generate 요청과 비동기 생성 작업이 함께 사용합니다.
+ * - 같은 조합의 미리 생성된 재고가 있거나 문제 은행의 풀이 충분하면 GPT 를 호출하지 않습니다.
+ * - 같은 조건으로 동시에 들어온 요청은 생성 결과 하나를 함께 쓰되, quizId 는 요청마다 따로 발급하여 저장합니다.
+ * - GPT 호출이 부하로 거절되면 풀 크기 조건을 낮춰 문제 은행에서 조립하고, 그것도 안 되면 거절 오류로 끝납니다.
+ * - 저장한 퀴즈의 방과 만든 회원은 QuizRoomRegistry 에 기록하여, 라운드를 시작할 수 있는 회원을 확인하는 데 씁니다.
+ */
+@Service
+@RequiredArgsConstructor
+public class QuizGenerationService {
+
+    private final QuizGenerationSingleFlight quizGenerationSingleFlight;
+    private final RedisQuizAnswerService redisQuizAnswerService;
+    private final QuizInventoryService quizInventoryService;
+    private final QuizQuestionBank quizQuestionBank;
+    private final QuizRoomRegistry quizRoomRegistry;
+
+    /**
+     * roomId 와 creatorId 는 없을 수 있으며, 있으면 저장한 퀴즈에 함께 기록합니다.
+     */
+    public CompletableFuture<QuizResponse> generate(QuizGenerationRequest request, Long roomId, Long creatorId) {
+        String quizId = UUID.randomUUID().toString();
+
+        return quizInventoryService.take(request)
+                .or(() -> quizQuestionBank.assemble(request))
+                .map(CompletableFuture::completedFuture)
+                .orElseGet(() -> quizGenerationSingleFlight.generate(request)
+                        .exceptionallyCompose(throwable -> fallback(request, throwable)))
+                .thenApply(generationResponse -> {
+                    redisQuizAnswerService.saveQuiz(quizId, generationResponse.quizText(), generationResponse.answerMap());
+                    quizRoomRegistry.bind(quizId, roomId, creatorId);
+                    return new QuizResponse(quizId, generationResponse.quizText(), generationResponse.answerMap());
+                });
+    }
+
+    private CompletableFuture<QuizGenerationResponse> fallback(QuizGenerationRequest request, Throwable throwable) {
+        if (!QuizGenerationGuard.isRejection(throwable)) {
+            return CompletableFuture.failedFuture(throwable);
+        }
+        return quizQuestionBank.assembleFallback(request)
+                .map(CompletableFuture::completedFuture)
+                .orElseGet(() -> CompletableFuture.failedFuture(throwable));
+    }
+}
@@ -0,0 +1,299 @@
+package com.ll.quizzle.domain.quiz.service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ll.quizzle.domain.quiz.dto.request.QuizGenerationRequest;
+import com.ll.quizzle.domain.quiz.dto.response.QuizGenerationResponse;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 같은 조건의 퀴즈 생성 요청이 동시에 들어오면 GPT 호출 한 번의 결과를 함께 사용합니다. (single-flight)
+ * - 노드 내부: 진행 중인 생성이 있으면 같은 future 를 기다립니다.
+ * - 클러스터: quiz:generation:flight:{조건} 클레임을 잡은 노드만 호출하고, 다른 노드는 결과가 quiz:generation:flights 채널로
+ *   알려질 때까지 기다립니다. 호출한 노드가 실패하면 결과 자리에 실패 표시를 남기고, 기다리는 노드는 알림과 함께
+ *   poll-interval 마다 결과 자리와 클레임을 확인하여 실패 표시가 있거나 클레임이 사라졌으면(호출한 노드 종료) 바로 직접 생성합니다.
+ *   claim-ttl 이 지나도 결과가 없으면 직접 생성합니다.
+ * 결과만 공유하며, quizId 발급과 저장은 호출자마다 따로 합니다.
+ * 절약한 호출 수는 quiz.generation.upstream.saved (scope=local|cluster) 로 확인할 수 있습니다.
+ */
+@Slf4j
+@Component
+public class QuizGenerationSingleFlight implements MessageListener {
+
+    static final String DONE_CHANNEL = "quiz:generation:flights";
+    private static final String CLAIM_KEY_PREFIX = "quiz:generation:flight:";
+    private static final String RESULT_KEY_PREFIX = "quiz:generation:result:";
+    static final String FAILED_MARKER = "failed";
+    private static final Duration FAILED_MARKER_TTL = Duration.ofSeconds(10);
+
+    private final GPTQuizService gptQuizService;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final String nodeId = UUID.randomUUID().toString();
+    private final Duration claimTtl;
+    private final Duration resultTtl;
+    private final Executor pollExecutor;
+
+    private final Map<String, CompletableFuture<QuizGenerationResponse>> flights = new ConcurrentHashMap<>();
+    private final Map<String, RemoteWait> remoteWaits = new ConcurrentHashMap<>();
+
+    private final Counter upstreamCounter;
+    private final Counter localSavedCounter;
+    private final Counter clusterSavedCounter;
+    private final Counter fallbackCounter;
+
+    public QuizGenerationSingleFlight(GPTQuizService gptQuizService,
+                                      RedisTemplate<String, String> redisTemplate,
+                                      RedisMessageListenerContainer listenerContainer,
+                                      MeterRegistry meterRegistry,
+                                      @Value("${quizzle.quiz.single-flight.claim-ttl-seconds:120}") long claimTtlSeconds,
+                                      @Value("${quizzle.quiz.single-flight.result-ttl-seconds:30}") long resultTtlSeconds,
+                                      @Value("${quizzle.quiz.single-flight.poll-interval-ms:1000}") long pollIntervalMillis) {
+        this.gptQuizService = gptQuizService;
+        this.redisTemplate = redisTemplate;
+        this.listenerContainer = listenerContainer;
+        this.claimTtl = Duration.ofSeconds(claimTtlSeconds);
+        this.resultTtl = Duration.ofSeconds(resultTtlSeconds);
+        this.pollExecutor = CompletableFuture.delayedExecutor(pollIntervalMillis, TimeUnit.MILLISECONDS);
+
+        this.upstreamCounter = Counter.builder("quiz.generation.upstream")
+                .description("실제로 GPT 를 호출한 퀴즈 생성 수")
+                .register(meterRegistry);
+        this.localSavedCounter = Counter.builder("quiz.generation.upstream.saved")
+                .tag("scope", "local")
+                .description("같은 노드의 진행 중인 생성을 함께 사용하여 절약한 호출 수")
+                .register(meterRegistry);
+        this.clusterSavedCounter = Counter.builder("quiz.generation.upstream.saved")
+                .tag("scope", "cluster")
+                .description("다른 노드의 생성 결과를 받아 절약한 호출 수")
+                .register(meterRegistry);
+        this.fallbackCounter = Counter.builder("quiz.generation.fallback")
+                .description("다른 노드의 생성이 실패하거나 늦어 직접 생성한 수")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void init() {
+        listenerContainer.addMessageListener(this, new ChannelTopic(DONE_CHANNEL));
+        log.debug("퀴즈 생성 완료 채널 구독 완료: {}", DONE_CHANNEL);
+    }
+
+    /**
+     * 같은 조건의 생성이 진행 중이면 그 결과를, 아니면 새로 생성한 결과를 돌려줍니다.
+     * 돌려받은 future 를 취소하거나 완료시켜도 다른 호출자에게는 영향이 없습니다.
+     */
+    public CompletableFuture<QuizGenerationResponse> generate(QuizGenerationRequest request) {
+        String key = flightKey(request);
+        CompletableFuture<QuizGenerationResponse> created = new CompletableFuture<>();
+        CompletableFuture<QuizGenerationResponse> flight = flights.putIfAbsent(key, created);
+        if (flight != null) {
+            localSavedCounter.increment();
+            log.debug("진행 중인 퀴즈 생성에 합류: {}", key);
+            return flight.copy();
+        }
+
+        created.whenComplete((response, throwable) -> flights.remove(key, created));
+        if (claim(key)) {
+            lead(key, request, created);
+        } else {
+            follow(key, request, created);
+        }
+        return created.copy();
+    }
+
+    @Override
+    public void onMessage(@NonNull Message message, byte[] pattern) {
+        String key = new String(message.getBody(), StandardCharsets.UTF_8);
+        RemoteWait wait = remoteWaits.remove(key);
+        if (wait == null) {
+            return;
+        }
+
+        QuizGenerationResponse response = parseResult(key, readResult(key));
+        if (response != null) {
+            clusterSavedCounter.increment();
+            wait.flight().complete(response);
+        } else {
+            // 호출한 노드가 실패했으므로 결과를 기다리던 노드가 직접 생성합니다.
+            fallback(key, wait);
+        }
+    }
+
+    private boolean claim(String key) {
+        try {
+            return Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(CLAIM_KEY_PREFIX + key, nodeId, claimTtl));
+        } catch (Exception e) {
+            // Redis 를 쓸 수 없으면 노드 내부 합치기만 하고 직접 생성합니다.
+            log.warn("퀴즈 생성 클레임 실패, 직접 생성: {}, {}", key, e.getMessage());
+            return true;
+        }
+    }
+
+    private void lead(String key, QuizGenerationRequest request, CompletableFuture<QuizGenerationResponse> flight) {
+        upstream(request).whenComplete((response, throwable) -> {
+            try {
+                share(key, response);
+            } catch (Exception e) {
+                log.warn("퀴즈 생성 결과 공유 실패: {}, {}", key, e.getMessage());
+            }
+            if (throwable != null) {
+                flight.completeExceptionally(throwable);
+            } else {
+                flight.complete(response);
+            }
+        });
+    }
+
+    /**
+     * 결과를 잠시 남겨 두고 기다리는 노드에 알립니다. 실패한 경우에는 실패 표시를 남겨, 알림을 놓친 노드도 다음 확인 때 직접 생성하게 합니다.
+     * 클레임은 TTL 로도 풀리므로, 드물게 남의 클레임을 지우더라도 호출이 한 번 더 일어날 뿐입니다.
+     */
+    private void share(String key, QuizGenerationResponse response) throws JsonProcessingException {
+        if (response != null) {
+            redisTemplate.opsForValue().set(RESULT_KEY_PREFIX + key, objectMapper.writeValueAsString(response), resultTtl);
+        } else {
+            redisTemplate.opsForValue().set(RESULT_KEY_PREFIX + key, FAILED_MARKER, FAILED_MARKER_TTL);
+        }
+        redisTemplate.delete(CLAIM_KEY_PREFIX + key);
+        redisTemplate.convertAndSend(DONE_CHANNEL, key);
+    }
+
+    private void follow(String key, QuizGenerationRequest request, CompletableFuture<QuizGenerationResponse> flight) {
+        RemoteWait wait = new RemoteWait(request, flight, System.currentTimeMillis() + claimTtl.toMillis());
+        remoteWaits.put(key, wait);
+
+        // 구독 등록 전에 이미 끝났을 수 있으므로 결과를 한 번 확인합니다.
+        if (check(key, wait)) {
+            return;
+        }
+
+        log.debug("다른 노드의 퀴즈 생성 대기: {}", key);
+        pollExecutor.execute(() -> poll(key, wait));
+    }
+
+    private void poll(String key, RemoteWait wait) {
+        if (remoteWaits.get(key) != wait || check(key, wait)) {
+            return;
+        }
+        if (System.currentTimeMillis() >= wait.deadline()) {
+            if (remoteWaits.remove(key, wait)) {
+                log.warn("다른 노드의 퀴즈 생성 대기 시간 초과, 직접 생성: {}", key);
+                fallback(key, wait);
+            }
+            return;
+        }
+        pollExecutor.execute(() -> poll(key, wait));
+    }
+
+    /**
+     * 결과 자리와 클레임을 확인하여 기다림을 끝낼 수 있으면 끝냅니다.
+     * 결과가 있으면 그 결과로, 실패 표시가 있거나 결과 없이 클레임이 사라졌으면 직접 생성하여 완료합니다.
+     *
+     * @return 기다림을 끝냈으면 true
+     */
+    private boolean check(String key, RemoteWait wait) {
+        String result = readResult(key);
+        QuizGenerationResponse response = parseResult(key, result);
+        if (response != null) {
+            if (remoteWaits.remove(key, wait)) {
+                clusterSavedCounter.increment();
+                wait.flight().complete(response);
+            }
+            return true;
+        }
+        if (FAILED_MARKER.equals(result) || (result == null && !claimExists(key))) {
+            if (remoteWaits.remove(key, wait)) {
+                log.debug("다른 노드의 퀴즈 생성 실패 또는 중단, 직접 생성: {}", key);
+                fallback(key, wait);
+            }
+            return true;
+        }
+        return false;
+    }
+
+    private boolean claimExists(String key) {
+        try {
+            return Boolean.TRUE.equals(redisTemplate.hasKey(CLAIM_KEY_PREFIX + key));
+        } catch (Exception e) {
+            log.warn("퀴즈 생성 클레임 확인 실패: {}, {}", key, e.getMessage());
+            return true;
+        }
+    }
+
+    private void fallback(String key, RemoteWait wait) {
+        fallbackCounter.increment();
+        upstream(wait.request()).whenComplete((response, throwable) -> {
+            if (throwable != null) {
+                wait.flight().completeExceptionally(throwable);
+            } else {
+                wait.flight().complete(response);
+            }
+        });
+    }
+
+    private CompletableFuture<QuizGenerationResponse> upstream(QuizGenerationRequest request) {
+        upstreamCounter.increment();
+        try {
+            return gptQuizService.generateQuizAsync(request);
+        } catch (Exception e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    private String readResult(String key) {
+        try {
+            return redisTemplate.opsForValue().get(RESULT_KEY_PREFIX + key);
+        } catch (Exception e) {
+            log.warn("퀴즈 생성 결과 조회 실패: {}, {}", key, e.getMessage());
+            return null;
+        }
+    }
+
+    private QuizGenerationResponse parseResult(String key, String result) {
+        if (result == null || FAILED_MARKER.equals(result)) {
+            return null;
+        }
+        try {
+            return objectMapper.readValue(result, QuizGenerationResponse.class);
+        } catch (Exception e) {
+            log.warn("퀴즈 생성 결과 해석 실패: {}, {}", key, e.getMessage());
+            return null;
+        }
+    }
+
+    static String flightKey(QuizGenerationRequest request) {
+        return String.join(":",
+                String.valueOf(request.mainCategory()),
+                String.valueOf(request.subCategory()),
+                String.valueOf(request.answerType()),
+                String.valueOf(request.difficulty()),
+                String.valueOf(request.problemCount()));
+    }
+
+    private record RemoteWait(QuizGenerationRequest request, CompletableFuture<QuizGenerationResponse> flight,
+                              long deadline) {
+    }
+}
@@ -1,90 +1,58 @@
 package com.ll.quizzle.domain.quiz.service;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import com.ll.quizzle.domain.quiz.dto.response.QuizResultResponse;
-import org.springframework.data.redis.core.RedisTemplate;
+import com.ll.quizzle.domain.quiz.entity.Quiz;
+import com.ll.quizzle.domain.quiz.repository.QuizRepository;
 import org.springframework.stereotype.Service;
 
-import java.util.*;
-import java.util.stream.Collectors;
+import java.time.Duration;
+import java.util.List;
 
 @Service
 public class QuizResultService {
 
-    private final RedisTemplate<String, Object> redisTemplate;
-    private static final int SCORE_PER_CORRECT = 10;
+    private static final Duration MISS_TTL = Duration.ofSeconds(3);
 
-    public QuizResultService(RedisTemplate<String, Object> redisTemplate) {
-        this.redisTemplate = redisTemplate;
-    }
+    private final QuizScoreboardService scoreboardService;
+    private final QuizRepository quizRepository;
 
-    public List<QuizResultResponse> getQuizResults(String quizId) {
-        String pattern = String.format("quiz:%s:memberId:*:submissions", quizId);
-        Set<String> keys = redisTemplate.keys(pattern);
+    // 정산된 스냅샷은 바뀌지 않으므로 무효화 없이 노드 로컬에 보관합니다.
+    private final Cache<String, List<QuizResultResponse>> snapshots = Caffeine.newBuilder()
+            .maximumSize(1_000)
+            .expireAfterAccess(Duration.ofMinutes(30))
+            .build();
 
-        List<QuizResultResponse> results = new ArrayList<>();
-        if (keys != null) {
-            for (String key : keys) {
-                QuizResultResponse result = processSubmissionKey(key);
-                if (result != null) {
-                    results.add(result);
-                }
-            }
-        }
-        return assignRanks(results);
-    }
-
-    private QuizResultResponse processSubmissionKey(String key) {
-        String memberId = extractUserIdFromKey(key);
-        if (memberId == null) {
-            return null;
-        }
-        List<Object> submissions = redisTemplate.opsForList().range(key, 0, -1);
-        int score = calculateScore(submissions);
-        int totalQuestions = submissions != null ? submissions.size() : 0;
-        int correctCount = score / SCORE_PER_CORRECT;
+    // 정산 전 퀴즈는 결과 조회마다 DB 를 읽지 않도록, 스냅샷이 없다는 사실을 잠깐 기억합니다.
+    private final Cache<String, Boolean> misses = Caffeine.newBuilder()
+            .maximumSize(10_000)
+            .expireAfterWrite(MISS_TTL)
+            .build();
 
-        // 초기 랭크는 0으로 설정
-        return new QuizResultResponse(memberId, correctCount, totalQuestions, score, 0, score);
+    public QuizResultService(QuizScoreboardService scoreboardService, QuizRepository quizRepository) {
+        this.scoreboardService = scoreboardService;
+        this.quizRepository = quizRepository;
     }
 
-    private List<QuizResultResponse> assignRanks(List<QuizResultResponse> results) {
-        List<QuizResultResponse> sortedResults = results.stream()
-                .sorted(Comparator.comparingInt(QuizResultResponse::score).reversed())
-                .collect(Collectors.toList());
-
-        List<QuizResultResponse> rankedResults = new ArrayList<>();
-        for (int i = 0; i < sortedResults.size(); i++) {
-            QuizResultResponse oldResult = sortedResults.get(i);
-            QuizResultResponse newResult = new QuizResultResponse(
-                    oldResult.memberId(),
-                    oldResult.correctCount(),
-                    oldResult.totalQuestions(),
-                    oldResult.score(),
-                    i + 1,
-                    oldResult.exp()
-            );
-            rankedResults.add(newResult);
+    /**
+     * 정산된 퀴즈는 저장된 스냅샷을, 아직 정산 전인 퀴즈는 실시간 점수판을 돌려줍니다.
+     * 조회만 하며 경험치는 QuizSettlementService 가 quizEnd 시점에 한 번만 반영합니다.
+     */
+    public List<QuizResultResponse> getQuizResults(String quizId) {
+        if (misses.getIfPresent(quizId) == null) {
+            List<QuizResultResponse> snapshot = snapshots.get(quizId, this::loadSnapshot);
+            if (snapshot != null) {
+                return snapshot;
+            }
+            misses.put(quizId, Boolean.TRUE);
         }
-        return rankedResults;
+        return scoreboardService.getRanking(quizId);
     }
 
-    private String extractUserIdFromKey(String key) {
-        String[] parts = key.split(":");
-        return parts.length >= 4 ? parts[3] : null;
-    }
-
-    private int calculateScore(List<Object> submissions) {
-        int correctCount = 0;
-        if (submissions != null) {
-            for (Object submission : submissions) {
-                String[] tokens = submission.toString().split(":");
-                // 유효한 제출 문자열 형식은 " 질문ID:답변:상태"
-                // token[0] : 질문ID , token[1] : 제출한 답 , token[2] : 제출한 상태 ( correct)
-                if (tokens.length == 3 && "correct".equals(tokens[2])) {
-                    correctCount++;
-                }
-            }
-        }
-        return correctCount * SCORE_PER_CORRECT;
+    private List<QuizResultResponse> loadSnapshot(String quizId) {
+        return quizRepository.findByQuizId(quizId)
+                .map(Quiz::toResponses)
+                .orElse(null);
     }
 }
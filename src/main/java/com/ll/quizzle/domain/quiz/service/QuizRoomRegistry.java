@@ -0,0 +1,101 @@
+package com.ll.quizzle.domain.quiz.service;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.ll.quizzle.global.actor.RoomCommandExecutor;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 생성된 퀴즈가 어느 방의 퀴즈이고 누가 만들었는지 quiz:{quizId}:owner 해시에 기록합니다.
+ * quizId 는 생성할 때 발급한 UUID 이거나(스트리밍 생성에서 방을 지정한 경우) 방 ID 이므로, 방은 quizId 에서 알 수 없고 이 기록으로 찾습니다.
+ * - 라운드 시작: 방 퀴즈는 그 방의 방장만, 방이 없는 퀴즈는 만든 회원만 시작할 수 있습니다.
+ * - 방 명령 순서: 방 퀴즈의 제출은 방 ID 로 액터를 정해 그 방의 다른 명령과 순서대로 처리합니다.
+ * 한 번 기록한 방은 바뀌지 않으므로 노드 로컬에 퀴즈 TTL 동안 보관하여 찾을 때마다 Redis 를 읽지 않습니다.
+ */
+@Slf4j
+@Service
+public class QuizRoomRegistry {
+
+    private static final Duration QUIZ_TTL = Duration.ofMinutes(30);
+    private static final String ROOM_ID = "roomId";
+    private static final String CREATOR_ID = "creatorId";
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final Cache<String, Long> rooms = Caffeine.newBuilder()
+            .maximumSize(10_000)
+            .expireAfterWrite(QUIZ_TTL)
+            .build();
+
+    public QuizRoomRegistry(RedisTemplate<String, String> redisTemplate) {
+        this.redisTemplate = redisTemplate;
+    }
+
+    /**
+     * 퀴즈의 방과 만든 회원을 기록합니다. 둘 다 없으면 기록하지 않습니다.
+     */
+    public void bind(String quizId, Long roomId, Long creatorId) {
+        Map<String, String> owner = new HashMap<>();
+        if (roomId != null) {
+            owner.put(ROOM_ID, String.valueOf(roomId));
+        }
+        if (creatorId != null) {
+            owner.put(CREATOR_ID, String.valueOf(creatorId));
+        }
+        if (owner.isEmpty()) {
+            return;
+        }
+        redisTemplate.opsForHash().putAll(ownerKey(quizId), owner);
+        redisTemplate.expire(ownerKey(quizId), QUIZ_TTL);
+        rooms.invalidate(quizId);
+        log.debug("퀴즈 소유 기록: quizId={}, roomId={}, creatorId={}", quizId, roomId, creatorId);
+    }
+
+    public Optional<Long> roomOf(String quizId) {
+        Long cached = rooms.getIfPresent(quizId);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+        Optional<Long> roomId = read(quizId, ROOM_ID);
+        roomId.ifPresent(id -> rooms.put(quizId, id));
+        return roomId;
+    }
+
+    public Optional<Long> creatorOf(String quizId) {
+        return read(quizId, CREATOR_ID);
+    }
+
+    /**
+     * 퀴즈 명령을 실행할 액터 키. 방 퀴즈는 방 명령과 같은 액터를, 방이 없는 퀴즈는 퀴즈별 액터를 씁니다.
+     */
+    public String actorKey(String quizId) {
+        return roomOf(quizId)
+                .map(RoomCommandExecutor::roomKey)
+                .orElseGet(() -> "quiz:" + quizId);
+    }
+
+    private Optional<Long> read(String quizId, String field) {
+        Object value = redisTemplate.opsForHash().get(ownerKey(quizId), field);
+        if (value == null) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(Long.valueOf(value.toString()));
+        } catch (NumberFormatException e) {
+            log.warn("잘못된 퀴즈 소유 기록 무시: quizId={}, {}={}", quizId, field, value);
+            return Optional.empty();
+        }
+    }
+
+    private static String ownerKey(String quizId) {
+        return String.format("quiz:%s:owner", quizId);
+    }
+}
@@ -0,0 +1,148 @@
+package com.ll.quizzle.domain.quiz.service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+
+import com.ll.quizzle.domain.member.cache.MemberProfile;
+import com.ll.quizzle.domain.member.cache.MemberProfileCache;
+import com.ll.quizzle.domain.quiz.dto.response.QuizResultResponse;
+import com.ll.quizzle.global.socket.core.MessageServiceFactory;
+import com.ll.quizzle.global.socket.dto.response.WebSocketQuizRankResponse;
+import com.ll.quizzle.global.socket.dto.response.WebSocketQuizRankResponse.RankChange;
+
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 제출 스크립트가 실시간으로 갱신하는 퀴즈 점수판(ZSet)을 읽습니다.
+ * 점수 = 정답 수 * 10^13 + (10^13 - 마지막 정답 시각) 이므로 ZREVRANGE 순서가 곧 순위입니다.
+ */
+@Slf4j
+@Service
+public class QuizScoreboardService {
+
+    public static final int SCORE_PER_CORRECT = 10;
+    private static final double SCORE_UNIT = 1e13;
+    private static final Duration QUIZ_TTL = Duration.ofMinutes(30);
+
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> RANK_DELTA_SCRIPT =
+            new DefaultRedisScript<>(new ClassPathResource("scripts/quiz/rank-delta.lua"), List.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final MemberProfileCache memberProfileCache;
+    private final MessageServiceFactory messageServiceFactory;
+
+    public QuizScoreboardService(RedisTemplate<String, String> redisTemplate,
+                                 MemberProfileCache memberProfileCache,
+                                 MessageServiceFactory messageServiceFactory) {
+        this.redisTemplate = redisTemplate;
+        this.memberProfileCache = memberProfileCache;
+        this.messageServiceFactory = messageServiceFactory;
+    }
+
+    public static String scoreboardKey(String quizId) {
+        return String.format("quiz:%s:scoreboard", quizId);
+    }
+
+    public static String correctKey(String quizId) {
+        return String.format("quiz:%s:correct", quizId);
+    }
+
+    public static String answeredKey(String quizId) {
+        return String.format("quiz:%s:answered", quizId);
+    }
+
+    /**
+     * 점수판 순서대로 결과를 돌려줍니다. 점수판 조회와 제출 수 조회를 한 번의 파이프라인으로 처리합니다.
+     */
+    public List<QuizResultResponse> getRanking(String quizId) {
+        List<Object> results = redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public Object execute(@NonNull RedisOperations operations) throws DataAccessException {
+                operations.opsForZSet().reverseRangeWithScores(scoreboardKey(quizId), 0, -1);
+                operations.opsForHash().entries(answeredKey(quizId));
+                return null;
+            }
+        });
+
+        @SuppressWarnings("unchecked")
+        Set<ZSetOperations.TypedTuple<String>> ranking = (Set<ZSetOperations.TypedTuple<String>>) results.get(0);
+        @SuppressWarnings("unchecked")
+        Map<Object, Object> answered = (Map<Object, Object>) results.get(1);
+
+        List<QuizResultResponse> responses = new ArrayList<>();
+        if (ranking == null) {
+            return responses;
+        }
+
+        int rank = 1;
+        for (ZSetOperations.TypedTuple<String> entry : ranking) {
+            String memberId = entry.getValue();
+            int correctCount = correctCount(entry.getScore());
+            Object answeredCount = answered != null ? answered.get(memberId) : null;
+            int totalQuestions = answeredCount != null ? Integer.parseInt(answeredCount.toString()) : 0;
+            int score = correctCount * SCORE_PER_CORRECT;
+
+            responses.add(new QuizResultResponse(memberId, correctCount, totalQuestions, score, rank++, score));
+        }
+        return responses;
+    }
+
+    /**
+     * 직전 라운드 대비 순위 변화를 계산하여 퀴즈 구독자에게 전송합니다. 바뀐 회원이 없으면 전송하지 않습니다.
+     */
+    public void publishRankDelta(String quizId, int questionNumber) {
+        List<?> result = redisTemplate.execute(
+                RANK_DELTA_SCRIPT,
+                List.of(scoreboardKey(quizId), String.format("quiz:%s:ranks", quizId)),
+                String.valueOf(QUIZ_TTL.toSeconds())
+        );
+        if (result == null || result.isEmpty()) {
+            return;
+        }
+
+        List<Long> memberIds = new ArrayList<>();
+        for (int i = 0; i < result.size(); i += 4) {
+            memberIds.add(Long.valueOf(result.get(i).toString()));
+        }
+        Map<Long, MemberProfile> profiles = memberProfileCache.getAll(memberIds);
+
+        List<RankChange> changes = new ArrayList<>();
+        for (int i = 0; i < result.size(); i += 4) {
+            String memberId = result.get(i).toString();
+            int correctCount = Integer.parseInt(result.get(i + 3).toString());
+            MemberProfile profile = profiles.get(Long.valueOf(memberId));
+            changes.add(new RankChange(
+                    memberId,
+                    profile != null ? profile.nickname() : memberId,
+                    Integer.parseInt(result.get(i + 1).toString()),
+                    Integer.parseInt(result.get(i + 2).toString()),
+                    correctCount,
+                    correctCount * SCORE_PER_CORRECT
+            ));
+        }
+
+        messageServiceFactory.getRoomService().send("/topic/quiz/" + quizId + "/updates",
+                WebSocketQuizRankResponse.of(quizId, questionNumber, changes));
+        log.debug("순위 변화 전송: quizId={}, 문제={}, 변경={} 명", quizId, questionNumber, changes.size());
+    }
+
+    private static int correctCount(Double score) {
+        return score == null ? 0 : (int) Math.floor(score / SCORE_UNIT);
+    }
+}
@@ -0,0 +1,149 @@
+package com.ll.quizzle.domain.quiz.service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.PatternTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.ll.quizzle.domain.member.service.MemberExpService;
+import com.ll.quizzle.domain.quiz.dto.response.QuizResultResponse;
+import com.ll.quizzle.domain.quiz.entity.Quiz;
+import com.ll.quizzle.domain.quiz.repository.QuizRepository;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 퀴즈가 끝나면 결과를 한 번만 정산합니다.
+ * - 모든 노드가 quiz:{quizId}:notifications 의 quizEnd 를 받지만, quiz:{quizId}:settlement 를 SET NX 로 선점한 노드만 정산합니다.
+ * - 점수판으로 최종 순위를 계산해 Quiz 스냅샷으로 저장하고, 같은 트랜잭션에서 경험치와 레벨업 보상을 일괄 반영합니다.
+ * - 이미 스냅샷이 있는 퀴즈는 다시 정산하지 않으므로, 선점 키가 만료된 뒤 이벤트가 다시 와도 보상이 중복 지급되지 않습니다.
+ * - 정산 트랜잭션은 Redis 리스너 스레드를 막지 않도록 정산 전용 스레드에서 실행합니다.
+ */
+@Slf4j
+@Service
+public class QuizSettlementService implements MessageListener {
+
+    private static final String NOTIFICATION_PATTERN = "quiz:*:notifications";
+    private static final String QUIZ_END_EVENT = "quizEnd";
+    private static final Duration CLAIM_TTL = Duration.ofMinutes(30);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final QuizScoreboardService scoreboardService;
+    private final QuizRepository quizRepository;
+    private final MemberExpService memberExpService;
+    private final TransactionTemplate transactionTemplate;
+    private final ExecutorService worker;
+
+    public QuizSettlementService(RedisTemplate<String, String> redisTemplate,
+                                 RedisMessageListenerContainer listenerContainer,
+                                 QuizScoreboardService scoreboardService,
+                                 QuizRepository quizRepository,
+                                 MemberExpService memberExpService,
+                                 TransactionTemplate transactionTemplate) {
+        this.redisTemplate = redisTemplate;
+        this.listenerContainer = listenerContainer;
+        this.scoreboardService = scoreboardService;
+        this.quizRepository = quizRepository;
+        this.memberExpService = memberExpService;
+        this.transactionTemplate = transactionTemplate;
+        this.worker = Executors.newSingleThreadExecutor(new CustomizableThreadFactory("quiz-settlement-"));
+    }
+
+    @PostConstruct
+    public void init() {
+        listenerContainer.addMessageListener(this, new PatternTopic(NOTIFICATION_PATTERN));
+        log.debug("퀴즈 정산 채널 구독 완료: {}", NOTIFICATION_PATTERN);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        worker.shutdown();
+    }
+
+    public static String settlementKey(String quizId) {
+        return String.format("quiz:%s:settlement", quizId);
+    }
+
+    @Override
+    public void onMessage(@NonNull Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        if (!body.contains(QUIZ_END_EVENT)) {
+            return;
+        }
+
+        String channel = new String(message.getChannel(), StandardCharsets.UTF_8);
+        String quizId = channel.substring("quiz:".length(), channel.length() - ":notifications".length());
+        worker.execute(() -> settleOnce(quizId));
+    }
+
+    /**
+     * 선점에 성공한 경우에만 정산합니다. 정산에 실패하면 선점을 풀어 다음 이벤트에서 다시 시도할 수 있게 합니다.
+     */
+    public void settleOnce(String quizId) {
+        Boolean claimed = redisTemplate.opsForValue().setIfAbsent(settlementKey(quizId), "1", CLAIM_TTL);
+        if (!Boolean.TRUE.equals(claimed)) {
+            log.debug("다른 노드가 정산 중이거나 정산을 마친 퀴즈: quizId={}", quizId);
+            return;
+        }
+
+        try {
+            settle(quizId);
+        } catch (Exception e) {
+            redisTemplate.delete(settlementKey(quizId));
+            log.error("퀴즈 정산 실패: quizId={}, {}", quizId, e.getMessage(), e);
+        }
+    }
+
+    private void settle(String quizId) {
+        List<QuizResultResponse> ranking = scoreboardService.getRanking(quizId).stream()
+                .filter(result -> isMemberId(result.memberId()))
+                .toList();
+        if (ranking.isEmpty()) {
+            log.debug("정산할 결과가 없는 퀴즈: quizId={}", quizId);
+            return;
+        }
+
+        Map<Long, Integer> expByMemberId = new LinkedHashMap<>();
+        for (QuizResultResponse result : ranking) {
+            expByMemberId.put(Long.valueOf(result.memberId()), result.exp());
+        }
+
+        transactionTemplate.executeWithoutResult(status -> {
+            if (quizRepository.existsByQuizId(quizId)) {
+                log.debug("이미 정산된 퀴즈: quizId={}", quizId);
+                return;
+            }
+            quizRepository.save(Quiz.settle(quizId, ranking));
+            memberExpService.applyQuizRewards(expByMemberId);
+        });
+        log.debug("퀴즈 정산 완료: quizId={}, 참가자={} 명", quizId, ranking.size());
+    }
+
+    private static boolean isMemberId(String memberId) {
+        if (memberId == null || memberId.isEmpty()) {
+            return false;
+        }
+        for (int i = 0; i < memberId.length(); i++) {
+            if (!Character.isDigit(memberId.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
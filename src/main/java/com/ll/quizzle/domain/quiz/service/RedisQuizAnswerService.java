@@ -1,52 +1,205 @@
 package com.ll.quizzle.domain.quiz.service;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.ll.quizzle.domain.quiz.cache.QuizAnswerKeyCache;
+import com.ll.quizzle.domain.quiz.document.QuizDocument;
+import com.ll.quizzle.domain.quiz.document.QuizDocumentFormat;
+import com.ll.quizzle.domain.quiz.document.QuizDocumentStore;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisOperations;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
 import org.springframework.stereotype.Service;
 
 import java.time.Duration;
-import java.util.LinkedHashMap;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 
+/**
+ * 생성된 퀴즈를 Redis 에 저장합니다.
+ * 기본 형식은 퀴즈 한 벌을 값 하나에 담은 이진 문서(QuizDocument)로, 한 번의 SET 으로 저장합니다.
+ * 형식을 옮기는 동안에는 quizzle.quiz.document.write-format 으로 기존 목록 형식을 함께(dual) 또는 단독으로(list) 쓸 수 있습니다.
+ */
 @Service
 public class RedisQuizAnswerService {
 
     private static final Logger log = LoggerFactory.getLogger(RedisQuizAnswerService.class);
 
-    @Autowired
-    private RedisTemplate<String, Object> redisTemplate;
-
     private static final Duration QUIZ_TTL = Duration.ofMinutes(30);
 
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final QuizAnswerKeyCache answerKeyCache;
+    private final QuizDocumentStore quizDocumentStore;
+    private final QuizDocumentFormat writeFormat;
+
+    // 스트리밍 생성 중인 퀴즈 문서. 문제가 하나 저장될 때마다 이 문서를 고쳐 통째로 다시 씁니다.
+    private final Cache<String, QuizDocument> drafts = Caffeine.newBuilder()
+            .expireAfterWrite(QUIZ_TTL)
+            .build();
+
+    public RedisQuizAnswerService(RedisTemplate<String, Object> redisTemplate,
+                                  QuizAnswerKeyCache answerKeyCache,
+                                  QuizDocumentStore quizDocumentStore,
+                                  @Value("${quizzle.quiz.document.write-format:binary}") String writeFormat) {
+        this.redisTemplate = redisTemplate;
+        this.answerKeyCache = answerKeyCache;
+        this.quizDocumentStore = quizDocumentStore;
+        this.writeFormat = QuizDocumentFormat.valueOf(writeFormat.trim().toUpperCase());
+    }
+
     public String saveQuiz(String quizId, Map<Integer, String> quizTextMap, Map<Integer, String> answerMap) {
         if (quizId == null || quizId.trim().isEmpty()) {
             quizId = UUID.randomUUID().toString();
         }
-        String redisKey = String.format("quiz:%s", quizId);
 
-        String questionListKey = String.format("%s:questions", redisKey);
-        quizTextMap.entrySet().stream()
-                .sorted(Map.Entry.comparingByKey())
-                .forEachOrdered(entry -> {
+        if (writeFormat.writesBinary()) {
+            quizDocumentStore.write(quizId, QuizDocument.of(quizTextMap, answerMap), QUIZ_TTL);
+        }
+        if (writeFormat.writesList()) {
+            List<Object> questionEntries = new ArrayList<>(quizTextMap.size());
+            quizTextMap.entrySet().stream()
+                    .sorted(Map.Entry.comparingByKey())
                     // 저장 시 "번호: 질문내용" 형식
-                    String questionEntry = String.format("%d: %s\n", entry.getKey(), entry.getValue().trim());
-                    redisTemplate.opsForList().rightPush(questionListKey, questionEntry);
-                });
-        redisTemplate.expire(questionListKey, QUIZ_TTL);
-
-        String answerListKey = String.format("%s:answers", redisKey);
-        answerMap.entrySet().stream()
-                .sorted(Map.Entry.comparingByKey())
-                .forEachOrdered(entry -> {
-                    String entryValue = String.format("%d:%s", entry.getKey(), entry.getValue());
-                    redisTemplate.opsForList().rightPush(answerListKey, entryValue);
-                });
-        redisTemplate.expire(answerListKey, QUIZ_TTL);
+                    .forEachOrdered(entry -> questionEntries.add(
+                            String.format("%d: %s\n", entry.getKey(), entry.getValue().trim())));
+            List<Object> answerEntries = new ArrayList<>(answerMap.size());
+            answerMap.entrySet().stream()
+                    .sorted(Map.Entry.comparingByKey())
+                    .forEachOrdered(entry -> answerEntries.add(String.format("%d:%s", entry.getKey(), entry.getValue())));
+            writeLists(quizId, questionEntries, answerEntries);
+        }
+
+        // 같은 퀴즈 ID 로 다시 저장된 경우 이전에 파싱해 둔 정답표를 모든 노드에서 버립니다.
+        answerKeyCache.invalidate(quizId);
 
         return quizId;
     }
 
-}
\ No newline at end of file
+    /**
+     * 스트리밍 생성을 시작하기 전에 요청한 문제 수만큼 빈 자리를 만들어 둡니다.
+     * 정답표의 전체 문제 수가 처음부터 확정되므로, 뒤쪽 문제가 생성되는 중에 라운드가 진행되어도 퀴즈가 일찍 끝나지 않습니다.
+     * 아직 채워지지 않은 자리는 정답 형식 오류로 취급되어 채점되지 않습니다.
+     */
+    public void reserveQuiz(String quizId, int problemCount) {
+        if (writeFormat.writesBinary()) {
+            QuizDocument document = QuizDocument.reserved(problemCount);
+            drafts.put(quizId, document);
+            quizDocumentStore.write(quizId, document, QUIZ_TTL);
+        }
+        if (writeFormat.writesList()) {
+            List<Object> questionPlaceholders = new ArrayList<>(problemCount);
+            List<Object> answerPlaceholders = new ArrayList<>(problemCount);
+            for (int number = 1; number <= problemCount; number++) {
+                questionPlaceholders.add(String.format("%d: \n", number));
+                answerPlaceholders.add(String.format("%d:", number));
+            }
+            writeLists(quizId, questionPlaceholders, answerPlaceholders);
+        }
+        answerKeyCache.invalidate(quizId);
+    }
+
+    /**
+     * 스트리밍으로 완성된 문제 하나를 reserveQuiz 로 만들어 둔 자리에 저장합니다.
+     * 정답표가 바뀌었으므로 모든 노드의 캐시를 무효화하여 다음 채점부터 새 정답이 반영되게 합니다.
+     * 한 퀴즈의 문제는 생성 중인 노드에서 차례로 저장되므로, 그 노드가 가진 문서를 고쳐 다시 씁니다.
+     */
+    public void saveQuestion(String quizId, int questionNumber, String questionText, String answer) {
+        if (writeFormat.writesBinary()) {
+            QuizDocument document = draft(quizId).withQuestion(questionNumber, questionText, answer);
+            quizDocumentStore.write(quizId, document, QUIZ_TTL);
+            if (document.isComplete()) {
+                drafts.invalidate(quizId);
+            } else {
+                drafts.put(quizId, document);
+            }
+        }
+        if (writeFormat.writesList()) {
+            String questionListKey = questionListKey(quizId);
+            String answerListKey = answerListKey(quizId);
+            String questionEntry = String.format("%d: %s\n", questionNumber, questionText.trim());
+            String answerEntry = String.format("%d:%s", questionNumber, answer);
+
+            redisTemplate.executePipelined(new SessionCallback<Object>() {
+                @Override
+                @SuppressWarnings("unchecked")
+                public Object execute(RedisOperations operations) throws DataAccessException {
+                    operations.opsForList().set(questionListKey, questionNumber - 1, questionEntry);
+                    operations.opsForList().set(answerListKey, questionNumber - 1, answerEntry);
+                    return null;
+                }
+            });
+        }
+        answerKeyCache.invalidate(quizId);
+    }
+
+    /**
+     * 생성된 문제가 요청보다 적으면 남은 빈 자리를 잘라내어 전체 문제 수를 실제 생성된 수에 맞춥니다.
+     */
+    public void truncateQuiz(String quizId, int questionCount) {
+        if (writeFormat.writesBinary()) {
+            QuizDocument document = draft(quizId).truncate(questionCount);
+            drafts.invalidate(quizId);
+            if (questionCount == 0) {
+                quizDocumentStore.delete(quizId);
+            } else {
+                quizDocumentStore.write(quizId, document, QUIZ_TTL);
+            }
+        }
+        if (writeFormat.writesList()) {
+            if (questionCount == 0) {
+                redisTemplate.delete(List.of(questionListKey(quizId), answerListKey(quizId)));
+            } else {
+                redisTemplate.opsForList().trim(questionListKey(quizId), 0, questionCount - 1L);
+                redisTemplate.opsForList().trim(answerListKey(quizId), 0, questionCount - 1L);
+            }
+        }
+        answerKeyCache.invalidate(quizId);
+        log.debug("스트리밍 생성 퀴즈 문제 수 조정: quizId={}, 문제 수={}", quizId, questionCount);
+    }
+
+    /**
+     * 생성 중인 문서를 돌려줍니다. 로컬 사본이 만료되었으면 Redis 에 저장된 문서를 읽어 이어갑니다.
+     */
+    private QuizDocument draft(String quizId) {
+        return drafts.get(quizId, id -> quizDocumentStore.read(id).orElseGet(() -> QuizDocument.reserved(0)));
+    }
+
+    /**
+     * 목록 두 개를 새로 만들고 TTL 을 거는 명령을 한 번의 파이프라인으로 보냅니다.
+     */
+    private void writeLists(String quizId, List<Object> questionEntries, List<Object> answerEntries) {
+        String questionListKey = questionListKey(quizId);
+        String answerListKey = answerListKey(quizId);
+
+        redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public Object execute(RedisOperations operations) throws DataAccessException {
+                operations.delete(List.of(questionListKey, answerListKey));
+                if (!questionEntries.isEmpty()) {
+                    operations.opsForList().rightPushAll(questionListKey, questionEntries);
+                }
+                if (!answerEntries.isEmpty()) {
+                    operations.opsForList().rightPushAll(answerListKey, answerEntries);
+                }
+                operations.expire(questionListKey, QUIZ_TTL);
+                operations.expire(answerListKey, QUIZ_TTL);
+                return null;
+            }
+        });
+    }
+
+    private static String questionListKey(String quizId) {
+        return String.format("quiz:%s:questions", quizId);
+    }
+
+    private static String answerListKey(String quizId) {
+        return String.format("quiz:%s:answers", quizId);
+    }
+}
@@ -0,0 +1,109 @@
+package com.ll.quizzle.domain.quiz.service;
+
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.stereotype.Service;
+
+import com.ll.quizzle.domain.quiz.dto.request.QuizGenerationRequest;
+import com.ll.quizzle.domain.quiz.dto.response.QuizGenerationResponse;
+import com.ll.quizzle.domain.quiz.parser.StreamingQuizParser.ParsedQuestion;
+import com.ll.quizzle.global.exceptions.ErrorCode;
+import com.ll.quizzle.global.exceptions.ServiceException;
+import com.ll.quizzle.global.socket.core.MessageServiceFactory;
+import com.ll.quizzle.global.socket.dto.response.WebSocketQuizQuestionResponse;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 퀴즈를 스트리밍으로 생성하면서 완성된 문제부터 Redis 에 저장하고 /topic/quiz/{quizId}/updates 로 알립니다.
+ * 첫 문제가 저장되는 즉시 라운드 1 을 시작할 수 있으며, 뒤쪽 문제는 게임이 진행되는 동안 계속 채워집니다.
+ * 생성이 끝나면(실패 포함) 1번부터 끊김 없이 완성된 문제 수로 전체 문제 수를 확정하고 QUIZ_GENERATED 를 전송합니다.
+ */
+@Slf4j
+@Service
+public class StreamingQuizGenerationService {
+
+    private final GPTQuizService gptQuizService;
+    private final RedisQuizAnswerService redisQuizAnswerService;
+    private final MessageServiceFactory messageServiceFactory;
+
+    public StreamingQuizGenerationService(GPTQuizService gptQuizService,
+                                          RedisQuizAnswerService redisQuizAnswerService,
+                                          MessageServiceFactory messageServiceFactory) {
+        this.gptQuizService = gptQuizService;
+        this.redisQuizAnswerService = redisQuizAnswerService;
+        this.messageServiceFactory = messageServiceFactory;
+    }
+
+    /**
+     * 생성을 시작하고 바로 돌아옵니다.
+     * firstQuestion 은 첫 문제가 저장되면, completion 은 생성이 끝나 전체 문제 수가 확정되면 완료됩니다.
+     */
+    public QuizStream generate(String quizId, QuizGenerationRequest request) {
+        int problemCount = request.problemCount();
+        redisQuizAnswerService.reserveQuiz(quizId, problemCount);
+
+        CompletableFuture<ParsedQuestion> firstQuestion = new CompletableFuture<>();
+        Set<Integer> saved = ConcurrentHashMap.newKeySet();
+
+        CompletableFuture<QuizGenerationResponse> completion = gptQuizService.streamQuiz(request, question -> {
+            if (question.number() < 1 || question.number() > problemCount) {
+                log.warn("요청 범위를 벗어난 문제 무시: quizId={}, 문제={}", quizId, question.number());
+                return;
+            }
+            redisQuizAnswerService.saveQuestion(quizId, question.number(), question.text(), question.answer());
+            saved.add(question.number());
+            int ready = saved.size();
+            send(quizId, WebSocketQuizQuestionResponse.ready(quizId, question.number(), question.text(), ready,
+                    problemCount));
+            firstQuestion.complete(question);
+            log.debug("스트리밍 문제 저장: quizId={}, 문제={}, 준비={}/{}", quizId, question.number(), ready, problemCount);
+        }).handle((response, throwable) -> complete(quizId, problemCount, saved, response, throwable, firstQuestion));
+
+        return new QuizStream(quizId, firstQuestion, completion);
+    }
+
+    private QuizGenerationResponse complete(String quizId, int problemCount, Set<Integer> saved,
+                                            QuizGenerationResponse response, Throwable throwable,
+                                            CompletableFuture<ParsedQuestion> firstQuestion) {
+        if (throwable != null) {
+            log.error("스트리밍 퀴즈 생성 실패: quizId={}, 오류={}", quizId, throwable.getMessage());
+        }
+
+        // 실패해도 이미 저장된 문제로 게임을 이어갈 수 있도록 1번부터 연속으로 저장된 문제까지만 남깁니다.
+        int completed = 0;
+        while (completed < problemCount && saved.contains(completed + 1)) {
+            completed++;
+        }
+        if (completed < problemCount) {
+            redisQuizAnswerService.truncateQuiz(quizId, completed);
+        }
+
+        if (completed == 0) {
+            ServiceException failure = new ServiceException(
+                    ErrorCode.QUIZ_GENERATION_FAILED.getHttpStatus(),
+                    ErrorCode.QUIZ_GENERATION_FAILED.getMessage(),
+                    throwable
+            );
+            firstQuestion.completeExceptionally(failure);
+            throw failure;
+        }
+
+        send(quizId, WebSocketQuizQuestionResponse.generated(quizId, completed));
+        log.info("스트리밍 퀴즈 생성 완료: quizId={}, 문제 수={}/{}", quizId, completed, problemCount);
+        return response;
+    }
+
+    private void send(String quizId, WebSocketQuizQuestionResponse message) {
+        messageServiceFactory.getRoomService().send("/topic/quiz/" + quizId + "/updates", message);
+    }
+
+    public record QuizStream(
+            String quizId,
+            CompletableFuture<ParsedQuestion> firstQuestion,
+            CompletableFuture<QuizGenerationResponse> completion
+    ) {
+    }
+}
@@ -3,11 +3,12 @@ package com.ll.quizzle.domain.quiz.util;
 import com.ll.quizzle.domain.quiz.dto.request.QuizGenerationRequest;
 import com.ll.quizzle.domain.room.type.AnswerType;
 
+import java.util.List;
+import java.util.stream.Collectors;
+
 public class QuizPromptBuilder {
     public static String buildPrompt(QuizGenerationRequest request) {
-        String optionText = request.answerType() == AnswerType.MULTIPLE_CHOICE
-                ? "a) 보기1\nb) 보기2\nc) 보기3\nd) 보기4"
-                : "O 또는 X";
+        String optionText = optionText(request);
 
         return String.format(
                 "너는 한국어 전문 퀴즈 생성기야. **절대로 영어 사용 금지**. 인삿말이나 추가 설명 없이 오직 문제와 정답만 출력해.\n" +
@@ -17,4 +18,27 @@ public class QuizPromptBuilder {
                 optionText
         );
     }
+
+    /**
+     * 일부 문제가 빠지거나 정답 줄이 잘못된 응답을 보완할 때 쓰는 프롬프트. 빠진 번호의 문제만 그 번호 그대로 다시 출력하게 합니다.
+     */
+    public static String buildRepairPrompt(QuizGenerationRequest request, List<Integer> missingNumbers) {
+        String numbers = missingNumbers.stream().map(String::valueOf).collect(Collectors.joining(", "));
+
+        return String.format(
+                "너는 한국어 전문 퀴즈 생성기야. **절대로 영어 사용 금지**. 인삿말이나 추가 설명 없이 오직 문제와 정답만 출력해.\n" +
+                        "대분류: %s\n소분류: %s\n문제 유형: %s\n문제 수: %d\n난이도: %s\n" +
+                        "문제 번호: %s (다른 번호는 출력하지 말고, 각 문제는 반드시 정답 줄로 끝내)\n\n" +
+                        "각 문제 형식:\n문제 번호. 문제 내용\n%s\n정답: <정답>",
+                request.mainCategory(), request.subCategory(),
+                request.answerType(), missingNumbers.size(), request.difficulty(),
+                numbers, optionText(request)
+        );
+    }
+
+    private static String optionText(QuizGenerationRequest request) {
+        return request.answerType() == AnswerType.MULTIPLE_CHOICE
+                ? "a) 보기1\nb) 보기2\nc) 보기3\nd) 보기4"
+                : "O 또는 X";
+    }
 }
@@ -1,9 +1,17 @@
 package com.ll.quizzle.domain.room.controller;
 
 import com.ll.quizzle.domain.room.dto.request.RoomCreateRequest;
+import com.ll.quizzle.domain.room.dto.request.RoomLobbyQuery;
 import com.ll.quizzle.domain.room.dto.request.RoomUpdateRequest;
+import com.ll.quizzle.domain.room.dto.response.LobbySnapshotResponse;
+import com.ll.quizzle.domain.room.dto.response.RoomLobbyPageResponse;
 import com.ll.quizzle.domain.room.dto.response.RoomResponse;
 import com.ll.quizzle.domain.room.service.RoomService;
+import com.ll.quizzle.domain.room.type.Difficulty;
+import com.ll.quizzle.domain.room.type.MainCategory;
+import com.ll.quizzle.domain.room.type.RoomStatus;
+import com.ll.quizzle.domain.room.type.SubCategory;
+import com.ll.quizzle.global.actor.RoomCommandExecutor;
 import com.ll.quizzle.global.response.RsData;
 import com.ll.quizzle.global.request.Rq;
 import io.swagger.v3.oas.annotations.Operation;
@@ -11,6 +19,7 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -21,6 +30,7 @@ import java.util.List;
 public class RoomController {
     
     private final RoomService roomService;
+    private final RoomCommandExecutor roomCommandExecutor;
     private final Rq rq;
     
     @PostMapping
@@ -39,6 +49,33 @@ public class RoomController {
         return RsData.success(HttpStatus.OK, responses);
     }
 
+    @GetMapping("/lobby")
+    @Operation(summary = "로비 방 목록 조회", description = "종료되지 않은 방을 최근 생성 순으로 페이지 단위로 조회합니다. 응답의 nextCursor 를 cursor 로 넘기면 다음 페이지를 조회합니다. 각 필터는 생략하면 적용되지 않습니다.")
+    public RsData<RoomLobbyPageResponse> lobbyRooms(
+            @RequestParam(required = false) MainCategory mainCategory,
+            @RequestParam(required = false) SubCategory subCategory,
+            @RequestParam(required = false) Difficulty difficulty,
+            @RequestParam(required = false) RoomStatus status,
+            @RequestParam(required = false) Boolean hasFreeSlot,
+            @RequestParam(required = false) Boolean isPrivate,
+            @RequestParam(required = false) Long cursor,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        RoomLobbyQuery query = new RoomLobbyQuery(mainCategory, subCategory, difficulty, status, hasFreeSlot,
+                isPrivate, cursor, size);
+        return RsData.success(HttpStatus.OK, roomService.getLobbyRooms(query));
+    }
+
+    @GetMapping("/lobby/snapshot")
+    @Operation(summary = "로비 스냅샷 조회", description = "로비에 보이는 전체 방 목록과 그 시점의 로비 버전을 조회합니다. 이후 /topic/lobby 로 오는 변경 중 version 이 스냅샷보다 큰 것을 순서대로 적용하고, 버전이 이어지지 않으면 스냅샷을 다시 조회합니다. ETag 가 같으면 304 를 응답합니다.")
+    public RsData<LobbySnapshotResponse> lobbySnapshot(WebRequest webRequest) {
+        LobbySnapshotResponse snapshot = roomService.getLobbySnapshot();
+        if (webRequest.checkNotModified("\"" + snapshot.version() + "\"")) {
+            return null;
+        }
+        return RsData.success(HttpStatus.OK, snapshot);
+    }
+
     @GetMapping("/{roomId}")
     @Operation(summary = "특정 방 정보 조회", description = "특정 방의 상세 정보를 조회합니다. 로비에서 부분 갱신을 위해 사용됩니다.")
     public RsData<RoomResponse> getRoom(@PathVariable Long roomId) {
@@ -54,7 +91,9 @@ public class RoomController {
             @PathVariable Long roomId,
             @RequestParam(required = false) String password
     ) {
-        roomService.joinRoom(roomId, rq.getActor().getId(), password);
+        Long memberId = rq.getActor().getId();
+        roomCommandExecutor.run(RoomCommandExecutor.roomKey(roomId),
+                () -> roomService.joinRoom(roomId, memberId, password));
     }
     
     @PostMapping("/{roomId}/leave")
@@ -63,7 +102,9 @@ public class RoomController {
     public void leaveRoom(
             @PathVariable Long roomId
     ) {
-        roomService.leaveRoom(roomId, rq.getActor().getId());
+        Long memberId = rq.getActor().getId();
+        roomCommandExecutor.run(RoomCommandExecutor.roomKey(roomId),
+                () -> roomService.leaveRoom(roomId, memberId));
     }
     
     @PostMapping("/{roomId}/ready")
@@ -72,7 +113,9 @@ public class RoomController {
     public void toggleReady(
             @PathVariable Long roomId
     ) {
-        roomService.toggleReady(roomId, rq.getActor().getId());
+        Long memberId = rq.getActor().getId();
+        roomCommandExecutor.run(RoomCommandExecutor.roomKey(roomId),
+                () -> roomService.toggleReady(roomId, memberId));
     }
     
     @PostMapping("/{roomId}/start")
@@ -81,7 +124,9 @@ public class RoomController {
     public void startGame(
             @PathVariable Long roomId
     ) {
-        roomService.startGame(roomId, rq.getActor().getId());
+        Long memberId = rq.getActor().getId();
+        roomCommandExecutor.run(RoomCommandExecutor.roomKey(roomId),
+                () -> roomService.startGame(roomId, memberId));
     }
 
     @PutMapping("/{roomId}")
@@ -90,7 +135,9 @@ public class RoomController {
             @PathVariable Long roomId,
             @RequestBody RoomUpdateRequest request
     ) {
-        RoomResponse response = roomService.updateRoom(roomId, rq.getActor().getId(), request);
+        Long memberId = rq.getActor().getId();
+        RoomResponse response = roomCommandExecutor.call(RoomCommandExecutor.roomKey(roomId),
+                () -> roomService.updateRoom(roomId, memberId, request));
         return RsData.success(HttpStatus.OK, response);
     }
 }
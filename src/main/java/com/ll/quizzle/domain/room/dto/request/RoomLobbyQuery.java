@@ -0,0 +1,31 @@
+package com.ll.quizzle.domain.room.dto.request;
+
+import com.ll.quizzle.domain.room.type.Difficulty;
+import com.ll.quizzle.domain.room.type.MainCategory;
+import com.ll.quizzle.domain.room.type.RoomStatus;
+import com.ll.quizzle.domain.room.type.SubCategory;
+
+/**
+ * 로비 방 목록 조회 조건. null 인 조건은 적용하지 않습니다.
+ * cursor 는 이전 페이지의 nextCursor(마지막 방 ID)이며, 방은 최근에 만들어진 순서(ID 내림차순)로 내려갑니다.
+ */
+public record RoomLobbyQuery(
+    MainCategory mainCategory,
+    SubCategory subCategory,
+    Difficulty difficulty,
+    RoomStatus status,
+    Boolean hasFreeSlot,
+    Boolean isPrivate,
+    Long cursor,
+    int size
+) {
+    public static final int DEFAULT_SIZE = 20;
+    public static final int MAX_SIZE = 50;
+
+    public RoomLobbyQuery {
+        if (size <= 0) {
+            size = DEFAULT_SIZE;
+        }
+        size = Math.min(size, MAX_SIZE);
+    }
+}
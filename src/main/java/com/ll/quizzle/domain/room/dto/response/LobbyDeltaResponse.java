@@ -0,0 +1,30 @@
+package com.ll.quizzle.domain.room.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+/**
+ * /topic/lobby 로 전송되는 로비 변경 한 건.
+ * - UPSERT: room 으로 해당 방을 추가하거나 교체합니다.
+ * - REMOVE: roomId 의 방을 목록에서 뺍니다.
+ * version 은 1씩 증가하므로, 마지막으로 적용한 버전 + 1 이 아닌 변경을 받으면 스냅샷을 다시 받아야 합니다.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record LobbyDeltaResponse(
+    Long version,
+    Type type,
+    Long roomId,
+    RoomSummaryResponse room
+) {
+    public enum Type {
+        UPSERT,
+        REMOVE
+    }
+
+    public static LobbyDeltaResponse upsert(RoomSummaryResponse room) {
+        return new LobbyDeltaResponse(null, Type.UPSERT, room.id(), room);
+    }
+
+    public static LobbyDeltaResponse remove(Long roomId) {
+        return new LobbyDeltaResponse(null, Type.REMOVE, roomId, null);
+    }
+}
@@ -0,0 +1,12 @@
+package com.ll.quizzle.domain.room.dto.response;
+
+import java.util.List;
+
+/**
+ * 로비 전체 방 목록과 그 시점의 로비 버전. 이후 /topic/lobby 로 오는 변경 중 version 이 이보다 큰 것만 적용합니다.
+ */
+public record LobbySnapshotResponse(
+    long version,
+    List<RoomSummaryResponse> rooms
+) {
+}
@@ -0,0 +1,19 @@
+package com.ll.quizzle.domain.room.dto.response;
+
+import java.util.List;
+
+/**
+ * 로비 방 목록 한 페이지. hasNext 가 true 이면 nextCursor 를 cursor 로 넘겨 다음 페이지를 조회합니다.
+ */
+public record RoomLobbyPageResponse(
+    List<RoomSummaryResponse> rooms,
+    Long nextCursor,
+    boolean hasNext
+) {
+    public static RoomLobbyPageResponse of(List<RoomSummaryResponse> fetched, int size) {
+        boolean hasNext = fetched.size() > size;
+        List<RoomSummaryResponse> rooms = hasNext ? fetched.subList(0, size) : fetched;
+        Long nextCursor = hasNext ? rooms.get(rooms.size() - 1).id() : null;
+        return new RoomLobbyPageResponse(rooms, nextCursor, hasNext);
+    }
+}
@@ -0,0 +1,45 @@
+package com.ll.quizzle.domain.room.dto.response;
+
+import com.ll.quizzle.domain.room.entity.Room;
+import com.ll.quizzle.domain.room.type.AnswerType;
+import com.ll.quizzle.domain.room.type.Difficulty;
+import com.ll.quizzle.domain.room.type.MainCategory;
+import com.ll.quizzle.domain.room.type.RoomStatus;
+import com.ll.quizzle.domain.room.type.SubCategory;
+
+/**
+ * 로비 목록의 방 한 개. 플레이어 ID 목록과 비밀번호 해시 대신 현재 인원 수만 담습니다.
+ */
+public record RoomSummaryResponse(
+    Long id,
+    String title,
+    Long ownerId,
+    String ownerNickname,
+    int capacity,
+    int currentPlayers,
+    RoomStatus status,
+    Difficulty difficulty,
+    MainCategory mainCategory,
+    SubCategory subCategory,
+    AnswerType answerType,
+    int problemCount,
+    boolean isPrivate
+) {
+    public static RoomSummaryResponse from(Room room) {
+        return new RoomSummaryResponse(
+            room.getId(),
+            room.getTitle(),
+            room.getOwner().getId(),
+            room.getOwner().getNickname(),
+            room.getCapacity(),
+            room.getPlayers().size(),
+            room.getStatus(),
+            room.getDifficulty(),
+            room.getMainCategory(),
+            room.getSubCategory(),
+            room.getAnswerType(),
+            room.getProblemCount(),
+            room.isPrivate()
+        );
+    }
+}
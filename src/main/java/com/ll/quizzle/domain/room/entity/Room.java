@@ -12,6 +12,8 @@ import com.ll.quizzle.domain.room.type.AnswerType;
 import com.ll.quizzle.domain.room.type.Difficulty;
 import com.ll.quizzle.domain.room.type.MainCategory;
 import com.ll.quizzle.domain.room.type.RoomStatus;
+import com.ll.quizzle.domain.room.state.CollectionRoomMembership;
+import com.ll.quizzle.domain.room.state.RoomMembership;
 import com.ll.quizzle.domain.room.type.SubCategory;
 import static com.ll.quizzle.global.exceptions.ErrorCode.MIN_PLAYER_COUNT_NOT_MET;
 import static com.ll.quizzle.global.exceptions.ErrorCode.NOT_ALL_PLAYERS_READY;
@@ -27,8 +29,10 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
 import jakarta.persistence.FetchType;
+import jakarta.persistence.Index;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToMany;
+import jakarta.persistence.Table;
 import jakarta.persistence.Transient;
 import jakarta.persistence.Version;
 import lombok.AccessLevel;
@@ -36,10 +40,25 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
+/**
+ * 로비 목록은 RoomLobbyRepository 가 ID 내림차순 키셋 페이지로 읽으며, 아래 인덱스는 그 조건 조합에 맞춘 것입니다.
+ * - 조건 없음/상태: (status, id)
+ * - 대분류: (main_category, status, id), 소분류(대분류 포함): (sub_category, status, id)
+ * 난이도, 공개 여부, 빈자리 조건은 값 종류가 적어 위 인덱스로 좁힌 범위 안에서 거릅니다.
+ * 운영 환경은 ddl-auto: none 이므로 이 인덱스는 db/schema/room-lobby-index.sql 로 만듭니다.
+ *
+ * 참가자와 준비 상태는 RoomMembership 을 통해 읽고 씁니다. 기본은 아래 players/readyPlayers 컬렉션이며,
+ * Redis 상태 저장소를 쓰면 RoomStateStore 가 Redis 구현을 붙이고 컬렉션은 주기적으로 저장되는 체크포인트가 됩니다.
+ */
 @Entity
 @Getter
 @Slf4j
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "room", indexes = {
+        @Index(name = "idx_room_lobby", columnList = "status, id"),
+        @Index(name = "idx_room_lobby_main_category", columnList = "main_category, status, id"),
+        @Index(name = "idx_room_lobby_sub_category", columnList = "sub_category, status, id")
+})
 public class Room extends BaseTime {
     
     @Column(nullable = false)
@@ -96,6 +115,9 @@ public class Room extends BaseTime {
     
     @Transient
     private static final BCryptPasswordEncoder passwordEncoder = new BCryptPasswordEncoder();
+
+    @Transient
+    private RoomMembership membership;
     
     @Builder
     private Room(String title, Member owner, int capacity, MainCategory mainCategory,
@@ -149,40 +171,69 @@ public class Room extends BaseTime {
         return matches;
     }
     
+    /**
+     * 참가자/준비 상태 저장소를 교체합니다. 붙이지 않으면 엔티티 컬렉션을 그대로 사용합니다.
+     */
+    public void attachMembership(RoomMembership membership) {
+        this.membership = membership;
+    }
+
+    public Set<Long> getPlayers() {
+        return membership().players();
+    }
+
+    public Set<Long> getReadyPlayers() {
+        return membership().readyPlayers();
+    }
+
+    /**
+     * 엔티티에 마지막으로 저장된 참가자 체크포인트 (외부 저장소를 붙였을 때 초기값으로 사용)
+     */
+    public Set<Long> getCheckpointPlayers() {
+        return players;
+    }
+
+    public Set<Long> getCheckpointReadyPlayers() {
+        return readyPlayers;
+    }
+
     public boolean isOwner(Long memberId) {
         return owner.getId().equals(memberId);
     }
     
     public boolean isFull() {
-        return players.size() >= capacity;
+        return getPlayers().size() >= capacity;
     }
     
     public boolean hasPlayer(Long memberId) {
-        return players.contains(memberId);
+        return membership().hasPlayer(memberId);
     }
     
-    public void addPlayer(Long memberId) {
-        players.add(memberId);
+    /**
+     * @return 새로 입장했으면 true, 이미 참가 중이면 false
+     */
+    public boolean addPlayer(Long memberId) {
+        return membership().addPlayer(memberId);
     }
     
     public void removePlayer(Long memberId) {
-        players.remove(memberId);
-        readyPlayers.remove(memberId);
+        membership().removePlayer(memberId);
     }
     
     public void playerReady(Long memberId) {
         if (hasPlayer(memberId) && !isOwner(memberId)) {
-            readyPlayers.add(memberId);
+            membership().ready(memberId);
         }
     }
     
     public void playerUnready(Long memberId) {
         if (!isOwner(memberId)) {
-            readyPlayers.remove(memberId);
+            membership().unready(memberId);
         }
     }
     
     public boolean isAllPlayersReady() {
+        Set<Long> players = getPlayers();
         if (players.size() == 1 && isOwner(players.iterator().next())) {
             return true;
         }
@@ -190,7 +241,7 @@ public class Room extends BaseTime {
         long nonOwnerCount = players.stream()
             .filter(playerId -> !isOwner(playerId))
             .count();
-        return nonOwnerCount == readyPlayers.size();
+        return nonOwnerCount == getReadyPlayers().size();
     }
     
     public void startGame(Long memberId) {
@@ -198,7 +249,7 @@ public class Room extends BaseTime {
             throw NOT_ROOM_OWNER.throwServiceException();
         }
         
-        if (this.players.isEmpty()) {
+        if (getPlayers().isEmpty()) {
             throw MIN_PLAYER_COUNT_NOT_MET.throwServiceException();
         }
         
@@ -211,10 +262,10 @@ public class Room extends BaseTime {
          * 동시성 문제로 readyPlayers 에서는 제거되지 않고 players 에만 남아있을 수 있기에
          * 게임이 시작될 때 중복된 방어 코드를 추가하여 사용자 경험을 향상시키는 목적
          */
-        Set<Long> currentPlayers = new HashSet<>(this.players);
+        Set<Long> currentPlayers = new HashSet<>(getPlayers());
         Set<Long> invalidPlayers = new HashSet<>();
         
-        for (Long readyPlayerId : this.readyPlayers) {
+        for (Long readyPlayerId : getReadyPlayers()) {
             if (!currentPlayers.contains(readyPlayerId)) {
                 invalidPlayers.add(readyPlayerId);
             }
@@ -222,7 +273,7 @@ public class Room extends BaseTime {
         
         if (!invalidPlayers.isEmpty()) {
             for (Long invalidPlayer : invalidPlayers) {
-                this.readyPlayers.remove(invalidPlayer);
+                membership().unready(invalidPlayer);
             }
             
             throw PLAYER_LEFT_DURING_START.throwServiceException();
@@ -233,7 +284,7 @@ public class Room extends BaseTime {
     
     public void endGame() {
         this.status = RoomStatus.WAITING;
-        readyPlayers.clear();
+        membership().clearReady();
     }
     
     public void addToBlacklist(Member member) {
@@ -251,7 +302,7 @@ public class Room extends BaseTime {
     public void changeOwner(Member newOwner) {
         this.owner = newOwner;
         
-        readyPlayers.remove(newOwner.getId());
+        membership().unready(newOwner.getId());
     }
     
     public void updateRoom(String title, Integer capacity, Difficulty difficulty, 
@@ -301,5 +352,8 @@ public class Room extends BaseTime {
             }
         }
     }
-}
 
+    private RoomMembership membership() {
+        return membership != null ? membership : new CollectionRoomMembership(players, readyPlayers);
+    }
+}
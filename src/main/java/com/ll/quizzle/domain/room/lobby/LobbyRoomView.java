@@ -0,0 +1,354 @@
+package com.ll.quizzle.domain.room.lobby;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ll.quizzle.domain.room.dto.request.RoomLobbyQuery;
+import com.ll.quizzle.domain.room.dto.response.LobbyDeltaResponse;
+import com.ll.quizzle.domain.room.dto.response.LobbySnapshotResponse;
+import com.ll.quizzle.domain.room.dto.response.RoomLobbyPageResponse;
+import com.ll.quizzle.domain.room.dto.response.RoomSummaryResponse;
+import com.ll.quizzle.domain.room.entity.Room;
+import com.ll.quizzle.domain.room.repository.RoomRepository;
+import com.ll.quizzle.domain.room.type.RoomStatus;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 노드 로컬 로비 방 목록입니다. DB 에서 한 번 만든 뒤 방 생명주기 변경(생성, 입장, 퇴장, 시작, 종료, 수정, 삭제)으로 갱신합니다.
+ * - 발행: 변경이 커밋되면 lobby-publish.lua 가 lobby:rooms:version 을 올리고 그 버전을 붙여 lobby:rooms:changes 채널로 발행합니다.
+ *   버전 증가와 발행이 한 스크립트 안에서 일어나므로 모든 노드가 같은 순서로 변경을 받습니다.
+ * - 적용: 각 노드는 버전 순서대로 변경을 적용하고, 같은 메시지를 그대로 자신의 /topic/lobby 구독자에게 전달합니다.
+ *   리스너 스레드에 따라 순서가 뒤바뀌어 도착한 변경은 앞 버전이 올 때까지 잠시 보관하고, gap-timeout 안에 채워지지 않으면 DB 에서 다시 만듭니다.
+ * - 재구성: 버전을 먼저 읽고 DB 를 읽은 뒤, 그 버전 이후에 적용한 변경(최근 recent-size 개)을 다시 덮어씌웁니다.
+ *   Redis Pub/Sub 은 유실될 수 있으므로 resync-interval 마다 한 번씩 다시 만듭니다.
+ * 클라이언트는 GET /api/v1/rooms/lobby/snapshot 으로 스냅샷과 버전을 받고, 이후 버전이 이어지지 않는 변경을 받으면 스냅샷을 다시 받습니다.
+ */
+@Slf4j
+@Component
+public class LobbyRoomView implements MessageListener {
+
+    public static final String CHANGES_CHANNEL = "lobby:rooms:changes";
+    public static final String VERSION_KEY = "lobby:rooms:version";
+    public static final String LOBBY_TOPIC = "/topic/lobby";
+
+    private static final RedisScript<Long> PUBLISH_SCRIPT =
+            new DefaultRedisScript<>(new ClassPathResource("scripts/room/lobby-publish.lua"), Long.class);
+
+    private final RoomRepository roomRepository;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final SimpMessagingTemplate messagingTemplate;
+    private final ObjectMapper objectMapper;
+    private final long resyncIntervalMillis;
+    private final long gapTimeoutMillis;
+    private final int recentSize;
+    private final ScheduledExecutorService scheduler;
+    private final Counter startupResyncs;
+    private final Counter scheduledResyncs;
+    private final Counter gapResyncs;
+
+    // 아래 상태는 모두 this 로 동기화합니다.
+    private final Map<Long, RoomSummaryResponse> rooms = new HashMap<>();
+    private final NavigableMap<Long, Delta> pending = new TreeMap<>();
+    private final Deque<Delta> recent = new ArrayDeque<>();
+    private long version;
+    private boolean ready;
+    private LobbySnapshotResponse snapshot;
+    private final AtomicBoolean gapCheckScheduled = new AtomicBoolean();
+
+    public LobbyRoomView(RoomRepository roomRepository,
+                         RedisTemplate<String, String> redisTemplate,
+                         RedisMessageListenerContainer listenerContainer,
+                         SimpMessagingTemplate messagingTemplate,
+                         ObjectMapper objectMapper,
+                         MeterRegistry meterRegistry,
+                         @Value("${quizzle.lobby.view.resync-interval-ms:300000}") long resyncIntervalMillis,
+                         @Value("${quizzle.lobby.view.gap-timeout-ms:2000}") long gapTimeoutMillis,
+                         @Value("${quizzle.lobby.view.recent-size:1024}") int recentSize) {
+        this.roomRepository = roomRepository;
+        this.redisTemplate = redisTemplate;
+        this.listenerContainer = listenerContainer;
+        this.messagingTemplate = messagingTemplate;
+        this.objectMapper = objectMapper;
+        this.resyncIntervalMillis = resyncIntervalMillis;
+        this.gapTimeoutMillis = gapTimeoutMillis;
+        this.recentSize = recentSize;
+        this.scheduler = new ScheduledThreadPoolExecutor(1, new CustomizableThreadFactory("lobby-view-"));
+        this.startupResyncs = resyncCounter(meterRegistry, "startup");
+        this.scheduledResyncs = resyncCounter(meterRegistry, "scheduled");
+        this.gapResyncs = resyncCounter(meterRegistry, "gap");
+
+        Gauge.builder("lobby.view.version", this, view -> view.currentVersion())
+                .description("이 노드의 로비 목록에 적용된 마지막 버전")
+                .register(meterRegistry);
+        Gauge.builder("lobby.view.rooms", this, view -> view.roomCount())
+                .description("이 노드의 로비 목록에 있는 방 수")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void init() {
+        // 재구성 전에 구독해 두어야 그 사이 변경을 놓치지 않습니다. (재구성이 끝날 때까지 보관됩니다)
+        listenerContainer.addMessageListener(this, new ChannelTopic(CHANGES_CHANNEL));
+        log.debug("로비 변경 채널 구독 완료: {}", CHANGES_CHANNEL);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        scheduler.execute(() -> resync(startupResyncs));
+        if (resyncIntervalMillis > 0) {
+            scheduler.scheduleWithFixedDelay(() -> resync(scheduledResyncs),
+                    resyncIntervalMillis, resyncIntervalMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdownNow();
+    }
+
+    /**
+     * 현재 로비 스냅샷. 아직 한 번도 만들지 않았으면 이 자리에서 DB 로부터 만듭니다.
+     */
+    public LobbySnapshotResponse snapshot() {
+        synchronized (this) {
+            if (ready) {
+                return currentSnapshot();
+            }
+        }
+        resync(startupResyncs);
+        synchronized (this) {
+            return currentSnapshot();
+        }
+    }
+
+    /**
+     * 현재 트랜잭션이 커밋된 뒤 방의 최신 상태를 발행합니다. 트랜잭션 밖에서 호출하면 즉시 발행합니다.
+     * (afterCommit 콜백 안에서는 새 동기화가 실행되지 않으므로 upsert 를 직접 호출해야 합니다)
+     */
+    public void upsertAfterCommit(Room room) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            upsert(room);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                upsert(room);
+            }
+        });
+    }
+
+    /**
+     * 방의 현재 상태를 발행합니다. 종료된 방은 로비에서 빠지므로 REMOVE 로 발행합니다.
+     */
+    public void upsert(Room room) {
+        if (room.getStatus() == RoomStatus.FINISHED) {
+            remove(room.getId());
+            return;
+        }
+        publish(LobbyDeltaResponse.upsert(RoomSummaryResponse.from(room)));
+    }
+
+    public void remove(Long roomId) {
+        publish(LobbyDeltaResponse.remove(roomId));
+    }
+
+    private void publish(LobbyDeltaResponse delta) {
+        try {
+            String payload = objectMapper.writeValueAsString(delta);
+            Long published = redisTemplate.execute(PUBLISH_SCRIPT, List.of(VERSION_KEY), CHANGES_CHANNEL, payload);
+            log.debug("로비 변경 발행: version={}, type={}, roomId={}", published, delta.type(), delta.roomId());
+        } catch (Exception e) {
+            // 발행이 실패해도 방 처리는 이미 커밋되었으므로, 다음 재구성에서 반영됩니다.
+            log.error("로비 변경 발행 실패: type={}, roomId={}, 오류={}", delta.type(), delta.roomId(), e.getMessage());
+        }
+    }
+
+    @Override
+    public void onMessage(@NonNull Message message, byte[] pattern) {
+        String raw = new String(message.getBody(), StandardCharsets.UTF_8);
+        LobbyDeltaResponse delta;
+        try {
+            delta = objectMapper.readValue(raw, LobbyDeltaResponse.class);
+        } catch (JsonProcessingException e) {
+            log.warn("잘못된 로비 변경 메시지: {}", raw);
+            return;
+        }
+        if (delta.version() == null || delta.type() == null || delta.roomId() == null) {
+            log.warn("잘못된 로비 변경 메시지: {}", raw);
+            return;
+        }
+
+        boolean gap;
+        synchronized (this) {
+            if (ready && delta.version() <= version) {
+                return;
+            }
+            pending.put(delta.version(), new Delta(delta, raw));
+            if (!ready) {
+                return;
+            }
+            drainPending();
+            gap = !pending.isEmpty();
+        }
+        if (gap) {
+            scheduleGapCheck();
+        }
+    }
+
+    /**
+     * 버전을 먼저 읽고 DB 에서 목록을 다시 만든 뒤, 그 버전 이후에 이미 적용한 변경을 덮어씌웁니다.
+     */
+    void resync(Counter reason) {
+        long baseVersion = readVersion();
+        Map<Long, RoomSummaryResponse> loaded = loadRooms();
+
+        synchronized (this) {
+            for (Delta delta : recent) {
+                if (delta.delta().version() > baseVersion) {
+                    apply(loaded, delta.delta());
+                }
+            }
+            rooms.clear();
+            rooms.putAll(loaded);
+            version = ready ? Math.max(version, baseVersion) : baseVersion;
+            ready = true;
+            snapshot = null;
+            pending.headMap(version, true).clear();
+            drainPending();
+        }
+        reason.increment();
+        log.debug("로비 목록 재구성 완료: version={}, rooms={}", baseVersion, loaded.size());
+    }
+
+    /**
+     * 다음 버전부터 이어지는 변경을 차례로 적용하고 이 노드의 구독자에게 전달합니다. this 를 잡은 채로 호출해야 합니다.
+     */
+    private void drainPending() {
+        Delta next;
+        while ((next = pending.remove(version + 1)) != null) {
+            apply(rooms, next.delta());
+            version = next.delta().version();
+            snapshot = null;
+            recent.addLast(next);
+            if (recent.size() > recentSize) {
+                recent.removeFirst();
+            }
+            messagingTemplate.convertAndSend(LOBBY_TOPIC, next.raw());
+        }
+    }
+
+    private void scheduleGapCheck() {
+        if (!gapCheckScheduled.compareAndSet(false, true)) {
+            return;
+        }
+        scheduler.schedule(() -> {
+            gapCheckScheduled.set(false);
+            boolean stillMissing;
+            synchronized (this) {
+                stillMissing = !pending.isEmpty();
+            }
+            if (stillMissing) {
+                log.warn("로비 변경 버전이 이어지지 않아 목록을 다시 만듭니다: version={}", currentVersion());
+                resync(gapResyncs);
+            }
+        }, gapTimeoutMillis, TimeUnit.MILLISECONDS);
+    }
+
+    private LobbySnapshotResponse currentSnapshot() {
+        if (snapshot == null) {
+            List<RoomSummaryResponse> sorted = rooms.values().stream()
+                    .sorted(Comparator.comparing(RoomSummaryResponse::id).reversed())
+                    .toList();
+            snapshot = new LobbySnapshotResponse(version, sorted);
+        }
+        return snapshot;
+    }
+
+    private long readVersion() {
+        String value = redisTemplate.opsForValue().get(VERSION_KEY);
+        return value != null ? Long.parseLong(value) : 0;
+    }
+
+    private Map<Long, RoomSummaryResponse> loadRooms() {
+        Map<Long, RoomSummaryResponse> loaded = new HashMap<>();
+        Long cursor = null;
+        RoomLobbyPageResponse page;
+        do {
+            RoomLobbyQuery query = new RoomLobbyQuery(null, null, null, null, null, null, cursor,
+                    RoomLobbyQuery.MAX_SIZE);
+            page = RoomLobbyPageResponse.of(roomRepository.findLobbyPage(query), query.size());
+            page.rooms().forEach(room -> loaded.put(room.id(), room));
+            cursor = page.nextCursor();
+        } while (page.hasNext());
+        return loaded;
+    }
+
+    private static void apply(Map<Long, RoomSummaryResponse> target, LobbyDeltaResponse delta) {
+        if (delta.type() == LobbyDeltaResponse.Type.REMOVE || delta.room() == null) {
+            target.remove(delta.roomId());
+        } else {
+            target.put(delta.roomId(), delta.room());
+        }
+    }
+
+    synchronized long currentVersion() {
+        return version;
+    }
+
+    private synchronized int roomCount() {
+        return rooms.size();
+    }
+
+    private static Counter resyncCounter(MeterRegistry meterRegistry, String reason) {
+        return Counter.builder("lobby.view.resyncs")
+                .tag("reason", reason)
+                .description("로비 목록을 DB 에서 다시 만든 횟수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 적용할 변경과, 구독자에게 그대로 전달할 원본 메시지
+     */
+    private record Delta(LobbyDeltaResponse delta, String raw) {
+    }
+}
@@ -0,0 +1,15 @@
+package com.ll.quizzle.domain.room.repository;
+
+import java.util.List;
+
+import com.ll.quizzle.domain.room.dto.request.RoomLobbyQuery;
+import com.ll.quizzle.domain.room.dto.response.RoomSummaryResponse;
+
+public interface RoomLobbyRepository {
+
+    /**
+     * 종료되지 않은 방을 조건에 맞게 ID 내림차순으로 최대 size + 1 개 읽습니다. (마지막 한 개는 다음 페이지 유무 판단용)
+     * 엔티티를 읽지 않고 SQL 한 번으로 필요한 열과 현재 인원 수만 가져옵니다.
+     */
+    List<RoomSummaryResponse> findLobbyPage(RoomLobbyQuery query);
+}
@@ -0,0 +1,96 @@
+package com.ll.quizzle.domain.room.repository;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.ll.quizzle.domain.room.dto.request.RoomLobbyQuery;
+import com.ll.quizzle.domain.room.dto.response.RoomSummaryResponse;
+import com.ll.quizzle.domain.room.type.AnswerType;
+import com.ll.quizzle.domain.room.type.Difficulty;
+import com.ll.quizzle.domain.room.type.MainCategory;
+import com.ll.quizzle.domain.room.type.RoomStatus;
+import com.ll.quizzle.domain.room.type.SubCategory;
+
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+public class RoomLobbyRepositoryImpl implements RoomLobbyRepository {
+
+    // 인원 수는 room_players 기본 키(room_id, players) 앞부분으로만 셉니다.
+    private static final String PLAYER_COUNT = "(select count(*) from room_players rp where rp.room_id = r.id)";
+
+    private static final String SELECT_LOBBY = """
+            select r.id, r.title, r.owner_id, m.nickname, r.capacity, r.status, r.difficulty,
+                   r.main_category, r.sub_category, r.answer_type, r.problem_count, r.is_private,
+                   %s as current_players
+            from room r
+            left join member m on m.id = r.owner_id
+            """.formatted(PLAYER_COUNT);
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public List<RoomSummaryResponse> findLobbyPage(RoomLobbyQuery query) {
+        StringBuilder sql = new StringBuilder(SELECT_LOBBY);
+        List<Object> args = new ArrayList<>();
+
+        // 조건은 값이 있을 때만 붙여, 옵티마이저가 상황에 맞는 idx_room_lobby_* 인덱스를 고를 수 있게 합니다.
+        if (query.status() != null) {
+            sql.append(" where r.status = ?");
+            args.add(query.status().name());
+        } else {
+            sql.append(" where r.status in (?, ?)");
+            args.add(RoomStatus.WAITING.name());
+            args.add(RoomStatus.IN_GAME.name());
+        }
+        if (query.mainCategory() != null) {
+            sql.append(" and r.main_category = ?");
+            args.add(query.mainCategory().name());
+        }
+        if (query.subCategory() != null) {
+            sql.append(" and r.sub_category = ?");
+            args.add(query.subCategory().name());
+        }
+        if (query.difficulty() != null) {
+            sql.append(" and r.difficulty = ?");
+            args.add(query.difficulty().name());
+        }
+        if (query.isPrivate() != null) {
+            sql.append(" and r.is_private = ?");
+            args.add(query.isPrivate());
+        }
+        if (query.hasFreeSlot() != null) {
+            sql.append(" and ").append(PLAYER_COUNT).append(query.hasFreeSlot() ? " < r.capacity" : " >= r.capacity");
+        }
+        if (query.cursor() != null) {
+            sql.append(" and r.id < ?");
+            args.add(query.cursor());
+        }
+        sql.append(" order by r.id desc limit ?");
+        args.add(query.size() + 1);
+
+        return jdbcTemplate.query(sql.toString(), (rs, rowNum) -> toSummary(rs), args.toArray());
+    }
+
+    private static RoomSummaryResponse toSummary(ResultSet rs) throws SQLException {
+        return new RoomSummaryResponse(
+                rs.getLong("id"),
+                rs.getString("title"),
+                rs.getObject("owner_id", Long.class),
+                rs.getString("nickname"),
+                rs.getInt("capacity"),
+                rs.getInt("current_players"),
+                RoomStatus.valueOf(rs.getString("status")),
+                Difficulty.valueOf(rs.getString("difficulty")),
+                MainCategory.valueOf(rs.getString("main_category")),
+                SubCategory.valueOf(rs.getString("sub_category")),
+                AnswerType.valueOf(rs.getString("answer_type")),
+                rs.getInt("problem_count"),
+                rs.getBoolean("is_private")
+        );
+    }
+}
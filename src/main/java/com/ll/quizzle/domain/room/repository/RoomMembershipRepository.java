@@ -0,0 +1,14 @@
+package com.ll.quizzle.domain.room.repository;
+
+import java.util.Collection;
+
+public interface RoomMembershipRepository {
+
+    /**
+     * room_players, room_ready_players 를 주어진 참가자/준비 상태로 교체합니다.
+     * 엔티티를 읽지 않으므로 방의 @Version 을 올리지 않고, 진행 중인 다른 방 트랜잭션과 낙관적 락 충돌을 만들지 않습니다.
+     *
+     * @return 방이 없으면 false
+     */
+    boolean replaceMembership(Long roomId, Collection<Long> players, Collection<Long> readyPlayers);
+}
@@ -0,0 +1,38 @@
+package com.ll.quizzle.domain.room.repository;
+
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+public class RoomMembershipRepositoryImpl implements RoomMembershipRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public boolean replaceMembership(Long roomId, Collection<Long> players, Collection<Long> readyPlayers) {
+        Integer rooms = jdbcTemplate.queryForObject("select count(*) from room where id = ?", Integer.class, roomId);
+        if (rooms == null || rooms == 0) {
+            return false;
+        }
+
+        replace("room_players", "players", roomId, players);
+        replace("room_ready_players", "ready_players", roomId, readyPlayers);
+        return true;
+    }
+
+    private void replace(String table, String column, Long roomId, Collection<Long> memberIds) {
+        jdbcTemplate.update("delete from " + table + " where room_id = ?", roomId);
+        if (memberIds.isEmpty()) {
+            return;
+        }
+
+        List<Object[]> rows = memberIds.stream()
+                .map(memberId -> new Object[] {roomId, memberId})
+                .toList();
+        jdbcTemplate.batchUpdate("insert into " + table + " (room_id, " + column + ") values (?, ?)", rows);
+    }
+}
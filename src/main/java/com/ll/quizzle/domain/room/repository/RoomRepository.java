@@ -10,7 +10,7 @@ import org.springframework.data.repository.query.Param;
 import com.ll.quizzle.domain.room.entity.Room;
 import com.ll.quizzle.domain.room.type.RoomStatus;
 
-public interface RoomRepository extends JpaRepository<Room, Long> {
+public interface RoomRepository extends JpaRepository<Room, Long>, RoomLobbyRepository, RoomMembershipRepository {
     List<Room> findByStatusNot(RoomStatus status);
     
     Optional<Room> findRoomById(Long id);
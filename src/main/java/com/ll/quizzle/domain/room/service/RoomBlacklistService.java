@@ -13,11 +13,13 @@ import com.ll.quizzle.domain.room.entity.Room;
 import com.ll.quizzle.domain.room.entity.RoomBlacklist;
 import com.ll.quizzle.domain.room.repository.RoomBlacklistRepository;
 import com.ll.quizzle.domain.room.repository.RoomRepository;
+import com.ll.quizzle.domain.room.state.RoomStateStore;
 import static com.ll.quizzle.global.exceptions.ErrorCode.MEMBER_ALREADY_BLACKLISTED;
 import static com.ll.quizzle.global.exceptions.ErrorCode.MEMBER_NOT_FOUND;
 import static com.ll.quizzle.global.exceptions.ErrorCode.ROOM_NOT_FOUND;
 import static com.ll.quizzle.global.exceptions.ErrorCode.ROOM_OWNER_BLACKLIST_FORBIDDEN;
 import com.ll.quizzle.global.redis.lock.DistributedLock;
+import com.ll.quizzle.global.redis.lock.LockNamespace;
 
 import lombok.RequiredArgsConstructor;
 
@@ -28,6 +30,7 @@ public class RoomBlacklistService {
     private final RoomBlacklistRepository blacklistRepository;
     private final RoomRepository roomRepository;
     private final MemberRepository memberRepository;
+    private final RoomStateStore roomStateStore;
     
     @Transactional(isolation = Isolation.REPEATABLE_READ)
     public void addToBlacklist(Long roomId, Long memberId) {
@@ -66,7 +69,7 @@ public class RoomBlacklistService {
         return blacklistRepository.findByRoom(room);
     }
 
-    @DistributedLock(key = "'room:' + #room.id", leaseTime = 10000)
+    @DistributedLock(namespace = LockNamespace.ROOM, key = "#room.id", leaseTime = 10000)
     @Transactional(propagation = Propagation.REQUIRES_NEW)
     protected void addToBlacklistWithLock(Room room, Member member, Long memberId) {
 
@@ -86,15 +89,17 @@ public class RoomBlacklistService {
         }
     }
 
-    @DistributedLock(key = "'room:' + #room.id", leaseTime = 10000)
+    @DistributedLock(namespace = LockNamespace.ROOM, key = "#room.id", leaseTime = 10000)
     @Transactional(propagation = Propagation.REQUIRES_NEW)
     protected void removeFromBlacklistWithLock(Room room, Member member) {
         blacklistRepository.deleteByRoomAndMember(room, member);
     }
 
     protected Room findRoomOrThrow(Long roomId) {
-        return roomRepository.findById(roomId)
+        Room room = roomRepository.findById(roomId)
                 .orElseThrow(ROOM_NOT_FOUND::throwServiceException);
+        roomStateStore.attach(room);
+        return room;
     }
 
     protected Member findMemberOrThrow(Long memberId) {
@@ -1,6 +1,8 @@
 package com.ll.quizzle.domain.room.service;
 
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import com.ll.quizzle.domain.room.dto.request.RoomUpdateRequest;
@@ -15,9 +17,14 @@ import org.springframework.transaction.support.TransactionSynchronizationManager
 import com.ll.quizzle.domain.member.entity.Member;
 import com.ll.quizzle.domain.member.repository.MemberRepository;
 import com.ll.quizzle.domain.room.dto.request.RoomCreateRequest;
+import com.ll.quizzle.domain.room.dto.request.RoomLobbyQuery;
+import com.ll.quizzle.domain.room.dto.response.LobbySnapshotResponse;
+import com.ll.quizzle.domain.room.dto.response.RoomLobbyPageResponse;
 import com.ll.quizzle.domain.room.dto.response.RoomResponse;
 import com.ll.quizzle.domain.room.entity.Room;
+import com.ll.quizzle.domain.room.lobby.LobbyRoomView;
 import com.ll.quizzle.domain.room.repository.RoomRepository;
+import com.ll.quizzle.domain.room.state.RoomStateStore;
 import com.ll.quizzle.domain.room.type.RoomStatus;
 import static com.ll.quizzle.global.exceptions.ErrorCode.GAME_ALREADY_STARTED;
 import static com.ll.quizzle.global.exceptions.ErrorCode.INVALID_PASSWORD;
@@ -29,11 +36,10 @@ import static com.ll.quizzle.global.exceptions.ErrorCode.ROOM_NOT_FOUND;
 import static com.ll.quizzle.global.exceptions.ErrorCode.NOT_ROOM_OWNER;
 import static com.ll.quizzle.global.exceptions.ErrorCode.NOT_ALL_PLAYERS_READY;
 import com.ll.quizzle.global.redis.lock.DistributedLock;
+import com.ll.quizzle.global.redis.lock.LockNamespace;
 import com.ll.quizzle.global.redis.lock.DistributedLockService;
 import com.ll.quizzle.global.socket.service.WebSocketRoomMessageService;
 import com.ll.quizzle.global.socket.type.RoomMessageType;
-import com.ll.quizzle.global.socket.core.MessageService;
-import com.ll.quizzle.global.socket.core.MessageServiceFactory;
 import com.ll.quizzle.global.exceptions.ServiceException;
 import com.ll.quizzle.global.exceptions.ErrorCode;
 
@@ -52,7 +58,8 @@ public class RoomService {
     private final DistributedLockService redisLockService;
     private final RedisTemplate<String, String> redisTemplate;
     private final WebSocketRoomMessageService roomMessageService;
-    private final MessageServiceFactory messageServiceFactory;
+    private final LobbyRoomView lobbyRoomView;
+    private final RoomStateStore roomStateStore;
 
     @Transactional(isolation = Isolation.SERIALIZABLE)
     public RoomResponse createRoom(Long ownerId, RoomCreateRequest request) {
@@ -69,45 +76,77 @@ public class RoomService {
 
     public List<RoomResponse> getActiveRooms() {
         List<Room> rooms = roomRepository.findByStatusNot(RoomStatus.FINISHED);
+        rooms.forEach(roomStateStore::attach);
         return rooms.stream()
                 .map(RoomResponse::from)
                 .collect(Collectors.toList());
     }
 
+    /**
+     * 로비 목록을 키셋 페이지로 조회합니다. 엔티티와 플레이어 ID 목록을 읽지 않고 SQL 한 번으로 요약만 가져옵니다.
+     */
+    public RoomLobbyPageResponse getLobbyRooms(RoomLobbyQuery query) {
+        return RoomLobbyPageResponse.of(roomRepository.findLobbyPage(query), query.size());
+    }
+
+    /**
+     * 노드 로컬 로비 목록 전체와 그 버전. DB 를 읽지 않습니다.
+     */
+    public LobbySnapshotResponse getLobbySnapshot() {
+        return lobbyRoomView.snapshot();
+    }
+
     @Transactional(isolation = Isolation.REPEATABLE_READ)
     public void joinRoom(Long roomId, Long memberId, String password) {
+        long start = System.nanoTime();
         Room room = findRoomOrThrow(roomId);
         Member member = findMemberOrThrow(memberId);
 
         validate(roomId, memberId, password, room);
-        joinRoomWithLock(room, member);
+        if (roomStateStore.isRedis()) {
+            joinRoomInStore(room, member);
+        } else {
+            joinRoomWithLock(room, member);
+        }
+        roomStateStore.recordLatency("join", start);
     }
 
     @Transactional(isolation = Isolation.REPEATABLE_READ)
     public void leaveRoom(Long roomId, Long memberId) {
+        long start = System.nanoTime();
         Room room = findRoomOrThrow(roomId);
         Member member = findMemberOrThrow(memberId);
 
-        leaveRoomWithLock(room, member);
+        // 방장 퇴장은 방장 위임이나 방 삭제로 DB 를 바꾸므로 REDIS 모드에서도 락 경로로 처리합니다.
+        if (roomStateStore.isRedis() && !room.isOwner(memberId)) {
+            leaveRoomInStore(room, member);
+        } else {
+            leaveRoomWithLock(room, member);
+        }
+        roomStateStore.recordLatency("leave", start);
     }
 
     @Transactional(isolation = Isolation.REPEATABLE_READ)
     public void handleDisconnect(Long memberId) {
-        List<Room> rooms = roomRepository.findRoomsByPlayerId(memberId);
+        // REDIS 모드에서는 참가자 테이블이 체크포인트이므로, 아직 체크포인트되지 않은 방 중 참가 중인 방도 함께 확인합니다.
+        Set<Long> roomIds = new LinkedHashSet<>();
+        roomRepository.findRoomsByPlayerId(memberId).forEach(room -> roomIds.add(room.getId()));
+        roomIds.addAll(roomStateStore.pendingRoomsOf(memberId));
 
-        if (rooms.isEmpty()) {
+        if (roomIds.isEmpty()) {
             return;
         }
 
-        for (Room room : rooms) {
+        for (Long roomId : roomIds) {
             try {
-                String lockKey = "lock:room:" + room.getId();
+                String lockKey = LockNamespace.ROOM.lockName(roomId);
                 boolean locked = redisLockService.acquireLock(lockKey, 5000, 10000);
 
                 if (locked) {
                     try {
-                        Room lockedRoom = roomRepository.findById(room.getId())
+                        Room lockedRoom = roomRepository.findById(roomId)
                                 .orElseThrow(ROOM_NOT_FOUND::throwServiceException);
+                        roomStateStore.attach(lockedRoom);
 
                         if (lockedRoom.hasPlayer(memberId)) {
                             leaveRoomInternal(lockedRoom, memberId);
@@ -116,17 +155,18 @@ public class RoomService {
                         redisLockService.releaseLock(lockKey);
                     }
                 } else {
-                    log.debug("연결 해제 처리 중 락 획득 실패: 방ID={}, 멤버ID={}", room.getId(), memberId);
+                    log.debug("연결 해제 처리 중 락 획득 실패: 방ID={}, 멤버ID={}", roomId, memberId);
                 }
             } catch (Exception e) {
                 log.error("연결 해제 처리 중 오류 발생 - 방ID: {}, 멤버ID: {}, 오류: {}",
-                        room.getId(), memberId, e.getMessage());
+                        roomId, memberId, e.getMessage());
             }
         }
     }
 
     @Transactional(isolation = Isolation.REPEATABLE_READ)
     public void toggleReady(Long roomId, Long memberId) {
+        long start = System.nanoTime();
         Room room = findRoomOrThrow(roomId);
 
         if (room.isOwner(memberId)) {
@@ -135,13 +175,19 @@ public class RoomService {
 
         boolean isCurrentlyReady = room.getReadyPlayers().contains(memberId);
 
-        setReadyWithLock(room, memberId, !isCurrentlyReady);
+        if (roomStateStore.isRedis()) {
+            setReadyInStore(room, memberId, !isCurrentlyReady);
+        } else {
+            setReadyWithLock(room, memberId, !isCurrentlyReady);
+        }
+        roomStateStore.recordLatency("ready", start);
     }
 
     @Transactional(isolation = Isolation.REPEATABLE_READ)
     public void startGame(Long roomId, Long memberId) {
         Room room = roomRepository.findById(roomId)
                 .orElseThrow(ROOM_NOT_FOUND::throwServiceException);
+        roomStateStore.attach(room);
 
         startGameWithLock(room, memberId);
     }
@@ -151,7 +197,37 @@ public class RoomService {
         return RoomResponse.from(room);
     }
 
-    @DistributedLock(key = "'room:' + #owner.id", leaseTime = 10000)
+    /**
+     * 방장이 아니면 NOT_ROOM_OWNER 예외를 던집니다. 방 상태를 바꾸지 않는 STOMP 명령의 권한 확인에 사용합니다.
+     */
+    public void verifyOwner(Long roomId, Long memberId) {
+        Room room = findRoomOrThrow(roomId);
+
+        if (!room.isOwner(memberId)) {
+            throw NOT_ROOM_OWNER.throwServiceException();
+        }
+    }
+
+    /**
+     * 방이 있고 memberId 가 방장이면 true 입니다. 예외 없이 권한에 따라 응답 내용만 달리할 때 사용합니다.
+     */
+    public boolean isOwner(Long roomId, Long memberId) {
+        return roomRepository.findRoomById(roomId)
+                .map(room -> {
+                    roomStateStore.attach(room);
+                    return room.isOwner(memberId);
+                })
+                .orElse(false);
+    }
+
+    /**
+     * 방장이고 게임이 시작되기 전인지 확인합니다. 방 퀴즈를 새로 만드는 요청처럼 진행 중인 게임을 덮어쓸 수 있는 작업에 사용합니다.
+     */
+    public void verifyOwnerBeforeGame(Long roomId, Long memberId) {
+        validateRoomForUpdate(roomId, memberId);
+    }
+
+    @DistributedLock(namespace = LockNamespace.MEMBER, key = "#owner.id", leaseTime = 10000)
     @Transactional(propagation = Propagation.REQUIRES_NEW, isolation = Isolation.SERIALIZABLE)
     protected RoomResponse createRoomWithLock(Member owner, RoomCreateRequest request) {
         Room room = Room.builder()
@@ -187,7 +263,7 @@ public class RoomService {
         }
     }
 
-    @DistributedLock(key = "'room:' + #room.id", leaseTime = 10000)
+    @DistributedLock(namespace = LockNamespace.ROOM, key = "#room.id", leaseTime = 10000)
     @Transactional(propagation = Propagation.REQUIRES_NEW, isolation = Isolation.REPEATABLE_READ)
     protected void joinRoomWithLock(Room room, Member member) {
         if (!room.hasPlayer(member.getId())) {
@@ -197,16 +273,55 @@ public class RoomService {
                 @Override
                 public void afterCommit() {
                     roomMessageService.sendJoin(room, member);
+                    lobbyRoomView.upsert(room);
                 }
             });
         }
     }
 
+    /**
+     * REDIS 모드의 입장. 정원 확인과 참가자 추가를 스크립트 하나로 처리하므로 방 락과 컬렉션 쓰기가 필요 없습니다.
+     * Redis 에 이미 반영되었으므로 커밋을 기다리지 않고 바로 알립니다.
+     */
+    private void joinRoomInStore(Room room, Member member) {
+        if (room.addPlayer(member.getId())) {
+            roomMessageService.sendJoin(room, member);
+            lobbyRoomView.upsert(room);
+        }
+    }
+
+    private void leaveRoomInStore(Room room, Member member) {
+        room.removePlayer(member.getId());
+
+        roomMessageService.sendLeave(room, member);
+        lobbyRoomView.upsert(room);
+    }
+
+    private void setReadyInStore(Room room, Long memberId, boolean isReady) {
+        Member member = findMemberOrThrow(memberId);
+
+        if (isReady) {
+            room.playerReady(memberId);
+        } else {
+            room.playerUnready(memberId);
+        }
+
+        roomMessageService.sendReadyStatusChange(
+                room,
+                member,
+                isReady ? RoomMessageType.READY : RoomMessageType.UNREADY);
+    }
+
     private void handleGameEnd(Room room, String roomGameStateKey) {
         room.endGame();
         redisTemplate.opsForValue().set(roomGameStateKey, "ENDED");
+        roomStateStore.updateMeta(room);
+        roomStateStore.checkpoint(room.getId());
     }
 
+    /**
+     * 방을 삭제합니다. 방 삭제 알림과 로비 REMOVE 는 삭제가 커밋된 뒤에 보내므로, 롤백되면 로비에서 방이 사라지지 않습니다.
+     */
     @Transactional(propagation = Propagation.REQUIRES_NEW)
     public void deleteRoom(Room room) {
         String roomStateKey = "room:state:" + room.getId();
@@ -216,19 +331,25 @@ public class RoomService {
 
         redisTemplate.opsForValue().set(roomStateKey, "DELETED");
 
-        roomMessageService.sendRoomDeleted(room.getId());
-
-        scheduleRoomDeletedNotification(room.getId());
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                roomMessageService.sendRoomDeleted(room.getId());
+                roomStateStore.evict(room.getId());
+                scheduleRoomDeletedNotification(room.getId());
+            }
+        });
     }
 
     private void changeRoomOwner(Room room, Member currentOwner, Long newOwnerId) {
         Member newOwner = findMemberOrThrow(newOwnerId);
         room.changeOwner(newOwner);
+        roomStateStore.updateMeta(room);
 
         roomMessageService.sendOwnerChanged(room, currentOwner, newOwner);
     }
 
-    @DistributedLock(key = "'room:' + #room.id", leaseTime = 10000)
+    @DistributedLock(namespace = LockNamespace.ROOM, key = "#room.id", leaseTime = 10000)
     @Transactional(propagation = Propagation.REQUIRES_NEW, isolation = Isolation.REPEATABLE_READ)
     protected void leaveRoomWithLock(Room room, Member member) {
         boolean isOwner = room.isOwner(member.getId());
@@ -254,6 +375,7 @@ public class RoomService {
                 @Override
                 public void afterCommit() {
                     roomMessageService.sendRoomDeleted(room.getId());
+                    roomStateStore.evict(room.getId());
                     scheduleRoomDeletedNotification(room.getId());
                 }
             });
@@ -280,6 +402,8 @@ public class RoomService {
                 } else {
                     roomMessageService.sendLeave(room, member);
                 }
+
+                lobbyRoomView.upsert(room);
             }
         });
     }
@@ -291,28 +415,33 @@ public class RoomService {
 
         room.removePlayer(memberId);
 
+        if (isOwner && room.getPlayers().isEmpty()) {
+            // 연결 해제 트랜잭션 안에서 삭제하고, 알림은 그 트랜잭션이 커밋된 뒤에 보냅니다.
+            deleteRoom(room);
+            return;
+        }
+
         TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
             @Override
             public void afterCommit() {
                 if (isOwner) {
-                    if (room.getPlayers().isEmpty()) {
-                        deleteRoom(room);
-                    } else {
-                        Long newOwnerId = room.getPlayers().iterator().next();
-                        Member newOwner = findMemberOrThrow(newOwnerId);
+                    Long newOwnerId = room.getPlayers().iterator().next();
+                    Member newOwner = findMemberOrThrow(newOwnerId);
 
-                        room.changeOwner(newOwner);
+                    room.changeOwner(newOwner);
+                    roomStateStore.updateMeta(room);
 
-                        roomMessageService.sendOwnerChanged(room, member, newOwner);
-                    }
+                    roomMessageService.sendOwnerChanged(room, member, newOwner);
+                    lobbyRoomView.upsert(room);
                 } else {
                     roomMessageService.sendLeave(room, member);
+                    lobbyRoomView.upsert(room);
                 }
             }
         });
     }
 
-    @DistributedLock(key = "'room:' + #room.id", leaseTime = 10000)
+    @DistributedLock(namespace = LockNamespace.ROOM, key = "#room.id", leaseTime = 10000)
     @Transactional(propagation = Propagation.REQUIRES_NEW, isolation = Isolation.REPEATABLE_READ)
     protected void setReadyWithLock(Room room, Long memberId, boolean isReady) {
         Member member = findMemberOrThrow(memberId);
@@ -334,7 +463,7 @@ public class RoomService {
         });
     }
 
-    @DistributedLock(key = "'room:' + #room.id", leaseTime = 10000)
+    @DistributedLock(namespace = LockNamespace.ROOM, key = "#room.id", leaseTime = 10000)
     @Transactional(propagation = Propagation.REQUIRES_NEW, isolation = Isolation.REPEATABLE_READ)
     protected void startGameWithLock(Room room, Long memberId) {
         int initialPlayerCount = room.getPlayers().size();
@@ -350,7 +479,10 @@ public class RoomService {
             TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
                 @Override
                 public void afterCommit() {
+                    roomStateStore.updateMeta(room);
+                    roomStateStore.checkpoint(room.getId());
                     roomMessageService.sendGameStart(room);
+                    lobbyRoomView.upsert(room);
                 }
             });
         } catch (Exception e) {
@@ -402,8 +534,10 @@ public class RoomService {
     }
 
     protected Room findRoomOrThrow(Long roomId) {
-        return roomRepository.findRoomById(roomId)
+        Room room = roomRepository.findRoomById(roomId)
                 .orElseThrow(ROOM_NOT_FOUND::throwServiceException);
+        roomStateStore.attach(room);
+        return room;
     }
 
     protected Member findMemberOrThrow(Long memberId) {
@@ -437,7 +571,7 @@ public class RoomService {
         return room;
     }
 
-    @DistributedLock(key = "'room:' + #room.id", leaseTime = 10000)
+    @DistributedLock(namespace = LockNamespace.ROOM, key = "#room.id", leaseTime = 10000)
     @Transactional(propagation = Propagation.REQUIRES_NEW, isolation = Isolation.REPEATABLE_READ)
     protected RoomResponse updateRoomWithLock(Room room, RoomUpdateRequest request) {
         updateRoomProperties(room, request);
@@ -468,16 +602,14 @@ public class RoomService {
         TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
             @Override
             public void afterCommit() {
-                MessageService roomService = messageServiceFactory.getRoomService();
-                roomService.send("/topic/lobby", "ROOM_CREATED:" + savedRoom.getId());
+                lobbyRoomView.upsert(savedRoom);
                 log.debug("로비에 방 생성 알림 전송: 방ID={}", savedRoom.getId());
             }
         });
     }
 
     private void scheduleRoomDeletedNotification(Long roomId) {
-        MessageService roomService = messageServiceFactory.getRoomService();
-        roomService.send("/topic/lobby", "ROOM_DELETED:" + roomId);
+        lobbyRoomView.remove(roomId);
         log.debug("로비에 방 삭제 알림 전송: 방ID={}", roomId);
     }
 
@@ -485,10 +617,10 @@ public class RoomService {
         TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
             @Override
             public void afterCommit() {
+                roomStateStore.updateMeta(updatedRoom);
                 roomMessageService.sendRoomUpdated(updatedRoom);
 
-                MessageService roomService = messageServiceFactory.getRoomService();
-                roomService.send("/topic/lobby", "ROOM_UPDATED:" + updatedRoom.getId());
+                lobbyRoomView.upsert(updatedRoom);
                 log.debug("로비에 방 업데이트 알림 전송: 방ID={}", updatedRoom.getId());
             }
         });
@@ -0,0 +1,58 @@
+package com.ll.quizzle.domain.room.state;
+
+import java.util.Set;
+
+/**
+ * Room 엔티티의 players/readyPlayers 컬렉션을 그대로 사용하는 저장소. 변경은 트랜잭션 커밋 시 JPA 가 반영합니다.
+ */
+public class CollectionRoomMembership implements RoomMembership {
+
+    private final Set<Long> players;
+    private final Set<Long> readyPlayers;
+
+    public CollectionRoomMembership(Set<Long> players, Set<Long> readyPlayers) {
+        this.players = players;
+        this.readyPlayers = readyPlayers;
+    }
+
+    @Override
+    public Set<Long> players() {
+        return players;
+    }
+
+    @Override
+    public Set<Long> readyPlayers() {
+        return readyPlayers;
+    }
+
+    @Override
+    public boolean hasPlayer(Long memberId) {
+        return players.contains(memberId);
+    }
+
+    @Override
+    public boolean addPlayer(Long memberId) {
+        return players.add(memberId);
+    }
+
+    @Override
+    public void removePlayer(Long memberId) {
+        players.remove(memberId);
+        readyPlayers.remove(memberId);
+    }
+
+    @Override
+    public void ready(Long memberId) {
+        readyPlayers.add(memberId);
+    }
+
+    @Override
+    public void unready(Long memberId) {
+        readyPlayers.remove(memberId);
+    }
+
+    @Override
+    public void clearReady() {
+        readyPlayers.clear();
+    }
+}
@@ -0,0 +1,57 @@
+package com.ll.quizzle.domain.room.state;
+
+import java.util.Set;
+
+/**
+ * Redis 를 기준으로 하는 참가자/준비 상태. 읽기는 매번 Redis 에서 하고, 변경은 RoomStateStore 의 스크립트로 원자적으로 처리합니다.
+ */
+public class RedisRoomMembership implements RoomMembership {
+
+    private final Long roomId;
+    private final RoomStateStore store;
+
+    RedisRoomMembership(Long roomId, RoomStateStore store) {
+        this.roomId = roomId;
+        this.store = store;
+    }
+
+    @Override
+    public Set<Long> players() {
+        return store.players(roomId);
+    }
+
+    @Override
+    public Set<Long> readyPlayers() {
+        return store.readyPlayers(roomId);
+    }
+
+    @Override
+    public boolean hasPlayer(Long memberId) {
+        return store.hasPlayer(roomId, memberId);
+    }
+
+    @Override
+    public boolean addPlayer(Long memberId) {
+        return store.join(roomId, memberId);
+    }
+
+    @Override
+    public void removePlayer(Long memberId) {
+        store.leave(roomId, memberId);
+    }
+
+    @Override
+    public void ready(Long memberId) {
+        store.ready(roomId, memberId, true);
+    }
+
+    @Override
+    public void unready(Long memberId) {
+        store.ready(roomId, memberId, false);
+    }
+
+    @Override
+    public void clearReady() {
+        store.clearReady(roomId);
+    }
+}
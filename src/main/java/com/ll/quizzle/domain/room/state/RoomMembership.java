@@ -0,0 +1,33 @@
+package com.ll.quizzle.domain.room.state;
+
+import java.util.Set;
+
+/**
+ * 방 참가자와 준비 상태 저장소. Room 의 도메인 메서드는 이 인터페이스로만 참가자/준비 상태를 읽고 씁니다.
+ * - CollectionRoomMembership: 엔티티 컬렉션 (JPA 모드, 기본값)
+ * - RedisRoomMembership: Redis Set (REDIS 모드)
+ */
+public interface RoomMembership {
+
+    Set<Long> players();
+
+    Set<Long> readyPlayers();
+
+    boolean hasPlayer(Long memberId);
+
+    /**
+     * @return 새로 입장했으면 true, 이미 참가 중이면 false
+     */
+    boolean addPlayer(Long memberId);
+
+    /**
+     * 참가자에서 빼고 준비 상태도 함께 지웁니다.
+     */
+    void removePlayer(Long memberId);
+
+    void ready(Long memberId);
+
+    void unready(Long memberId);
+
+    void clearReady();
+}
@@ -0,0 +1,11 @@
+package com.ll.quizzle.domain.room.state;
+
+/**
+ * 방 참가자/준비 상태의 기준 저장소
+ * - JPA: room_players, room_ready_players 컬렉션 (기본값). 변경마다 방 락과 트랜잭션 안에서 컬렉션을 다시 씁니다.
+ * - REDIS: Redis Set 이 기준이며 스크립트로 원자적으로 변경합니다. DB 에는 주기적으로, 그리고 게임 시작/종료 시 체크포인트합니다.
+ */
+public enum RoomStateMode {
+    JPA,
+    REDIS
+}
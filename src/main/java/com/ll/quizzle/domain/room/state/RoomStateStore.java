@@ -0,0 +1,322 @@
+package com.ll.quizzle.domain.room.state;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.ll.quizzle.domain.room.entity.Room;
+import com.ll.quizzle.domain.room.repository.RoomRepository;
+import com.ll.quizzle.global.exceptions.ErrorCode;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 방 참가자/준비 상태 저장소를 선택하고, REDIS 모드에서는 Redis 상태와 DB 체크포인트를 관리합니다.
+ * - 상태: room:{roomId}:meta (방장, 정원, 상태), room:{roomId}:players, room:{roomId}:ready
+ *   Redis 에 상태가 없을 때만 DB 의 room_players, room_ready_players 를 읽어 초기화합니다. (state-seed.lua)
+ * - 변경: 입장/퇴장/준비는 state-*.lua 로 원자적으로 처리하고, 바뀐 방 ID 를 room:membership:dirty 에 모읍니다.
+ * - 체크포인트: checkpoint-interval 마다 dirty 방을 batch-size 개씩 꺼내 JDBC 로 컬렉션 테이블을 교체합니다.
+ *   게임 시작/종료처럼 DB 상태가 바로 필요할 때는 checkpoint 를 직접 호출합니다.
+ * - 만료: 방 상태 키는 읽거나 바꿀 때마다 ttl 을 다시 설정합니다. 삭제 알림을 놓친 방의 상태도 ttl 뒤에는 사라지며,
+ *   그 뒤에 방을 다시 읽으면 DB 체크포인트로 초기화합니다.
+ * JPA 모드(기본값)에서는 attach 를 포함한 모든 메서드가 아무것도 하지 않으며, Room 은 엔티티 컬렉션을 그대로 사용합니다.
+ * room.state.latency{store, op} 로 두 모드의 입장/퇴장/준비 처리 시간을 비교할 수 있습니다.
+ */
+@Slf4j
+@Component
+public class RoomStateStore {
+
+    public static final String DIRTY_KEY = "room:membership:dirty";
+    private static final long SEED_MISSING = -1L;
+
+    private static final RedisScript<Long> SEED_SCRIPT =
+            new DefaultRedisScript<>(new ClassPathResource("scripts/room/state-seed.lua"), Long.class);
+    private static final RedisScript<Long> JOIN_SCRIPT =
+            new DefaultRedisScript<>(new ClassPathResource("scripts/room/state-join.lua"), Long.class);
+    private static final RedisScript<Long> LEAVE_SCRIPT =
+            new DefaultRedisScript<>(new ClassPathResource("scripts/room/state-leave.lua"), Long.class);
+    private static final RedisScript<Long> READY_SCRIPT =
+            new DefaultRedisScript<>(new ClassPathResource("scripts/room/state-ready.lua"), Long.class);
+
+    private final RoomStateMode mode;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RoomRepository roomRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+    private final long checkpointIntervalMillis;
+    private final int checkpointBatchSize;
+    private final String ttlSeconds;
+    private final Counter checkpointCounter;
+    private final Counter checkpointFailureCounter;
+    private ScheduledExecutorService scheduler;
+
+    public RoomStateStore(@Value("${quizzle.room.state.store:jpa}") String mode,
+                          RedisTemplate<String, String> redisTemplate,
+                          RoomRepository roomRepository,
+                          PlatformTransactionManager transactionManager,
+                          MeterRegistry meterRegistry,
+                          @Value("${quizzle.room.state.checkpoint-interval-ms:1000}") long checkpointIntervalMillis,
+                          @Value("${quizzle.room.state.checkpoint-batch-size:100}") int checkpointBatchSize,
+                          @Value("${quizzle.room.state.ttl-hours:24}") long ttlHours) {
+        this.mode = RoomStateMode.valueOf(mode.trim().toUpperCase());
+        this.redisTemplate = redisTemplate;
+        this.roomRepository = roomRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.meterRegistry = meterRegistry;
+        this.checkpointIntervalMillis = checkpointIntervalMillis;
+        this.checkpointBatchSize = checkpointBatchSize;
+        this.ttlSeconds = String.valueOf(TimeUnit.HOURS.toSeconds(ttlHours));
+        this.checkpointCounter = Counter.builder("room.state.checkpoints")
+                .description("DB 에 체크포인트한 방 수")
+                .register(meterRegistry);
+        this.checkpointFailureCounter = Counter.builder("room.state.checkpoint.failures")
+                .description("체크포인트에 실패해 다시 대기열에 넣은 방 수")
+                .register(meterRegistry);
+        log.debug("방 상태 저장소: {}", this.mode);
+    }
+
+    @PostConstruct
+    public void start() {
+        if (!isRedis() || checkpointIntervalMillis <= 0) {
+            return;
+        }
+        scheduler = new ScheduledThreadPoolExecutor(1, new CustomizableThreadFactory("room-state-checkpoint-"));
+        scheduler.scheduleWithFixedDelay(this::checkpointDirtyQuietly,
+                checkpointIntervalMillis, checkpointIntervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (scheduler == null) {
+            return;
+        }
+        scheduler.shutdownNow();
+        // 종료 전에 남은 변경을 최대한 DB 에 남깁니다.
+        checkpointDirtyQuietly();
+    }
+
+    public RoomStateMode getMode() {
+        return mode;
+    }
+
+    public boolean isRedis() {
+        return mode == RoomStateMode.REDIS;
+    }
+
+    /**
+     * REDIS 모드이면 방에 Redis 참가자 상태를 붙입니다. 이미 Redis 에 상태가 있으면 만료 시간만 늘리고,
+     * 없을 때에만 DB 체크포인트 컬렉션을 읽어 초기화합니다. 그 사이 다른 노드가 먼저 초기화했다면 그 상태를 유지합니다.
+     */
+    public void attach(Room room) {
+        if (!isRedis() || room == null || room.getId() == null) {
+            return;
+        }
+
+        List<String> keys = List.of(metaKey(room.getId()), playersKey(room.getId()), readyKey(room.getId()));
+        Long result = redisTemplate.execute(SEED_SCRIPT, keys, ttlSeconds);
+        if (result != null && result == SEED_MISSING) {
+            redisTemplate.execute(SEED_SCRIPT, keys, seedArgs(room).toArray());
+        }
+        room.attachMembership(new RedisRoomMembership(room.getId(), this));
+    }
+
+    private List<String> seedArgs(Room room) {
+        List<String> args = new ArrayList<>();
+        args.add(ttlSeconds);
+        args.add(String.valueOf(room.getOwner().getId()));
+        args.add(String.valueOf(room.getCapacity()));
+        args.add(room.getStatus().name());
+        Set<Long> players = room.getCheckpointPlayers();
+        args.add(String.valueOf(players.size()));
+        players.forEach(memberId -> args.add(String.valueOf(memberId)));
+        room.getCheckpointReadyPlayers().forEach(memberId -> args.add(String.valueOf(memberId)));
+        return args;
+    }
+
+    /**
+     * 방장, 정원, 상태가 바뀐 뒤 호출합니다. 입장/준비 스크립트가 이 값을 기준으로 검사합니다.
+     */
+    public void updateMeta(Room room) {
+        if (!isRedis()) {
+            return;
+        }
+        redisTemplate.opsForHash().putAll(metaKey(room.getId()), Map.of(
+                "owner", String.valueOf(room.getOwner().getId()),
+                "capacity", String.valueOf(room.getCapacity()),
+                "status", room.getStatus().name()));
+        redisTemplate.expire(metaKey(room.getId()), Long.parseLong(ttlSeconds), TimeUnit.SECONDS);
+    }
+
+    /**
+     * 삭제된 방의 Redis 상태를 지웁니다.
+     */
+    public void evict(Long roomId) {
+        if (!isRedis()) {
+            return;
+        }
+        redisTemplate.delete(List.of(metaKey(roomId), playersKey(roomId), readyKey(roomId)));
+        redisTemplate.opsForSet().remove(DIRTY_KEY, String.valueOf(roomId));
+    }
+
+    /**
+     * 방의 현재 Redis 상태를 바로 DB 에 저장합니다. 호출한 트랜잭션과 별도로 커밋됩니다.
+     */
+    public void checkpoint(Long roomId) {
+        if (!isRedis()) {
+            return;
+        }
+        redisTemplate.opsForSet().remove(DIRTY_KEY, String.valueOf(roomId));
+        checkpointOrRequeue(roomId);
+    }
+
+    /**
+     * 아직 체크포인트되지 않은 방 중 memberId 가 참가 중인 방. DB 의 참가자 테이블 조회에 더해 사용합니다.
+     * JPA 모드에서는 DB 가 항상 최신이므로 빈 집합입니다.
+     */
+    public Set<Long> pendingRoomsOf(Long memberId) {
+        if (!isRedis()) {
+            return Set.of();
+        }
+        return toIds(redisTemplate.opsForSet().members(DIRTY_KEY)).stream()
+                .filter(roomId -> hasPlayer(roomId, memberId))
+                .collect(Collectors.toSet());
+    }
+
+    public void recordLatency(String operation, long startNanos) {
+        Timer.builder("room.state.latency")
+                .tag("store", mode.name().toLowerCase())
+                .tag("op", operation)
+                .description("방 입장/퇴장/준비 처리 시간")
+                .register(meterRegistry)
+                .record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+    }
+
+    Set<Long> players(Long roomId) {
+        return toIds(redisTemplate.opsForSet().members(playersKey(roomId)));
+    }
+
+    Set<Long> readyPlayers(Long roomId) {
+        return toIds(redisTemplate.opsForSet().members(readyKey(roomId)));
+    }
+
+    boolean hasPlayer(Long roomId, Long memberId) {
+        return Boolean.TRUE.equals(redisTemplate.opsForSet().isMember(playersKey(roomId), String.valueOf(memberId)));
+    }
+
+    boolean join(Long roomId, Long memberId) {
+        Long result = redisTemplate.execute(JOIN_SCRIPT, List.of(metaKey(roomId), playersKey(roomId), DIRTY_KEY),
+                String.valueOf(memberId), String.valueOf(roomId), ttlSeconds);
+        if (result == null || result == -2) {
+            throw ErrorCode.ROOM_NOT_FOUND.throwServiceException();
+        }
+        if (result == -1) {
+            throw ErrorCode.ROOM_IS_FULL.throwServiceException();
+        }
+        if (result == -3) {
+            throw ErrorCode.GAME_ALREADY_STARTED.throwServiceException();
+        }
+        return result == 1;
+    }
+
+    void leave(Long roomId, Long memberId) {
+        redisTemplate.execute(LEAVE_SCRIPT, List.of(playersKey(roomId), readyKey(roomId), DIRTY_KEY),
+                String.valueOf(memberId), String.valueOf(roomId));
+    }
+
+    void ready(Long roomId, Long memberId, boolean ready) {
+        redisTemplate.execute(READY_SCRIPT,
+                List.of(metaKey(roomId), playersKey(roomId), readyKey(roomId), DIRTY_KEY),
+                String.valueOf(memberId), String.valueOf(roomId), ready ? "1" : "0", ttlSeconds);
+    }
+
+    void clearReady(Long roomId) {
+        redisTemplate.delete(readyKey(roomId));
+        redisTemplate.opsForSet().add(DIRTY_KEY, String.valueOf(roomId));
+    }
+
+    /**
+     * dirty 방을 최대 batch-size 개 꺼내 체크포인트합니다.
+     *
+     * @return 꺼낸 방 수
+     */
+    int checkpointDirty() {
+        List<String> roomIds = redisTemplate.opsForSet().pop(DIRTY_KEY, checkpointBatchSize);
+        if (roomIds == null || roomIds.isEmpty()) {
+            return 0;
+        }
+        for (String roomId : roomIds) {
+            checkpointOrRequeue(Long.valueOf(roomId));
+        }
+        return roomIds.size();
+    }
+
+    private void checkpointDirtyQuietly() {
+        try {
+            checkpointDirty();
+        } catch (Exception e) {
+            log.error("방 상태 체크포인트 실패: {}", e.getMessage());
+        }
+    }
+
+    private void checkpointOrRequeue(Long roomId) {
+        try {
+            Set<Long> players = players(roomId);
+            Set<Long> readyPlayers = readyPlayers(roomId);
+            Boolean exists = transactionTemplate.execute(status ->
+                    roomRepository.replaceMembership(roomId, players, readyPlayers));
+            if (Boolean.FALSE.equals(exists)) {
+                log.debug("체크포인트 대상 방이 삭제되어 Redis 상태를 지웁니다: 방ID={}", roomId);
+                evict(roomId);
+                return;
+            }
+            checkpointCounter.increment();
+        } catch (Exception e) {
+            // 다음 주기에 다시 시도합니다. 그 사이 변경이 있어도 체크포인트는 항상 최신 Redis 상태를 씁니다.
+            checkpointFailureCounter.increment();
+            redisTemplate.opsForSet().add(DIRTY_KEY, String.valueOf(roomId));
+            log.warn("방 상태 체크포인트 실패, 다시 대기열에 넣습니다: 방ID={}, 오류={}", roomId, e.getMessage());
+        }
+    }
+
+    private static Set<Long> toIds(Collection<String> values) {
+        if (values == null) {
+            return Set.of();
+        }
+        return values.stream().map(Long::valueOf).collect(Collectors.toSet());
+    }
+
+    static String metaKey(Long roomId) {
+        return "room:" + roomId + ":meta";
+    }
+
+    static String playersKey(Long roomId) {
+        return "room:" + roomId + ":players";
+    }
+
+    static String readyKey(Long roomId) {
+        return "room:" + roomId + ":ready";
+    }
+}
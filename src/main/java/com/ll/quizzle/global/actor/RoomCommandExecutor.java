@@ -0,0 +1,202 @@
+package com.ll.quizzle.global.actor;
+
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.ll.quizzle.global.exceptions.ErrorCode;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 방 단위 명령을 실행합니다.
+ * ACTOR 모드에서는 같은 키(room:{roomId})의 명령이 하나의 메일박스에 쌓이고, 가상 스레드 위의 논리적 액터 하나가
+ * 도착 순서대로 한 번에 하나씩 실행합니다. 액터를 거친 같은 방의 명령은 서로 겹치지 않아 방 락을 기다리지 않습니다.
+ * 연결 해제(RoomService.handleDisconnect)와 블랙리스트 처리는 액터를 거치지 않으므로, 액터 안의 명령도 Redis 방 락은 그대로 잡습니다.
+ * - 순서: 같은 키의 명령은 메일박스에 들어간 순서대로 실행됩니다. 서로 다른 키 사이의 순서는 보장하지 않습니다.
+ * - 배치: 액터는 한 번 깨어날 때 최대 batchSize 개의 명령을 연속으로 처리합니다.
+ * - 배압: 메일박스가 가득 차면 기다리지 않고 ROOM_COMMAND_QUEUE_FULL 로 거절합니다.
+ * - 재진입: 액터 안에서 같은 키로 다시 호출하면 메일박스를 거치지 않고 바로 실행합니다.
+ * 액터는 노드 로컬이므로, 여러 노드에서 ACTOR 모드를 쓰려면 같은 방의 요청이 한 노드로 모여야 합니다.
+ * (quizzle.cluster.enabled 를 켜면 방 명령이 RoomOwnership 이 고른 담당 노드로 모입니다)
+ */
+@Slf4j
+@Component
+public class RoomCommandExecutor {
+
+    private static final ThreadLocal<String> CURRENT_ACTOR = new ThreadLocal<>();
+
+    private final RoomExecutionMode mode;
+    private final int mailboxCapacity;
+    private final int batchSize;
+    private final Map<String, Mailbox> mailboxes = new ConcurrentHashMap<>();
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final Counter rejectedCounter;
+
+    public RoomCommandExecutor(@Value("${quizzle.room.execution-mode:lock}") String mode,
+                               @Value("${quizzle.room.actor.mailbox-capacity:256}") int mailboxCapacity,
+                               @Value("${quizzle.room.actor.batch-size:32}") int batchSize,
+                               MeterRegistry meterRegistry) {
+        this.mode = RoomExecutionMode.valueOf(mode.trim().toUpperCase());
+        this.mailboxCapacity = mailboxCapacity;
+        this.batchSize = batchSize;
+        this.rejectedCounter = Counter.builder("room.actor.rejected")
+                .description("메일박스가 가득 차 거절된 방 명령 수")
+                .register(meterRegistry);
+        meterRegistry.gauge("room.actor.mailboxes", mailboxes, Map::size);
+        log.debug("방 명령 실행 모드: {}", this.mode);
+    }
+
+    public static String roomKey(Object roomId) {
+        return "room:" + roomId;
+    }
+
+    /**
+     * 현재 스레드가 해당 키의 액터 안에서 실행 중인지 확인합니다.
+     */
+    public static boolean isRunningIn(String actorKey) {
+        return actorKey != null && actorKey.equals(CURRENT_ACTOR.get());
+    }
+
+    public RoomExecutionMode getMode() {
+        return mode;
+    }
+
+    public void run(String actorKey, Runnable command) {
+        call(actorKey, () -> {
+            command.run();
+            return null;
+        });
+    }
+
+    /**
+     * 명령을 실행하고 결과를 돌려줍니다. ACTOR 모드에서는 액터가 실행을 마칠 때까지 호출 스레드가 기다리며,
+     * 명령에서 발생한 예외는 그대로 다시 던집니다.
+     */
+    public <T> T call(String actorKey, Supplier<T> command) {
+        if (mode == RoomExecutionMode.LOCK || isRunningIn(actorKey)) {
+            return command.get();
+        }
+
+        Command<T> queued = new Command<>(command);
+        enqueue(actorKey, queued);
+
+        try {
+            return queued.result.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("방 명령 처리 대기 중 인터럽트되었습니다.", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException(cause);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    private void enqueue(String actorKey, Command<?> command) {
+        AtomicBoolean accepted = new AtomicBoolean();
+        // 메일박스 생성/제거와 적재를 같은 compute 안에서 처리하여, 제거되는 메일박스에 명령이 남지 않도록 합니다.
+        mailboxes.compute(actorKey, (key, mailbox) -> {
+            Mailbox target = mailbox != null ? mailbox : new Mailbox(key, mailboxCapacity);
+            if (target.queue.offer(command)) {
+                accepted.set(true);
+                target.schedule();
+            }
+            return target;
+        });
+
+        if (!accepted.get()) {
+            rejectedCounter.increment();
+            log.debug("방 명령 메일박스 가득 참: {}", actorKey);
+            ErrorCode.ROOM_COMMAND_QUEUE_FULL.throwServiceException();
+        }
+    }
+
+    private final class Mailbox implements Runnable {
+
+        private final String key;
+        private final BlockingQueue<Command<?>> queue;
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+
+        private Mailbox(String key, int capacity) {
+            this.key = key;
+            this.queue = new ArrayBlockingQueue<>(capacity);
+        }
+
+        private void schedule() {
+            if (scheduled.compareAndSet(false, true)) {
+                executor.execute(this);
+            }
+        }
+
+        @Override
+        public void run() {
+            CURRENT_ACTOR.set(key);
+            try {
+                for (int processed = 0; processed < batchSize; processed++) {
+                    Command<?> command = queue.poll();
+                    if (command == null) {
+                        break;
+                    }
+                    command.execute();
+                }
+            } finally {
+                CURRENT_ACTOR.remove();
+                scheduled.set(false);
+                mailboxes.compute(key, (k, mailbox) -> {
+                    if (mailbox != this) {
+                        return mailbox;
+                    }
+                    if (queue.isEmpty()) {
+                        // 그 사이 새 명령으로 다시 실행이 예약되었다면 메일박스를 유지합니다.
+                        return scheduled.get() ? this : null;
+                    }
+                    // 처리하지 못한 명령이 남아 있으면 다른 메일박스에 양보한 뒤 다시 실행합니다.
+                    schedule();
+                    return this;
+                });
+            }
+        }
+    }
+
+    private static final class Command<T> {
+
+        private final Supplier<T> task;
+        private final CompletableFuture<T> result = new CompletableFuture<>();
+
+        private Command(Supplier<T> task) {
+            this.task = task;
+        }
+
+        private void execute() {
+            try {
+                result.complete(task.get());
+            } catch (Throwable e) {
+                result.completeExceptionally(e);
+            }
+        }
+    }
+}
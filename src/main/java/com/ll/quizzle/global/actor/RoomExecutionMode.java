@@ -0,0 +1,11 @@
+package com.ll.quizzle.global.actor;
+
+/**
+ * 방 단위 명령의 실행 방식
+ * - LOCK: 호출 스레드에서 바로 실행하고 일관성은 분산 락과 트랜잭션 격리 수준에 맡깁니다. (기본값)
+ * - ACTOR: 방마다 하나의 메일박스에 넣고 한 번에 하나씩 순서대로 실행합니다.
+ */
+public enum RoomExecutionMode {
+    LOCK,
+    ACTOR
+}
@@ -0,0 +1,213 @@
+package com.ll.quizzle.global.cluster;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Redis 에 둔 노드 목록입니다. 각 노드는 heartbeat-interval 마다 cluster:nodes(ZSet, 점수는 마지막 하트비트 시각)에
+ * 자신을 갱신하고, 주소는 cluster:nodes:address(Hash)에 기록합니다.
+ * - 탈락: node-ttl 동안 하트비트가 없는 노드는 어느 노드든 발견하는 즉시 목록에서 지웁니다.
+ * - 전파: 노드가 들어오거나 나가거나 탈락시키면 cluster:membership 채널로 알려, 다른 노드가 다음 하트비트를 기다리지 않고 목록을 다시 읽습니다.
+ * - 목록이 바뀌면 ClusterMembershipChangedEvent 를 발행합니다.
+ * 비활성화(기본값)하면 Redis 를 쓰지 않고 자기 자신만 있는 단일 노드로 동작합니다.
+ */
+@Slf4j
+@Component
+public class ClusterMembership implements MessageListener {
+
+    public static final String NODES_KEY = "cluster:nodes";
+    public static final String ADDRESSES_KEY = "cluster:nodes:address";
+    public static final String MEMBERSHIP_CHANNEL = "cluster:membership";
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final ApplicationEventPublisher eventPublisher;
+    private final boolean enabled;
+    private final String nodeId;
+    private final String advertisedUrl;
+    private final long heartbeatIntervalMillis;
+    private final long nodeTtlMillis;
+    private final ScheduledExecutorService scheduler;
+    private final Counter changeCounter;
+    private final Counter evictionCounter;
+
+    // 아래 상태는 this 로 동기화해 갱신하고, 읽기는 volatile 로 합니다.
+    private volatile List<String> liveNodes;
+    private volatile Map<String, String> addresses = Map.of();
+    private volatile long lastChangeMillis;
+
+    public ClusterMembership(RedisTemplate<String, String> redisTemplate,
+                             RedisMessageListenerContainer listenerContainer,
+                             ApplicationEventPublisher eventPublisher,
+                             MeterRegistry meterRegistry,
+                             @Value("${quizzle.cluster.enabled:false}") boolean enabled,
+                             @Value("${quizzle.cluster.node-id:}") String nodeId,
+                             @Value("${quizzle.cluster.advertised-url:http://localhost:8080}") String advertisedUrl,
+                             @Value("${quizzle.cluster.heartbeat-interval-ms:1000}") long heartbeatIntervalMillis,
+                             @Value("${quizzle.cluster.node-ttl-ms:5000}") long nodeTtlMillis) {
+        this.redisTemplate = redisTemplate;
+        this.listenerContainer = listenerContainer;
+        this.eventPublisher = eventPublisher;
+        this.enabled = enabled;
+        this.nodeId = nodeId == null || nodeId.isBlank() ? UUID.randomUUID().toString() : nodeId.trim();
+        this.advertisedUrl = advertisedUrl;
+        this.heartbeatIntervalMillis = heartbeatIntervalMillis;
+        this.nodeTtlMillis = nodeTtlMillis;
+        this.scheduler = new ScheduledThreadPoolExecutor(1, new CustomizableThreadFactory("cluster-membership-"));
+        this.liveNodes = List.of(this.nodeId);
+        this.lastChangeMillis = System.currentTimeMillis();
+        this.changeCounter = Counter.builder("cluster.membership.changes")
+                .description("살아 있는 노드 목록이 바뀐 횟수")
+                .register(meterRegistry);
+        this.evictionCounter = Counter.builder("cluster.membership.evictions")
+                .description("하트비트가 끊겨 목록에서 지운 노드 수")
+                .register(meterRegistry);
+
+        Gauge.builder("cluster.membership.nodes", this, membership -> membership.liveNodes.size())
+                .description("이 노드가 보고 있는 살아 있는 노드 수")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void init() {
+        if (!enabled) {
+            log.debug("클러스터 비활성화: 단일 노드로 동작합니다. 노드 ID={}", nodeId);
+            return;
+        }
+        listenerContainer.addMessageListener(this, new ChannelTopic(MEMBERSHIP_CHANNEL));
+        heartbeat(System.currentTimeMillis());
+        redisTemplate.convertAndSend(MEMBERSHIP_CHANNEL, "join:" + nodeId);
+        scheduler.scheduleWithFixedDelay(() -> runSafely(() -> heartbeat(System.currentTimeMillis())),
+                heartbeatIntervalMillis, heartbeatIntervalMillis, TimeUnit.MILLISECONDS);
+        log.debug("클러스터 참여: 노드 ID={}, 주소={}", nodeId, advertisedUrl);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdownNow();
+        if (!enabled) {
+            return;
+        }
+        try {
+            redisTemplate.opsForZSet().remove(NODES_KEY, nodeId);
+            redisTemplate.opsForHash().delete(ADDRESSES_KEY, nodeId);
+            redisTemplate.convertAndSend(MEMBERSHIP_CHANNEL, "leave:" + nodeId);
+            log.debug("클러스터 탈퇴: 노드 ID={}", nodeId);
+        } catch (Exception e) {
+            log.warn("클러스터 탈퇴 기록 실패, node-ttl 뒤 다른 노드가 지웁니다: {}", e.getMessage());
+        }
+    }
+
+    @Override
+    public void onMessage(@NonNull Message message, byte[] pattern) {
+        // 리스너 스레드를 막지 않도록 하트비트 스레드에서 다시 읽습니다.
+        scheduler.execute(() -> runSafely(() -> refresh(System.currentTimeMillis())));
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    /**
+     * 살아 있는 노드 ID 목록 (ID 순)
+     */
+    public List<String> liveNodes() {
+        return liveNodes;
+    }
+
+    /**
+     * 노드의 광고 주소. 모르는 노드면 null 입니다.
+     */
+    public String addressOf(String node) {
+        return nodeId.equals(node) ? advertisedUrl : addresses.get(node);
+    }
+
+    /**
+     * 노드 목록이 마지막으로 바뀐 뒤 지난 시간
+     */
+    public long stableForMillis() {
+        return System.currentTimeMillis() - lastChangeMillis;
+    }
+
+    public static String nodeChannel(String node, String suffix) {
+        return "cluster:node:" + node + ":" + suffix;
+    }
+
+    void heartbeat(long now) {
+        redisTemplate.opsForZSet().add(NODES_KEY, nodeId, now);
+        redisTemplate.opsForHash().put(ADDRESSES_KEY, nodeId, advertisedUrl);
+        refresh(now);
+    }
+
+    synchronized void refresh(long now) {
+        long aliveAfter = now - nodeTtlMillis;
+
+        Set<String> expired = redisTemplate.opsForZSet().rangeByScore(NODES_KEY, 0, aliveAfter);
+        if (expired != null && !expired.isEmpty()) {
+            redisTemplate.opsForZSet().removeRangeByScore(NODES_KEY, 0, aliveAfter);
+            redisTemplate.opsForHash().delete(ADDRESSES_KEY, expired.toArray());
+            evictionCounter.increment(expired.size());
+            redisTemplate.convertAndSend(MEMBERSHIP_CHANNEL, "evict:" + String.join(",", expired));
+            log.info("하트비트가 끊긴 노드 제거: {}", expired);
+        }
+
+        Set<String> alive = redisTemplate.opsForZSet().rangeByScore(NODES_KEY, aliveAfter, Double.POSITIVE_INFINITY);
+        List<String> current = new ArrayList<>(alive == null ? Set.of() : alive);
+        // 자기 하트비트가 늦어진 경우에도 자신은 살아 있는 것으로 봅니다.
+        if (!current.contains(nodeId)) {
+            current.add(nodeId);
+        }
+        current.sort(null);
+
+        Map<String, String> currentAddresses = new HashMap<>();
+        redisTemplate.<String, String>opsForHash().entries(ADDRESSES_KEY).forEach(currentAddresses::put);
+        addresses = currentAddresses;
+
+        List<String> previous = liveNodes;
+        if (previous.equals(current)) {
+            return;
+        }
+        liveNodes = List.copyOf(current);
+        lastChangeMillis = System.currentTimeMillis();
+        changeCounter.increment();
+        log.info("노드 목록 변경: {} -> {}", previous, current);
+        eventPublisher.publishEvent(new ClusterMembershipChangedEvent(previous, liveNodes));
+    }
+
+    private static void runSafely(Runnable task) {
+        try {
+            task.run();
+        } catch (Exception e) {
+            log.warn("클러스터 노드 목록 갱신 실패: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package com.ll.quizzle.global.cluster;
+
+import java.util.List;
+
+/**
+ * 살아 있는 노드 목록이 바뀌었을 때 발행됩니다. 두 목록 모두 노드 ID 순으로 정렬되어 있습니다.
+ */
+public record ClusterMembershipChangedEvent(
+        List<String> previousNodes,
+        List<String> currentNodes
+) {
+}
@@ -0,0 +1,55 @@
+package com.ll.quizzle.global.cluster;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+
+/**
+ * 랑데부(최고 가중치) 해싱. 키마다 모든 노드의 가중치를 계산해 가장 큰 노드를 담당 노드로 고릅니다.
+ * 노드가 빠지면 그 노드가 맡던 키만 다른 노드로 옮겨 가고, 노드가 들어오면 전체 키의 약 1/n 만 새 노드로 옮겨 갑니다.
+ * 노드마다 같은 결과를 내야 하므로 JVM 에 따라 달라지지 않는 FNV-1a 와 고정 혼합 함수만 사용합니다.
+ */
+public final class RendezvousHash {
+
+    private static final long FNV_OFFSET = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private RendezvousHash() {
+    }
+
+    /**
+     * 키의 담당 노드를 돌려줍니다. 노드가 없으면 null 입니다. 가중치가 같으면 ID 가 작은 노드를 고릅니다.
+     */
+    public static String owner(String key, Collection<String> nodes) {
+        String owner = null;
+        long best = 0;
+        for (String node : nodes) {
+            long weight = weight(node, key);
+            if (owner == null || Long.compareUnsigned(weight, best) > 0
+                    || (weight == best && node.compareTo(owner) < 0)) {
+                owner = node;
+                best = weight;
+            }
+        }
+        return owner;
+    }
+
+    static long weight(String node, String key) {
+        return mix(hash(node) ^ Long.rotateLeft(hash(key), 31));
+    }
+
+    private static long hash(String value) {
+        long hash = FNV_OFFSET;
+        for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b & 0xff;
+            hash *= FNV_PRIME;
+        }
+        return hash;
+    }
+
+    // SplitMix64 의 마무리 단계
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+}
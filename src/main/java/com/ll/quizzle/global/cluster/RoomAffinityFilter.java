@@ -0,0 +1,147 @@
+package com.ll.quizzle.global.cluster;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.springframework.stereotype.Component;
+import org.springframework.util.StreamUtils;
+import org.springframework.web.client.RestClientException;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 방 상태를 바꾸는 REST 요청(/api/v1/rooms/{roomId}/**, GET 제외)을 방 담당 노드로 넘깁니다.
+ * - 이미 한 번 넘어온 요청은 담당 노드가 아니더라도 이 노드에서 처리하여, 노드 목록이 바뀌는 중에도 요청이 노드 사이를 돌지 않습니다.
+ *   넘어온 요청인지는 RoomRequestForwarder.isForwardedByPeer 로 확인하며, 클라이언트가 붙인 전달 헤더는 믿지 않습니다.
+ * - 담당 노드에 연결하지 못하면 (하트비트가 끊겨 목록에서 빠지기 전) 이 노드에서 처리합니다.
+ * Spring Security 필터 체인 뒤에서 실행되므로 인증되지 않은 요청은 넘기지 않습니다.
+ */
+@Slf4j
+@Component
+public class RoomAffinityFilter extends OncePerRequestFilter {
+
+    private static final Pattern ROOM_PATH = Pattern.compile("^/api/v1/rooms/(\\d+)(?:/.*)?$");
+    private static final Set<String> READ_METHODS = Set.of("GET", "HEAD", "OPTIONS");
+
+    private final RoomOwnership roomOwnership;
+    private final RoomRequestForwarder forwarder;
+    private final Counter forwardedCounter;
+    private final Counter fallbackCounter;
+    private final Counter failedCounter;
+
+    public RoomAffinityFilter(RoomOwnership roomOwnership, RoomRequestForwarder forwarder, MeterRegistry meterRegistry) {
+        this.roomOwnership = roomOwnership;
+        this.forwarder = forwarder;
+        this.forwardedCounter = forwardCounter(meterRegistry, "forwarded");
+        this.fallbackCounter = forwardCounter(meterRegistry, "fallback");
+        this.failedCounter = forwardCounter(meterRegistry, "failed");
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !roomOwnership.isEnabled()
+                || READ_METHODS.contains(request.getMethod())
+                || forwarder.isForwardedByPeer(request)
+                || !ROOM_PATH.matcher(request.getRequestURI()).matches();
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        Matcher matcher = ROOM_PATH.matcher(request.getRequestURI());
+        String ownerAddress = matcher.matches() ? roomOwnership.remoteOwnerAddress(matcher.group(1)) : null;
+        if (ownerAddress == null) {
+            chain.doFilter(request, response);
+            return;
+        }
+
+        byte[] body = StreamUtils.copyToByteArray(request.getInputStream());
+        try {
+            if (forwarder.forward(request, body, response, ownerAddress)) {
+                forwardedCounter.increment();
+                return;
+            }
+        } catch (RestClientException e) {
+            // 담당 노드가 요청을 받은 뒤 실패했으므로 이미 처리되었을 수 있어 다시 실행하지 않습니다.
+            failedCounter.increment();
+            log.warn("방 요청 전달 실패: {} {} -> {}, {}", request.getMethod(), request.getRequestURI(), ownerAddress,
+                    e.getMessage());
+            response.sendError(HttpServletResponse.SC_BAD_GATEWAY);
+            return;
+        }
+
+        fallbackCounter.increment();
+        chain.doFilter(new CachedBodyRequest(request, body), response);
+    }
+
+    private static Counter forwardCounter(MeterRegistry meterRegistry, String outcome) {
+        return Counter.builder("room.affinity.requests")
+                .tag("transport", "rest")
+                .tag("outcome", outcome)
+                .description("담당 노드가 아닌 노드에 도착한 방 요청 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 전달하려고 이미 읽은 본문을 이 노드에서 처리할 때 다시 읽을 수 있게 합니다.
+     */
+    private static final class CachedBodyRequest extends HttpServletRequestWrapper {
+
+        private final byte[] body;
+
+        private CachedBodyRequest(HttpServletRequest request, byte[] body) {
+            super(request);
+            this.body = body;
+        }
+
+        @Override
+        public ServletInputStream getInputStream() {
+            ByteArrayInputStream in = new ByteArrayInputStream(body);
+            return new ServletInputStream() {
+                @Override
+                public boolean isFinished() {
+                    return in.available() == 0;
+                }
+
+                @Override
+                public boolean isReady() {
+                    return true;
+                }
+
+                @Override
+                public void setReadListener(ReadListener readListener) {
+                    throw new UnsupportedOperationException();
+                }
+
+                @Override
+                public int read() {
+                    return in.read();
+                }
+            };
+        }
+
+        @Override
+        public BufferedReader getReader() {
+            Charset charset = getCharacterEncoding() == null
+                    ? StandardCharsets.UTF_8 : Charset.forName(getCharacterEncoding());
+            return new BufferedReader(new InputStreamReader(getInputStream(), charset));
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package com.ll.quizzle.global.cluster;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 방을 담당하는 노드를 정합니다. 방 ID 를 키로 살아 있는 노드 목록에 랑데부 해싱을 적용하므로,
+ * 모든 노드가 같은 노드 목록을 보고 있으면 별도 조율 없이 같은 담당 노드를 고릅니다.
+ * - 라우팅: 담당 노드가 아닌 노드에 도착한 방 명령(REST, STOMP)은 담당 노드로 넘깁니다.
+ * - 로컬 락: 담당 노드는 Redis 방 락 앞에 노드 로컬 락을 먼저 잡아, 같은 방 명령이 노드 안에서 줄을 서고 Redis 락은 한 번에
+ *   하나만 기다리게 합니다. 연결 해제 처리처럼 담당 노드를 거치지 않는 변경이 있으므로 Redis 락은 생략하지 않습니다.
+ *   노드 목록이 바뀐 직후에는 목록이 handoff-grace 동안 바뀌지 않았을 때만 로컬 락을 씁니다.
+ * 클러스터가 비활성화되어 있으면 라우팅과 로컬 락을 모두 쓰지 않습니다.
+ */
+@Slf4j
+@Component
+public class RoomOwnership {
+
+    private final ClusterMembership membership;
+    private final boolean localRoomLocks;
+    private final long handoffGraceMillis;
+    private final Counter rebalanceCounter;
+    private final Counter movedRoomsCounter;
+
+    public RoomOwnership(ClusterMembership membership,
+                         MeterRegistry meterRegistry,
+                         @Value("${quizzle.cluster.local-room-locks:true}") boolean localRoomLocks,
+                         @Value("${quizzle.cluster.handoff-grace-ms:5000}") long handoffGraceMillis) {
+        this.membership = membership;
+        this.localRoomLocks = localRoomLocks;
+        this.handoffGraceMillis = handoffGraceMillis;
+        this.rebalanceCounter = Counter.builder("room.ownership.rebalances")
+                .description("노드 목록 변경으로 방 담당 노드를 다시 계산한 횟수")
+                .register(meterRegistry);
+        this.movedRoomsCounter = Counter.builder("room.ownership.adopted")
+                .description("다른 노드에서 이 노드로 넘어온 진행 중인 방 수")
+                .register(meterRegistry);
+    }
+
+    public boolean isEnabled() {
+        return membership.isEnabled();
+    }
+
+    public String localNode() {
+        return membership.getNodeId();
+    }
+
+    public String ownerOf(Object roomId) {
+        return RendezvousHash.owner(String.valueOf(roomId), membership.liveNodes());
+    }
+
+    /**
+     * 이 노드가 방을 담당하는지 확인합니다. 클러스터가 비활성화되어 있으면 항상 true 입니다.
+     */
+    public boolean isLocal(Object roomId) {
+        return !membership.isEnabled() || membership.getNodeId().equals(ownerOf(roomId));
+    }
+
+    /**
+     * 방 담당 노드의 주소. 이 노드가 담당하거나 주소를 모르면 null 입니다.
+     */
+    public String remoteOwnerAddress(Object roomId) {
+        if (isLocal(roomId)) {
+            return null;
+        }
+        return membership.addressOf(ownerOf(roomId));
+    }
+
+    /**
+     * 방 락 앞에 노드 로컬 락을 함께 잡아야 하는지 확인합니다.
+     */
+    public boolean holdsLocalLock(Object roomId) {
+        return membership.isEnabled()
+                && localRoomLocks
+                && membership.stableForMillis() >= handoffGraceMillis
+                && isLocal(roomId);
+    }
+
+    /**
+     * 노드 목록이 바뀌기 전에는 다른 노드가 담당했지만 지금은 이 노드가 담당하는 방인지 확인합니다.
+     */
+    public boolean isAdopted(Object roomId, ClusterMembershipChangedEvent event) {
+        String key = String.valueOf(roomId);
+        String self = membership.getNodeId();
+        boolean adopted = self.equals(RendezvousHash.owner(key, event.currentNodes()))
+                && !self.equals(RendezvousHash.owner(key, event.previousNodes()));
+        if (adopted) {
+            movedRoomsCounter.increment();
+        }
+        return adopted;
+    }
+
+    @EventListener
+    public void onMembershipChanged(ClusterMembershipChangedEvent event) {
+        rebalanceCounter.increment();
+        log.debug("방 담당 노드 재계산: {} -> {}", event.previousNodes(), event.currentNodes());
+    }
+}
@@ -0,0 +1,122 @@
+package com.ll.quizzle.global.cluster;
+
+import java.io.IOException;
+import java.net.ConnectException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.Set;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StreamUtils;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestClient;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 방 REST 요청을 담당 노드로 그대로 넘기고 응답을 그대로 돌려줍니다.
+ * 인증은 담당 노드가 원래 요청의 헤더(Authorization, Cookie)로 다시 확인합니다.
+ * 넘긴 요청에는 보낸 노드 ID 와 노드끼리 나눈 비밀값(quizzle.cluster.forward.secret)을 붙여, 클라이언트가 헤더를 꾸며
+ * 담당 노드 라우팅을 건너뛰지 못하게 합니다. 비밀값을 비워 두면 넘어온 요청도 다시 라우팅 대상이 됩니다.
+ */
+@Slf4j
+@Component
+public class RoomRequestForwarder {
+
+    public static final String FORWARDED_HEADER = "X-Quizzle-Forwarded-By";
+    public static final String SECRET_HEADER = "X-Quizzle-Forward-Secret";
+
+    private static final Set<String> HOP_BY_HOP_HEADERS = Set.of(
+            "connection", "keep-alive", "proxy-authenticate", "proxy-authorization", "te", "trailer",
+            "transfer-encoding", "upgrade", "host", "content-length");
+
+    private final RestClient restClient;
+    private final ClusterMembership membership;
+    private final String nodeId;
+    private final byte[] secret;
+
+    public RoomRequestForwarder(ClusterMembership membership,
+                                @Value("${quizzle.cluster.forward.connect-timeout-ms:500}") long connectTimeoutMillis,
+                                @Value("${quizzle.cluster.forward.read-timeout-ms:15000}") long readTimeoutMillis,
+                                @Value("${quizzle.cluster.forward.secret:}") String secret) {
+        SimpleClientHttpRequestFactory requestFactory = new SimpleClientHttpRequestFactory();
+        requestFactory.setConnectTimeout(Duration.ofMillis(connectTimeoutMillis));
+        requestFactory.setReadTimeout(Duration.ofMillis(readTimeoutMillis));
+        this.restClient = RestClient.builder().requestFactory(requestFactory).build();
+        this.membership = membership;
+        this.nodeId = membership.getNodeId();
+        this.secret = secret == null ? new byte[0] : secret.getBytes(StandardCharsets.UTF_8);
+        if (membership.isEnabled() && this.secret.length == 0) {
+            log.warn("quizzle.cluster.forward.secret 이 비어 있어 넘어온 방 요청도 담당 노드를 다시 확인합니다.");
+        }
+    }
+
+    /**
+     * 살아 있는 다른 노드가 비밀값을 붙여 넘긴 요청인지 확인합니다. 헤더만 있고 확인되지 않는 요청은 클라이언트가 보낸 것으로 봅니다.
+     */
+    public boolean isForwardedByPeer(HttpServletRequest request) {
+        String from = request.getHeader(FORWARDED_HEADER);
+        String presented = request.getHeader(SECRET_HEADER);
+        if (from == null || presented == null || secret.length == 0) {
+            return false;
+        }
+        return MessageDigest.isEqual(secret, presented.getBytes(StandardCharsets.UTF_8))
+                && membership.liveNodes().contains(from);
+    }
+
+    /**
+     * 요청을 넘기고 응답을 response 에 씁니다. 담당 노드에 연결하지 못하면 response 를 건드리지 않고 false 를 돌려주므로,
+     * 호출한 쪽이 이 노드에서 처리할 수 있습니다. 연결한 뒤의 실패는 요청이 이미 처리되었을 수 있어 그대로 던집니다.
+     */
+    public boolean forward(HttpServletRequest request, byte[] body, HttpServletResponse response, String ownerAddress)
+            throws IOException {
+        String query = request.getQueryString();
+        URI uri = URI.create(ownerAddress + request.getRequestURI() + (query == null ? "" : "?" + query));
+
+        try {
+            restClient.method(HttpMethod.valueOf(request.getMethod()))
+                    .uri(uri)
+                    .headers(headers -> {
+                        for (String name : Collections.list(request.getHeaderNames())) {
+                            if (!HOP_BY_HOP_HEADERS.contains(name.toLowerCase())) {
+                                headers.addAll(name, Collections.list(request.getHeaders(name)));
+                            }
+                        }
+                        headers.set(FORWARDED_HEADER, nodeId);
+                        headers.remove(SECRET_HEADER);
+                        if (secret.length > 0) {
+                            headers.set(SECRET_HEADER, new String(secret, StandardCharsets.UTF_8));
+                        }
+                    })
+                    .body(body)
+                    .exchange((clientRequest, clientResponse) -> {
+                        response.setStatus(clientResponse.getStatusCode().value());
+                        HttpHeaders headers = clientResponse.getHeaders();
+                        headers.forEach((name, values) -> {
+                            if (!HOP_BY_HOP_HEADERS.contains(name.toLowerCase())) {
+                                values.forEach(value -> response.addHeader(name, value));
+                            }
+                        });
+                        StreamUtils.copy(clientResponse.getBody(), response.getOutputStream());
+                        return null;
+                    });
+        } catch (ResourceAccessException e) {
+            if (e.getCause() instanceof ConnectException) {
+                log.debug("방 담당 노드 연결 실패: {}, {}", ownerAddress, e.getMessage());
+                return false;
+            }
+            throw e;
+        }
+        log.debug("방 요청을 담당 노드로 전달: {} {} -> {}", request.getMethod(), request.getRequestURI(), ownerAddress);
+        return true;
+    }
+}
@@ -1,19 +1,42 @@
 package com.ll.quizzle.global.config;
 
+import java.time.Duration;
+
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.boot.context.properties.bind.ConstructorBinding;
+import org.springframework.boot.context.properties.bind.DefaultValue;
 
 @ConfigurationProperties(prefix = "openai")
 public class OpenAIProperties {
     private final String apiUrl;
     private final String model;
+    // 주 모델보다 저렴한 대체 모델. 퀴즈 생성 헤지/장애 대응 백엔드(fallback)로 사용
+    private final String fallbackModel;
     private final String apiKey;
+    // TCP/TLS 연결 수립 제한 시간
+    private final Duration connectTimeout;
+    // 요청을 보낸 뒤 응답 헤더를 받기까지의 제한 시간
+    private final Duration requestTimeout;
+    // 요청을 보낸 뒤 응답 본문을 끝까지 읽기까지의 제한 시간
+    private final Duration readTimeout;
+
+    public OpenAIProperties(String apiUrl, String model, String apiKey,
+                            Duration connectTimeout, Duration requestTimeout, Duration readTimeout) {
+        this(apiUrl, model, null, apiKey, connectTimeout, requestTimeout, readTimeout);
+    }
 
     @ConstructorBinding
-    public OpenAIProperties(String apiUrl, String model, String apiKey) {
+    public OpenAIProperties(String apiUrl, String model, String fallbackModel, String apiKey,
+                            @DefaultValue("5s") Duration connectTimeout,
+                            @DefaultValue("60s") Duration requestTimeout,
+                            @DefaultValue("90s") Duration readTimeout) {
         this.apiUrl = apiUrl;
         this.model = model;
+        this.fallbackModel = fallbackModel;
         this.apiKey = apiKey;
+        this.connectTimeout = connectTimeout;
+        this.requestTimeout = requestTimeout;
+        this.readTimeout = readTimeout;
     }
 
     public String getApiUrl() {
@@ -24,7 +47,23 @@ public class OpenAIProperties {
         return model;
     }
 
+    public String getFallbackModel() {
+        return fallbackModel;
+    }
+
     public String getApiKey() {
         return apiKey;
     }
+
+    public Duration getConnectTimeout() {
+        return connectTimeout;
+    }
+
+    public Duration getRequestTimeout() {
+        return requestTimeout;
+    }
+
+    public Duration getReadTimeout() {
+        return readTimeout;
+    }
 }
@@ -86,6 +86,7 @@ public enum ErrorCode {
 	MEMBER_ALREADY_BLACKLISTED(HttpStatus.BAD_REQUEST, "이미 블랙리스트에 추가된 사용자입니다."),
 	ROOM_ENTRY_RESTRICTED(HttpStatus.FORBIDDEN, "입장이 제한된 방입니다."),
 	INVALID_PASSWORD(HttpStatus.FORBIDDEN, "비밀번호가 일치하지 않습니다."),
+	ROOM_COMMAND_QUEUE_FULL(HttpStatus.TOO_MANY_REQUESTS, "방 요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요."),
 
 	// nickname
 	NICKNAME_INVALID(HttpStatus.BAD_REQUEST, "닉네임이 유효하지 않습니다."),
@@ -102,6 +103,12 @@ public enum ErrorCode {
     FRIEND_LIST_NOT_FOUND(HttpStatus.BAD_REQUEST, "친구 목록 조회에 실패했습니다."),
     FRIEND_REQUEST_ALREADY_EXISTS(HttpStatus.BAD_REQUEST, "이미 친구 요청을 보냈습니다."),
 
+	// quiz
+	QUIZ_GENERATION_FAILED(HttpStatus.BAD_GATEWAY, "퀴즈를 생성하지 못했습니다. 잠시 후 다시 시도해주세요."),
+	QUIZ_GENERATION_OVERLOADED(HttpStatus.SERVICE_UNAVAILABLE, "퀴즈 생성 요청이 많아 처리하지 못했습니다. 잠시 후 다시 시도해주세요."),
+	QUIZ_NOT_FOUND(HttpStatus.NOT_FOUND, "퀴즈를 찾을 수 없습니다."),
+	QUIZ_JOB_NOT_FOUND(HttpStatus.NOT_FOUND, "퀴즈 생성 작업을 찾을 수 없습니다."),
+
 	// Global
 	FORBIDDEN_ACCESS(HttpStatus.FORBIDDEN, "접근 권한이 없습니다."),
 	INVALID_PAGE_REQUEST(HttpStatus.BAD_REQUEST, "잘못된 페이지 요청입니다."),
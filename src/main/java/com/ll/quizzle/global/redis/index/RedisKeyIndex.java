@@ -0,0 +1,90 @@
+package com.ll.quizzle.global.redis.index;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * {prefix}{member} 형태의 키 목록을 Set 하나(indexKey)로 관리하는 보조 인덱스입니다.
+ * KEYS {prefix}* 처럼 전체 키 공간을 훑지 않고 인덱스만 읽어 대상 키를 찾습니다.
+ * - 기록: 인덱스 추가/삭제는 본 데이터를 쓰는 스크립트 안에서 key() 를 KEYS 로 받아 함께 처리합니다.
+ * - 조회: SSCAN 커서로 나누어 읽으므로 인덱스가 커져도 Redis 를 오래 막지 않습니다.
+ * - 복구: repair() 가 SCAN 커서로 실제 키를 찾아 빠진 항목을 채우고, 키가 사라진 항목을 지웁니다.
+ * 인덱스 멤버는 직렬화 없이 문자열 그대로 저장합니다.
+ */
+@Slf4j
+public class RedisKeyIndex {
+
+    private static final int SCAN_COUNT = 500;
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final String indexKey;
+    private final String keyPrefix;
+
+    public RedisKeyIndex(RedisTemplate<String, String> redisTemplate, String indexKey, String keyPrefix) {
+        this.redisTemplate = redisTemplate;
+        this.indexKey = indexKey;
+        this.keyPrefix = keyPrefix;
+    }
+
+    public String key() {
+        return indexKey;
+    }
+
+    public String keyOf(String member) {
+        return keyPrefix + member;
+    }
+
+    public Set<String> members() {
+        Set<String> members = new LinkedHashSet<>();
+        ScanOptions options = ScanOptions.scanOptions().count(SCAN_COUNT).build();
+        try (Cursor<String> cursor = redisTemplate.opsForSet().scan(indexKey, options)) {
+            cursor.forEachRemaining(members::add);
+        }
+        return members;
+    }
+
+    public void remove(String member) {
+        redisTemplate.opsForSet().remove(indexKey, member);
+    }
+
+    /**
+     * 실제 키 공간과 인덱스를 맞춥니다. 인덱스 도입 전에 만들어진 키나, TTL 로 사라진 키를 정리할 때 사용합니다.
+     *
+     * @return 추가되거나 제거된 항목 수
+     */
+    public int repair() {
+        Set<String> found = new LinkedHashSet<>();
+        ScanOptions options = ScanOptions.scanOptions().match(keyPrefix + "*").count(SCAN_COUNT).build();
+        try (Cursor<String> cursor = redisTemplate.scan(options)) {
+            cursor.forEachRemaining(key -> found.add(key.substring(keyPrefix.length())));
+        }
+
+        Set<String> indexed = members();
+        int changed = 0;
+
+        List<String> missing = found.stream().filter(member -> !indexed.contains(member)).toList();
+        if (!missing.isEmpty()) {
+            redisTemplate.opsForSet().add(indexKey, missing.toArray(String[]::new));
+            changed += missing.size();
+        }
+
+        for (String member : indexed) {
+            if (!found.contains(member) && !Boolean.TRUE.equals(redisTemplate.hasKey(keyOf(member)))) {
+                remove(member);
+                changed++;
+            }
+        }
+
+        if (changed > 0) {
+            log.debug("키 인덱스 복구: index={}, 변경={} 건", indexKey, changed);
+        }
+        return changed;
+    }
+}
@@ -5,12 +5,21 @@ import java.lang.annotation.Retention;
 import java.lang.annotation.RetentionPolicy;
 import java.lang.annotation.Target;
 
+/**
+ * 메서드 실행 동안 분산 락을 잡습니다.
+ * key 는 네임스페이스 안의 ID 를 돌려주는 SpEL 입니다. (예: "#room.id")
+ * 컬렉션이나 배열을 돌려주면 모든 키를 락 이름 순서로 차례대로 잡으므로, 여러 키를 잡는 메서드끼리 교착 상태에 빠지지 않습니다.
+ */
 @Target(ElementType.METHOD)
 @Retention(RetentionPolicy.RUNTIME)
 public @interface DistributedLock {
+    LockNamespace namespace();
+
     String key();
 
+    LockMode mode() default LockMode.EXCLUSIVE;
+
     long leaseTime() default 5000;
 
     long waitTime() default 3000;
-} 
\ No newline at end of file
+}
@@ -1,7 +1,16 @@
 package com.ll.quizzle.global.redis.lock;
 
+import java.lang.reflect.Array;
 import java.lang.reflect.Method;
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.Map;
+import java.util.SortedSet;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Lock;
 
 import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.annotation.Around;
@@ -10,76 +19,197 @@ import org.aspectj.lang.reflect.MethodSignature;
 import org.redisson.api.RLock;
 import org.redisson.api.RedissonClient;
 import org.springframework.core.annotation.Order;
+import org.springframework.expression.Expression;
 import org.springframework.expression.ExpressionParser;
 import org.springframework.expression.spel.standard.SpelExpressionParser;
 import org.springframework.expression.spel.support.StandardEvaluationContext;
 import org.springframework.stereotype.Component;
 
+import com.ll.quizzle.global.cluster.RoomOwnership;
 import com.ll.quizzle.global.exceptions.ErrorCode;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
+/**
+ * @DistributedLock 처리. 키 SpEL 은 메서드마다 한 번만 파싱해 캐시합니다.
+ * 락마다 먼저 기다리지 않고 시도한 뒤, 실패하면 경합으로 기록하고 waitTime 까지 기다립니다.
+ * 이 노드가 담당하는 방의 단일 키 ROOM 락은 노드 로컬 락을 먼저 잡아 같은 노드의 경합을 노드 안에서 줄 세운 뒤 Redis 락도 잡습니다.
+ * 연결 해제 처리(RoomService.handleDisconnect)와 담당 노드에 연결하지 못한 요청은 담당 노드가 아닌 곳에서도 Redis 락으로 같은 방을
+ * 바꾸므로, 담당 노드도 Redis 락을 생략하지 않습니다. (RoomOwnership 참고)
+ * 같은 이유로 방 액터(RoomCommandExecutor) 안에서 실행 중인 명령도 Redis 락을 잡습니다. 액터 안에서는 같은 방의 다른 명령과
+ * 겹치지 않으므로 락은 바로 얻어지고, 액터를 거치지 않는 연결 해제와 블랙리스트 처리만 이 락에서 기다립니다.
+ * 네임스페이스/모드/범위(redis, local)별 메트릭:
+ * - lock.wait{outcome=acquired|timeout}: 락을 얻거나 포기하기까지 기다린 시간
+ * - lock.hold: 락을 잡고 메서드를 실행한 시간
+ * - lock.contended: 바로 얻지 못하고 기다린 횟수
+ * - lock.timeouts: waitTime 안에 얻지 못한 횟수
+ */
 @Slf4j
 @Aspect
 @Order(1)
 @Component
 @RequiredArgsConstructor
 public class DistributedLockAspect {
-    
+
+    private static final int LOCAL_LOCK_STRIPES = 256;
+
     private final RedissonClient redissonClient;
+    private final RoomOwnership roomOwnership;
+    private final MeterRegistry meterRegistry;
     private final ExpressionParser parser = new SpelExpressionParser();
-    
+    private final Map<Method, Expression> expressions = new ConcurrentHashMap<>();
+    private final LocalLockStripes localLocks = new LocalLockStripes(LOCAL_LOCK_STRIPES);
+
     @Around("@annotation(com.ll.quizzle.global.redis.lock.DistributedLock)")
     public Object lock(ProceedingJoinPoint joinPoint) throws Throwable {
         MethodSignature signature = (MethodSignature) joinPoint.getSignature();
         Method method = signature.getMethod();
         DistributedLock distributedLock = method.getAnnotation(DistributedLock.class);
-        
-        String rawKey = distributedLock.key();
+
+        LockNamespace namespace = distributedLock.namespace();
+        LockMode mode = distributedLock.mode();
         long leaseTime = distributedLock.leaseTime();
         long waitTime = distributedLock.waitTime();
-        
-        String lockKey = parseLockKey(rawKey, joinPoint);
-        
-        RLock lock = redissonClient.getLock(lockKey);
-        boolean locked = false;
-        
+
+        SortedSet<String> keys = parseLockKeys(method, distributedLock, joinPoint);
+
+        boolean local = namespace == LockNamespace.ROOM && keys.size() == 1
+                && roomOwnership.holdsLocalLock(keys.first());
+        String scope = local ? "local" : "redis";
+
+        // 락 이름 순서로 잡고 역순으로 풉니다.
+        Deque<Runnable> releases = new ArrayDeque<>();
+        long holdStart = 0;
+
         try {
-            log.debug("분산 락 획득 시도: {}, 대기시간: {}ms, 유효기간: {}ms", lockKey, waitTime, leaseTime);
-            locked = lock.tryLock(waitTime, leaseTime, TimeUnit.MILLISECONDS);
-            
-            if (!locked) {
-                log.debug("분산 락 획득 실패: {}", lockKey);
-                throw ErrorCode.DISTRIBUTED_LOCK_ACQUISITION_FAILED.throwServiceException();
+            for (String key : keys) {
+                String lockName = namespace.lockName(key);
+                if (local) {
+                    Lock localLock = localLocks.lockOf(lockName, mode);
+                    acquire(wait -> localLock.tryLock(wait, TimeUnit.MILLISECONDS), lockName, namespace, mode,
+                            scope, waitTime);
+                    releases.push(localLock::unlock);
+                }
+                RLock lock = lockOf(lockName, mode);
+                acquire(wait -> lock.tryLock(wait, leaseTime, TimeUnit.MILLISECONDS), lockName, namespace, mode,
+                        "redis", waitTime);
+                releases.push(lock::unlock);
             }
-            
-            log.debug("분산 락 획득 성공: {}", lockKey);
+
+            holdStart = System.nanoTime();
             return joinPoint.proceed();
         } finally {
-            if (locked) {
+            if (holdStart != 0) {
+                timer("lock.hold", "락을 잡고 메서드를 실행한 시간", namespace, mode, scope)
+                        .record(System.nanoTime() - holdStart, TimeUnit.NANOSECONDS);
+            }
+            while (!releases.isEmpty()) {
                 try {
-                    lock.unlock();
-                    log.debug("분산 락 해제: {}", lockKey);
+                    releases.pop().run();
                 } catch (IllegalMonitorStateException e) {
-                    log.debug("분산 락 해제 실패 (이미 해제됨): {}, {}", lockKey, e.getMessage());
+                    log.debug("분산 락 해제 실패 (이미 해제됨): {}", e.getMessage());
                 }
             }
+            log.debug("분산 락 해제: {}", keys);
+        }
+    }
+
+    private void acquire(LockAttempt attempt, String lockName, LockNamespace namespace, LockMode mode, String scope,
+                         long waitTime) throws InterruptedException {
+        log.debug("분산 락 획득 시도: {}, 모드: {}, 범위: {}, 대기시간: {}ms", lockName, mode, scope, waitTime);
+        long start = System.nanoTime();
+        boolean locked = attempt.tryLock(0);
+        if (!locked) {
+            counter("lock.contended", "바로 얻지 못하고 기다린 락 획득 수", namespace, mode, scope).increment();
+            locked = attempt.tryLock(waitTime);
+        }
+
+        Timer.builder("lock.wait")
+                .tag("namespace", namespace.getPrefix())
+                .tag("mode", mode.name().toLowerCase())
+                .tag("scope", scope)
+                .tag("outcome", locked ? "acquired" : "timeout")
+                .description("분산 락을 얻거나 포기하기까지 기다린 시간")
+                .register(meterRegistry)
+                .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+
+        if (!locked) {
+            counter("lock.timeouts", "대기 시간 안에 얻지 못한 락 획득 수", namespace, mode, scope).increment();
+            log.debug("분산 락 획득 실패: {}", lockName);
+            throw ErrorCode.DISTRIBUTED_LOCK_ACQUISITION_FAILED.throwServiceException();
         }
+        log.debug("분산 락 획득 성공: {}", lockName);
     }
-    
 
-    private String parseLockKey(String rawKey, ProceedingJoinPoint joinPoint) {
+    private RLock lockOf(String lockName, LockMode mode) {
+        return switch (mode) {
+            case EXCLUSIVE -> redissonClient.getLock(lockName);
+            case READ -> redissonClient.getReadWriteLock(lockName + ":rw").readLock();
+            case WRITE -> redissonClient.getReadWriteLock(lockName + ":rw").writeLock();
+        };
+    }
+
+    /**
+     * 키 SpEL 을 평가해 중복을 뺀 키를 정렬된 순서로 돌려줍니다. 컬렉션/배열이면 원소마다 하나의 키가 됩니다.
+     */
+    SortedSet<String> parseLockKeys(Method method, DistributedLock distributedLock, ProceedingJoinPoint joinPoint) {
         MethodSignature signature = (MethodSignature) joinPoint.getSignature();
         String[] parameterNames = signature.getParameterNames();
         Object[] args = joinPoint.getArgs();
-        
+
         StandardEvaluationContext context = new StandardEvaluationContext();
-        
+
         for (int i = 0; i < parameterNames.length; i++) {
             context.setVariable(parameterNames[i], args[i]);
         }
-        
-        return parser.parseExpression(rawKey).getValue(context, String.class);
+
+        Expression expression = expressions.computeIfAbsent(method,
+                ignored -> parser.parseExpression(distributedLock.key()));
+        Object value = expression.getValue(context);
+
+        SortedSet<String> keys = new TreeSet<>();
+        if (value instanceof Collection<?> collection) {
+            collection.forEach(element -> keys.add(String.valueOf(element)));
+        } else if (value != null && value.getClass().isArray()) {
+            for (int i = 0; i < Array.getLength(value); i++) {
+                keys.add(String.valueOf(Array.get(value, i)));
+            }
+        } else {
+            keys.add(String.valueOf(value));
+        }
+        return keys;
+    }
+
+    int cachedExpressionCount() {
+        return expressions.size();
+    }
+
+    private Timer timer(String name, String description, LockNamespace namespace, LockMode mode, String scope) {
+        return Timer.builder(name)
+                .tag("namespace", namespace.getPrefix())
+                .tag("mode", mode.name().toLowerCase())
+                .tag("scope", scope)
+                .description(description)
+                .register(meterRegistry);
+    }
+
+    private Counter counter(String name, String description, LockNamespace namespace, LockMode mode,
+                            String scope) {
+        return Counter.builder(name)
+                .tag("namespace", namespace.getPrefix())
+                .tag("mode", mode.name().toLowerCase())
+                .tag("scope", scope)
+                .description(description)
+                .register(meterRegistry);
+    }
+
+    @FunctionalInterface
+    private interface LockAttempt {
+
+        boolean tryLock(long waitTime) throws InterruptedException;
     }
-} 
\ No newline at end of file
+}
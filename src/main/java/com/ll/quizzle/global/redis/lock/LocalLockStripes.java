@@ -0,0 +1,26 @@
+package com.ll.quizzle.global.redis.lock;
+
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 담당 노드가 Redis 방 락 앞에 먼저 잡는 노드 로컬 락입니다. 키마다 락을 만들지 않고 고정 개수의 줄무늬 중 하나를 나눠 쓰므로
+ * 방이 늘어나도 메모리가 늘지 않습니다. 서로 다른 방이 같은 줄무늬를 쓰면 잠시 서로 기다릴 수 있습니다.
+ */
+final class LocalLockStripes {
+
+    private final ReadWriteLock[] stripes;
+
+    LocalLockStripes(int size) {
+        this.stripes = new ReadWriteLock[size];
+        for (int i = 0; i < size; i++) {
+            stripes[i] = new ReentrantReadWriteLock();
+        }
+    }
+
+    Lock lockOf(String lockName, LockMode mode) {
+        ReadWriteLock stripe = stripes[Math.floorMod(lockName.hashCode(), stripes.length)];
+        return mode == LockMode.READ ? stripe.readLock() : stripe.writeLock();
+    }
+}
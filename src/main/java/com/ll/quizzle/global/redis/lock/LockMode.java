@@ -0,0 +1,14 @@
+package com.ll.quizzle.global.redis.lock;
+
+/**
+ * 분산 락 획득 방식
+ * - EXCLUSIVE: 단일 RLock. 같은 키의 EXCLUSIVE 락끼리 배타적입니다. (기본값)
+ * - READ: RReadWriteLock 의 읽기 락. 같은 키의 READ 끼리는 함께 들어가고 WRITE 와는 배타적입니다.
+ * - WRITE: RReadWriteLock 의 쓰기 락. 같은 키의 READ/WRITE 모두와 배타적입니다.
+ * EXCLUSIVE 와 READ/WRITE 는 서로 다른 Redis 키를 쓰므로 서로 막지 않습니다. 한 키는 한 방식으로만 잠급니다.
+ */
+public enum LockMode {
+    EXCLUSIVE,
+    READ,
+    WRITE
+}
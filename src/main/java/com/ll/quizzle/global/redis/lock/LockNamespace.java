@@ -0,0 +1,31 @@
+package com.ll.quizzle.global.redis.lock;
+
+/**
+ * 분산 락 키 네임스페이스. 최종 락 이름은 "lock:{prefix}:{키 값}" 이므로 ID 가 같아도 네임스페이스가 다르면 서로 막지 않습니다.
+ * 메트릭의 namespace 태그로도 사용합니다.
+ */
+public enum LockNamespace {
+    /**
+     * 방 단위 상태 변경 (입장, 퇴장, 준비, 시작, 수정, 블랙리스트). RoomService.handleDisconnect 의 수동 락과 같은 키를 씁니다.
+     * 연결 해제는 담당 노드가 아닌 노드에서도 Redis 락으로 처리되므로, 담당 노드도 로컬 락과 함께 Redis 락을 잡습니다.
+     */
+    ROOM("room"),
+    /**
+     * 회원 단위 요청 (방 생성 등 한 회원의 요청이 겹치지 않아야 하는 경우)
+     */
+    MEMBER("member");
+
+    private final String prefix;
+
+    LockNamespace(String prefix) {
+        this.prefix = prefix;
+    }
+
+    public String getPrefix() {
+        return prefix;
+    }
+
+    public String lockName(Object key) {
+        return "lock:" + prefix + ":" + key;
+    }
+}
@@ -10,6 +10,7 @@ import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
 import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
 import org.springframework.web.socket.config.annotation.WebSocketTransportRegistration;
 
+import com.ll.quizzle.global.socket.interceptor.StompAffinityInterceptor;
 import com.ll.quizzle.global.socket.interceptor.StompChannelInterceptor;
 import com.ll.quizzle.global.socket.interceptor.WebSocketHandshakeInterceptor;
 
@@ -31,6 +32,7 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
     
     private final WebSocketHandshakeInterceptor handshakeInterceptor;
     private final StompChannelInterceptor channelInterceptor;
+    private final StompAffinityInterceptor affinityInterceptor;
 
     @Override
     public void configureMessageBroker(MessageBrokerRegistry registry) {
@@ -58,7 +60,8 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 
     @Override
     public void configureClientInboundChannel(ChannelRegistration registration) {
-        registration.interceptors(channelInterceptor);
+        // 세션 검증을 마친 프레임만 방 담당 노드로 넘깁니다.
+        registration.interceptors(channelInterceptor, affinityInterceptor);
     }
 
     @Override
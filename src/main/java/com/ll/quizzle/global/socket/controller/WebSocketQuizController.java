@@ -1,27 +1,57 @@
 package com.ll.quizzle.global.socket.controller;
 
+import com.ll.quizzle.domain.quiz.service.QuizRoomRegistry;
+import com.ll.quizzle.domain.room.service.RoomService;
+import com.ll.quizzle.global.actor.RoomCommandExecutor;
+import com.ll.quizzle.global.security.oauth2.dto.SecurityUser;
 import com.ll.quizzle.global.socket.dto.request.WebSocketQuizSubmitRequest;
-import com.ll.quizzle.global.socket.dto.response.WebSocketQuizSubmitResponse;
+import com.ll.quizzle.global.socket.scheduler.QuizRoundScheduler;
 import com.ll.quizzle.global.socket.service.quiz.RedisQuizSubmissionService;
 import lombok.extern.slf4j.Slf4j;
+
+import static com.ll.quizzle.global.exceptions.ErrorCode.FORBIDDEN_ACCESS;
+import static com.ll.quizzle.global.exceptions.ErrorCode.QUIZ_NOT_FOUND;
+import static com.ll.quizzle.global.exceptions.ErrorCode.UNAUTHORIZED;
+
+import java.util.Optional;
+
 import org.springframework.messaging.handler.annotation.DestinationVariable;
 import org.springframework.messaging.handler.annotation.MessageMapping;
 import org.springframework.messaging.handler.annotation.Payload;
 import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.security.core.Authentication;
 import org.springframework.stereotype.Controller;
 
 @Slf4j
 @Controller
 public class WebSocketQuizController {
 
-    private final SimpMessagingTemplate messagingTemplate;
     private final RedisQuizSubmissionService quizSubmissionService;
+    private final QuizRoundScheduler roundScheduler;
+    private final RoomCommandExecutor roomCommandExecutor;
+    private final RoomService roomService;
+    private final QuizRoomRegistry quizRoomRegistry;
 
-    public WebSocketQuizController(SimpMessagingTemplate messagingTemplate,
-                                   RedisQuizSubmissionService quizSubmissionService) {
-        this.messagingTemplate = messagingTemplate;
+    public WebSocketQuizController(RedisQuizSubmissionService quizSubmissionService,
+                                   QuizRoundScheduler roundScheduler,
+                                   RoomCommandExecutor roomCommandExecutor,
+                                   RoomService roomService,
+                                   QuizRoomRegistry quizRoomRegistry) {
         this.quizSubmissionService = quizSubmissionService;
+        this.roundScheduler = roundScheduler;
+        this.roomCommandExecutor = roomCommandExecutor;
+        this.roomService = roomService;
+        this.quizRoomRegistry = quizRoomRegistry;
+    }
+
+    @MessageMapping("/quiz/{quizId}/start")
+    public void handleQuizStart(@DestinationVariable String quizId,
+                                SimpMessageHeaderAccessor headerAccessor) {
+        Long memberId = memberIdOf(headerAccessor);
+        log.debug("퀴즈 라운드 시작 요청 수신 - quizId: {}, 요청자ID: {}", quizId, memberId);
+
+        verifyCanStart(quizId, memberId);
+        roundScheduler.start(quizId);
     }
 
     @MessageMapping("/quiz/{quizId}/submit")
@@ -34,13 +64,37 @@ public class WebSocketQuizController {
         log.debug("퀴즈 제출 요청 수신 - quizId: {}, 전송자: {}, 요청 내용: {}",
                 quizId, senderId, submitRequest);
 
-        WebSocketQuizSubmitResponse response = quizSubmissionService.submitAnswer(
-                quizId,
-                senderId,
-                submitRequest.questionNumber(),
-                submitRequest.submittedAnswer()
-        );
+        // 방 퀴즈의 제출은 그 방의 액터에서 방의 다른 명령과 순서대로 처리됩니다.
+        // 제출 결과는 QuizUpdateCoalescer 가 모아서 /topic/quiz/{quizId}/updates 로 전송합니다.
+        roomCommandExecutor.run(quizRoomRegistry.actorKey(quizId),
+                () -> quizSubmissionService.submitAnswer(
+                        quizId,
+                        senderId,
+                        submitRequest.questionNumber(),
+                        submitRequest.submittedAnswer()
+                ));
+    }
+
+    /**
+     * 방 퀴즈는 REST 게임 시작과 같이 방장만, 방이 없는 퀴즈는 퀴즈를 만든 회원만 라운드를 시작할 수 있습니다.
+     */
+    private void verifyCanStart(String quizId, Long memberId) {
+        Optional<Long> roomId = quizRoomRegistry.roomOf(quizId);
+        if (roomId.isPresent()) {
+            roomService.verifyOwner(roomId.get(), memberId);
+            return;
+        }
+        Long creatorId = quizRoomRegistry.creatorOf(quizId).orElseThrow(QUIZ_NOT_FOUND::throwServiceException);
+        if (!creatorId.equals(memberId)) {
+            throw FORBIDDEN_ACCESS.throwServiceException();
+        }
+    }
 
-        messagingTemplate.convertAndSend("/topic/quiz/" + quizId + "/updates", response);
+    private static Long memberIdOf(SimpMessageHeaderAccessor headerAccessor) {
+        if (headerAccessor.getUser() instanceof Authentication authentication
+                && authentication.getPrincipal() instanceof SecurityUser securityUser) {
+            return securityUser.getId();
+        }
+        throw UNAUTHORIZED.throwServiceException();
     }
 }
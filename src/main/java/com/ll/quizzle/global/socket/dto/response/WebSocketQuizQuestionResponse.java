@@ -0,0 +1,32 @@
+package com.ll.quizzle.global.socket.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.ll.quizzle.global.socket.type.RoomMessageType;
+
+/**
+ * 스트리밍 생성 중 /topic/quiz/{quizId}/updates 로 전송되는 메시지
+ * QUESTION_READY 는 문제 하나가 완성될 때마다, QUIZ_GENERATED 는 생성이 끝났을 때 한 번 전송됩니다.
+ * 정답은 채점 전까지 노출되지 않도록 포함하지 않습니다.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record WebSocketQuizQuestionResponse(
+        RoomMessageType type,
+        String quizId,
+        Integer questionNumber,
+        String question,
+        int readyCount,
+        int totalQuestions,
+        long timestamp
+) {
+
+    public static WebSocketQuizQuestionResponse ready(String quizId, int questionNumber, String question,
+                                                      int readyCount, int totalQuestions) {
+        return new WebSocketQuizQuestionResponse(RoomMessageType.QUESTION_READY, quizId, questionNumber, question,
+                readyCount, totalQuestions, System.currentTimeMillis());
+    }
+
+    public static WebSocketQuizQuestionResponse generated(String quizId, int totalQuestions) {
+        return new WebSocketQuizQuestionResponse(RoomMessageType.QUIZ_GENERATED, quizId, null, null,
+                totalQuestions, totalQuestions, System.currentTimeMillis());
+    }
+}
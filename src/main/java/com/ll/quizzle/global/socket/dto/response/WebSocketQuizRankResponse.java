@@ -0,0 +1,32 @@
+package com.ll.quizzle.global.socket.dto.response;
+
+import java.util.List;
+
+import com.ll.quizzle.global.socket.type.RoomMessageType;
+
+/**
+ * 라운드가 끝날 때마다 /topic/quiz/{quizId}/updates 로 전송되는 순위 변화 메시지
+ * 직전 라운드와 비교하여 순위나 정답 수가 바뀐 회원만 담습니다. previousRank 가 0 이면 새로 순위에 든 회원입니다.
+ */
+public record WebSocketQuizRankResponse(
+        RoomMessageType type,
+        String quizId,
+        int questionNumber,
+        List<RankChange> changes,
+        long timestamp
+) {
+
+    public record RankChange(
+            String memberId,
+            String nickname,
+            int rank,
+            int previousRank,
+            int correctCount,
+            int score
+    ) {}
+
+    public static WebSocketQuizRankResponse of(String quizId, int questionNumber, List<RankChange> changes) {
+        return new WebSocketQuizRankResponse(RoomMessageType.RANK_UPDATE, quizId, questionNumber, changes,
+                System.currentTimeMillis());
+    }
+}
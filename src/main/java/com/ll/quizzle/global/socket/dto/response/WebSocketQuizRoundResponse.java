@@ -0,0 +1,29 @@
+package com.ll.quizzle.global.socket.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.ll.quizzle.global.socket.type.RoomMessageType;
+
+/**
+ * 라운드 시작/종료 시 /topic/quiz/{quizId}/updates 로 전송되는 메시지
+ * deadline 은 라운드 마감 시각(epoch ms)이며 마감이 있는 ROUND_START 에만 포함됩니다.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record WebSocketQuizRoundResponse(
+        RoomMessageType type,
+        String quizId,
+        int questionNumber,
+        int totalQuestions,
+        Long deadline,
+        long timestamp
+) {
+
+    public static WebSocketQuizRoundResponse start(String quizId, int questionNumber, int totalQuestions, Long deadline) {
+        return new WebSocketQuizRoundResponse(RoomMessageType.ROUND_START, quizId, questionNumber, totalQuestions,
+                deadline, System.currentTimeMillis());
+    }
+
+    public static WebSocketQuizRoundResponse end(String quizId, int questionNumber, int totalQuestions) {
+        return new WebSocketQuizRoundResponse(RoomMessageType.ROUND_END, quizId, questionNumber, totalQuestions,
+                null, System.currentTimeMillis());
+    }
+}
@@ -0,0 +1,32 @@
+package com.ll.quizzle.global.socket.dto.response;
+
+import java.util.List;
+
+import com.ll.quizzle.global.socket.type.RoomMessageType;
+
+/**
+ * 짧은 구간에 모인 답안 제출을 한 번에 /topic/quiz/{quizId}/updates 로 전송하는 메시지
+ * submittedCount / participantCount 는 묶음에 포함된 제출 중 가장 최신의 현재 문제 집계입니다.
+ */
+public record WebSocketQuizSubmitBatchResponse(
+        RoomMessageType type,
+        String quizId,
+        int questionNumber,
+        List<WebSocketQuizSubmitResponse> submissions,
+        int submittedCount,
+        int participantCount,
+        long timestamp
+) {
+
+    public static WebSocketQuizSubmitBatchResponse of(String quizId, int questionNumber,
+                                                      List<WebSocketQuizSubmitResponse> submissions) {
+        int submittedCount = 0;
+        int participantCount = 0;
+        for (WebSocketQuizSubmitResponse submission : submissions) {
+            submittedCount = Math.max(submittedCount, submission.submittedCount());
+            participantCount = Math.max(participantCount, submission.participantCount());
+        }
+        return new WebSocketQuizSubmitBatchResponse(RoomMessageType.ANSWER_BATCH, quizId, questionNumber,
+                List.copyOf(submissions), submittedCount, participantCount, System.currentTimeMillis());
+    }
+}
@@ -11,5 +11,7 @@ public record WebSocketQuizSubmitResponse(
         String nickname,
         boolean isSubmitted,
         long timestamp,
-        String quizId
+        String quizId,
+        int submittedCount,
+        int participantCount
 ) {}
@@ -14,6 +14,8 @@ import org.springframework.web.socket.messaging.SessionConnectEvent;
 import org.springframework.web.socket.messaging.SessionDisconnectEvent;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ll.quizzle.domain.member.cache.MemberProfile;
+import com.ll.quizzle.domain.member.cache.MemberProfileCache;
 import com.ll.quizzle.domain.member.service.MemberService;
 import com.ll.quizzle.domain.room.service.RoomService;
 import com.ll.quizzle.global.socket.core.MessageService;
@@ -41,6 +43,7 @@ public class WebSocketEventHandler {
     private final RoomService roomService;
     private final MessageServiceFactory messageServiceFactory;
     private final ObjectMapper objectMapper;
+    private final MemberProfileCache memberProfileCache;
 
     @EventListener
     public void onSessionConnectEvent(SessionConnectEvent event) {
@@ -152,6 +155,7 @@ public class WebSocketEventHandler {
 
     private List<Map<String, Object>> convertToUsersList(Map<String, Map<String, SessionInfo>> activeSessions) {
         List<Map<String, Object>> result = new ArrayList<>();
+        Map<String, MemberProfile> profiles = memberProfileCache.getAllByEmails(activeSessions.keySet());
 
         for (Map.Entry<String, Map<String, SessionInfo>> entry : activeSessions.entrySet()) {
             String email = entry.getKey();
@@ -159,10 +163,11 @@ public class WebSocketEventHandler {
             Map<String, Object> userInfo = new HashMap<>();
             userInfo.put("email", email);
 
-            memberService.findByEmail(email).ifPresent(member -> {
-                userInfo.put("nickname", member.getNickname());
-                userInfo.put("id", member.getId());
-            });
+            MemberProfile profile = profiles.get(email);
+            if (profile != null) {
+                userInfo.put("nickname", profile.nickname());
+                userInfo.put("id", profile.id());
+            }
 
             List<String> sessionIds = new ArrayList<>(entry.getValue().keySet());
             userInfo.put("sessions", sessionIds);
@@ -0,0 +1,201 @@
+package com.ll.quizzle.global.socket.interceptor;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.messaging.support.MessageHeaderAccessor;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.stereotype.Component;
+import org.springframework.util.MimeType;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ll.quizzle.domain.quiz.service.QuizRoomRegistry;
+import com.ll.quizzle.global.cluster.ClusterMembership;
+import com.ll.quizzle.global.cluster.RoomOwnership;
+import com.ll.quizzle.global.security.oauth2.dto.SecurityUser;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 방 명령 STOMP 프레임을 방 담당 노드에서 처리하도록 넘깁니다.
+ * - /app/room|game|game/start/{roomId}/** 는 경로의 방 ID 로, /app/quiz/{quizId}/** 는 QuizRoomRegistry 에 기록된 방 ID 로
+ *   담당 노드를 정합니다. 방이 없는 퀴즈는 라운드 스케줄러와 같이 quizId 로 정합니다.
+ * - 담당 노드가 아니면 프레임을 이 노드에서 처리하지 않고, 목적지/사용자/본문을 담당 노드 채널(cluster:node:{nodeId}:stomp)로 발행합니다.
+ * - 담당 노드는 받은 프레임을 자신의 clientInboundChannel 로 다시 넣어 같은 @MessageMapping 핸들러가 처리합니다.
+ *   세션 검증은 연결된 노드의 StompChannelInterceptor 가 이미 마쳤으므로, 넘어온 프레임은 다시 넘기거나 검증하지 않고,
+ *   그때 만든 인증 정보(회원 ID, 닉네임, 이메일, 권한)로 같은 형태의 Authentication 을 다시 만들어 붙입니다.
+ * 구독자에게 보내는 응답은 MessageService 가 전달하므로, 여러 노드에서는 websocket-room 공급자를 redis 로 두어야 합니다.
+ */
+@Slf4j
+@Component
+public class StompAffinityInterceptor implements ChannelInterceptor, MessageListener {
+
+    static final String FORWARDED_HEADER = "quizzle-forwarded-by";
+    private static final String CHANNEL_SUFFIX = "stomp";
+    private static final Pattern ROOM_DESTINATION =
+            Pattern.compile("^/app/(?:room|game|game/start)/(\\d+)(?:/.*)?$");
+    private static final Pattern QUIZ_DESTINATION = Pattern.compile("^/app/quiz/([^/]+)(?:/.*)?$");
+
+    private final RoomOwnership roomOwnership;
+    private final QuizRoomRegistry quizRoomRegistry;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final MessageChannel clientInboundChannel;
+    private final ObjectMapper objectMapper;
+    private final Counter forwardedCounter;
+    private final Counter receivedCounter;
+
+    public StompAffinityInterceptor(RoomOwnership roomOwnership,
+                                    QuizRoomRegistry quizRoomRegistry,
+                                    RedisTemplate<String, String> redisTemplate,
+                                    RedisMessageListenerContainer listenerContainer,
+                                    @Lazy @Qualifier("clientInboundChannel") MessageChannel clientInboundChannel,
+                                    ObjectMapper objectMapper,
+                                    MeterRegistry meterRegistry) {
+        this.roomOwnership = roomOwnership;
+        this.quizRoomRegistry = quizRoomRegistry;
+        this.redisTemplate = redisTemplate;
+        this.listenerContainer = listenerContainer;
+        this.clientInboundChannel = clientInboundChannel;
+        this.objectMapper = objectMapper;
+        this.forwardedCounter = affinityCounter(meterRegistry, "forwarded");
+        this.receivedCounter = affinityCounter(meterRegistry, "received");
+    }
+
+    @PostConstruct
+    public void init() {
+        if (roomOwnership.isEnabled()) {
+            listenerContainer.addMessageListener(this,
+                    new ChannelTopic(ClusterMembership.nodeChannel(roomOwnership.localNode(), CHANNEL_SUFFIX)));
+        }
+    }
+
+    @Override
+    public Message<?> preSend(@NonNull Message<?> message, @NonNull MessageChannel channel) {
+        StompHeaderAccessor accessor = MessageHeaderAccessor.getAccessor(message, StompHeaderAccessor.class);
+        if (accessor == null || !StompCommand.SEND.equals(accessor.getCommand()) || !roomOwnership.isEnabled()
+                || accessor.getHeader(FORWARDED_HEADER) != null || accessor.getUser() == null
+                || accessor.getDestination() == null) {
+            return message;
+        }
+
+        Optional<String> routingKey = routingKey(accessor.getDestination());
+        if (routingKey.isEmpty() || roomOwnership.isLocal(routingKey.get())
+                || !(accessor.getUser() instanceof Authentication authentication)
+                || !(authentication.getPrincipal() instanceof SecurityUser user)) {
+            return message;
+        }
+
+        String owner = roomOwnership.ownerOf(routingKey.get());
+        MimeType contentType = accessor.getContentType();
+        ForwardedFrame frame = new ForwardedFrame(
+                roomOwnership.localNode(),
+                accessor.getDestination(),
+                user.getId(),
+                user.getUsername(),
+                user.getEmail(),
+                user.getAuthorities().stream().map(GrantedAuthority::getAuthority).findFirst().orElse("ROLE_MEMBER"),
+                contentType == null ? null : contentType.toString(),
+                new String((byte[]) message.getPayload(), StandardCharsets.UTF_8));
+        try {
+            redisTemplate.convertAndSend(ClusterMembership.nodeChannel(owner, CHANNEL_SUFFIX),
+                    objectMapper.writeValueAsString(frame));
+        } catch (JsonProcessingException e) {
+            log.warn("STOMP 프레임 전달 직렬화 실패, 이 노드에서 처리합니다: {}", e.getMessage());
+            return message;
+        }
+        forwardedCounter.increment();
+        log.debug("STOMP 방 명령을 담당 노드로 전달: {} -> {}", accessor.getDestination(), owner);
+        return null;
+    }
+
+    @Override
+    public void onMessage(@NonNull org.springframework.data.redis.connection.Message message, byte[] pattern) {
+        try {
+            ForwardedFrame frame = objectMapper.readValue(message.getBody(), ForwardedFrame.class);
+
+            SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+            accessor.setDestination(frame.destination());
+            accessor.setUser(authentication(frame));
+            accessor.setHeader(FORWARDED_HEADER, frame.from());
+            if (frame.contentType() != null) {
+                accessor.setContentType(MimeType.valueOf(frame.contentType()));
+            }
+            accessor.setLeaveMutable(true);
+
+            clientInboundChannel.send(MessageBuilder.createMessage(
+                    frame.payload().getBytes(StandardCharsets.UTF_8), accessor.getMessageHeaders()));
+            receivedCounter.increment();
+            log.debug("다른 노드에서 넘어온 STOMP 방 명령 처리: {}, 보낸 노드: {}", frame.destination(), frame.from());
+        } catch (Exception e) {
+            log.error("넘어온 STOMP 방 명령 처리 실패: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 담당 노드를 정할 키. 방 경로는 경로의 방 ID, 퀴즈 경로는 퀴즈가 속한 방 ID(없으면 quizId)이며, 방 명령이 아니면 비어 있습니다.
+     */
+    private Optional<String> routingKey(String destination) {
+        Matcher room = ROOM_DESTINATION.matcher(destination);
+        if (room.matches()) {
+            return Optional.of(room.group(1));
+        }
+        Matcher quiz = QUIZ_DESTINATION.matcher(destination);
+        if (quiz.matches()) {
+            String quizId = quiz.group(1);
+            return Optional.of(quizRoomRegistry.roomOf(quizId).map(String::valueOf).orElse(quizId));
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * StompChannelInterceptor 가 CONNECT 때 붙이는 것과 같은 형태의 인증 정보를 만듭니다.
+     */
+    private static Authentication authentication(ForwardedFrame frame) {
+        SecurityUser user = SecurityUser.of(frame.memberId(), frame.nickname(), frame.email(), frame.role());
+        return new UsernamePasswordAuthenticationToken(user, null, user.getAuthorities());
+    }
+
+    private static Counter affinityCounter(MeterRegistry meterRegistry, String outcome) {
+        return Counter.builder("room.affinity.requests")
+                .tag("transport", "stomp")
+                .tag("outcome", outcome)
+                .description("담당 노드가 아닌 노드에 도착한 방 요청 수")
+                .register(meterRegistry);
+    }
+
+    record ForwardedFrame(
+            String from,
+            String destination,
+            long memberId,
+            String nickname,
+            String email,
+            String role,
+            String contentType,
+            String payload
+    ) {
+    }
+}
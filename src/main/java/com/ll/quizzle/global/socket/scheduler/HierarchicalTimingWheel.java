@@ -0,0 +1,195 @@
+package com.ll.quizzle.global.socket.scheduler;
+
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 계층형 해시 타이밍 휠입니다.
+ * 방마다 ScheduledFuture 를 만들지 않고, 수천 개의 마감 시각을 하나의 틱 스레드가 버킷 단위로 관리합니다.
+ * - 0단계 휠은 tick 단위, 그 위 단계는 아래 단계 한 바퀴 단위로 슬롯을 나눕니다.
+ * - 상위 단계 슬롯은 아래 단계가 한 바퀴 돌 때마다 아래로 내려오며(cascade) 재배치됩니다.
+ * - 등록/취소는 O(1)이며, 만료된 작업은 틱 스레드를 막지 않도록 별도 executor 에서 실행합니다.
+ */
+@Slf4j
+public final class HierarchicalTimingWheel implements AutoCloseable {
+
+    /**
+     * 등록된 작업의 핸들
+     */
+    public interface Timeout {
+
+        boolean cancel();
+
+        boolean isCancelled();
+    }
+
+    private final long tickNanos;
+    private final int bits;
+    private final int mask;
+    private final Queue<Entry>[][] wheels;
+    private final Queue<Entry> pending = new ConcurrentLinkedQueue<>();
+    private final Executor executor;
+    private final Thread tickThread;
+    private final long startNanos;
+
+    private volatile boolean running = true;
+    // 틱 스레드에서만 읽고 씁니다.
+    private long currentTick;
+
+    /**
+     * @param tickDuration 0단계 슬롯 하나의 길이
+     * @param wheelBits    단계별 슬롯 수 (2^wheelBits)
+     * @param levels       단계 수. 최대 대기 시간은 tick * 2^(wheelBits * levels)
+     * @param executor     만료된 작업을 실행할 executor
+     * @param threadName   틱 스레드 이름
+     */
+    @SuppressWarnings("unchecked")
+    public HierarchicalTimingWheel(long tickDuration, TimeUnit unit, int wheelBits, int levels,
+                                   Executor executor, String threadName) {
+        this.tickNanos = unit.toNanos(tickDuration);
+        this.bits = wheelBits;
+        this.mask = (1 << wheelBits) - 1;
+        this.wheels = new Queue[levels][1 << wheelBits];
+        for (Queue<Entry>[] wheel : wheels) {
+            for (int slot = 0; slot < wheel.length; slot++) {
+                wheel[slot] = new ArrayDeque<>();
+            }
+        }
+        this.executor = executor;
+        this.startNanos = System.nanoTime();
+        this.tickThread = new Thread(this::run, threadName);
+        this.tickThread.setDaemon(true);
+        this.tickThread.start();
+    }
+
+    /**
+     * 지정한 시간 뒤에 작업을 실행합니다. 어느 스레드에서나 호출할 수 있습니다.
+     */
+    public Timeout schedule(Runnable task, long delay, TimeUnit unit) {
+        long deadlineNanos = System.nanoTime() + Math.max(0, unit.toNanos(delay));
+        // 올림 처리하여 마감 시각보다 일찍 실행되지 않도록 합니다.
+        long deadlineTick = (deadlineNanos - startNanos + tickNanos - 1) / tickNanos;
+        Entry entry = new Entry(task, deadlineTick);
+        pending.add(entry);
+        return entry;
+    }
+
+    @Override
+    public void close() {
+        running = false;
+        LockSupport.unpark(tickThread);
+    }
+
+    private void run() {
+        while (running) {
+            long nextTickNanos = startNanos + (currentTick + 1) * tickNanos;
+            long sleepNanos = nextTickNanos - System.nanoTime();
+            if (sleepNanos > 0) {
+                LockSupport.parkNanos(this, sleepNanos);
+                continue;
+            }
+
+            try {
+                currentTick++;
+                drainPending();
+                cascade();
+                expire(wheels[0][(int) (currentTick & mask)]);
+            } catch (Throwable e) {
+                log.error("타이밍 휠 틱 처리 중 오류 발생: {}", e.getMessage(), e);
+            }
+        }
+    }
+
+    private void drainPending() {
+        Entry entry;
+        while ((entry = pending.poll()) != null) {
+            place(entry);
+        }
+    }
+
+    /**
+     * 아래 단계가 한 바퀴를 돌았으면 위 단계의 현재 슬롯을 비우고 다시 배치합니다.
+     * 가장 높은 단계부터 처리해야 여러 단계를 한 번에 내려오는 작업도 같은 틱에 자리를 찾습니다.
+     */
+    private void cascade() {
+        for (int level = wheels.length - 1; level > 0; level--) {
+            long lowerMask = (1L << (bits * level)) - 1;
+            if ((currentTick & lowerMask) != 0) {
+                continue;
+            }
+            Queue<Entry> bucket = wheels[level][(int) ((currentTick >>> (bits * level)) & mask)];
+            Entry entry;
+            while ((entry = bucket.poll()) != null) {
+                place(entry);
+            }
+        }
+    }
+
+    private void place(Entry entry) {
+        if (entry.cancelled) {
+            return;
+        }
+        if (entry.deadlineTick <= currentTick) {
+            wheels[0][(int) (currentTick & mask)].add(entry);
+            return;
+        }
+
+        for (int level = 0; level < wheels.length; level++) {
+            int shift = bits * level;
+            long distance = (entry.deadlineTick >>> shift) - (currentTick >>> shift);
+            if (distance <= mask) {
+                wheels[level][(int) ((entry.deadlineTick >>> shift) & mask)].add(entry);
+                return;
+            }
+        }
+
+        // 최상위 단계 범위를 넘으면 가장 먼 슬롯에 두었다가 내려올 때 다시 배치합니다.
+        int top = wheels.length - 1;
+        long farthest = (currentTick >>> (bits * top)) + mask;
+        wheels[top][(int) (farthest & mask)].add(entry);
+    }
+
+    private void expire(Queue<Entry> bucket) {
+        Entry entry;
+        while ((entry = bucket.poll()) != null) {
+            if (entry.cancelled) {
+                continue;
+            }
+            try {
+                executor.execute(entry.task);
+            } catch (Throwable e) {
+                log.error("타이밍 휠 작업 실행 요청 실패: {}", e.getMessage(), e);
+            }
+        }
+    }
+
+    private static final class Entry implements Timeout {
+
+        private final Runnable task;
+        private final long deadlineTick;
+        private volatile boolean cancelled;
+
+        private Entry(Runnable task, long deadlineTick) {
+            this.task = task;
+            this.deadlineTick = deadlineTick;
+        }
+
+        @Override
+        public boolean cancel() {
+            boolean wasCancelled = cancelled;
+            cancelled = true;
+            return !wasCancelled;
+        }
+
+        @Override
+        public boolean isCancelled() {
+            return cancelled;
+        }
+    }
+}
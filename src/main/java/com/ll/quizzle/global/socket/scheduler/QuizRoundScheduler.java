@@ -0,0 +1,288 @@
+package com.ll.quizzle.global.socket.scheduler;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import com.ll.quizzle.domain.quiz.cache.QuizAnswerKey;
+import com.ll.quizzle.domain.quiz.cache.QuizAnswerKeyCache;
+import com.ll.quizzle.domain.quiz.service.QuizScoreboardService;
+import com.ll.quizzle.global.cluster.ClusterMembershipChangedEvent;
+import com.ll.quizzle.global.cluster.RoomOwnership;
+import com.ll.quizzle.global.socket.core.MessageServiceFactory;
+import com.ll.quizzle.global.socket.dto.response.WebSocketQuizRoundResponse;
+import com.ll.quizzle.global.socket.service.quiz.QuizUpdateCoalescer;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 서버가 라운드 마감을 직접 관리하는 스케줄러입니다.
+ * 전원이 제출하지 않아도 마감 시각이 지나면 라운드를 닫고 다음 문제로 넘어가므로, 응답하지 않는 플레이어가 방을 멈추지 못합니다.
+ * - 마감 시각은 하나의 계층형 타이밍 휠(틱 스레드 1 + 실행 스레드 1)에서 관리합니다.
+ * - 마감 시각은 Redis ZSet(quiz:round:deadlines)에도 기록되며, 예정 시각을 넘긴 항목은 어느 노드든 주기적으로 회수합니다.
+ * - 라운드를 닫는 동작은 close-round.lua 의 비교 후 교체로 한 번만 성공하므로 타이머와 전원 제출, 여러 노드가 겹쳐도 안전합니다.
+ * - 노드 목록이 바뀌어 이 노드가 새로 맡게 된 방은 남아 있는 마감 항목을 곧바로 이 노드의 타이머에 다시 걸어,
+ *   담당 노드가 게임 도중 사라져도 회수 유예 시간을 기다리지 않고 제 시각에 라운드를 닫습니다.
+ */
+@Slf4j
+@Component
+public class QuizRoundScheduler {
+
+    public static final String DEADLINES_KEY = "quiz:round:deadlines";
+    private static final Duration QUIZ_TTL = Duration.ofMinutes(30);
+    private static final int RECOVERY_BATCH_SIZE = 100;
+
+    private static final RedisScript<Long> START_ROUND_SCRIPT =
+            new DefaultRedisScript<>(new ClassPathResource("scripts/quiz/start-round.lua"), Long.class);
+
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> CLOSE_ROUND_SCRIPT =
+            new DefaultRedisScript<>(new ClassPathResource("scripts/quiz/close-round.lua"), List.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final QuizAnswerKeyCache answerKeyCache;
+    private final MessageServiceFactory messageServiceFactory;
+    private final QuizScoreboardService scoreboardService;
+    private final QuizUpdateCoalescer updateCoalescer;
+    private final RoomOwnership roomOwnership;
+    private final Duration roundDuration;
+    private final Duration recoveryInterval;
+    private final Duration recoveryGrace;
+
+    private ExecutorService worker;
+    private HierarchicalTimingWheel timingWheel;
+
+    public QuizRoundScheduler(RedisTemplate<String, String> redisTemplate,
+                              QuizAnswerKeyCache answerKeyCache,
+                              MessageServiceFactory messageServiceFactory,
+                              QuizScoreboardService scoreboardService,
+                              QuizUpdateCoalescer updateCoalescer,
+                              RoomOwnership roomOwnership,
+                              @Value("${quizzle.quiz.round.duration-seconds:30}") long roundDurationSeconds,
+                              @Value("${quizzle.quiz.round.recovery-interval-seconds:5}") long recoveryIntervalSeconds,
+                              @Value("${quizzle.quiz.round.recovery-grace-seconds:3}") long recoveryGraceSeconds) {
+        this.redisTemplate = redisTemplate;
+        this.answerKeyCache = answerKeyCache;
+        this.messageServiceFactory = messageServiceFactory;
+        this.scoreboardService = scoreboardService;
+        this.updateCoalescer = updateCoalescer;
+        this.roomOwnership = roomOwnership;
+        this.roundDuration = Duration.ofSeconds(roundDurationSeconds);
+        this.recoveryInterval = Duration.ofSeconds(recoveryIntervalSeconds);
+        this.recoveryGrace = Duration.ofSeconds(recoveryGraceSeconds);
+    }
+
+    @PostConstruct
+    public void init() {
+        worker = Executors.newSingleThreadExecutor(new CustomizableThreadFactory("quiz-round-worker-"));
+        // 100ms 틱, 단계당 64칸, 4단계 (최대 약 19일)
+        timingWheel = new HierarchicalTimingWheel(100, TimeUnit.MILLISECONDS, 6, 4, worker, "quiz-round-timer");
+        scheduleRecovery();
+        log.debug("라운드 스케줄러 시작: 라운드 길이={}초, 회수 주기={}초", roundDuration.toSeconds(), recoveryInterval.toSeconds());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        timingWheel.close();
+        worker.shutdown();
+    }
+
+    /**
+     * 첫 라운드를 시작합니다. 이미 진행 중인 퀴즈라면 아무 일도 하지 않습니다.
+     */
+    public void start(String quizId) {
+        QuizAnswerKey answerKey = answerKeyCache.get(quizId);
+        if (answerKey == null) {
+            throw new IllegalArgumentException("정답표가 없는 퀴즈는 시작할 수 없습니다.");
+        }
+
+        long deadline = System.currentTimeMillis() + roundDuration.toMillis();
+        Long started = redisTemplate.execute(
+                START_ROUND_SCRIPT,
+                List.of(DEADLINES_KEY, currentQuestionKey(quizId)),
+                quizId,
+                String.valueOf(deadline),
+                String.valueOf(QUIZ_TTL.toSeconds())
+        );
+
+        if (started == null || started == 0) {
+            log.debug("이미 진행 중인 퀴즈 시작 요청 무시: quizId={}", quizId);
+            return;
+        }
+
+        send(quizId, WebSocketQuizRoundResponse.start(quizId, 1, answerKey.totalQuestions(), deadline));
+        scheduleDeadline(quizId, 1, deadline);
+    }
+
+    /**
+     * 전원이 제출하여 라운드가 일찍 끝났을 때 호출합니다. quizEnd 는 제출 스크립트가 이미 발행했습니다.
+     */
+    public void onAllSubmitted(String quizId, int questionNumber) {
+        closeRound(quizId, questionNumber, false);
+    }
+
+    /**
+     * 다른 노드가 맡던 방 중 이 노드로 넘어온 방의 진행 중인 라운드 마감을 이 노드의 타이머에 겁니다.
+     * 이전 담당 노드가 아직 살아 있어 같은 라운드를 닫더라도 close-round.lua 가 한 번만 성공시킵니다.
+     */
+    @EventListener
+    public void onMembershipChanged(ClusterMembershipChangedEvent event) {
+        Set<ZSetOperations.TypedTuple<String>> deadlines =
+                redisTemplate.opsForZSet().rangeWithScores(DEADLINES_KEY, 0, -1);
+        if (deadlines == null || deadlines.isEmpty()) {
+            return;
+        }
+
+        // 한 퀴즈의 마감 항목이 여러 개여도 넘어온 방 수는 한 번만 셉니다.
+        Map<String, Boolean> adoptedQuizzes = new HashMap<>();
+        int adopted = 0;
+        for (ZSetOperations.TypedTuple<String> deadline : deadlines) {
+            String member = deadline.getValue();
+            int separator = member == null ? -1 : member.lastIndexOf(':');
+            if (separator <= 0 || deadline.getScore() == null) {
+                continue;
+            }
+            String quizId = member.substring(0, separator);
+            if (!adoptedQuizzes.computeIfAbsent(quizId, id -> roomOwnership.isAdopted(id, event))) {
+                continue;
+            }
+            try {
+                int questionNumber = Integer.parseInt(member.substring(separator + 1));
+                scheduleDeadline(quizId, questionNumber, deadline.getScore().longValue());
+                adopted++;
+            } catch (NumberFormatException e) {
+                log.warn("잘못된 라운드 마감 항목 무시: {}", member);
+            }
+        }
+        if (adopted > 0) {
+            log.info("다른 노드에서 넘어온 진행 중 라운드 {} 건을 이어받음", adopted);
+        }
+    }
+
+    private void onDeadline(String quizId, int questionNumber) {
+        closeRound(quizId, questionNumber, true);
+    }
+
+    private void closeRound(String quizId, int questionNumber, boolean timedOut) {
+        QuizAnswerKey answerKey = answerKeyCache.get(quizId);
+        if (answerKey == null) {
+            // 퀴즈가 이미 만료되었거나 종료되어 정답표가 사라진 경우 마감 항목만 정리합니다.
+            redisTemplate.opsForZSet().remove(DEADLINES_KEY, member(quizId, questionNumber));
+            return;
+        }
+
+        int totalQuestions = answerKey.totalQuestions();
+        long nextDeadline = System.currentTimeMillis() + roundDuration.toMillis();
+        List<?> result = redisTemplate.execute(
+                CLOSE_ROUND_SCRIPT,
+                List.of(DEADLINES_KEY, currentQuestionKey(quizId), String.format("quiz:%s:notifications", quizId)),
+                quizId,
+                String.valueOf(questionNumber),
+                String.valueOf(totalQuestions),
+                String.valueOf(nextDeadline),
+                String.valueOf(QUIZ_TTL.toSeconds()),
+                timedOut ? "1" : "0"
+        );
+
+        String status = result == null || result.isEmpty() ? "STALE" : String.valueOf(result.get(0));
+        switch (status) {
+            case "NEXT" -> {
+                updateCoalescer.flush(quizId);
+                send(quizId, WebSocketQuizRoundResponse.end(quizId, questionNumber, totalQuestions));
+                scoreboardService.publishRankDelta(quizId, questionNumber);
+                boolean timed = result.size() > 1 && "1".equals(String.valueOf(result.get(1)));
+                send(quizId, WebSocketQuizRoundResponse.start(quizId, questionNumber + 1, totalQuestions,
+                        timed ? nextDeadline : null));
+                if (timed) {
+                    scheduleDeadline(quizId, questionNumber + 1, nextDeadline);
+                }
+                log.debug("라운드 종료: quizId={}, 문제={}, 마감 초과={}", quizId, questionNumber, timedOut);
+            }
+            case "END" -> {
+                updateCoalescer.flush(quizId);
+                send(quizId, WebSocketQuizRoundResponse.end(quizId, questionNumber, totalQuestions));
+                scoreboardService.publishRankDelta(quizId, questionNumber);
+                log.debug("마지막 라운드 종료: quizId={}, 마감 초과={}", quizId, timedOut);
+            }
+            default -> log.debug("이미 닫힌 라운드: quizId={}, 문제={}", quizId, questionNumber);
+        }
+    }
+
+    private void scheduleDeadline(String quizId, int questionNumber, long deadline) {
+        long delay = Math.max(0, deadline - System.currentTimeMillis());
+        timingWheel.schedule(() -> runSafely(() -> onDeadline(quizId, questionNumber)), delay, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 다른 노드가 등록한 뒤 사라져 예정 시각을 넘긴 마감 항목을 회수합니다.
+     * 정상 노드가 먼저 처리할 수 있도록 유예 시간을 둔 항목만 가져갑니다.
+     */
+    private void scheduleRecovery() {
+        timingWheel.schedule(() -> runSafely(() -> {
+            try {
+                recoverOverdueRounds();
+            } finally {
+                scheduleRecovery();
+            }
+        }), recoveryInterval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    void recoverOverdueRounds() {
+        long overdueBefore = System.currentTimeMillis() - recoveryGrace.toMillis();
+        Set<String> overdue = redisTemplate.opsForZSet()
+                .rangeByScore(DEADLINES_KEY, 0, overdueBefore, 0, RECOVERY_BATCH_SIZE);
+        if (overdue == null || overdue.isEmpty()) {
+            return;
+        }
+
+        log.debug("마감 초과 라운드 회수: {} 건", overdue.size());
+        for (String member : overdue) {
+            int separator = member.lastIndexOf(':');
+            try {
+                String quizId = member.substring(0, separator);
+                int questionNumber = Integer.parseInt(member.substring(separator + 1));
+                closeRound(quizId, questionNumber, true);
+            } catch (IndexOutOfBoundsException | NumberFormatException e) {
+                log.warn("잘못된 라운드 마감 항목 제거: {}", member);
+                redisTemplate.opsForZSet().remove(DEADLINES_KEY, member);
+            }
+        }
+    }
+
+    private void send(String quizId, WebSocketQuizRoundResponse message) {
+        messageServiceFactory.getRoomService().send("/topic/quiz/" + quizId + "/updates", message);
+    }
+
+    private static void runSafely(Runnable task) {
+        try {
+            task.run();
+        } catch (Exception e) {
+            log.error("라운드 스케줄 작업 실행 실패: {}", e.getMessage(), e);
+        }
+    }
+
+    private static String currentQuestionKey(String quizId) {
+        return String.format("quiz:%s:currentQuestion", quizId);
+    }
+
+    private static String member(String quizId, int questionNumber) {
+        return quizId + ":" + questionNumber;
+    }
+}
@@ -2,8 +2,9 @@ package com.ll.quizzle.global.socket.service;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ll.quizzle.domain.member.cache.MemberProfile;
+import com.ll.quizzle.domain.member.cache.MemberProfileCache;
 import com.ll.quizzle.domain.member.entity.Member;
-import com.ll.quizzle.domain.member.repository.MemberRepository;
 import com.ll.quizzle.domain.room.entity.Room;
 import com.ll.quizzle.global.socket.core.MessageService;
 import com.ll.quizzle.global.socket.core.MessageServiceFactory;
@@ -32,7 +33,7 @@ public class WebSocketRoomMessageService {
 
     private final ObjectMapper objectMapper;
     private final MessageServiceFactory messageServiceFactory;
-    private final MemberRepository memberRepository;
+    private final MemberProfileCache memberProfileCache;
     private final RedisTemplate<String, Object> redisTemplate;
 
 
@@ -125,17 +126,18 @@ public class WebSocketRoomMessageService {
             log.debug("진행 중인 게임 확인: 룸={}, 퀴즈ID={}, 현재라운드={}", room.getId(), quizId, currentRound);
         }
         
+        Map<Long, MemberProfile> profiles = memberProfileCache.getAll(room.getPlayers());
         for (Long playerId : room.getPlayers()) {
-            Member playerMember = memberRepository.findById(playerId).orElse(null);
+            MemberProfile playerMember = profiles.get(playerId);
             if (playerMember != null) {
                 Map<String, Object> playerInfo = new HashMap<>();
-                playerInfo.put("id", playerMember.getId().toString());
-                playerInfo.put("name", playerMember.getNickname());
+                playerInfo.put("id", playerMember.id().toString());
+                playerInfo.put("name", playerMember.nickname());
                 playerInfo.put("isReady", room.getReadyPlayers().contains(playerId));
                 playerInfo.put("isOwner", room.isOwner(playerId));
                 
                 if (isGameInProgress && currentRound != null) {
-                    String userId = playerMember.getId().toString();
+                    String userId = playerMember.id().toString();
                     String submissionKey = String.format("quiz:%s:user:%s:submissions", quizId, userId);
                     Long submissionsCount = redisTemplate.opsForList().size(submissionKey);
                     
@@ -0,0 +1,179 @@
+package com.ll.quizzle.global.socket.service.quiz;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import com.ll.quizzle.global.socket.core.MessageServiceFactory;
+import com.ll.quizzle.global.socket.dto.response.WebSocketQuizSubmitBatchResponse;
+import com.ll.quizzle.global.socket.dto.response.WebSocketQuizSubmitResponse;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 답안 제출 알림을 퀴즈 토픽별로 잠시 모았다가 한 프레임(ANSWER_BATCH)으로 전송합니다.
+ * 제출마다 전체 구독자에게 프레임을 보내면 참가자 수의 제곱으로 프레임이 늘어나므로, 토픽마다 버퍼 하나를 둡니다.
+ * - 최대 지연: 토픽의 첫 제출이 들어온 뒤 coalesce-window-ms 가 지나면 반드시 전송합니다.
+ * - 조기 전송: 버퍼가 max-batch-size 에 도달하거나, 문제 번호가 바뀌거나, 라운드가 닫히면(flush) 바로 전송합니다.
+ * - coalesce-window-ms 가 0 이면 묶지 않고 기존처럼 제출마다 ANSWER_SUBMIT 을 전송합니다.
+ * 프레임 감소율은 quiz.updates.frame.reduction (1 - 프레임 수 / 제출 수) 으로 확인할 수 있습니다.
+ */
+@Slf4j
+@Component
+public class QuizUpdateCoalescer {
+
+    private final MessageServiceFactory messageServiceFactory;
+    private final long windowMillis;
+    private final int maxBatchSize;
+    private final Map<String, Batch> batches = new ConcurrentHashMap<>();
+    private final ScheduledThreadPoolExecutor flusher;
+
+    private final Counter eventCounter;
+    private final Counter frameCounter;
+    private final DistributionSummary batchSizeSummary;
+    private final Timer delayTimer;
+
+    public QuizUpdateCoalescer(MessageServiceFactory messageServiceFactory,
+                               @Value("${quizzle.quiz.updates.coalesce-window-ms:50}") long windowMillis,
+                               @Value("${quizzle.quiz.updates.max-batch-size:64}") int maxBatchSize,
+                               MeterRegistry meterRegistry) {
+        this.messageServiceFactory = messageServiceFactory;
+        this.windowMillis = windowMillis;
+        this.maxBatchSize = Math.max(1, maxBatchSize);
+        this.flusher = new ScheduledThreadPoolExecutor(1, new CustomizableThreadFactory("quiz-update-flusher-"));
+        this.flusher.setRemoveOnCancelPolicy(true);
+
+        this.eventCounter = Counter.builder("quiz.updates.events")
+                .description("퀴즈 토픽으로 전달된 제출 알림 수")
+                .register(meterRegistry);
+        this.frameCounter = Counter.builder("quiz.updates.frames")
+                .description("퀴즈 토픽으로 실제 전송된 프레임 수")
+                .register(meterRegistry);
+        this.batchSizeSummary = DistributionSummary.builder("quiz.updates.batch.size")
+                .description("프레임 하나에 담긴 제출 알림 수")
+                .register(meterRegistry);
+        this.delayTimer = Timer.builder("quiz.updates.delay")
+                .description("묶음의 첫 제출부터 전송까지 걸린 시간")
+                .register(meterRegistry);
+        meterRegistry.gauge("quiz.updates.frame.reduction", this, QuizUpdateCoalescer::frameReduction);
+        meterRegistry.gauge("quiz.updates.pending.topics", batches, Map::size);
+    }
+
+    /**
+     * 제출 알림을 버퍼에 넣습니다. 조건에 따라 호출 스레드에서 바로 전송될 수도 있습니다.
+     */
+    public void publish(WebSocketQuizSubmitResponse submission) {
+        eventCounter.increment();
+        if (windowMillis <= 0) {
+            send(submission.quizId(), submission);
+            return;
+        }
+
+        String quizId = submission.quizId();
+        List<Batch> ready = new ArrayList<>(2);
+        Batch[] created = new Batch[1];
+        batches.compute(quizId, (key, batch) -> {
+            if (batch != null && batch.questionNumber != submission.questionNumber()) {
+                // 이전 문제의 알림이 다음 문제 알림과 한 프레임에 섞이지 않도록 먼저 내보냅니다.
+                ready.add(batch);
+                batch = null;
+            }
+            if (batch == null) {
+                batch = new Batch(key, submission.questionNumber());
+                created[0] = batch;
+            }
+            batch.submissions.add(submission);
+            if (batch.submissions.size() >= maxBatchSize) {
+                ready.add(batch);
+                return null;
+            }
+            return batch;
+        });
+
+        if (created[0] != null && !ready.contains(created[0])) {
+            // 맵에 등록된 뒤에 예약해야 타이머가 먼저 실행되어 묶음을 놓치는 일이 없습니다.
+            Batch batch = created[0];
+            batch.flushTask = flusher.schedule(() -> flushIfCurrent(batch), windowMillis, TimeUnit.MILLISECONDS);
+        }
+        for (Batch batch : ready) {
+            send(batch);
+        }
+    }
+
+    /**
+     * 라운드가 닫힐 때 호출하여, 남아 있는 제출 알림이 라운드 종료 메시지보다 먼저 전송되도록 합니다.
+     */
+    public void flush(String quizId) {
+        Batch batch = batches.remove(quizId);
+        if (batch != null) {
+            send(batch);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flusher.shutdown();
+        for (String quizId : List.copyOf(batches.keySet())) {
+            flush(quizId);
+        }
+    }
+
+    double frameReduction() {
+        double events = eventCounter.count();
+        return events == 0 ? 0 : 1 - frameCounter.count() / events;
+    }
+
+    private void flushIfCurrent(Batch batch) {
+        try {
+            if (batches.remove(batch.quizId, batch)) {
+                send(batch);
+            }
+        } catch (Exception e) {
+            log.error("제출 알림 묶음 전송 실패: quizId={}, {}", batch.quizId, e.getMessage(), e);
+        }
+    }
+
+    private void send(Batch batch) {
+        if (batch.flushTask != null) {
+            batch.flushTask.cancel(false);
+        }
+        batchSizeSummary.record(batch.submissions.size());
+        delayTimer.record(System.nanoTime() - batch.createdNanos, TimeUnit.NANOSECONDS);
+        send(batch.quizId, WebSocketQuizSubmitBatchResponse.of(batch.quizId, batch.questionNumber, batch.submissions));
+    }
+
+    private void send(String quizId, Object message) {
+        frameCounter.increment();
+        messageServiceFactory.getRoomService().send("/topic/quiz/" + quizId + "/updates", message);
+    }
+
+    /**
+     * 토픽 하나의 대기 중인 제출 알림. compute 안에서만 변경되고, 맵에서 꺼낸 스레드만 전송합니다.
+     */
+    private static final class Batch {
+
+        private final String quizId;
+        private final int questionNumber;
+        private final long createdNanos = System.nanoTime();
+        private final List<WebSocketQuizSubmitResponse> submissions = new ArrayList<>();
+        private volatile ScheduledFuture<?> flushTask;
+
+        private Batch(String quizId, int questionNumber) {
+            this.quizId = quizId;
+            this.questionNumber = questionNumber;
+        }
+    }
+}
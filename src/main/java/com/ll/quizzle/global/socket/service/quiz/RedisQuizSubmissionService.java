@@ -1,96 +1,100 @@
 package com.ll.quizzle.global.socket.service.quiz;
 
-import com.ll.quizzle.domain.member.entity.Member;
-import com.ll.quizzle.domain.member.service.MemberService;
+import com.ll.quizzle.domain.member.cache.MemberProfile;
+import com.ll.quizzle.domain.member.cache.MemberProfileCache;
+import com.ll.quizzle.domain.quiz.cache.QuizAnswerKey;
+import com.ll.quizzle.domain.quiz.cache.QuizAnswerKeyCache;
+import com.ll.quizzle.domain.quiz.service.QuizScoreboardService;
 import com.ll.quizzle.global.socket.dto.response.WebSocketQuizSubmitResponse;
+import com.ll.quizzle.global.socket.scheduler.QuizRoundScheduler;
 import com.ll.quizzle.global.socket.type.RoomMessageType;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.io.ClassPathResource;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Service;
 
 import java.time.Duration;
+import java.util.List;
 
 @Service
 public class RedisQuizSubmissionService {
 
     private static final Duration QUIZ_TTL = Duration.ofMinutes(30);
 
+    /**
+     * 제출 한 건을 처리하던 10여 번의 Redis 왕복(LLEN, LINDEX, GET, LRANGE, RPUSH, EXPIRE, SISMEMBER, SADD, SCARD, PUBLISH ...)을
+     * 하나의 스크립트로 묶어 EVALSHA 한 번에 처리합니다. 채점은 정답표 캐시에서 미리 끝내고 결과만 전달합니다.
+     * 중복 제출 검사와 기록이 스크립트 안에서 원자적으로 수행되므로 check-then-act 경쟁 상태도 사라집니다.
+     */
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> SUBMIT_ANSWER_SCRIPT =
+            new DefaultRedisScript<>(new ClassPathResource("scripts/quiz/submit-answer.lua"), List.class);
+
+    private static final String STATUS_OK = "OK";
+
+    @Autowired
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Autowired
+    private QuizAnswerKeyCache answerKeyCache;
+
+    @Autowired
+    private QuizRoundScheduler roundScheduler;
+
+    // 실제 회원의 닉네임 조회 (노드 로컬 프로필 캐시)
     @Autowired
-    private RedisTemplate<String, Object> redisTemplate;
+    private MemberProfileCache memberProfileCache;
 
-    // 실제 회원의 닉네임 조회를 위한 MemberService 주입
     @Autowired
-    private MemberService memberService;
+    private QuizUpdateCoalescer updateCoalescer;
 
     public WebSocketQuizSubmitResponse submitAnswer(String quizId, String memberId, int questionNumber, String submittedAnswer) {
-        // 정답 검증
-        String answerListKey = String.format("quiz:%s:answers", quizId);
-        Long totalQuestions = redisTemplate.opsForList().size(answerListKey);
-        if (totalQuestions == null || questionNumber > totalQuestions.intValue() || questionNumber <= 0) {
+        // 정답 검증 (노드 로컬 정답표, 네트워크 호출 없음)
+        QuizAnswerKey answerKey = answerKeyCache.get(quizId);
+        if (answerKey == null || !answerKey.isValidQuestion(questionNumber)) {
             throw new IllegalArgumentException("유효하지 않은 문제 번호입니다.");
         }
-        Object answerObj = redisTemplate.opsForList().index(answerListKey, questionNumber - 1);
-        if (answerObj == null) {
-            throw new IllegalArgumentException("해당 문제의 정답을 찾을 수 없습니다.");
-        }
-        String answerStr = answerObj.toString();
-        String[] parts = answerStr.split(":");
-        if (parts.length != 2) {
+        if (!answerKey.isWellFormed(questionNumber)) {
             throw new IllegalStateException("저장된 정답 형식이 올바르지 않습니다.");
         }
-        String correctAnswer = parts[1].trim().toLowerCase();
-        boolean isCorrect = correctAnswer.equals(submittedAnswer.trim().toLowerCase());
-
-        // 현재 활성화된 문제 번호 검증
-        String currentQuestionKey = String.format("quiz:%s:currentQuestion", quizId);
-        Integer currentQuestion = (Integer) redisTemplate.opsForValue().get(currentQuestionKey);
-        if (currentQuestion == null) {
-            currentQuestion = 1;
-            redisTemplate.opsForValue().set(currentQuestionKey, currentQuestion, QUIZ_TTL);
-        }
-        if (questionNumber != currentQuestion) {
-            throw new IllegalStateException("현재 활성화된 문제에 대해서만 답안을 제출할 수 있습니다.");
-        }
+        boolean isCorrect = answerKey.isCorrect(questionNumber, submittedAnswer);
+        String correctAnswer = answerKey.correctAnswer(questionNumber);
 
-        // 중복 제출 방지
-        String submissionKey = String.format("quiz:%s:memberId:%s:submissions", quizId.trim(), memberId.trim());
-        if (redisTemplate.opsForList().range(submissionKey, 0, -1).stream()
-                .anyMatch(entry -> entry.toString().startsWith(questionNumber + ":"))) {
-            throw new IllegalStateException("이미 해당 문제에 대해 제출하셨습니다.");
-        }
-        // 제출 기록 저장
-        String resultStr = isCorrect ? "correct" : "incorrect";
-        String submissionEntry = String.format("%d:%s:%s", questionNumber, submittedAnswer.trim().toLowerCase(), resultStr);
-        redisTemplate.opsForList().rightPush(submissionKey, submissionEntry);
-        redisTemplate.expire(submissionKey, QUIZ_TTL);
-
-        // 문제별 제출 상태 업데이트: 제출 Set에 등록
-        String submittedSetKey = String.format("quiz:%s:submitted:%d", quizId, questionNumber);
-        Boolean alreadySubmitted = redisTemplate.opsForSet().isMember(submittedSetKey, memberId);
-        if (Boolean.TRUE.equals(alreadySubmitted)) {
-            throw new IllegalStateException("이미 제출하셨습니다.");
-        }
-        redisTemplate.opsForSet().add(submittedSetKey, memberId);
-        redisTemplate.expire(submittedSetKey, QUIZ_TTL);
-
-        // 모든 참가자 제출 여부 확인 후 이벤트 발행
-        String participantsKey = String.format("quiz:%s:participants", quizId);
-        Long totalParticipants = redisTemplate.opsForSet().size(participantsKey);
-        Long submittedCount = redisTemplate.opsForSet().size(submittedSetKey);
-        if (totalParticipants != null && submittedCount != null && totalParticipants.equals(submittedCount)) {
-            String notificationChannel = String.format("quiz:%s:notifications", quizId);
-            String event = (questionNumber == totalQuestions.intValue()) ? "quizEnd" : "nextQuestion";
-            redisTemplate.convertAndSend(notificationChannel, event);
-        }
+        List<String> keys = List.of(
+                String.format("quiz:%s:currentQuestion", quizId),
+                String.format("quiz:%s:memberId:%s:submissions", quizId.trim(), memberId.trim()),
+                String.format("quiz:%s:submitted:%d", quizId, questionNumber),
+                String.format("quiz:%s:participants", quizId),
+                QuizScoreboardService.scoreboardKey(quizId),
+                QuizScoreboardService.correctKey(quizId),
+                QuizScoreboardService.answeredKey(quizId)
+        );
+
+        List<?> result = redisTemplate.execute(
+                SUBMIT_ANSWER_SCRIPT,
+                keys,
+                memberId,
+                String.valueOf(questionNumber),
+                submittedAnswer.trim().toLowerCase(),
+                String.valueOf(QUIZ_TTL.toSeconds()),
+                String.format("quiz:%s:notifications", quizId),
+                isCorrect ? "1" : "0",
+                String.valueOf(answerKey.totalQuestions()),
+                String.valueOf(System.currentTimeMillis())
+        );
+
+        SubmissionResult submission = SubmissionResult.from(result);
 
         String resultMessage = isCorrect ? "정답입니다." : "오답입니다.";
         long timestamp = System.currentTimeMillis();
 
-        String nickname = memberService.findById(Long.parseLong(memberId))
-                .map(Member::getNickname)
+        String nickname = memberProfileCache.get(Long.parseLong(memberId))
+                .map(MemberProfile::nickname)
                 .orElse(memberId);
 
-        return new WebSocketQuizSubmitResponse(
+        WebSocketQuizSubmitResponse response = new WebSocketQuizSubmitResponse(
                 RoomMessageType.ANSWER_SUBMIT,
                 questionNumber,
                 isCorrect,
@@ -99,7 +103,48 @@ public class RedisQuizSubmissionService {
                 nickname,     // 실제 닉네임을 보여줌
                 true,
                 timestamp,
-                quizId
+                quizId,
+                submission.submittedCount(),
+                submission.participantCount()
         );
+
+        // 라운드 종료 메시지보다 먼저 나가도록, 라운드를 닫기 전에 묶음 전송 버퍼에 넣습니다.
+        updateCoalescer.publish(response);
+        if (submission.allSubmitted()) {
+            // 전원이 제출했으면 마감을 기다리지 않고 라운드를 닫습니다.
+            roundScheduler.onAllSubmitted(quizId, questionNumber);
+        }
+
+        return response;
+    }
+
+    /**
+     * 제출 스크립트의 결과 튜플 { 상태, 이벤트, 제출자 수, 참가자 수 }
+     */
+    private record SubmissionResult(String event, int submittedCount, int participantCount) {
+
+        private boolean allSubmitted() {
+            return !event.isEmpty();
+        }
+
+        private static SubmissionResult from(List<?> result) {
+            if (result == null || result.isEmpty()) {
+                throw new IllegalStateException("답안 제출 스크립트 실행 결과가 없습니다.");
+            }
+
+            String status = String.valueOf(result.get(0));
+            switch (status) {
+                case STATUS_OK -> {
+                    return new SubmissionResult(
+                            result.size() > 1 ? String.valueOf(result.get(1)) : "",
+                            result.size() > 2 ? Integer.parseInt(String.valueOf(result.get(2))) : 0,
+                            result.size() > 3 ? Integer.parseInt(String.valueOf(result.get(3))) : 0
+                    );
+                }
+                case "NOT_CURRENT_QUESTION" -> throw new IllegalStateException("현재 활성화된 문제에 대해서만 답안을 제출할 수 있습니다.");
+                case "DUPLICATE_SUBMISSION" -> throw new IllegalStateException("이미 해당 문제에 대해 제출하셨습니다.");
+                default -> throw new IllegalStateException("알 수 없는 제출 처리 결과입니다: " + status);
+            }
+        }
     }
 }
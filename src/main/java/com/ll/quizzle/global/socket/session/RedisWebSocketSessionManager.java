@@ -1,35 +1,59 @@
 package com.ll.quizzle.global.socket.session;
 
+import com.ll.quizzle.global.redis.index.RedisKeyIndex;
 import com.ll.quizzle.global.socket.core.SessionInfo;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.annotation.Primary;
+import org.springframework.core.io.ClassPathResource;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.stereotype.Component;
-import org.springframework.stereotype.Service;
 
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
-import java.util.Set;
-import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.BiConsumer;
 
 /**
  * 분산 환경에서 세션 정보를 공유할 수 있도록 Redis 를 사용하여 세션 관리
+ * 접속 중인 사용자는 ws:users 인덱스로 관리하여 KEYS ws:user:* 없이 조회합니다.
  */
 @Primary
 @Slf4j
 @Component
-@RequiredArgsConstructor
 public class RedisWebSocketSessionManager implements WebSocketSessionManager {
 
     private final RedisTemplate<String, Object> redisTemplate;
+    private final RedisTemplate<String, String> stringRedisTemplate;
+    private final RedisKeyIndex activeUserIndex;
+    private final AtomicLong lastIndexRepairAt = new AtomicLong();
 
     private static final String SESSION_KEY_PREFIX = "ws:session:";
     private static final String USER_SESSIONS_KEY_PREFIX = "ws:user:";
+    private static final String ACTIVE_USERS_KEY = "ws:users";
     private static final long SESSION_EXPIRY = 3600;
     private static final long SESSION_TERMINATE_EXPIRY = 10;
+    // 인덱스 도입 전 키와 TTL 로 사라진 항목을 맞추는 SCAN 복구 주기
+    private static final Duration INDEX_REPAIR_INTERVAL = Duration.ofMinutes(10);
+
+    private static final RedisScript<Long> REGISTER_SESSION_SCRIPT =
+            new DefaultRedisScript<>(new ClassPathResource("scripts/session/register-session.lua"), Long.class);
+
+    private static final RedisScript<Long> REMOVE_SESSION_SCRIPT =
+            new DefaultRedisScript<>(new ClassPathResource("scripts/session/remove-session.lua"), Long.class);
+
+    public RedisWebSocketSessionManager(RedisTemplate<String, Object> redisTemplate,
+                                        RedisTemplate<String, String> stringRedisTemplate) {
+        this.redisTemplate = redisTemplate;
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.activeUserIndex = new RedisKeyIndex(stringRedisTemplate, ACTIVE_USERS_KEY, USER_SESSIONS_KEY_PREFIX);
+    }
 
     @Override
     public void registerSession(String email, String sessionId, String accessToken, Long expiryTime) {
@@ -53,11 +77,16 @@ public class RedisWebSocketSessionManager implements WebSocketSessionManager {
                 });
         }
 
-        String sessionKey = SESSION_KEY_PREFIX + sessionId;
-        redisTemplate.opsForValue().set(sessionKey, sessionInfo, SESSION_EXPIRY, TimeUnit.SECONDS);
-
-        redisTemplate.opsForHash().put(userSessionsKey, sessionId, System.currentTimeMillis());
-        redisTemplate.expire(userSessionsKey, SESSION_EXPIRY, TimeUnit.SECONDS);
+        // 세션 정보, 사용자별 세션 목록, 활성 사용자 인덱스를 한 번에 기록합니다.
+        stringRedisTemplate.execute(
+                REGISTER_SESSION_SCRIPT,
+                List.of(SESSION_KEY_PREFIX + sessionId, userSessionsKey, activeUserIndex.key()),
+                serialize(redisTemplate.getValueSerializer(), sessionInfo),
+                sessionId,
+                serialize(redisTemplate.getHashValueSerializer(), System.currentTimeMillis()),
+                String.valueOf(SESSION_EXPIRY),
+                email
+        );
 
         log.debug("Redis에 세션 등록: 사용자={}, 세션={}", email, sessionId);
     }
@@ -66,14 +95,15 @@ public class RedisWebSocketSessionManager implements WebSocketSessionManager {
     @Override
     public void removeSession(String email, String sessionId) {
 
-        String sessionKey = SESSION_KEY_PREFIX + sessionId;
-        redisTemplate.delete(sessionKey);
-
-        String userSessionsKey = USER_SESSIONS_KEY_PREFIX + email;
-        redisTemplate.opsForHash().delete(userSessionsKey, sessionId);
+        // 마지막 세션이면 사용자별 세션 목록과 인덱스 항목까지 함께 제거합니다.
+        Long remaining = stringRedisTemplate.execute(
+                REMOVE_SESSION_SCRIPT,
+                List.of(SESSION_KEY_PREFIX + sessionId, USER_SESSIONS_KEY_PREFIX + email, activeUserIndex.key()),
+                sessionId,
+                email
+        );
 
-        if (Boolean.TRUE.equals(redisTemplate.opsForHash().size(userSessionsKey) == 0)) {
-            redisTemplate.delete(userSessionsKey);
+        if (remaining != null && remaining == 0) {
             log.debug("사용자 세션 목록 삭제: 사용자={}", email);
         }
 
@@ -97,16 +127,18 @@ public class RedisWebSocketSessionManager implements WebSocketSessionManager {
     @Override
     public void removeExpiredSessions(long currentTime, BiConsumer<String, SessionInfo> expiredSessionCallback) {
 
-        Set<String> userKeys = redisTemplate.keys(USER_SESSIONS_KEY_PREFIX + "*");
-
-        if (userKeys == null || userKeys.isEmpty()) {
-            return;
-        }
+        repairIndexIfDue(currentTime);
 
-        for (String userKey : userKeys) {
-            String email = userKey.substring(USER_SESSIONS_KEY_PREFIX.length());
+        for (String email : activeUserIndex.members()) {
+            String userKey = activeUserIndex.keyOf(email);
             Map<Object, Object> sessions = redisTemplate.opsForHash().entries(userKey);
 
+            if (sessions.isEmpty()) {
+                // 세션 목록이 TTL 로 만료된 사용자는 인덱스에서도 제거합니다.
+                activeUserIndex.remove(email);
+                continue;
+            }
+
             for (Map.Entry<Object, Object> entry : sessions.entrySet()) {
                 String sessionId = (String) entry.getKey();
                 String sessionKey = SESSION_KEY_PREFIX + sessionId;
@@ -129,15 +161,9 @@ public class RedisWebSocketSessionManager implements WebSocketSessionManager {
 
     @Override
     public Map<String, Map<String, SessionInfo>> getActiveUserSessions() {
-        Set<String> userKeys = redisTemplate.keys(USER_SESSIONS_KEY_PREFIX + "*");
         Map<String, Map<String, SessionInfo>> result = new HashMap<>();
 
-        if (userKeys == null || userKeys.isEmpty()) {
-            return result;
-        }
-
-        for (String userKey : userKeys) {
-            String email = userKey.substring(USER_SESSIONS_KEY_PREFIX.length());
+        for (String email : activeUserIndex.members()) {
             Map<String, SessionInfo> userSessions = getUserSessions(email);
 
             if (!userSessions.isEmpty()) {
@@ -234,4 +260,18 @@ public class RedisWebSocketSessionManager implements WebSocketSessionManager {
 
         return result;
     }
+
+    private void repairIndexIfDue(long currentTime) {
+        long last = lastIndexRepairAt.get();
+        if (currentTime - last < INDEX_REPAIR_INTERVAL.toMillis() || !lastIndexRepairAt.compareAndSet(last, currentTime)) {
+            return;
+        }
+        activeUserIndex.repair();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static String serialize(RedisSerializer<?> serializer, Object value) {
+        byte[] bytes = ((RedisSerializer<Object>) serializer).serialize(value);
+        return bytes == null ? "" : new String(bytes, StandardCharsets.UTF_8);
+    }
 }
\ No newline at end of file
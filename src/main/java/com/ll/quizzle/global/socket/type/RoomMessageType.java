@@ -16,9 +16,15 @@ public enum RoomMessageType {
     GAME_START("게임 시작"),
     GAME_END("게임 종료"),
     ANSWER_SUBMIT("정답 제출"),
+    ANSWER_BATCH("정답 제출 묶음"),
     TIMER("타이머 업데이트"),
     ROUND_START("라운드 시작"),
     ROUND_END("라운드 종료"),
+    RANK_UPDATE("순위 변경"),
+    QUESTION_READY("문제 준비 완료"),
+    QUIZ_GENERATED("퀴즈 생성 완료"),
+    QUIZ_JOB_COMPLETED("퀴즈 생성 작업 완료"),
+    QUIZ_JOB_FAILED("퀴즈 생성 작업 실패"),
     SYSTEM("시스템 메시지"),
     ROOM_UPDATED("방 정보 업데이트");
     
@@ -0,0 +1,28 @@
+-- 문제 은행 (QuizQuestion). min_hash 는 QuestionFingerprint.SIGNATURE_BYTES(64 * 4) 바이트입니다.
+-- 운영 환경은 ddl-auto: none 이므로 spring.sql.init 으로 생성합니다.
+CREATE TABLE IF NOT EXISTS quiz_question
+(
+    id            BIGINT        NOT NULL AUTO_INCREMENT,
+    create_date   DATETIME(6),
+    modify_date   DATETIME(6),
+    main_category VARCHAR(255)  NOT NULL,
+    sub_category  VARCHAR(255)  NOT NULL,
+    answer_type   VARCHAR(255)  NOT NULL,
+    difficulty    VARCHAR(255)  NOT NULL,
+    question      VARCHAR(2000) NOT NULL,
+    answer        VARCHAR(200)  NOT NULL,
+    content_hash  VARCHAR(64)   NOT NULL,
+    min_hash      VARBINARY(256) NOT NULL,
+    PRIMARY KEY (id),
+    UNIQUE INDEX uk_quiz_question_content_hash (content_hash),
+    INDEX idx_quiz_question_pool (sub_category, answer_type, difficulty, id)
+);
+
+CREATE TABLE IF NOT EXISTS quiz_question_band
+(
+    question_id BIGINT NOT NULL,
+    band_key    BIGINT NOT NULL,
+    PRIMARY KEY (question_id, band_key),
+    INDEX idx_quiz_question_band_key (band_key),
+    CONSTRAINT fk_quiz_question_band_question FOREIGN KEY (question_id) REFERENCES quiz_question (id)
+);
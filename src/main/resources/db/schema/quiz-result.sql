@@ -0,0 +1,24 @@
+-- 퀴즈 정산 스냅샷 (Quiz, QuizResult). 운영 환경은 ddl-auto: none 이므로 spring.sql.init 으로 생성합니다.
+CREATE TABLE IF NOT EXISTS quiz
+(
+    id          BIGINT       NOT NULL AUTO_INCREMENT,
+    create_date DATETIME(6),
+    modify_date DATETIME(6),
+    quiz_key    VARCHAR(255) NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_quiz_quiz_key UNIQUE (quiz_key)
+);
+
+CREATE TABLE IF NOT EXISTS quiz_result
+(
+    quiz_id         BIGINT NOT NULL,
+    result_order    INT    NOT NULL,
+    member_id       BIGINT NOT NULL,
+    correct_count   INT    NOT NULL,
+    total_questions INT    NOT NULL,
+    score           INT    NOT NULL,
+    result_rank     INT    NOT NULL,
+    exp             INT    NOT NULL,
+    PRIMARY KEY (quiz_id, result_order),
+    CONSTRAINT fk_quiz_result_quiz FOREIGN KEY (quiz_id) REFERENCES quiz (id)
+);
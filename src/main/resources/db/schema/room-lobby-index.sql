@@ -0,0 +1,22 @@
+-- 로비 키셋 조회 인덱스 (Room @Table indexes). 운영 환경은 ddl-auto: none 이므로 spring.sql.init 으로 만듭니다.
+-- MySQL 은 CREATE INDEX IF NOT EXISTS 를 지원하지 않으므로, 인덱스가 없을 때만 information_schema 로 확인하여 만듭니다.
+SET @ddl = (SELECT IF(COUNT(*) = 0, 'CREATE INDEX idx_room_lobby ON room (status, id)', 'DO 0')
+            FROM information_schema.statistics
+            WHERE table_schema = DATABASE() AND table_name = 'room' AND index_name = 'idx_room_lobby');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+SET @ddl = (SELECT IF(COUNT(*) = 0, 'CREATE INDEX idx_room_lobby_main_category ON room (main_category, status, id)', 'DO 0')
+            FROM information_schema.statistics
+            WHERE table_schema = DATABASE() AND table_name = 'room' AND index_name = 'idx_room_lobby_main_category');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+SET @ddl = (SELECT IF(COUNT(*) = 0, 'CREATE INDEX idx_room_lobby_sub_category ON room (sub_category, status, id)', 'DO 0')
+            FROM information_schema.statistics
+            WHERE table_schema = DATABASE() AND table_name = 'room' AND index_name = 'idx_room_lobby_sub_category');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
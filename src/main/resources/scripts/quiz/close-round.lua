@@ -0,0 +1,52 @@
+-- 퀴즈 라운드 종료 스크립트
+-- 마감 타이머와 전원 제출 중 먼저 도착한 쪽만 라운드를 닫도록 현재 문제 번호를 비교 후 교체(CAS)합니다.
+-- 어느 노드에서 실행되든 같은 라운드는 한 번만 닫힙니다.
+--
+-- KEYS[1] quiz:round:deadlines            라운드 마감 시각 (ZSet)
+-- KEYS[2] quiz:{quizId}:currentQuestion   현재 활성화된 문제 번호
+-- KEYS[3] quiz:{quizId}:notifications     퀴즈 알림 채널
+--
+-- ARGV[1] quizId
+-- ARGV[2] 닫을 문제 번호
+-- ARGV[3] 전체 문제 수
+-- ARGV[4] 다음 라운드 마감 시각 (epoch ms)
+-- ARGV[5] TTL (초)
+-- ARGV[6] 마지막 라운드일 때 quizEnd 를 발행할지 여부 (1/0)
+--
+-- 반환: { 'NEXT', 다음 라운드 마감 등록 여부(1/0) } / { 'END' } / { 'STALE' } (STALE 이면 해당 마감 항목만 지웁니다)
+
+local function decode(raw)
+    local ok, value = pcall(cjson.decode, raw)
+    if ok and value ~= nil then
+        return value
+    end
+    return raw
+end
+
+local quizId = ARGV[1]
+local questionNumber = tonumber(ARGV[2])
+local totalQuestions = tonumber(ARGV[3])
+local ttl = tonumber(ARGV[5])
+
+local currentQuestion = redis.call('GET', KEYS[2])
+if not currentQuestion or tonumber(decode(currentQuestion)) ~= questionNumber then
+    -- 이미 닫혔거나 만료된 라운드의 마감 항목이 남아 있으면 회수 때마다 다시 읽히므로 여기서 지웁니다.
+    redis.call('ZREM', KEYS[1], quizId .. ':' .. questionNumber)
+    return { 'STALE' }
+end
+
+-- 스케줄러로 시작하지 않은 퀴즈는 마감 시각이 없으므로 다음 라운드에도 등록하지 않습니다.
+local timed = redis.call('ZREM', KEYS[1], quizId .. ':' .. questionNumber)
+redis.call('SET', KEYS[2], tostring(questionNumber + 1), 'EX', ttl)
+
+if questionNumber >= totalQuestions then
+    if ARGV[6] == '1' then
+        redis.call('PUBLISH', KEYS[3], cjson.encode('quizEnd'))
+    end
+    return { 'END' }
+end
+
+if timed == 1 then
+    redis.call('ZADD', KEYS[1], ARGV[4], quizId .. ':' .. (questionNumber + 1))
+end
+return { 'NEXT', tostring(timed) }
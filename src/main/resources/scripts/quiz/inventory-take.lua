@@ -0,0 +1,27 @@
+-- 미리 생성된 퀴즈 재고에서 하나를 꺼내는 스크립트
+-- 꺼내기, 수요 집계, 적중/실패 집계, 재고 부족 표시를 한 번의 왕복으로 처리합니다.
+--
+-- KEYS[1] quiz:inventory:stock:{조합}   조합별 재고 (List, JSON)
+-- KEYS[2] quiz:inventory:demand         조합별 수요 점수 (ZSet)
+-- KEYS[3] quiz:inventory:stats          적중/실패 횟수 (Hash)
+-- KEYS[4] quiz:inventory:refilling      보충 중인 조합 (Set)
+--
+-- ARGV[1] 조합 ID
+-- ARGV[2] 저수위 (이 값 미만으로 떨어지면 보충 대상으로 표시)
+--
+-- 반환: 꺼낸 퀴즈(JSON) / 재고가 없으면 nil
+
+local quiz = redis.call('LPOP', KEYS[1])
+redis.call('ZINCRBY', KEYS[2], 1, ARGV[1])
+
+if not quiz then
+    redis.call('HINCRBY', KEYS[3], 'misses', 1)
+    redis.call('SADD', KEYS[4], ARGV[1])
+    return false
+end
+
+redis.call('HINCRBY', KEYS[3], 'hits', 1)
+if redis.call('LLEN', KEYS[1]) < tonumber(ARGV[2]) then
+    redis.call('SADD', KEYS[4], ARGV[1])
+end
+return quiz
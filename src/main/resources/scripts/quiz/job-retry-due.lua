@@ -0,0 +1,24 @@
+-- 백오프가 끝난 퀴즈 생성 작업을 재시도 대기열에서 작업 스트림으로 옮기는 스크립트
+-- 여러 노드가 동시에 실행해도 같은 작업이 두 번 옮겨지지 않도록 꺼내기와 추가를 한 번에 처리합니다.
+--
+-- KEYS[1] quiz:jobs:retry   재시도 대기열 (ZSet, score = 실행 시각(ms), member = 스트림 필드 JSON)
+-- KEYS[2] quiz:jobs         작업 스트림
+--
+-- ARGV[1] 현재 시각(ms)
+-- ARGV[2] 한 번에 옮길 최대 개수
+--
+-- 반환: 옮긴 작업 수
+
+local due = redis.call('ZRANGEBYSCORE', KEYS[1], '-inf', ARGV[1], 'LIMIT', 0, tonumber(ARGV[2]))
+
+for _, member in ipairs(due) do
+    redis.call('ZREM', KEYS[1], member)
+    local fields = cjson.decode(member)
+    local args = {}
+    for field, value in pairs(fields) do
+        args[#args + 1] = field
+        args[#args + 1] = tostring(value)
+    end
+    redis.call('XADD', KEYS[2], '*', unpack(args))
+end
+return #due
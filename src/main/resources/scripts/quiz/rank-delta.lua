@@ -0,0 +1,51 @@
+-- 라운드 종료 시 순위 변화 계산 스크립트
+-- 현재 점수판과 직전 라운드의 순위 스냅샷을 비교하여 순위나 점수가 바뀐 회원만 돌려주고, 스냅샷을 갱신합니다.
+--
+-- KEYS[1] quiz:{quizId}:scoreboard   점수판 (ZSet)
+-- KEYS[2] quiz:{quizId}:ranks        직전 라운드 순위 스냅샷 (Hash, memberId -> "순위:점수")
+--
+-- ARGV[1] TTL (초)
+--
+-- 반환: { memberId, 순위, 이전 순위(없으면 0), 정답 수, ... } 평탄화된 목록
+
+local SCORE_UNIT = 10000000000000
+
+local ranking = redis.call('ZREVRANGE', KEYS[1], 0, -1, 'WITHSCORES')
+local previous = redis.call('HGETALL', KEYS[2])
+
+local previousByMember = {}
+for i = 1, #previous, 2 do
+    previousByMember[previous[i]] = previous[i + 1]
+end
+
+local changes = {}
+local snapshot = {}
+for i = 1, #ranking, 2 do
+    local memberId = ranking[i]
+    local score = ranking[i + 1]
+    local rank = (i + 1) / 2
+    local correctCount = math.floor(tonumber(score) / SCORE_UNIT)
+    local current = rank .. ':' .. correctCount
+
+    local before = previousByMember[memberId]
+    if before ~= current then
+        local previousRank = 0
+        if before then
+            previousRank = tonumber(string.match(before, '^(%d+):'))
+        end
+        table.insert(changes, memberId)
+        table.insert(changes, rank)
+        table.insert(changes, previousRank)
+        table.insert(changes, correctCount)
+    end
+
+    table.insert(snapshot, memberId)
+    table.insert(snapshot, current)
+end
+
+if #snapshot > 0 then
+    redis.call('HSET', KEYS[2], unpack(snapshot))
+    redis.call('EXPIRE', KEYS[2], tonumber(ARGV[1]))
+end
+
+return changes
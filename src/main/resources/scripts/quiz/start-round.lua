@@ -0,0 +1,17 @@
+-- 퀴즈 첫 라운드 시작 스크립트
+-- 현재 문제 번호가 없을 때만 1번 문제를 활성화하고 마감 시각을 등록합니다. (중복 시작 방지)
+--
+-- KEYS[1] quiz:round:deadlines            라운드 마감 시각 (ZSet, member = {quizId}:{questionNumber}, score = epoch ms)
+-- KEYS[2] quiz:{quizId}:currentQuestion   현재 활성화된 문제 번호
+--
+-- ARGV[1] quizId
+-- ARGV[2] 마감 시각 (epoch ms)
+-- ARGV[3] TTL (초)
+--
+-- 반환: 1 (시작됨) / 0 (이미 진행 중)
+
+if redis.call('SET', KEYS[2], '1', 'NX', 'EX', tonumber(ARGV[3])) then
+    redis.call('ZADD', KEYS[1], ARGV[2], ARGV[1] .. ':1')
+    return 1
+end
+return 0
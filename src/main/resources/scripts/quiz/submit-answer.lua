@@ -0,0 +1,89 @@
+-- 퀴즈 답안 제출 스크립트
+-- 현재 문제 검증, 중복 제출 방지, 제출 기록, 점수판 갱신, 전원 제출 여부 확인, 이벤트 발행을 한 번의 EVALSHA 로 원자적으로 처리합니다.
+-- 채점은 노드 로컬 정답표 캐시(QuizAnswerKeyCache)에서 끝내고 결과만 인자로 전달받습니다.
+--
+-- KEYS[1] quiz:{quizId}:currentQuestion              현재 활성화된 문제 번호
+-- KEYS[2] quiz:{quizId}:memberId:{memberId}:submissions  회원별 제출 기록 (List, "번호:답:상태")
+-- KEYS[3] quiz:{quizId}:submitted:{questionNumber}   문제별 제출자 (Set)
+-- KEYS[4] quiz:{quizId}:participants                 참가자 (Set)
+-- KEYS[5] quiz:{quizId}:scoreboard                   점수판 (ZSet, member = memberId)
+-- KEYS[6] quiz:{quizId}:correct                      회원별 정답 수 (Hash)
+-- KEYS[7] quiz:{quizId}:answered                     회원별 제출 수 (Hash)
+--
+-- ARGV[1] memberId
+-- ARGV[2] questionNumber
+-- ARGV[3] 제출한 답 (trim + 소문자 변환 완료)
+-- ARGV[4] TTL (초)
+-- ARGV[5] 알림 채널 (quiz:{quizId}:notifications)
+-- ARGV[6] 정답 여부 (1/0)
+-- ARGV[7] 전체 문제 수
+-- ARGV[8] 제출 시각 (epoch ms)
+--
+-- 점수판 점수 = 정답 수 * 10^13 + (10^13 - 마지막 정답 시각)
+-- 정답 수가 같으면 먼저 맞힌 회원이 앞서도록 동점 순서를 점수에 함께 담습니다. (2^53 이하이므로 double 로 정확히 표현됩니다)
+--
+-- 반환: { 상태, 이벤트(nextQuestion/quizEnd/빈 문자열), 현재 문제 제출자 수, 참가자 수 }
+-- RedisTemplate<String, Object> 가 JSON 으로 저장한 값과 호환되도록 읽을 때는 decode, 쓸 때는 encode 합니다.
+
+local function decode(raw)
+    local ok, value = pcall(cjson.decode, raw)
+    if ok and value ~= nil then
+        return value
+    end
+    return raw
+end
+
+local memberId = ARGV[1]
+local questionNumber = tonumber(ARGV[2])
+local submittedAnswer = ARGV[3]
+local ttl = tonumber(ARGV[4])
+local isCorrect = ARGV[6] == '1'
+local totalQuestions = tonumber(ARGV[7])
+local now = tonumber(ARGV[8])
+local SCORE_UNIT = 10000000000000
+
+local currentQuestion = redis.call('GET', KEYS[1])
+if not currentQuestion then
+    currentQuestion = 1
+    redis.call('SET', KEYS[1], '1', 'EX', ttl)
+else
+    currentQuestion = tonumber(decode(currentQuestion))
+end
+if questionNumber ~= currentQuestion then
+    return { 'NOT_CURRENT_QUESTION' }
+end
+
+if redis.call('SADD', KEYS[3], cjson.encode(memberId)) == 0 then
+    return { 'DUPLICATE_SUBMISSION' }
+end
+redis.call('EXPIRE', KEYS[3], ttl)
+
+local status = isCorrect and 'correct' or 'incorrect'
+redis.call('RPUSH', KEYS[2], cjson.encode(questionNumber .. ':' .. submittedAnswer .. ':' .. status))
+redis.call('EXPIRE', KEYS[2], ttl)
+
+redis.call('HINCRBY', KEYS[7], memberId, 1)
+if isCorrect then
+    local correctCount = redis.call('HINCRBY', KEYS[6], memberId, 1)
+    -- 숫자를 그대로 넘기면 유효 숫자 14자리로 잘리므로 정수 문자열로 변환합니다.
+    redis.call('ZADD', KEYS[5], string.format('%.0f', correctCount * SCORE_UNIT + (SCORE_UNIT - now)), memberId)
+else
+    redis.call('ZADD', KEYS[5], 'NX', 0, memberId)
+end
+redis.call('EXPIRE', KEYS[5], ttl)
+redis.call('EXPIRE', KEYS[6], ttl)
+redis.call('EXPIRE', KEYS[7], ttl)
+
+local event = ''
+local totalParticipants = redis.call('SCARD', KEYS[4])
+local submittedCount = redis.call('SCARD', KEYS[3])
+if totalParticipants == submittedCount then
+    if questionNumber == totalQuestions then
+        event = 'quizEnd'
+    else
+        event = 'nextQuestion'
+    end
+    redis.call('PUBLISH', ARGV[5], cjson.encode(event))
+end
+
+return { 'OK', event, submittedCount, totalParticipants }
@@ -0,0 +1,13 @@
+-- 로비 방 변경을 버전과 함께 발행하는 스크립트
+-- 버전 증가와 발행을 한 번에 처리하여, 모든 노드가 버전 순서대로 변경을 받도록 합니다.
+--
+-- KEYS[1] lobby:rooms:version   로비 버전 (String, 정수)
+--
+-- ARGV[1] 발행 채널
+-- ARGV[2] 변경 내용 (version 을 뺀 JSON 객체)
+--
+-- 반환: 부여된 버전
+
+local version = redis.call('INCR', KEYS[1])
+redis.call('PUBLISH', ARGV[1], '{"version":' .. version .. ',' .. string.sub(ARGV[2], 2))
+return version
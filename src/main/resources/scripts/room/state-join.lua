@@ -0,0 +1,33 @@
+-- 방 입장 스크립트
+-- 정원/상태 확인과 참가자 추가를 한 번에 처리하므로 방 락 없이도 정원을 넘거나 게임 중인 방에 들어가지 않습니다.
+--
+-- KEYS[1] room:{roomId}:meta      방장, 정원, 상태 (Hash)
+-- KEYS[2] room:{roomId}:players   참가자 (Set)
+-- KEYS[3] room:membership:dirty   체크포인트 대기 방 (Set)
+--
+-- ARGV[1] memberId
+-- ARGV[2] roomId
+-- ARGV[3] 방 상태 키 만료 시간(초)
+--
+-- 반환: 1 입장, 0 이미 참가 중, -1 정원 초과, -2 방 상태 없음, -3 대기 중인 방이 아님
+
+if redis.call('EXISTS', KEYS[1]) == 0 then
+    return -2
+end
+if redis.call('SISMEMBER', KEYS[2], ARGV[1]) == 1 then
+    return 0
+end
+if redis.call('HGET', KEYS[1], 'status') ~= 'WAITING' then
+    return -3
+end
+
+local capacity = tonumber(redis.call('HGET', KEYS[1], 'capacity'))
+if redis.call('SCARD', KEYS[2]) >= capacity then
+    return -1
+end
+
+redis.call('SADD', KEYS[2], ARGV[1])
+redis.call('EXPIRE', KEYS[1], ARGV[3])
+redis.call('EXPIRE', KEYS[2], ARGV[3])
+redis.call('SADD', KEYS[3], ARGV[2])
+return 1
@@ -0,0 +1,18 @@
+-- 방 퇴장 스크립트
+-- 참가자와 준비 상태를 함께 지워, 준비 목록에 나간 참가자가 남지 않도록 합니다.
+--
+-- KEYS[1] room:{roomId}:players   참가자 (Set)
+-- KEYS[2] room:{roomId}:ready     준비한 참가자 (Set)
+-- KEYS[3] room:membership:dirty   체크포인트 대기 방 (Set)
+--
+-- ARGV[1] memberId
+-- ARGV[2] roomId
+--
+-- 반환: 퇴장했으면 1, 참가 중이 아니었으면 0
+
+local removed = redis.call('SREM', KEYS[1], ARGV[1])
+redis.call('SREM', KEYS[2], ARGV[1])
+if removed == 1 then
+    redis.call('SADD', KEYS[3], ARGV[2])
+end
+return removed
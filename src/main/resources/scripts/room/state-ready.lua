@@ -0,0 +1,30 @@
+-- 준비 상태 변경 스크립트
+-- 준비는 참가 중이고 방장이 아닌 경우에만 기록하여, 퇴장과 겹쳐도 준비 목록에 참가자가 아닌 회원이 남지 않도록 합니다.
+--
+-- KEYS[1] room:{roomId}:meta      방장, 정원, 상태 (Hash)
+-- KEYS[2] room:{roomId}:players   참가자 (Set)
+-- KEYS[3] room:{roomId}:ready     준비한 참가자 (Set)
+-- KEYS[4] room:membership:dirty   체크포인트 대기 방 (Set)
+--
+-- ARGV[1] memberId
+-- ARGV[2] roomId
+-- ARGV[3] 준비 여부 (1/0)
+-- ARGV[4] 방 상태 키 만료 시간(초)
+--
+-- 반환: 상태가 바뀌었으면 1, 아니면 0
+
+local changed
+if ARGV[3] == '1' then
+    if redis.call('SISMEMBER', KEYS[2], ARGV[1]) == 0 or redis.call('HGET', KEYS[1], 'owner') == ARGV[1] then
+        return 0
+    end
+    changed = redis.call('SADD', KEYS[3], ARGV[1])
+    redis.call('EXPIRE', KEYS[3], ARGV[4])
+else
+    changed = redis.call('SREM', KEYS[3], ARGV[1])
+end
+
+if changed == 1 then
+    redis.call('SADD', KEYS[4], ARGV[2])
+end
+return changed
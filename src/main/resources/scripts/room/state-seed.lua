@@ -0,0 +1,49 @@
+-- 방 참가자/준비 상태를 DB 체크포인트로 초기화하는 스크립트
+-- 상태가 이미 있으면 만료 시간만 늘리고, 없을 때만 채웁니다. 여러 노드가 동시에 호출해도 초기화는 한 번만 적용되며,
+-- 체크포인트보다 새로운 Redis 상태를 덮어쓰지 않습니다.
+-- 만료 시간만 넘겨 호출하면 상태가 있는지만 확인하므로, 호출하는 쪽은 없을 때에만 DB 체크포인트를 읽으면 됩니다.
+--
+-- KEYS[1] room:{roomId}:meta      방장, 정원, 상태 (Hash)
+-- KEYS[2] room:{roomId}:players   참가자 (Set)
+-- KEYS[3] room:{roomId}:ready     준비한 참가자 (Set)
+--
+-- ARGV[1] 방 상태 키 만료 시간(초)
+-- ARGV[2] 방장 memberId            (확인만 할 때는 생략)
+-- ARGV[3] 정원
+-- ARGV[4] 방 상태
+-- ARGV[5] 참가자 수 (n)
+-- ARGV[6 .. 5+n] 참가자 memberId
+-- ARGV[6+n ..] 준비한 참가자 memberId
+--
+-- 반환: 새로 초기화했으면 1, 이미 있으면 0, 확인만 했고 상태가 없으면 -1
+
+local function expire_all()
+    for i = 1, 3 do
+        redis.call('EXPIRE', KEYS[i], ARGV[1])
+    end
+end
+
+if redis.call('EXISTS', KEYS[1]) == 1 then
+    expire_all()
+    return 0
+end
+if #ARGV == 1 then
+    return -1
+end
+
+redis.call('HSETNX', KEYS[1], 'owner', ARGV[2])
+redis.call('HSETNX', KEYS[1], 'capacity', ARGV[3])
+redis.call('HSETNX', KEYS[1], 'status', ARGV[4])
+
+-- 메타만 먼저 만료된 경우처럼 참가자 상태가 남아 있으면 그것이 체크포인트보다 새롭습니다.
+if redis.call('EXISTS', KEYS[2]) == 0 then
+    local count = tonumber(ARGV[5])
+    for i = 6, 5 + count do
+        redis.call('SADD', KEYS[2], ARGV[i])
+    end
+    for i = 6 + count, #ARGV do
+        redis.call('SADD', KEYS[3], ARGV[i])
+    end
+end
+expire_all()
+return 1
@@ -0,0 +1,18 @@
+-- 웹소켓 세션 등록 스크립트
+-- 세션 정보, 사용자별 세션 목록, 활성 사용자 인덱스를 한 번에 기록하여 인덱스가 본 데이터와 어긋나지 않도록 합니다.
+--
+-- KEYS[1] ws:session:{sessionId}   세션 정보 (JSON)
+-- KEYS[2] ws:user:{email}          사용자별 세션 목록 (Hash, sessionId -> 등록 시각)
+-- KEYS[3] ws:users                 활성 사용자 인덱스 (Set, email)
+--
+-- ARGV[1] 세션 정보 (직렬화 완료)
+-- ARGV[2] sessionId
+-- ARGV[3] 등록 시각 (직렬화 완료)
+-- ARGV[4] 만료 시간 (초)
+-- ARGV[5] email
+
+redis.call('SET', KEYS[1], ARGV[1], 'EX', ARGV[4])
+redis.call('HSET', KEYS[2], ARGV[2], ARGV[3])
+redis.call('EXPIRE', KEYS[2], ARGV[4])
+redis.call('SADD', KEYS[3], ARGV[5])
+return 1
@@ -0,0 +1,20 @@
+-- 웹소켓 세션 제거 스크립트
+-- 마지막 세션이 제거되면 사용자별 세션 목록과 활성 사용자 인덱스 항목을 함께 지웁니다.
+--
+-- KEYS[1] ws:session:{sessionId}
+-- KEYS[2] ws:user:{email}
+-- KEYS[3] ws:users
+--
+-- ARGV[1] sessionId
+-- ARGV[2] email
+--
+-- 반환: 남은 세션 수
+
+redis.call('DEL', KEYS[1])
+redis.call('HDEL', KEYS[2], ARGV[1])
+local remaining = redis.call('HLEN', KEYS[2])
+if remaining == 0 then
+    redis.call('DEL', KEYS[2])
+    redis.call('SREM', KEYS[3], ARGV[2])
+end
+return remaining
@@ -0,0 +1,98 @@
+package com.ll.quizzle.domain.member;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.ll.quizzle.domain.member.cache.MemberProfile;
+import com.ll.quizzle.domain.member.cache.MemberProfileCache;
+import com.ll.quizzle.domain.member.entity.Member;
+import com.ll.quizzle.domain.member.repository.MemberRepository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+class MemberProfileCacheTest {
+
+	@Mock
+	private MemberRepository memberRepository;
+
+	@Mock
+	private RedisTemplate<String, String> stringRedisTemplate;
+
+	@Mock
+	private RedisMessageListenerContainer listenerContainer;
+
+	private SimpleMeterRegistry meterRegistry;
+	private MemberProfileCache memberProfileCache;
+
+	@BeforeEach
+	void setUp() {
+		meterRegistry = new SimpleMeterRegistry();
+		memberProfileCache = new MemberProfileCache(memberRepository, stringRedisTemplate, listenerContainer,
+			meterRegistry, 100);
+	}
+
+	private Member member(long id, String nickname) {
+		Member member = Member.create(nickname, nickname + "@email.com", null);
+		ReflectionTestUtils.setField(member, "id", id);
+		return member;
+	}
+
+	@Test
+	@DisplayName("캐시에 없는 회원만 모아 한 번의 쿼리로 적재한다")
+	void getAllLoadsMissesInOneQuery() {
+		when(memberRepository.findAllWithAvatarByIdIn(anyCollection()))
+			.thenReturn(List.of(member(1L, "a"), member(2L, "b")))
+			.thenReturn(List.of(member(3L, "c")));
+
+		Map<Long, MemberProfile> first = memberProfileCache.getAll(List.of(1L, 2L));
+		Map<Long, MemberProfile> second = memberProfileCache.getAll(List.of(1L, 2L, 3L));
+
+		assertThat(first).containsOnlyKeys(1L, 2L);
+		assertThat(second.keySet()).containsExactly(1L, 2L, 3L);
+		verify(memberRepository, times(2)).findAllWithAvatarByIdIn(anyCollection());
+		verify(memberRepository).findAllWithAvatarByIdIn(List.of(3L));
+		assertThat(meterRegistry.get("cache.gets").tag("result", "hit").functionCounter().count()).isEqualTo(2);
+	}
+
+	@Test
+	@DisplayName("이메일로 조회한 회원은 이후 ID 조회에서도 캐시를 사용한다")
+	void getAllByEmailsSharesProfiles() {
+		when(memberRepository.findAllWithAvatarByEmailIn(anyCollection())).thenReturn(List.of(member(1L, "a")));
+
+		Map<String, MemberProfile> byEmail = memberProfileCache.getAllByEmails(List.of("a@email.com", "unknown@email.com"));
+		assertThat(byEmail).containsOnlyKeys("a@email.com");
+
+		assertThat(memberProfileCache.get(1L)).map(MemberProfile::nickname).contains("a");
+		verify(memberRepository, never()).findAllWithAvatarByIdIn(anyCollection());
+	}
+
+	@Test
+	@DisplayName("무효화하면 다음 조회에서 다시 적재하고 다른 노드에도 알린다")
+	void invalidateReloads() {
+		when(memberRepository.findAllWithAvatarByIdIn(anyCollection()))
+			.thenReturn(List.of(member(1L, "before")))
+			.thenReturn(List.of(member(1L, "after")));
+
+		assertThat(memberProfileCache.get(1L)).map(MemberProfile::nickname).contains("before");
+
+		memberProfileCache.invalidateAfterCommit(1L);
+
+		assertThat(memberProfileCache.get(1L)).map(MemberProfile::nickname).contains("after");
+		verify(stringRedisTemplate).convertAndSend(MemberProfileCache.INVALIDATE_CHANNEL, "1");
+	}
+}
@@ -0,0 +1,201 @@
+package com.ll.quizzle.domain.quiz;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import com.ll.quizzle.domain.quiz.dto.request.QuizGenerationRequest;
+import com.ll.quizzle.domain.quiz.dto.response.QuizGenerationResponse;
+import com.ll.quizzle.domain.quiz.service.GPTQuizService;
+import com.ll.quizzle.domain.quiz.service.QuizGenerationSingleFlight;
+import com.ll.quizzle.domain.room.type.AnswerType;
+import com.ll.quizzle.domain.room.type.Difficulty;
+import com.ll.quizzle.domain.room.type.MainCategory;
+import com.ll.quizzle.domain.room.type.SubCategory;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@MockitoSettings(strictness = Strictness.LENIENT)
+@ExtendWith(MockitoExtension.class)
+class QuizGenerationSingleFlightTest {
+
+    private static final QuizGenerationRequest REQUEST = new QuizGenerationRequest(
+            MainCategory.SCIENCE, SubCategory.PHYSICS, AnswerType.MULTIPLE_CHOICE, 2, Difficulty.EASY);
+    private static final String FLIGHT_KEY = "SCIENCE:PHYSICS:MULTIPLE_CHOICE:EASY:2";
+    private static final QuizGenerationResponse QUIZ =
+            new QuizGenerationResponse(Map.of(1, "문제1", 2, "문제2"), Map.of(1, "a", 2, "b"));
+
+    @Mock
+    private GPTQuizService gptQuizService;
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    @Mock
+    private RedisMessageListenerContainer listenerContainer;
+
+    private SimpleMeterRegistry meterRegistry;
+    private QuizGenerationSingleFlight singleFlight;
+
+    @BeforeEach
+    void setUp() {
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(redisTemplate.hasKey(anyString())).thenReturn(true);
+        meterRegistry = new SimpleMeterRegistry();
+        singleFlight = new QuizGenerationSingleFlight(gptQuizService, redisTemplate, listenerContainer, meterRegistry,
+                120, 30, 50);
+    }
+
+    private void givenClaim(boolean claimed) {
+        when(valueOperations.setIfAbsent(eq("quiz:generation:flight:" + FLIGHT_KEY), anyString(), any(Duration.class)))
+                .thenReturn(claimed);
+    }
+
+    private double saved(String scope) {
+        return meterRegistry.get("quiz.generation.upstream.saved").tag("scope", scope).counter().count();
+    }
+
+    private static DefaultMessage done(String key) {
+        return new DefaultMessage("quiz:generation:flights".getBytes(StandardCharsets.UTF_8),
+                key.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    @DisplayName("같은 조건의 동시 요청은 GPT 호출 한 번의 결과를 함께 받고, 결과를 다른 노드에 알린다")
+    void sharesOneUpstreamCallLocally() {
+        givenClaim(true);
+        CompletableFuture<QuizGenerationResponse> upstream = new CompletableFuture<>();
+        when(gptQuizService.generateQuizAsync(REQUEST)).thenReturn(upstream);
+
+        CompletableFuture<QuizGenerationResponse> first = singleFlight.generate(REQUEST);
+        CompletableFuture<QuizGenerationResponse> second = singleFlight.generate(REQUEST);
+        upstream.complete(QUIZ);
+
+        assertThat(first.join()).isSameAs(QUIZ);
+        assertThat(second.join()).isSameAs(QUIZ);
+        verify(gptQuizService, times(1)).generateQuizAsync(REQUEST);
+        verify(valueOperations).set(eq("quiz:generation:result:" + FLIGHT_KEY), contains("\"answerMap\""),
+                any(Duration.class));
+        verify(redisTemplate).convertAndSend("quiz:generation:flights", FLIGHT_KEY);
+        assertThat(saved("local")).isEqualTo(1);
+
+        // 끝난 생성은 합치지 않고 새로 호출합니다.
+        when(gptQuizService.generateQuizAsync(REQUEST)).thenReturn(CompletableFuture.completedFuture(QUIZ));
+        singleFlight.generate(REQUEST).join();
+        verify(gptQuizService, times(2)).generateQuizAsync(REQUEST);
+    }
+
+    @Test
+    @DisplayName("한 호출자가 future 를 취소해도 같은 생성을 기다리는 다른 호출자는 결과를 받는다")
+    void callerCancellationDoesNotAffectOthers() {
+        givenClaim(true);
+        CompletableFuture<QuizGenerationResponse> upstream = new CompletableFuture<>();
+        when(gptQuizService.generateQuizAsync(REQUEST)).thenReturn(upstream);
+
+        singleFlight.generate(REQUEST).cancel(true);
+        CompletableFuture<QuizGenerationResponse> other = singleFlight.generate(REQUEST);
+        upstream.complete(QUIZ);
+
+        assertThat(other.join()).isSameAs(QUIZ);
+    }
+
+    @Test
+    @DisplayName("다른 노드가 생성 중이면 호출하지 않고 완료 알림의 결과를 받는다")
+    void waitsForOtherNode() {
+        givenClaim(false);
+
+        CompletableFuture<QuizGenerationResponse> result = singleFlight.generate(REQUEST);
+        assertThat(result).isNotDone();
+
+        when(valueOperations.get("quiz:generation:result:" + FLIGHT_KEY))
+                .thenReturn("{\"quizText\":{\"1\":\"문제1\"},\"answerMap\":{\"1\":\"a\"}}");
+        singleFlight.onMessage(done(FLIGHT_KEY), null);
+
+        assertThat(result.join().answerMap()).containsEntry(1, "a");
+        verifyNoInteractions(gptQuizService);
+        assertThat(saved("cluster")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("다른 노드의 생성이 실패하면 기다리던 노드가 직접 생성한다")
+    void fallsBackWhenOtherNodeFails() {
+        givenClaim(false);
+        when(gptQuizService.generateQuizAsync(REQUEST)).thenReturn(CompletableFuture.completedFuture(QUIZ));
+
+        CompletableFuture<QuizGenerationResponse> result = singleFlight.generate(REQUEST);
+        singleFlight.onMessage(done(FLIGHT_KEY), null);
+
+        assertThat(result.join()).isSameAs(QUIZ);
+        verify(gptQuizService, times(1)).generateQuizAsync(REQUEST);
+    }
+
+    @Test
+    @DisplayName("생성이 실패하면 함께 기다리던 모든 호출자가 실패를 받고, 다른 노드에는 결과 없이 알린다")
+    void propagatesFailure() {
+        givenClaim(true);
+        CompletableFuture<QuizGenerationResponse> upstream = new CompletableFuture<>();
+        when(gptQuizService.generateQuizAsync(REQUEST)).thenReturn(upstream);
+
+        CompletableFuture<QuizGenerationResponse> first = singleFlight.generate(REQUEST);
+        CompletableFuture<QuizGenerationResponse> second = singleFlight.generate(REQUEST);
+        upstream.completeExceptionally(new IllegalStateException("boom"));
+
+        assertThatThrownBy(first::join).isInstanceOf(CompletionException.class);
+        assertThatThrownBy(second::join).isInstanceOf(CompletionException.class);
+        verify(valueOperations).set(eq("quiz:generation:result:" + FLIGHT_KEY), eq("failed"), any(Duration.class));
+        verify(redisTemplate).convertAndSend("quiz:generation:flights", FLIGHT_KEY);
+    }
+
+    @Test
+    @DisplayName("알림을 놓쳐도 실패 표시를 확인하면 claim-ttl 을 기다리지 않고 직접 생성한다")
+    void fallsBackOnFailureMarker() {
+        givenClaim(false);
+        when(gptQuizService.generateQuizAsync(REQUEST)).thenReturn(CompletableFuture.completedFuture(QUIZ));
+
+        CompletableFuture<QuizGenerationResponse> result = singleFlight.generate(REQUEST);
+        assertThat(result).isNotDone();
+
+        when(valueOperations.get("quiz:generation:result:" + FLIGHT_KEY)).thenReturn("failed");
+
+        assertThat(result.orTimeout(3, TimeUnit.SECONDS).join()).isSameAs(QUIZ);
+        verify(gptQuizService, times(1)).generateQuizAsync(REQUEST);
+    }
+
+    @Test
+    @DisplayName("결과 없이 클레임이 사라지면 호출한 노드가 중단된 것으로 보고 직접 생성한다")
+    void fallsBackWhenClaimDisappears() {
+        givenClaim(false);
+        when(gptQuizService.generateQuizAsync(REQUEST)).thenReturn(CompletableFuture.completedFuture(QUIZ));
+
+        CompletableFuture<QuizGenerationResponse> result = singleFlight.generate(REQUEST);
+        assertThat(result).isNotDone();
+
+        when(redisTemplate.hasKey("quiz:generation:flight:" + FLIGHT_KEY)).thenReturn(false);
+
+        assertThat(result.orTimeout(3, TimeUnit.SECONDS).join()).isSameAs(QUIZ);
+        verify(gptQuizService, times(1)).generateQuizAsync(REQUEST);
+    }
+}
@@ -0,0 +1,72 @@
+package com.ll.quizzle.domain.quiz;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import com.ll.quizzle.domain.quiz.dto.response.QuizResultResponse;
+import com.ll.quizzle.domain.quiz.entity.Quiz;
+import com.ll.quizzle.domain.quiz.repository.QuizRepository;
+import com.ll.quizzle.domain.quiz.service.QuizResultService;
+import com.ll.quizzle.domain.quiz.service.QuizScoreboardService;
+
+@MockitoSettings(strictness = Strictness.LENIENT)
+@ExtendWith(MockitoExtension.class)
+class QuizResultServiceTest {
+
+    private static final List<QuizResultResponse> RANKING = List.of(
+            new QuizResultResponse("2", 3, 3, 30, 1, 30),
+            new QuizResultResponse("1", 1, 3, 10, 2, 10)
+    );
+
+    @Mock
+    private QuizScoreboardService scoreboardService;
+
+    @Mock
+    private QuizRepository quizRepository;
+
+    private QuizResultService resultService;
+
+    @BeforeEach
+    void setUp() {
+        resultService = new QuizResultService(scoreboardService, quizRepository);
+        when(scoreboardService.getRanking("quiz1")).thenReturn(RANKING);
+    }
+
+    @Test
+    @DisplayName("정산된 퀴즈는 스냅샷을 한 번만 읽고 노드 로컬에서 돌려준다")
+    void servesSnapshotFromCache() {
+        when(quizRepository.findByQuizId("quiz1")).thenReturn(Optional.of(Quiz.settle("quiz1", RANKING)));
+
+        resultService.getQuizResults("quiz1");
+        List<QuizResultResponse> results = resultService.getQuizResults("quiz1");
+
+        assertThat(results).extracting(QuizResultResponse::memberId).containsExactly("2", "1");
+        verify(quizRepository, times(1)).findByQuizId("quiz1");
+        verifyNoInteractions(scoreboardService);
+    }
+
+    @Test
+    @DisplayName("정산 전 퀴즈는 스냅샷이 없다는 사실을 기억해 조회마다 DB 를 읽지 않는다")
+    void remembersMissingSnapshot() {
+        when(quizRepository.findByQuizId("quiz1")).thenReturn(Optional.empty());
+
+        resultService.getQuizResults("quiz1");
+        List<QuizResultResponse> results = resultService.getQuizResults("quiz1");
+
+        assertThat(results).isEqualTo(RANKING);
+        verify(quizRepository, times(1)).findByQuizId("quiz1");
+        verify(scoreboardService, times(2)).getRanking("quiz1");
+    }
+}
@@ -0,0 +1,111 @@
+package com.ll.quizzle.domain.quiz;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.data.redis.core.DefaultTypedTuple;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import com.ll.quizzle.domain.member.cache.MemberProfile;
+import com.ll.quizzle.domain.member.cache.MemberProfileCache;
+import com.ll.quizzle.domain.quiz.dto.response.QuizResultResponse;
+import com.ll.quizzle.domain.quiz.service.QuizScoreboardService;
+import com.ll.quizzle.global.socket.core.MessageService;
+import com.ll.quizzle.global.socket.core.MessageServiceFactory;
+import com.ll.quizzle.global.socket.dto.response.WebSocketQuizRankResponse;
+import com.ll.quizzle.global.socket.type.RoomMessageType;
+
+@MockitoSettings(strictness = Strictness.LENIENT)
+@ExtendWith(MockitoExtension.class)
+class QuizScoreboardServiceTest {
+
+    private static final double UNIT = 1e13;
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Mock
+    private MemberProfileCache memberProfileCache;
+
+    @Mock
+    private MessageServiceFactory messageServiceFactory;
+
+    @Mock
+    private MessageService messageService;
+
+    private QuizScoreboardService scoreboardService;
+
+    @BeforeEach
+    void setUp() {
+        scoreboardService = new QuizScoreboardService(redisTemplate, memberProfileCache, messageServiceFactory);
+        when(messageServiceFactory.getRoomService()).thenReturn(messageService);
+    }
+
+    @Test
+    @DisplayName("점수판 순서가 곧 순위이며 정답 수는 점수에서 바로 복원된다")
+    void rankingFollowsScoreboardOrder() {
+        Set<ZSetOperations.TypedTuple<String>> ranking = new LinkedHashSet<>();
+        ranking.add(new DefaultTypedTuple<>("2", 3 * UNIT + (UNIT - 1_700_000_000_000L)));
+        ranking.add(new DefaultTypedTuple<>("1", 3 * UNIT + (UNIT - 1_700_000_050_000L)));
+        ranking.add(new DefaultTypedTuple<>("3", 0.0));
+        when(redisTemplate.executePipelined(any(SessionCallback.class)))
+                .thenReturn(List.of(ranking, Map.of("1", "4", "2", "4", "3", "4")));
+
+        List<QuizResultResponse> results = scoreboardService.getRanking("quiz1");
+
+        assertThat(results).extracting(QuizResultResponse::memberId).containsExactly("2", "1", "3");
+        assertThat(results).extracting(QuizResultResponse::rank).containsExactly(1, 2, 3);
+        assertThat(results).extracting(QuizResultResponse::correctCount).containsExactly(3, 3, 0);
+        assertThat(results).extracting(QuizResultResponse::score).containsExactly(30, 30, 0);
+        assertThat(results).extracting(QuizResultResponse::totalQuestions).containsOnly(4);
+    }
+
+    @Test
+    @DisplayName("순위 변화가 있는 회원만 닉네임과 함께 퀴즈 토픽으로 전송된다")
+    @SuppressWarnings("unchecked")
+    void publishesOnlyChangedRanks() {
+        when(redisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class)))
+                .thenReturn(List.of("7", 1L, 2L, 2L));
+        when(memberProfileCache.getAll(anyCollection()))
+                .thenReturn(Map.of(7L, new MemberProfile(7L, "a@email.com", "닉네임", null, 1)));
+
+        scoreboardService.publishRankDelta("quiz1", 2);
+
+        ArgumentCaptor<Object> message = ArgumentCaptor.forClass(Object.class);
+        verify(messageService).send(eq("/topic/quiz/quiz1/updates"), message.capture());
+        WebSocketQuizRankResponse response = (WebSocketQuizRankResponse) message.getValue();
+        assertThat(response.type()).isEqualTo(RoomMessageType.RANK_UPDATE);
+        assertThat(response.questionNumber()).isEqualTo(2);
+        assertThat(response.changes()).containsExactly(
+                new WebSocketQuizRankResponse.RankChange("7", "닉네임", 1, 2, 2, 20));
+    }
+
+    @Test
+    @DisplayName("순위 변화가 없으면 전송하지 않는다")
+    @SuppressWarnings("unchecked")
+    void skipsWhenNothingChanged() {
+        when(redisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class))).thenReturn(List.of());
+
+        scoreboardService.publishRankDelta("quiz1", 2);
+
+        verifyNoInteractions(messageService);
+    }
+}
@@ -0,0 +1,132 @@
+package com.ll.quizzle.domain.quiz;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.ll.quizzle.domain.member.service.MemberExpService;
+import com.ll.quizzle.domain.quiz.dto.response.QuizResultResponse;
+import com.ll.quizzle.domain.quiz.entity.Quiz;
+import com.ll.quizzle.domain.quiz.repository.QuizRepository;
+import com.ll.quizzle.domain.quiz.service.QuizScoreboardService;
+import com.ll.quizzle.domain.quiz.service.QuizSettlementService;
+
+@MockitoSettings(strictness = Strictness.LENIENT)
+@ExtendWith(MockitoExtension.class)
+class QuizSettlementServiceTest {
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    @Mock
+    private RedisMessageListenerContainer listenerContainer;
+
+    @Mock
+    private QuizScoreboardService scoreboardService;
+
+    @Mock
+    private QuizRepository quizRepository;
+
+    @Mock
+    private MemberExpService memberExpService;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    private QuizSettlementService settlementService;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        settlementService = new QuizSettlementService(redisTemplate, listenerContainer, scoreboardService,
+                quizRepository, memberExpService, transactionTemplate);
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        doAnswer(invocation -> {
+            invocation.<Consumer<TransactionStatus>>getArgument(0).accept(null);
+            return null;
+        }).when(transactionTemplate).executeWithoutResult(any(Consumer.class));
+        when(scoreboardService.getRanking("quiz1")).thenReturn(List.of(
+                new QuizResultResponse("2", 3, 3, 30, 1, 30),
+                new QuizResultResponse("1", 1, 3, 10, 2, 10)
+        ));
+    }
+
+    private void givenClaim(boolean claimed) {
+        when(valueOperations.setIfAbsent(eq("quiz:quiz1:settlement"), eq("1"), any(Duration.class))).thenReturn(claimed);
+    }
+
+    @Test
+    @DisplayName("선점한 노드만 스냅샷을 저장하고 경험치를 한 번에 반영한다")
+    @SuppressWarnings("unchecked")
+    void settlesOnceWhenClaimed() {
+        givenClaim(true);
+
+        settlementService.settleOnce("quiz1");
+
+        ArgumentCaptor<Quiz> quiz = ArgumentCaptor.forClass(Quiz.class);
+        verify(quizRepository).save(quiz.capture());
+        assertThat(quiz.getValue().getQuizId()).isEqualTo("quiz1");
+        assertThat(quiz.getValue().toResponses()).extracting(QuizResultResponse::memberId).containsExactly("2", "1");
+
+        ArgumentCaptor<Map<Long, Integer>> rewards = ArgumentCaptor.forClass(Map.class);
+        verify(memberExpService, times(1)).applyQuizRewards(rewards.capture());
+        assertThat(rewards.getValue()).containsOnly(entry(2L, 30), entry(1L, 10));
+    }
+
+    @Test
+    @DisplayName("선점에 실패하면 정산하지 않는다")
+    void skipsWhenAlreadyClaimed() {
+        givenClaim(false);
+
+        settlementService.settleOnce("quiz1");
+
+        verifyNoInteractions(scoreboardService, quizRepository, memberExpService);
+    }
+
+    @Test
+    @DisplayName("이미 스냅샷이 있으면 보상을 다시 지급하지 않는다")
+    void skipsWhenSnapshotExists() {
+        givenClaim(true);
+        when(quizRepository.existsByQuizId("quiz1")).thenReturn(true);
+
+        settlementService.settleOnce("quiz1");
+
+        verify(quizRepository, never()).save(any());
+        verifyNoInteractions(memberExpService);
+    }
+
+    @Test
+    @DisplayName("정산에 실패하면 선점을 풀어 다시 시도할 수 있게 한다")
+    void releasesClaimOnFailure() {
+        givenClaim(true);
+        doThrow(new IllegalStateException("db down")).when(memberExpService).applyQuizRewards(anyMap());
+
+        settlementService.settleOnce("quiz1");
+
+        verify(redisTemplate).delete("quiz:quiz1:settlement");
+    }
+}
@@ -0,0 +1,181 @@
+package com.ll.quizzle.domain.quiz;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import com.ll.quizzle.domain.quiz.bank.QuizQuestionBank;
+import com.ll.quizzle.domain.quiz.client.OpenAIClient;
+import com.ll.quizzle.domain.quiz.client.QuizGenerationGuard;
+import com.ll.quizzle.domain.quiz.dto.request.QuizGenerationRequest;
+import com.ll.quizzle.domain.quiz.generator.QuizGeneratorRouter;
+import com.ll.quizzle.domain.quiz.parser.StreamingQuizParser.ParsedQuestion;
+import com.ll.quizzle.domain.quiz.service.GPTQuizService;
+import com.ll.quizzle.domain.quiz.service.RedisQuizAnswerService;
+import com.ll.quizzle.domain.quiz.service.StreamingQuizGenerationService;
+import com.ll.quizzle.domain.quiz.service.StreamingQuizGenerationService.QuizStream;
+import com.ll.quizzle.domain.room.type.AnswerType;
+import com.ll.quizzle.domain.room.type.Difficulty;
+import com.ll.quizzle.domain.room.type.MainCategory;
+import com.ll.quizzle.domain.room.type.SubCategory;
+import com.ll.quizzle.global.config.OpenAIProperties;
+import com.ll.quizzle.global.exceptions.ServiceException;
+import com.ll.quizzle.global.socket.core.MessageService;
+import com.ll.quizzle.global.socket.core.MessageServiceFactory;
+import com.ll.quizzle.global.socket.dto.response.WebSocketQuizQuestionResponse;
+import com.ll.quizzle.global.socket.type.RoomMessageType;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * 로컬 SSE 서버를 OpenAI API 대신 띄워, 뒤쪽 문제가 생성되는 중에도 첫 문제가 먼저 저장/전송되는지 확인합니다.
+ */
+class StreamingQuizGenerationServiceTest {
+
+    private static final String QUIZ_ID = "quiz1";
+
+    private HttpServer server;
+    private OpenAIClient openAIClient;
+    private final CountDownLatch releaseSecondQuestion = new CountDownLatch(1);
+    private volatile List<String> firstChunks = List.of("1. 대한민국의 수도는?\\n", "a) 서울\\nb) 부산\\n", "정답: a\\n\\n");
+    private volatile List<String> secondChunks = List.of("2. 물은 100도에서 끓는다\\n", "정답: O\\n");
+
+    private final RedisQuizAnswerService redisQuizAnswerService = mock(RedisQuizAnswerService.class);
+    private final MessageServiceFactory messageServiceFactory = mock(MessageServiceFactory.class);
+    private final MessageService messageService = mock(MessageService.class);
+    private final QuizQuestionBank quizQuestionBank = mock(QuizQuestionBank.class);
+    private StreamingQuizGenerationService service;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+        server.createContext("/v1/chat/completions", this::handle);
+        server.start();
+
+        String url = "http://127.0.0.1:" + server.getAddress().getPort() + "/v1/chat/completions";
+        openAIClient = new OpenAIClient(new OpenAIProperties(url, "test-model", "test-key",
+                Duration.ofSeconds(2), Duration.ofSeconds(5), Duration.ofSeconds(10)));
+        when(messageServiceFactory.getRoomService()).thenReturn(messageService);
+        QuizGenerationGuard quizGenerationGuard = new QuizGenerationGuard(new SimpleMeterRegistry(),
+                8, 2, 32, 0.9, 2.0, 50, 20, 10, 0.5, 30, 2, 16, 8, 2);
+        service = new StreamingQuizGenerationService(
+                new GPTQuizService(openAIClient, quizQuestionBank, quizGenerationGuard, mock(QuizGeneratorRouter.class)),
+                redisQuizAnswerService, messageServiceFactory);
+    }
+
+    @AfterEach
+    void tearDown() {
+        releaseSecondQuestion.countDown();
+        openAIClient.close();
+        server.stop(0);
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        exchange.getRequestBody().readAllBytes();
+        exchange.getResponseHeaders().add("Content-Type", "text/event-stream");
+        exchange.sendResponseHeaders(200, 0);
+        try (OutputStream out = exchange.getResponseBody()) {
+            writeChunks(out, firstChunks);
+            // 두 번째 문제는 테스트가 허락할 때까지 생성 중인 상태로 둡니다.
+            await(releaseSecondQuestion);
+            writeChunks(out, secondChunks);
+            out.write("data: [DONE]\n\n".getBytes(StandardCharsets.UTF_8));
+        }
+    }
+
+    private static void writeChunks(OutputStream out, List<String> chunks) throws IOException {
+        for (String chunk : chunks) {
+            out.write(("data: {\"choices\":[{\"delta\":{\"content\":\"" + chunk + "\"}}]}\n\n")
+                    .getBytes(StandardCharsets.UTF_8));
+            out.flush();
+        }
+    }
+
+    private static QuizGenerationRequest request(int problemCount) {
+        return new QuizGenerationRequest(MainCategory.values()[0], SubCategory.values()[0], AnswerType.values()[0],
+                problemCount, Difficulty.values()[0]);
+    }
+
+    @Test
+    @DisplayName("첫 문제는 나머지 문제가 생성되기 전에 저장되고 전송된다")
+    void deliversFirstQuestionEarly() throws Exception {
+        QuizStream stream = service.generate(QUIZ_ID, request(2));
+
+        ParsedQuestion first = stream.firstQuestion().get(5, TimeUnit.SECONDS);
+        assertThat(first.number()).isEqualTo(1);
+        assertThat(stream.completion()).isNotDone();
+        verify(redisQuizAnswerService).reserveQuiz(QUIZ_ID, 2);
+        verify(redisQuizAnswerService).saveQuestion(QUIZ_ID, 1, "대한민국의 수도는?\na) 서울\nb) 부산", "a");
+
+        releaseSecondQuestion.countDown();
+        stream.completion().get(5, TimeUnit.SECONDS);
+
+        verify(redisQuizAnswerService).saveQuestion(QUIZ_ID, 2, "물은 100도에서 끓는다", "o");
+        verify(redisQuizAnswerService, never()).truncateQuiz(anyString(), anyInt());
+
+        ArgumentCaptor<Object> messages = ArgumentCaptor.forClass(Object.class);
+        verify(messageService, times(3)).send(eq("/topic/quiz/" + QUIZ_ID + "/updates"), messages.capture());
+        assertThat(messages.getAllValues())
+                .extracting(message -> ((WebSocketQuizQuestionResponse) message).type())
+                .containsExactly(RoomMessageType.QUESTION_READY, RoomMessageType.QUESTION_READY,
+                        RoomMessageType.QUIZ_GENERATED);
+        WebSocketQuizQuestionResponse generated = (WebSocketQuizQuestionResponse) messages.getAllValues().get(2);
+        assertThat(generated.totalQuestions()).isEqualTo(2);
+        // 완성된 문제는 문제 은행에도 쌓인다
+        verify(quizQuestionBank).depositAsync(eq(request(2)), argThat(quiz -> quiz.answerMap().size() == 2));
+    }
+
+    @Test
+    @DisplayName("요청보다 적게 생성되면 전체 문제 수를 생성된 수로 줄인다")
+    void truncatesWhenFewerQuestionsGenerated() throws Exception {
+        releaseSecondQuestion.countDown();
+
+        service.generate(QUIZ_ID, request(3)).completion().get(5, TimeUnit.SECONDS);
+
+        verify(redisQuizAnswerService).truncateQuiz(QUIZ_ID, 2);
+    }
+
+    @Test
+    @DisplayName("완성된 문제가 하나도 없으면 생성 실패로 끝난다")
+    void failsWhenNothingGenerated() {
+        firstChunks = List.of("인사말만 있고 문제가 없습니다.\\n");
+        secondChunks = List.of();
+        releaseSecondQuestion.countDown();
+
+        QuizStream stream = service.generate(QUIZ_ID, request(2));
+
+        assertThatThrownBy(() -> stream.firstQuestion().join())
+                .isInstanceOf(CompletionException.class)
+                .hasCauseInstanceOf(ServiceException.class);
+        verify(redisQuizAnswerService).truncateQuiz(QUIZ_ID, 0);
+        verifyNoInteractions(messageService);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
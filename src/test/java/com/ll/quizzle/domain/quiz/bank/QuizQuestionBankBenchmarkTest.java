@@ -0,0 +1,120 @@
+package com.ll.quizzle.domain.quiz.bank;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.ll.quizzle.domain.quiz.dto.request.QuizGenerationRequest;
+import com.ll.quizzle.domain.quiz.entity.QuizQuestion;
+import com.ll.quizzle.domain.quiz.repository.QuizQuestionRepository;
+import com.ll.quizzle.domain.room.type.AnswerType;
+import com.ll.quizzle.domain.room.type.Difficulty;
+import com.ll.quizzle.domain.room.type.SubCategory;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * 문제 은행에 문제가 QUIZ_BANK_BENCHMARK_ROWS 개(기본 100만 개) 쌓여 있을 때 퀴즈 한 개를 조립하는 시간을 측정합니다.
+ * 풀 ID 목록을 처음 읽을 때(cold)와 캐시된 뒤(warm)를 나눠 기록합니다.
+ * 인메모리 H2 에 LSH 키까지 저장하므로 힙이 넉넉해야 하며, QUIZZLE_BENCHMARK=true 환경 변수가 있을 때만 실행됩니다.
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@EnabledIfEnvironmentVariable(named = "QUIZZLE_BENCHMARK", matches = "true")
+class QuizQuestionBankBenchmarkTest {
+
+    private static final Logger log = LoggerFactory.getLogger(QuizQuestionBankBenchmarkTest.class);
+
+    private static final int CHUNK = 5_000;
+    private static final int ASSEMBLIES = 1_000;
+    private static final int PROBLEM_COUNT = 10;
+
+    @Autowired
+    private QuizQuestionRepository quizQuestionRepository;
+
+    @Test
+    @DisplayName("100만 문제에서 퀴즈 조립 지연 시간")
+    void assembleLatency() {
+        int rows = Integer.parseInt(System.getenv().getOrDefault("QUIZ_BANK_BENCHMARK_ROWS", "1000000"));
+        List<QuizGenerationRequest> pools = pools();
+
+        long insertStart = System.nanoTime();
+        List<QuizQuestion> chunk = new ArrayList<>(CHUNK);
+        for (int i = 0; i < rows; i++) {
+            QuizGenerationRequest pool = pools.get(i % pools.size());
+            String question = i + "번 " + pool.subCategory().getDescription() + " 문제: 다음 중 옳은 것은? a) 보기 " + (i * 7)
+                    + " b) 보기 " + (i * 13) + " c) 보기 " + (i * 17) + " d) 보기 " + (i * 19);
+            chunk.add(QuizQuestion.of(pool, question, "a", QuestionFingerprint.of(question)));
+            if (chunk.size() == CHUNK || i == rows - 1) {
+                quizQuestionRepository.insertAll(chunk);
+                chunk.clear();
+            }
+        }
+        long insertMillis = (System.nanoTime() - insertStart) / 1_000_000;
+        assertThat(quizQuestionRepository.count()).isEqualTo(rows);
+
+        QuizQuestionBank bank = new QuizQuestionBank(quizQuestionRepository, new SimpleMeterRegistry(),
+                true, 3, 0.7, 600);
+        long[] cold = new long[pools.size()];
+        for (int i = 0; i < pools.size(); i++) {
+            long start = System.nanoTime();
+            assertThat(bank.assemble(pools.get(i))).isPresent();
+            cold[i] = System.nanoTime() - start;
+        }
+
+        long[] warm = new long[ASSEMBLIES];
+        for (int i = 0; i < ASSEMBLIES; i++) {
+            QuizGenerationRequest pool = pools.get(i % pools.size());
+            long start = System.nanoTime();
+            assertThat(bank.assemble(pool))
+                    .hasValueSatisfying(quiz -> assertThat(quiz.quizText()).hasSize(PROBLEM_COUNT));
+            warm[i] = System.nanoTime() - start;
+        }
+
+        log.info("문제 은행 {}개 (풀 {}개, 풀당 약 {}개), 저장 {}ms", rows, pools.size(), rows / pools.size(), insertMillis);
+        log.info("조립 cold - p50={}ms, max={}ms", millis(percentile(cold, 50)), millis(percentile(cold, 100)));
+        log.info("조립 warm - p50={}ms, p99={}ms, max={}ms", millis(percentile(warm, 50)), millis(percentile(warm, 99)),
+                millis(percentile(warm, 100)));
+        assertThat(percentile(warm, 50)).isLessThan(50_000_000L);
+    }
+
+    private static List<QuizGenerationRequest> pools() {
+        List<QuizGenerationRequest> pools = new ArrayList<>();
+        for (SubCategory subCategory : SubCategory.values()) {
+            for (AnswerType answerType : AnswerType.values()) {
+                for (Difficulty difficulty : Difficulty.values()) {
+                    pools.add(new QuizGenerationRequest(subCategory.getMainCategory(), subCategory, answerType,
+                            PROBLEM_COUNT, difficulty));
+                }
+            }
+        }
+        return pools;
+    }
+
+    private static long percentile(long[] values, int percentile) {
+        long[] sorted = values.clone();
+        Arrays.sort(sorted);
+        int index = (int) Math.ceil(percentile / 100.0 * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(index, sorted.length - 1))];
+    }
+
+    private static String millis(long nanos) {
+        return String.format("%.2f", nanos / 1_000_000.0);
+    }
+}
@@ -0,0 +1,185 @@
+package com.ll.quizzle.domain.quiz.bank;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.LongStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.dao.InvalidDataAccessResourceUsageException;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.ll.quizzle.domain.quiz.dto.request.QuizGenerationRequest;
+import com.ll.quizzle.domain.quiz.dto.response.QuizGenerationResponse;
+import com.ll.quizzle.domain.quiz.entity.QuizQuestion;
+import com.ll.quizzle.domain.quiz.repository.QuizQuestionRepository;
+import com.ll.quizzle.domain.room.type.AnswerType;
+import com.ll.quizzle.domain.room.type.Difficulty;
+import com.ll.quizzle.domain.room.type.MainCategory;
+import com.ll.quizzle.domain.room.type.SubCategory;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@MockitoSettings(strictness = Strictness.LENIENT)
+@ExtendWith(MockitoExtension.class)
+class QuizQuestionBankTest {
+
+    private static final QuizGenerationRequest REQUEST = new QuizGenerationRequest(
+            MainCategory.HISTORY, SubCategory.KOREAN_HISTORY, AnswerType.MULTIPLE_CHOICE, 2, Difficulty.EASY);
+
+    private static final String SEJONG = "조선의 제4대 왕으로 훈민정음을 창제한 인물은 누구인가?\na) 태종\nb) 세종\nc) 세조\nd) 성종";
+    private static final String SEJONG_REWORDED = "조선 제4대 왕으로서 훈민정음을 창제한 인물은 누구일까?\na) 태종\nb) 세종\nc) 세조\nd) 성종";
+    private static final String IMJIN = "임진왜란 때 한산도 대첩을 승리로 이끈 장수는 누구인가?\na) 권율\nb) 이순신\nc) 김시민\nd) 곽재우";
+
+    @Mock
+    private QuizQuestionRepository quizQuestionRepository;
+
+    private SimpleMeterRegistry meterRegistry;
+    private QuizQuestionBank bank;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        bank = new QuizQuestionBank(quizQuestionRepository, meterRegistry, true, 3, 0.7, 60);
+        when(quizQuestionRepository.insertAll(anyList()))
+                .thenAnswer(invocation -> ((List<?>) invocation.getArgument(0)).size());
+    }
+
+    private static QuizQuestion stored(long id, String question, String answer) {
+        QuizQuestion quizQuestion = QuizQuestion.of(REQUEST, question, answer, QuestionFingerprint.of(question));
+        ReflectionTestUtils.setField(quizQuestion, "id", id);
+        return quizQuestion;
+    }
+
+    private static QuizGenerationResponse quiz(String... questionsAndAnswers) {
+        Map<Integer, String> quizText = new LinkedHashMap<>();
+        Map<Integer, String> answerMap = new LinkedHashMap<>();
+        for (int i = 0; i < questionsAndAnswers.length; i += 2) {
+            quizText.put(i / 2 + 1, questionsAndAnswers[i]);
+            answerMap.put(i / 2 + 1, questionsAndAnswers[i + 1]);
+        }
+        return new QuizGenerationResponse(quizText, answerMap);
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<QuizQuestion> inserted() {
+        ArgumentCaptor<List<QuizQuestion>> captor = ArgumentCaptor.forClass(List.class);
+        verify(quizQuestionRepository).insertAll(captor.capture());
+        return captor.getValue();
+    }
+
+    @Test
+    @DisplayName("띄어쓰기와 문장 부호만 다른 문제는 같은 contentHash 를 가진다")
+    void contentHashIgnoresFormatting() {
+        QuestionFingerprint original = QuestionFingerprint.of("1) 조선을 건국한 왕은?");
+        QuestionFingerprint formatted = QuestionFingerprint.of("  조선을   건국한 왕은 ?? ");
+
+        assertThat(formatted.contentHash()).isEqualTo(QuestionFingerprint.of("조선을 건국한 왕은?").contentHash());
+        assertThat(original.contentHash()).isNotEqualTo(formatted.contentHash());
+        assertThat(QuestionFingerprint.of(" ?! ")).isNull();
+    }
+
+    @Test
+    @DisplayName("표현만 조금 다른 한국어 문제는 유사도가 높고, 다른 문제는 낮다")
+    void minHashSeparatesNearDuplicates() {
+        QuestionFingerprint sejong = QuestionFingerprint.of(SEJONG);
+        QuestionFingerprint reworded = QuestionFingerprint.of(SEJONG_REWORDED);
+        QuestionFingerprint imjin = QuestionFingerprint.of(IMJIN);
+
+        assertThat(sejong.similarity(reworded.minHash())).isGreaterThanOrEqualTo(0.7);
+        assertThat(sejong.similarity(imjin.minHash())).isLessThan(0.3);
+        assertThat(new HashSet<>(sejong.bandKeys())).containsAnyElementsOf(reworded.bandKeys());
+        assertThat(QuestionFingerprint.minHashFromBytes(sejong.minHashBytes())).containsExactly(sejong.minHash());
+    }
+
+    @Test
+    @DisplayName("이미 저장된 문제와 같거나 유사한 문제, 같은 퀴즈 안의 중복은 저장하지 않는다")
+    void depositSkipsDuplicates() {
+        when(quizQuestionRepository.findExistingContentHashes(anyCollection()))
+                .thenReturn(List.of(QuestionFingerprint.of(IMJIN).contentHash()));
+        when(quizQuestionRepository.findNearDuplicateCandidates(eq(SubCategory.KOREAN_HISTORY),
+                eq(AnswerType.MULTIPLE_CHOICE), anyCollection()))
+                .thenReturn(List.of(stored(1L, SEJONG, "b")));
+        String fresh = "고려를 건국한 왕은 누구인가?\na) 왕건\nb) 궁예\nc) 견훤\nd) 신검";
+
+        int count = bank.deposit(REQUEST, quiz(IMJIN, "b", SEJONG_REWORDED, "b", fresh, "a", fresh + " ", "a"));
+
+        assertThat(count).isEqualTo(1);
+        assertThat(inserted()).singleElement().satisfies(question -> {
+            assertThat(question.getQuestion()).isEqualTo(fresh);
+            assertThat(question.getAnswer()).isEqualTo("a");
+            assertThat(question.getMainCategory()).isEqualTo(MainCategory.HISTORY);
+            assertThat(question.getBandKeys()).hasSize(16);
+        });
+        assertThat(meterRegistry.get("quiz.bank.duplicates").tag("kind", "exact").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("quiz.bank.duplicates").tag("kind", "near").counter().count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("풀이 충분하면 서로 다른 문제를 뽑아 1번부터 번호를 매겨 조립한다")
+    void assemblesFromPool() {
+        List<Long> pool = LongStream.rangeClosed(1, 6).boxed().toList();
+        when(quizQuestionRepository.findPoolIds(SubCategory.KOREAN_HISTORY, AnswerType.MULTIPLE_CHOICE, Difficulty.EASY))
+                .thenReturn(pool);
+        when(quizQuestionRepository.findAllById(anyIterable())).thenAnswer(invocation -> {
+            Iterable<Long> ids = invocation.getArgument(0);
+            List<QuizQuestion> questions = new ArrayList<>();
+            ids.forEach(id -> questions.add(stored(id, "문제 " + id, "a" + id)));
+            return questions;
+        });
+
+        QuizGenerationResponse quiz = bank.assemble(REQUEST).orElseThrow();
+
+        assertThat(quiz.quizText()).containsOnlyKeys(1, 2);
+        assertThat(quiz.quizText().get(1)).isNotEqualTo(quiz.quizText().get(2));
+        assertThat(quiz.answerMap().get(1)).isEqualTo("a" + quiz.quizText().get(1).substring(3));
+        assertThat(meterRegistry.get("quiz.bank.hits").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("풀이 문제 수 x min-pool-multiple 보다 작으면 조립하지 않는다")
+    void missesWhenPoolIsSmall() {
+        when(quizQuestionRepository.findPoolIds(any(), any(), any())).thenReturn(List.of(1L, 2L, 3L, 4L, 5L));
+
+        assertThat(bank.assemble(REQUEST)).isEmpty();
+        verify(quizQuestionRepository, never()).findAllById(anyIterable());
+        assertThat(meterRegistry.get("quiz.bank.misses").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("은행 조회 중 DB 오류가 나면 예외를 던지지 않고 조립하지 않은 것으로 본다")
+    void missesOnDataAccessFailure() {
+        when(quizQuestionRepository.findPoolIds(any(), any(), any()))
+                .thenThrow(new InvalidDataAccessResourceUsageException("Table 'quiz_question' doesn't exist"));
+
+        assertThat(bank.assemble(REQUEST)).isEmpty();
+        assertThat(bank.assembleFallback(REQUEST)).isEmpty();
+        assertThat(meterRegistry.get("quiz.bank.misses").counter().count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Floyd 샘플링은 풀 안의 서로 다른 ID 만 뽑는다")
+    void sampleIsDistinct() {
+        long[] pool = LongStream.rangeClosed(100, 120).toArray();
+        for (int i = 0; i < 100; i++) {
+            List<Long> sample = QuizQuestionBank.sample(pool, 10);
+            assertThat(sample).hasSize(10).doesNotHaveDuplicates().allMatch(id -> id >= 100 && id <= 120);
+        }
+        assertThat(QuizQuestionBank.sample(pool, pool.length)).containsExactlyInAnyOrder(
+                LongStream.of(pool).boxed().toArray(Long[]::new));
+    }
+}
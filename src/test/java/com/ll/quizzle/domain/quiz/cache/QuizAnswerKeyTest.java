@@ -0,0 +1,47 @@
+package com.ll.quizzle.domain.quiz.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class QuizAnswerKeyTest {
+
+    @Test
+    @DisplayName("정답 목록을 한 번 파싱하면 문제 수와 정답을 그대로 조회할 수 있다")
+    void parseAnswerList() {
+        QuizAnswerKey answerKey = QuizAnswerKey.parse(List.of("1:a", "2: B ", "3:c"), 1_000L);
+
+        assertThat(answerKey.totalQuestions()).isEqualTo(3);
+        assertThat(answerKey.isValidQuestion(0)).isFalse();
+        assertThat(answerKey.isValidQuestion(3)).isTrue();
+        assertThat(answerKey.isValidQuestion(4)).isFalse();
+        assertThat(answerKey.correctAnswer(2)).isEqualTo("b");
+    }
+
+    @Test
+    @DisplayName("채점은 앞뒤 공백과 대소문자를 무시한다")
+    void gradeIgnoresWhitespaceAndCase() {
+        QuizAnswerKey answerKey = QuizAnswerKey.parse(List.of("1:a"), 1_000L);
+
+        assertThat(answerKey.isCorrect(1, "a")).isTrue();
+        assertThat(answerKey.isCorrect(1, "  A ")).isTrue();
+        assertThat(answerKey.isCorrect(1, "b")).isFalse();
+        assertThat(answerKey.isCorrect(1, "ab")).isFalse();
+        assertThat(answerKey.isCorrect(1, "")).isFalse();
+        assertThat(answerKey.isCorrect(1, null)).isFalse();
+    }
+
+    @Test
+    @DisplayName("형식이 잘못된 항목은 해당 문제만 오류로 표시된다")
+    void malformedEntry() {
+        QuizAnswerKey answerKey = QuizAnswerKey.parse(List.of("invalidFormat", "2:ab", "3:c"), 1_000L);
+
+        assertThat(answerKey.isWellFormed(1)).isFalse();
+        assertThat(answerKey.isWellFormed(2)).isFalse();
+        assertThat(answerKey.isWellFormed(3)).isTrue();
+        assertThat(answerKey.isCorrect(1, "a")).isFalse();
+    }
+}
@@ -0,0 +1,114 @@
+package com.ll.quizzle.domain.quiz.client;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.ll.quizzle.global.config.OpenAIProperties;
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * 요청마다 HttpClient 를 새로 만드는 기존 방식과 공유 클라이언트의 커넥션 수와 지연 시간을 비교합니다.
+ * 로컬 평문 HTTP 서버이므로 절약되는 것은 TCP 연결뿐이며, 실제 API 에서는 TLS 핸드셰이크만큼 차이가 더 커집니다.
+ * QUIZZLE_BENCHMARK=true 환경 변수가 있을 때만 실행됩니다.
+ */
+@EnabledIfEnvironmentVariable(named = "QUIZZLE_BENCHMARK", matches = "true")
+class OpenAIClientBenchmarkTest {
+
+    private static final Logger log = LoggerFactory.getLogger(OpenAIClientBenchmarkTest.class);
+
+    private static final int REQUESTS = 500;
+    private static final byte[] RESPONSE_BODY = "{\"choices\":[]}".getBytes(StandardCharsets.UTF_8);
+
+    private HttpServer server;
+    private String url;
+    private final Set<Integer> clientPorts = ConcurrentHashMap.newKeySet();
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+        server.createContext("/v1/chat/completions", exchange -> {
+            clientPorts.add(exchange.getRemoteAddress().getPort());
+            exchange.getRequestBody().readAllBytes();
+            exchange.sendResponseHeaders(200, RESPONSE_BODY.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(RESPONSE_BODY);
+            }
+        });
+        server.start();
+        url = "http://127.0.0.1:" + server.getAddress().getPort() + "/v1/chat/completions";
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+    }
+
+    @Test
+    @DisplayName("공유 클라이언트는 커넥션을 재사용하여 요청마다 연결하는 방식보다 p99 지연이 낮다")
+    void compareSharedAndPerRequestClient() throws Exception {
+        long[] perRequest = new long[REQUESTS];
+        for (int i = 0; i < REQUESTS; i++) {
+            long start = System.nanoTime();
+            HttpRequest request = HttpRequest.newBuilder()
+                    .uri(URI.create(url))
+                    .POST(HttpRequest.BodyPublishers.ofString("{}"))
+                    .build();
+            try (HttpClient perRequestClient = HttpClient.newHttpClient()) {
+                perRequestClient.send(request, HttpResponse.BodyHandlers.ofString());
+            }
+            perRequest[i] = System.nanoTime() - start;
+        }
+        int perRequestConnections = clientPorts.size();
+        clientPorts.clear();
+
+        OpenAIClient client = new OpenAIClient(new OpenAIProperties(url, "test-model", "test-key",
+                Duration.ofSeconds(2), Duration.ofSeconds(5), Duration.ofSeconds(5)));
+        long[] shared = new long[REQUESTS];
+        try {
+            for (int i = 0; i < REQUESTS; i++) {
+                long start = System.nanoTime();
+                client.sendRequest("system", "user");
+                shared[i] = System.nanoTime() - start;
+            }
+        } finally {
+            client.close();
+        }
+        int sharedConnections = clientPorts.size();
+
+        log.info("[per-request] connections={}, p50={}us, p99={}us",
+                perRequestConnections, percentileMicros(perRequest, 0.50), percentileMicros(perRequest, 0.99));
+        log.info("[shared]      connections={}, p50={}us, p99={}us",
+                sharedConnections, percentileMicros(shared, 0.50), percentileMicros(shared, 0.99));
+
+        assertThat(sharedConnections).isLessThan(perRequestConnections);
+        assertThat(percentileMicros(shared, 0.99)).isLessThan(percentileMicros(perRequest, 0.99));
+    }
+
+    private static long percentileMicros(long[] samples, double percentile) {
+        long[] sorted = samples.clone();
+        Arrays.sort(sorted);
+        return sorted[(int) (sorted.length * percentile)] / 1_000;
+    }
+}
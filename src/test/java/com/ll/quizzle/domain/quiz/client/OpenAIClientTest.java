@@ -0,0 +1,231 @@
+package com.ll.quizzle.domain.quiz.client;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.ll.quizzle.global.config.OpenAIProperties;
+import com.ll.quizzle.global.exceptions.ServiceException;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * 로컬 HTTP 서버를 OpenAI API 대신 띄워 커넥션 재사용과 제한 시간 처리, SSE 스트리밍을 확인합니다.
+ */
+class OpenAIClientTest {
+
+    private static final String RESPONSE_BODY = "{\"choices\":[{\"message\":{\"content\":\"ok\"}}]}";
+
+    private HttpServer server;
+    private final Set<Integer> clientPorts = ConcurrentHashMap.newKeySet();
+    private volatile long responseDelayMillis;
+    private volatile int responseStatus = 200;
+    private volatile String requestBody;
+    private volatile boolean dripBody;
+    private final CountDownLatch bodyAborted = new CountDownLatch(1);
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+        server.createContext("/v1/chat/completions", this::handle);
+        server.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        // 원격 포트가 다르면 새 TCP 커넥션(운영 환경에서는 새 TLS 핸드셰이크)입니다.
+        clientPorts.add(exchange.getRemoteAddress().getPort());
+        requestBody = new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8);
+        sleep(responseDelayMillis);
+        if (dripBody) {
+            dripBody(exchange);
+            return;
+        }
+        if (requestBody.contains("\"stream\":true")) {
+            streamEvents(exchange);
+            return;
+        }
+        byte[] body = RESPONSE_BODY.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(responseStatus, body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+
+    private void streamEvents(HttpExchange exchange) throws IOException {
+        exchange.getResponseHeaders().add("Content-Type", "text/event-stream");
+        exchange.sendResponseHeaders(responseStatus, 0);
+        try (OutputStream out = exchange.getResponseBody()) {
+            for (String delta : List.of("1. 문제", "\\n정답", ": a\\n")) {
+                out.write(("data: {\"choices\":[{\"delta\":{\"content\":\"" + delta + "\"}}]}\n\n")
+                        .getBytes(StandardCharsets.UTF_8));
+                out.flush();
+            }
+            // 내용이 없는 첫/마지막 이벤트와 주석 줄은 건너뜁니다.
+            out.write(": keep-alive\n\ndata: {\"choices\":[{\"delta\":{}}]}\n\ndata: [DONE]\n\n"
+                    .getBytes(StandardCharsets.UTF_8));
+        }
+    }
+
+    /**
+     * 헤더는 바로 보내고 본문은 조금씩 오래 보냅니다. 클라이언트가 교환을 취소하면 쓰기가 실패합니다.
+     */
+    private void dripBody(HttpExchange exchange) {
+        try {
+            exchange.sendResponseHeaders(200, 0);
+        } catch (IOException e) {
+            return;
+        }
+        try (OutputStream out = exchange.getResponseBody()) {
+            for (int i = 0; i < 100; i++) {
+                out.write(" ".repeat(1024).getBytes(StandardCharsets.UTF_8));
+                out.flush();
+                sleep(50);
+            }
+        } catch (IOException e) {
+            bodyAborted.countDown();
+        }
+    }
+
+    private OpenAIClient client(Duration requestTimeout, Duration readTimeout) {
+        String url = "http://127.0.0.1:" + server.getAddress().getPort() + "/v1/chat/completions";
+        return new OpenAIClient(new OpenAIProperties(url, "test-model", "test-key",
+                Duration.ofSeconds(2), requestTimeout, readTimeout));
+    }
+
+    @Test
+    @DisplayName("여러 번 호출해도 하나의 커넥션을 재사용한다")
+    void reusesConnection() {
+        OpenAIClient client = client(Duration.ofSeconds(5), Duration.ofSeconds(5));
+        try {
+            for (int i = 0; i < 20; i++) {
+                assertThat(client.sendRequest("system", "user")).isEqualTo(RESPONSE_BODY);
+            }
+        } finally {
+            client.close();
+        }
+
+        // 첫 요청의 h2c 업그레이드 시도로 커넥션이 하나 더 생길 수 있지만, 요청마다 새로 연결하지는 않습니다.
+        assertThat(clientPorts.size()).isLessThanOrEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("비동기 호출은 응답 본문으로 완료된다")
+    void completesAsynchronously() {
+        OpenAIClient client = client(Duration.ofSeconds(5), Duration.ofSeconds(5));
+        try {
+            assertThat(client.sendRequestAsync("system", "user").join()).isEqualTo(RESPONSE_BODY);
+        } finally {
+            client.close();
+        }
+    }
+
+    @Test
+    @DisplayName("응답이 제한 시간을 넘기면 ServiceException 으로 실패한다")
+    void failsOnTimeout() {
+        responseDelayMillis = 1_000;
+        OpenAIClient client = client(Duration.ofMillis(200), Duration.ofMillis(300));
+        try {
+            assertThatThrownBy(() -> client.sendRequest("system", "user"))
+                    .isInstanceOf(ServiceException.class);
+            assertThatThrownBy(() -> client.sendRequestAsync("system", "user").join())
+                    .isInstanceOf(CompletionException.class)
+                    .hasCauseInstanceOf(ServiceException.class);
+        } finally {
+            client.close();
+        }
+    }
+
+    @Test
+    @DisplayName("본문 수신이 read-timeout 을 넘기면 실패하고 HTTP 교환을 취소한다")
+    void cancelsExchangeOnReadTimeout() throws InterruptedException {
+        dripBody = true;
+        OpenAIClient client = client(Duration.ofSeconds(5), Duration.ofMillis(300));
+        try {
+            assertThatThrownBy(() -> client.sendRequestAsync("system", "user").join())
+                    .isInstanceOf(CompletionException.class)
+                    .hasCauseInstanceOf(ServiceException.class);
+
+            // 취소하지 않으면 서버는 5초 동안 본문을 끝까지 보냅니다.
+            assertThat(bodyAborted.await(3, TimeUnit.SECONDS)).isTrue();
+        } finally {
+            client.close();
+        }
+    }
+
+    @Test
+    @DisplayName("200 이외의 응답은 ServiceException 으로 실패한다")
+    void failsOnErrorStatus() {
+        responseStatus = 500;
+        OpenAIClient client = client(Duration.ofSeconds(5), Duration.ofSeconds(5));
+        try {
+            assertThatThrownBy(() -> client.sendRequest("system", "user"))
+                    .isInstanceOf(ServiceException.class);
+        } finally {
+            client.close();
+        }
+    }
+
+    @Test
+    @DisplayName("스트리밍 요청은 stream=true 로 보내고 SSE 조각을 도착 순서대로 넘긴다")
+    void streamsDeltas() {
+        OpenAIClient client = client(Duration.ofSeconds(5), Duration.ofSeconds(5));
+        List<String> deltas = new CopyOnWriteArrayList<>();
+        try {
+            client.streamRequestAsync("system", "user", deltas::add).join();
+        } finally {
+            client.close();
+        }
+
+        assertThat(requestBody).contains("\"stream\":true");
+        assertThat(deltas).containsExactly("1. 문제", "\n정답", ": a\n");
+    }
+
+    @Test
+    @DisplayName("스트리밍 응답이 200 이 아니면 ServiceException 으로 실패한다")
+    void streamFailsOnErrorStatus() {
+        responseStatus = 500;
+        OpenAIClient client = client(Duration.ofSeconds(5), Duration.ofSeconds(5));
+        try {
+            assertThatThrownBy(() -> client.streamRequestAsync("system", "user", delta -> { }).join())
+                    .isInstanceOf(CompletionException.class)
+                    .hasCauseInstanceOf(ServiceException.class);
+        } finally {
+            client.close();
+        }
+    }
+
+    private static void sleep(long millis) {
+        if (millis <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,182 @@
+package com.ll.quizzle.domain.quiz.client;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+
+import com.ll.quizzle.global.exceptions.ServiceException;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class QuizGenerationGuardTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private QuizGenerationGuard guard(int initialLimit, int interactiveSlots, int backgroundSlots) {
+        return new QuizGenerationGuard(meterRegistry, initialLimit, 1, 32, 0.5, 2.0, 50,
+                4, 4, 0.5, 30, 1, interactiveSlots, 8, backgroundSlots);
+    }
+
+    @Test
+    @DisplayName("호출자별 칸이 가득 차면 상류를 호출하지 않고 거절하며, 다른 호출자의 칸은 영향을 받지 않는다")
+    void bulkheadIsolatesCallers() {
+        QuizGenerationGuard guard = guard(8, 4, 1);
+        AtomicInteger calls = new AtomicInteger();
+        CompletableFuture<String> pending = new CompletableFuture<>();
+
+        guard.execute(QuizGenerationCaller.BACKGROUND, () -> {
+            calls.incrementAndGet();
+            return pending;
+        });
+        CompletableFuture<String> rejected = guard.execute(QuizGenerationCaller.BACKGROUND, () -> {
+            calls.incrementAndGet();
+            return CompletableFuture.completedFuture("quiz");
+        });
+        CompletableFuture<String> interactive = guard.execute(QuizGenerationCaller.INTERACTIVE,
+                () -> CompletableFuture.completedFuture("quiz"));
+
+        assertThat(calls).hasValue(1);
+        assertThatThrownBy(rejected::join).satisfies(e -> assertThat(QuizGenerationGuard.isRejection(e)).isTrue());
+        assertThat(interactive.join()).isEqualTo("quiz");
+        assertThat(meterRegistry.get("quiz.generation.rejections")
+                .tag("caller", "background").tag("reason", "bulkhead_full").counter().count()).isEqualTo(1);
+
+        // 진행 중이던 호출이 끝나면 칸이 다시 열립니다.
+        pending.complete("quiz");
+        assertThat(guard.execute(QuizGenerationCaller.BACKGROUND, () -> CompletableFuture.completedFuture("quiz"))
+                .join()).isEqualTo("quiz");
+    }
+
+    @Test
+    @DisplayName("동시 호출 한도를 넘으면 거절하고, 거절된 호출은 칸을 차지하지 않는다")
+    void rejectsOverLimit() {
+        QuizGenerationGuard guard = guard(2, 8, 2);
+        List<CompletableFuture<String>> pending = new ArrayList<>();
+        for (int i = 0; i < 2; i++) {
+            CompletableFuture<String> call = new CompletableFuture<>();
+            pending.add(call);
+            guard.execute(QuizGenerationCaller.INTERACTIVE, () -> call);
+        }
+
+        CompletableFuture<String> rejected = guard.execute(QuizGenerationCaller.INTERACTIVE,
+                () -> CompletableFuture.completedFuture("quiz"));
+
+        assertThatThrownBy(rejected::join).isInstanceOf(CompletionException.class)
+                .hasCauseInstanceOf(ServiceException.class);
+        assertThat(meterRegistry.get("quiz.generation.rejections")
+                .tag("caller", "interactive").tag("reason", "limit_exceeded").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("quiz.generation.in-flight").gauge().value()).isEqualTo(2);
+
+        pending.forEach(call -> call.complete("quiz"));
+        assertThat(meterRegistry.get("quiz.generation.in-flight").gauge().value()).isZero();
+    }
+
+    @Test
+    @DisplayName("실패가 몰리면 서킷이 열려 이후 호출을 바로 거절한다")
+    void opensCircuitOnFailures() {
+        QuizGenerationGuard guard = guard(8, 8, 2);
+        for (int i = 0; i < 4; i++) {
+            guard.execute(QuizGenerationCaller.INTERACTIVE, () -> CompletableFuture.failedFuture(
+                    new ServiceException(HttpStatus.INTERNAL_SERVER_ERROR, "upstream")));
+        }
+
+        AtomicInteger calls = new AtomicInteger();
+        CompletableFuture<String> rejected = guard.execute(QuizGenerationCaller.STREAM, () -> {
+            calls.incrementAndGet();
+            return CompletableFuture.completedFuture("quiz");
+        });
+
+        assertThat(guard.breakerState()).isEqualTo(CircuitBreaker.State.OPEN);
+        assertThat(calls).hasValue(0);
+        assertThatThrownBy(rejected::join).satisfies(e -> assertThat(QuizGenerationGuard.isRejection(e)).isTrue());
+        assertThat(meterRegistry.get("quiz.generation.breaker.state").gauge().value()).isEqualTo(2);
+        assertThat(meterRegistry.get("quiz.generation.rejections")
+                .tag("caller", "stream").tag("reason", "circuit_open").counter().count()).isEqualTo(1);
+        // 실패가 이어지는 동안 동시 호출 한도도 줄어듭니다.
+        assertThat(guard.limit()).isLessThan(8);
+    }
+
+    @Test
+    @DisplayName("상류의 실패는 거절로 보지 않는다")
+    void upstreamFailureIsNotRejection() {
+        ServiceException upstream = new ServiceException(HttpStatus.INTERNAL_SERVER_ERROR, "upstream");
+
+        // 상류가 503 으로 실패해도 관문의 거절과는 구분합니다.
+        ServiceException unavailable = new ServiceException(HttpStatus.SERVICE_UNAVAILABLE, "upstream overloaded");
+
+        assertThat(QuizGenerationGuard.isRejection(new CompletionException(upstream))).isFalse();
+        assertThat(QuizGenerationGuard.isRejection(new CompletionException(unavailable))).isFalse();
+        assertThat(QuizGenerationGuard.isRejection(unavailable)).isFalse();
+        assertThat(QuizGenerationGuard.isRejection(new IllegalStateException())).isFalse();
+    }
+
+    @Test
+    @DisplayName("열린 서킷은 대기 시간이 지나면 시험 호출만 보내고, 시험 호출 결과에 따라 닫히거나 다시 열린다")
+    void halfOpenProbes() {
+        AtomicLong now = new AtomicLong();
+        CircuitBreaker breaker = new CircuitBreaker(4, 2, 0.5, TimeUnit.SECONDS.toNanos(30), 2, now::get);
+        breaker.onFailure(breaker.tryAcquire());
+        breaker.onFailure(breaker.tryAcquire());
+        assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.OPEN);
+        assertThat(breaker.tryAcquire()).isNull();
+
+        now.addAndGet(TimeUnit.SECONDS.toNanos(30));
+        CircuitBreaker.State first = breaker.tryAcquire();
+        CircuitBreaker.State second = breaker.tryAcquire();
+        assertThat(first).isEqualTo(CircuitBreaker.State.HALF_OPEN);
+        assertThat(second).isEqualTo(CircuitBreaker.State.HALF_OPEN);
+        assertThat(breaker.tryAcquire()).isNull();
+
+        // 시험 호출 하나가 실패하면 다시 열리고 대기 시간을 새로 잽니다.
+        breaker.onFailure(first);
+        assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.OPEN);
+        breaker.onSuccess(second);
+        assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.OPEN);
+
+        now.addAndGet(TimeUnit.SECONDS.toNanos(30));
+        breaker.onSuccess(breaker.tryAcquire());
+        breaker.onSuccess(breaker.tryAcquire());
+        assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    @DisplayName("빠른 응답이 이어지면 한도를 늘리고, 기준보다 느려지면 한도를 줄인다")
+    void adaptsLimitToLatency() {
+        AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(4, 1, 10, 0.5, 2.0, 100);
+
+        for (int i = 0; i < 6; i++) {
+            limit.tryAcquire();
+            // 한도를 모두 쓰고 있던 것으로 알립니다.
+            limit.release(TimeUnit.MILLISECONDS.toNanos(100), false, limit.limit());
+        }
+        assertThat(limit.limit()).isEqualTo(10);
+
+        int inFlight = limit.tryAcquire();
+        limit.release(TimeUnit.MILLISECONDS.toNanos(500), false, inFlight);
+        assertThat(limit.limit()).isEqualTo(5);
+
+        inFlight = limit.tryAcquire();
+        limit.release(TimeUnit.MILLISECONDS.toNanos(100), true, inFlight);
+        assertThat(limit.limit()).isEqualTo(2);
+
+        // 한도를 다 쓰지 않는 동안에는 늘리지 않습니다.
+        inFlight = limit.tryAcquire();
+        limit.release(TimeUnit.MILLISECONDS.toNanos(100), false, inFlight);
+        assertThat(limit.limit()).isEqualTo(2);
+
+        limit.tryAcquire();
+        inFlight = limit.tryAcquire();
+        limit.release(TimeUnit.MILLISECONDS.toNanos(100), false, inFlight);
+        assertThat(limit.limit()).isEqualTo(3);
+    }
+}
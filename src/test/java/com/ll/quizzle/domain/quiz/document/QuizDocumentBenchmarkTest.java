@@ -0,0 +1,146 @@
+package com.ll.quizzle.domain.quiz.document;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+
+/**
+ * 퀴즈 한 벌을 기존 목록 형식(문제/정답 목록 2개)과 이진 문서로 저장할 때의 왕복 횟수, 저장 지연 시간, Redis 메모리(MEMORY USAGE)를 비교합니다.
+ * 실제 Redis 가 필요하므로 QUIZZLE_BENCHMARK=true 환경 변수가 있을 때만 실행됩니다.
+ * (REDIS_HOST / REDIS_PORT 로 대상 지정, 기본값 localhost:6379)
+ */
+@EnabledIfEnvironmentVariable(named = "QUIZZLE_BENCHMARK", matches = "true")
+class QuizDocumentBenchmarkTest {
+
+    private static final Logger log = LoggerFactory.getLogger(QuizDocumentBenchmarkTest.class);
+
+    private static final Duration QUIZ_TTL = Duration.ofMinutes(30);
+    private static final int QUIZZES = 200;
+
+    private LettuceConnectionFactory connectionFactory;
+    private RedisTemplate<String, Object> jsonTemplate;
+    private StringRedisTemplate stringTemplate;
+    private QuizDocumentStore store;
+    private final List<String> createdKeys = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        String host = System.getenv().getOrDefault("REDIS_HOST", "localhost");
+        int port = Integer.parseInt(System.getenv().getOrDefault("REDIS_PORT", "6379"));
+        connectionFactory = new LettuceConnectionFactory(host, port);
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+
+        jsonTemplate = new RedisTemplate<>();
+        jsonTemplate.setConnectionFactory(connectionFactory);
+        jsonTemplate.setKeySerializer(new StringRedisSerializer());
+        jsonTemplate.setValueSerializer(new GenericJackson2JsonRedisSerializer());
+        jsonTemplate.afterPropertiesSet();
+
+        stringTemplate = new StringRedisTemplate(connectionFactory);
+        store = new QuizDocumentStore(stringTemplate);
+    }
+
+    @AfterEach
+    void tearDown() {
+        stringTemplate.delete(createdKeys);
+        connectionFactory.destroy();
+    }
+
+    @Test
+    @DisplayName("10문제 퀴즈: 이진 문서는 왕복 1회로 저장되고 목록 형식보다 메모리를 적게 쓴다")
+    void compareListAndDocument() {
+        Map<Integer, String> quizText = new LinkedHashMap<>();
+        Map<Integer, String> answerMap = new LinkedHashMap<>();
+        String[] choices = {"a", "b", "c", "d"};
+        for (int number = 1; number <= 10; number++) {
+            quizText.put(number, number + ". 다음 중 뉴턴의 운동 법칙과 관련된 설명으로 옳은 것은?\n"
+                    + "a) 힘은 질량과 가속도의 곱이다\nb) 에너지는 보존되지 않는다\n"
+                    + "c) 작용과 반작용은 크기가 다르다\nd) 관성은 속도에 비례한다");
+            answerMap.put(number, choices[number % choices.length]);
+        }
+
+        long[] listSamples = new long[QUIZZES];
+        long[] documentSamples = new long[QUIZZES];
+        long listMemory = 0;
+        long documentMemory = 0;
+        int listRoundTrips = 0;
+        for (int i = 0; i < QUIZZES; i++) {
+            String quizId = "bench-" + UUID.randomUUID();
+
+            long start = System.nanoTime();
+            listRoundTrips = writeLists(quizId, quizText, answerMap);
+            listSamples[i] = System.nanoTime() - start;
+
+            start = System.nanoTime();
+            store.write(quizId, QuizDocument.of(quizText, answerMap), QUIZ_TTL);
+            documentSamples[i] = System.nanoTime() - start;
+
+            listMemory += memoryUsage("quiz:" + quizId + ":questions") + memoryUsage("quiz:" + quizId + ":answers");
+            documentMemory += memoryUsage(QuizDocumentStore.documentKey(quizId));
+            assertThat(store.readQuestion(quizId, 3)).contains(quizText.get(3).trim());
+        }
+
+        Arrays.sort(listSamples);
+        Arrays.sort(documentSamples);
+        log.info("[list]     round trips/quiz={}, p50={}us, memory/quiz={} bytes",
+                listRoundTrips, listSamples[QUIZZES / 2] / 1_000, listMemory / QUIZZES);
+        log.info("[document] round trips/quiz=1, p50={}us, memory/quiz={} bytes",
+                documentSamples[QUIZZES / 2] / 1_000, documentMemory / QUIZZES);
+
+        assertThat(documentMemory).isLessThan(listMemory);
+        assertThat(documentSamples[QUIZZES / 2]).isLessThan(listSamples[QUIZZES / 2]);
+    }
+
+    /**
+     * 이진 문서 도입 전 RedisQuizAnswerService.saveQuiz 의 명령 순서를 그대로 재현합니다. 반환값은 Redis 왕복 횟수입니다.
+     */
+    private int writeLists(String quizId, Map<Integer, String> quizText, Map<Integer, String> answerMap) {
+        int roundTrips = 0;
+        String questionListKey = "quiz:" + quizId + ":questions";
+        for (Map.Entry<Integer, String> entry : quizText.entrySet()) {
+            jsonTemplate.opsForList().rightPush(questionListKey,
+                    String.format("%d: %s\n", entry.getKey(), entry.getValue().trim()));
+            roundTrips++;
+        }
+        jsonTemplate.expire(questionListKey, QUIZ_TTL);
+        roundTrips++;
+
+        String answerListKey = "quiz:" + quizId + ":answers";
+        for (Map.Entry<Integer, String> entry : answerMap.entrySet()) {
+            jsonTemplate.opsForList().rightPush(answerListKey, String.format("%d:%s", entry.getKey(), entry.getValue()));
+            roundTrips++;
+        }
+        jsonTemplate.expire(answerListKey, QUIZ_TTL);
+        roundTrips++;
+        return roundTrips;
+    }
+
+    private long memoryUsage(String key) {
+        createdKeys.add(key);
+        Long bytes = stringTemplate.execute((RedisCallback<Long>)connection -> (Long)connection.execute("MEMORY",
+                "USAGE".getBytes(StandardCharsets.UTF_8), key.getBytes(StandardCharsets.UTF_8)));
+        return bytes != null ? bytes : 0;
+    }
+}
@@ -0,0 +1,121 @@
+package com.ll.quizzle.domain.quiz.document;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+
+class QuizDocumentTest {
+
+    private static final Logger log = LoggerFactory.getLogger(QuizDocumentTest.class);
+
+    @Test
+    @DisplayName("문서를 인코딩했다가 풀면 문제와 정규화된 정답이 번호 순서대로 복원된다")
+    void roundTrip() {
+        QuizDocument document = QuizDocument.of(
+                Map.of(2, "두 번째 문제\nb) 보기", 1, "  첫 번째 문제 "),
+                Map.of(1, " A ", 2, "x"));
+
+        QuizDocument decoded = QuizDocument.decode(document.encode());
+
+        assertThat(decoded.size()).isEqualTo(2);
+        assertThat(decoded.question(1)).isEqualTo("첫 번째 문제");
+        assertThat(decoded.question(2)).isEqualTo("두 번째 문제\nb) 보기");
+        assertThat(decoded.answer(1)).isEqualTo('a');
+        assertThat(decoded.answer(2)).isEqualTo('x');
+    }
+
+    @Test
+    @DisplayName("한 글자가 아니거나 ASCII 가 아닌 정답은 채점하지 않는 값으로 저장된다")
+    void malformedAnswer() {
+        QuizDocument document = QuizDocument.of(
+                Map.of(1, "문제1", 2, "문제2", 3, "문제3"),
+                Map.of(1, "ab", 2, "가"));
+
+        assertThat(QuizDocument.decode(document.encode()).answers())
+                .containsExactly(QuizDocument.NO_ANSWER, QuizDocument.NO_ANSWER, QuizDocument.NO_ANSWER);
+    }
+
+    @Test
+    @DisplayName("정답은 문서 앞부분만으로, 문제 하나는 위치 표로 찾은 범위만으로 읽을 수 있다")
+    void partialReads() {
+        QuizDocument document = QuizDocument.of(
+                Map.of(1, "물리 문제", 2, "화학 문제", 3, "생물 문제"),
+                Map.of(1, "a", 2, "b", 3, "c"));
+        byte[] bytes = document.encode();
+
+        // GETRANGE 0 (PREFETCH_SIZE - 1) 처럼 앞부분만 가져온 경우
+        byte[] prefix = Arrays.copyOf(bytes, Math.min(bytes.length, QuizDocument.PREFETCH_SIZE));
+        assertThat(QuizDocument.decodeAnswers(Arrays.copyOf(bytes, QuizDocument.HEADER_SIZE + 3)))
+                .containsExactly('a', 'b', 'c');
+
+        int[] range = QuizDocument.questionRange(prefix, 2);
+        assertThat(new String(bytes, range[0], range[1] - range[0], StandardCharsets.UTF_8)).isEqualTo("화학 문제");
+        assertThat(QuizDocument.questionRange(prefix, 0)).isNull();
+        assertThat(QuizDocument.questionRange(prefix, 4)).isNull();
+    }
+
+    @Test
+    @DisplayName("스트리밍 생성은 빈 자리를 채워 가다가 생성된 만큼만 남긴다")
+    void streamingDraft() {
+        QuizDocument reserved = QuizDocument.reserved(3);
+        QuizDocument partial = reserved.withQuestion(1, "문제1", "o").withQuestion(2, "문제2", "x");
+
+        assertThat(reserved.isComplete()).isFalse();
+        assertThat(reserved.answer(1)).isEqualTo(QuizDocument.NO_ANSWER);
+        assertThat(partial.isComplete()).isFalse();
+        assertThat(partial.withQuestion(3, "문제3", "o").isComplete()).isTrue();
+
+        QuizDocument truncated = QuizDocument.decode(partial.truncate(2).encode());
+        assertThat(truncated.size()).isEqualTo(2);
+        assertThat(truncated.answers()).containsExactly('o', 'x');
+        assertThatThrownBy(() -> reserved.withQuestion(4, "문제4", "o"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("형식이 다르거나 잘린 값은 퀴즈 문서로 읽지 않는다")
+    void rejectsForeignOrTruncatedValue() {
+        byte[] bytes = QuizDocument.of(Map.of(1, "문제1"), Map.of(1, "a")).encode();
+
+        assertThatThrownBy(() -> QuizDocument.decode("\"1:a\"".getBytes(StandardCharsets.UTF_8)))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> QuizDocument.decode(Arrays.copyOf(bytes, bytes.length - 1)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("같은 퀴즈를 목록 형식보다 적은 바이트와 키 하나로 저장한다")
+    void smallerThanListFormat() {
+        Map<Integer, String> quizText = new LinkedHashMap<>();
+        Map<Integer, String> answerMap = new LinkedHashMap<>();
+        String[] choices = {"a", "b", "c", "d"};
+        for (int number = 1; number <= 10; number++) {
+            quizText.put(number, number + ". 다음 중 뉴턴의 운동 법칙과 관련된 설명으로 옳은 것은?\n"
+                    + "a) 힘은 질량과 가속도의 곱이다\nb) 에너지는 보존되지 않는다\n"
+                    + "c) 작용과 반작용은 크기가 다르다\nd) 관성은 속도에 비례한다");
+            answerMap.put(number, choices[number % choices.length]);
+        }
+
+        // 기존 형식: 문제마다 quiz:{id}:questions 에 "번호: 문제\n", quiz:{id}:answers 에 "번호:정답" 을 JSON 문자열로 저장
+        GenericJackson2JsonRedisSerializer serializer = new GenericJackson2JsonRedisSerializer();
+        int listBytes = 0;
+        for (int number = 1; number <= 10; number++) {
+            listBytes += serializer.serialize(String.format("%d: %s\n", number, quizText.get(number).trim())).length;
+            listBytes += serializer.serialize(String.format("%d:%s", number, answerMap.get(number))).length;
+        }
+        int documentBytes = QuizDocument.of(quizText, answerMap).encode().length;
+
+        log.info("퀴즈 10문제 저장 크기: 목록 형식 키 2개, 항목 20개, 값 {} bytes / 이진 문서 키 1개, 값 {} bytes",
+                listBytes, documentBytes);
+        assertThat(documentBytes).isLessThan(listBytes);
+    }
+}
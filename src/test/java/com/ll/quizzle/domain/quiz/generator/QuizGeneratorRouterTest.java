@@ -0,0 +1,197 @@
+package com.ll.quizzle.domain.quiz.generator;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+
+import com.ll.quizzle.domain.quiz.client.QuizGenerationCaller;
+import com.ll.quizzle.domain.quiz.dto.request.QuizGenerationRequest;
+import com.ll.quizzle.domain.quiz.dto.response.QuizGenerationResponse;
+import com.ll.quizzle.domain.room.type.AnswerType;
+import com.ll.quizzle.domain.room.type.Difficulty;
+import com.ll.quizzle.domain.room.type.MainCategory;
+import com.ll.quizzle.domain.room.type.SubCategory;
+import com.ll.quizzle.global.exceptions.ServiceException;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class QuizGeneratorRouterTest {
+
+    private static final long HEDGE_DELAY_MS = 100;
+    private static final QuizGenerationRequest REQUEST = new QuizGenerationRequest(
+            MainCategory.SCIENCE, SubCategory.PHYSICS, AnswerType.MULTIPLE_CHOICE, 2, Difficulty.EASY);
+    private static final QuizGenerationResponse PRIMARY_QUIZ = new QuizGenerationResponse(
+            Map.of(1, "주 모델 문제1", 2, "주 모델 문제2"), Map.of(1, "a", 2, "b"));
+    private static final QuizGenerationResponse FALLBACK_QUIZ = new QuizGenerationResponse(
+            Map.of(1, "대체 모델 문제1", 2, "대체 모델 문제2"), Map.of(1, "c", 2, "d"));
+
+    private final FakeGenerator primary = new FakeGenerator("primary");
+    private final FakeGenerator fallback = new FakeGenerator("fallback");
+    private QuizGeneratorRouter router;
+
+    @AfterEach
+    void tearDown() {
+        if (router != null) {
+            router.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("주 백엔드가 헤지 대기 시간 안에 답하면 다음 백엔드를 호출하지 않는다")
+    void fastPrimaryIsNotHedged() throws Exception {
+        router = router(List.of(primary, fallback), true);
+        primary.behavior = () -> CompletableFuture.completedFuture(PRIMARY_QUIZ);
+
+        assertThat(router.generate(REQUEST, QuizGenerationCaller.INTERACTIVE).get(1, TimeUnit.SECONDS))
+                .isEqualTo(PRIMARY_QUIZ);
+        Thread.sleep(HEDGE_DELAY_MS * 2);
+        assertThat(fallback.calls).isEmpty();
+    }
+
+    @Test
+    @DisplayName("주 백엔드가 늦으면 다음 백엔드를 함께 호출하고 먼저 도착한 결과를 사용한다")
+    void slowPrimaryIsHedged() throws Exception {
+        router = router(List.of(primary, fallback), true);
+        fallback.behavior = () -> CompletableFuture.completedFuture(FALLBACK_QUIZ);
+
+        long start = System.nanoTime();
+        QuizGenerationResponse response = router.generate(REQUEST, QuizGenerationCaller.INTERACTIVE)
+                .get(1, TimeUnit.SECONDS);
+
+        assertThat(response).isEqualTo(FALLBACK_QUIZ);
+        assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)).isGreaterThanOrEqualTo(HEDGE_DELAY_MS - 10);
+        assertThat(primary.calls).hasSize(1);
+        assertThat(fallback.calls).hasSize(1);
+
+        // 늦게 도착한 주 백엔드 결과는 버리되 응답 시간 분포에는 반영합니다.
+        primary.calls.get(0).complete(PRIMARY_QUIZ);
+        assertThat(router.backends().get(0).latency().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("재고 보충 같은 백그라운드 요청은 헤지하지 않는다")
+    void backgroundIsNotHedged() throws Exception {
+        router = router(List.of(primary, fallback), true);
+
+        CompletableFuture<QuizGenerationResponse> result = router.generate(REQUEST, QuizGenerationCaller.BACKGROUND);
+        Thread.sleep(HEDGE_DELAY_MS * 3);
+
+        assertThat(result).isNotDone();
+        assertThat(fallback.calls).isEmpty();
+    }
+
+    @Test
+    @DisplayName("호출 중인 백엔드가 모두 실패하면 헤지 여부와 관계없이 바로 다음 백엔드를 호출한다")
+    void failureFailsOverImmediately() throws Exception {
+        router = router(List.of(primary, fallback), false);
+        primary.behavior = () -> CompletableFuture.failedFuture(new IllegalStateException("upstream 500"));
+        fallback.behavior = () -> CompletableFuture.completedFuture(FALLBACK_QUIZ);
+
+        assertThat(router.generate(REQUEST, QuizGenerationCaller.BACKGROUND).get(1, TimeUnit.SECONDS))
+                .isEqualTo(FALLBACK_QUIZ);
+    }
+
+    @Test
+    @DisplayName("정답이 빠진 결과는 실패로 보고 다음 백엔드 결과를 사용한다")
+    void invalidResultIsRejected() throws Exception {
+        router = router(List.of(primary, fallback), true);
+        primary.behavior = () -> CompletableFuture.completedFuture(
+                new QuizGenerationResponse(Map.of(1, "문제1", 2, "문제2"), Map.of(1, "a")));
+        fallback.behavior = () -> CompletableFuture.completedFuture(FALLBACK_QUIZ);
+
+        assertThat(router.generate(REQUEST, QuizGenerationCaller.INTERACTIVE).get(1, TimeUnit.SECONDS))
+                .isEqualTo(FALLBACK_QUIZ);
+    }
+
+    @Test
+    @DisplayName("모든 백엔드가 실패하면 첫 백엔드의 오류로 실패한다")
+    void allFailed() {
+        router = router(List.of(primary, fallback), true);
+        ServiceException overloaded = new ServiceException(HttpStatus.SERVICE_UNAVAILABLE, "과부하");
+        primary.behavior = () -> CompletableFuture.failedFuture(overloaded);
+        fallback.behavior = () -> CompletableFuture.failedFuture(new IllegalStateException("upstream 500"));
+
+        assertThat(router.generate(REQUEST, QuizGenerationCaller.INTERACTIVE))
+                .failsWithin(1, TimeUnit.SECONDS)
+                .withThrowableOfType(Exception.class)
+                .withCause(overloaded);
+    }
+
+    @Test
+    @DisplayName("헤지 대기 시간은 표본이 쌓이면 백엔드 응답 시간의 p95 를 따른다")
+    void hedgeDelayFollowsPercentile() {
+        router = router(List.of(primary, fallback), true);
+        QuizGeneratorRouter.Backend backend = router.backends().get(0);
+        assertThat(router.hedgeDelayMillis(backend)).isEqualTo(HEDGE_DELAY_MS);
+
+        for (int i = 1; i <= 100; i++) {
+            backend.latency().record(i * 10L, TimeUnit.MILLISECONDS);
+        }
+
+        assertThat(router.hedgeDelayMillis(backend)).isBetween(900L, 1000L);
+    }
+
+    @Test
+    @DisplayName("템플릿 백엔드는 같은 요청에 항상 같은 퀴즈를 돌려준다")
+    void templateIsDeterministic() throws Exception {
+        TemplateQuizGenerator template = new TemplateQuizGenerator();
+        QuizGenerationRequest trueFalse = new QuizGenerationRequest(
+                MainCategory.SCIENCE, SubCategory.PHYSICS, AnswerType.TRUE_FALSE, 3, Difficulty.HARD);
+
+        QuizGenerationResponse first = template.generate(trueFalse, QuizGenerationCaller.INTERACTIVE).get();
+
+        assertThat(template.generate(trueFalse, QuizGenerationCaller.INTERACTIVE).get()).isEqualTo(first);
+        assertThat(first.quizText()).hasSize(3);
+        assertThat(first.answerMap()).containsExactly(Map.entry(1, "O"), Map.entry(2, "X"), Map.entry(3, "O"));
+        assertThat(QuizGeneratorRouter.isValid(template.generate(REQUEST, QuizGenerationCaller.INTERACTIVE).get()))
+                .isTrue();
+    }
+
+    @Test
+    @DisplayName("order 에 없는 백엔드 이름은 시작할 때 거부한다")
+    void unknownBackend() {
+        assertThatThrownBy(() -> new QuizGeneratorRouter(List.of(primary), new SimpleMeterRegistry(),
+                List.of("primary", "missing"), true, 0.95, HEDGE_DELAY_MS, 10, 20_000, 20))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static QuizGeneratorRouter router(List<QuizGenerator> generators, boolean hedge) {
+        List<String> order = generators.stream().map(QuizGenerator::name).toList();
+        return new QuizGeneratorRouter(generators, new SimpleMeterRegistry(), order, hedge, 0.95,
+                HEDGE_DELAY_MS, 10, 20_000, 20);
+    }
+
+    private static final class FakeGenerator implements QuizGenerator {
+
+        private final String name;
+        private final List<CompletableFuture<QuizGenerationResponse>> calls = new CopyOnWriteArrayList<>();
+        private volatile Supplier<CompletableFuture<QuizGenerationResponse>> behavior = CompletableFuture::new;
+
+        private FakeGenerator(String name) {
+            this.name = name;
+        }
+
+        @Override
+        public String name() {
+            return name;
+        }
+
+        @Override
+        public CompletableFuture<QuizGenerationResponse> generate(QuizGenerationRequest request,
+                                                                  QuizGenerationCaller caller) {
+            CompletableFuture<QuizGenerationResponse> future = behavior.get();
+            calls.add(future);
+            return future;
+        }
+    }
+}
@@ -0,0 +1,165 @@
+package com.ll.quizzle.domain.quiz.generator;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ll.quizzle.domain.quiz.client.OpenAIClient;
+import com.ll.quizzle.domain.quiz.client.QuizGenerationCaller;
+import com.ll.quizzle.domain.quiz.client.QuizGenerationGuard;
+import com.ll.quizzle.domain.quiz.dto.request.QuizGenerationRequest;
+import com.ll.quizzle.domain.quiz.dto.response.QuizGenerationResponse;
+import com.ll.quizzle.domain.quiz.parser.QuizResponseParser;
+import com.ll.quizzle.domain.quiz.parser.QuizResponseParser.Completion;
+import com.ll.quizzle.domain.room.type.AnswerType;
+import com.ll.quizzle.domain.room.type.Difficulty;
+import com.ll.quizzle.domain.room.type.MainCategory;
+import com.ll.quizzle.domain.room.type.SubCategory;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@MockitoSettings(strictness = Strictness.LENIENT)
+@ExtendWith(MockitoExtension.class)
+class QuizRepairStageTest {
+
+    private static final String MODEL = "test-model";
+    private static final QuizGenerationRequest REQUEST = new QuizGenerationRequest(
+            MainCategory.SCIENCE, SubCategory.PHYSICS, AnswerType.MULTIPLE_CHOICE, 4, Difficulty.EASY);
+
+    @Mock
+    private OpenAIClient openAIClient;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final QuizResponseParser parser = new QuizResponseParser();
+    private QuizRepairStage stage;
+
+    @BeforeEach
+    void setUp() {
+        QuizGenerationGuard guard = new QuizGenerationGuard(meterRegistry, 8, 1, 32, 0.5, 2.0, 50,
+                4, 4, 0.5, 30, 1, 8, 8, 8);
+        stage = new QuizRepairStage(openAIClient, guard, meterRegistry, true, 2);
+    }
+
+    @Test
+    @DisplayName("빠지거나 정답이 잘못된 번호만 다시 요청해 채운다")
+    void repairsOnlyGaps() throws Exception {
+        // 2번은 정답 줄이 없고, 4번은 보기에 없는 정답, 3번은 아예 빠졌습니다.
+        Completion initial = parser.parseCompletion(body("""
+                1. 문제1
+                정답: a
+                2. 문제2
+                4. 문제4
+                정답: o
+                """, 400));
+        when(openAIClient.sendRequestAsync(eq(MODEL), anyString(), anyString()))
+                .thenReturn(CompletableFuture.completedFuture(body("""
+                        2. 보완 문제2
+                        정답: b
+                        3. 보완 문제3
+                        정답: c
+                        4. 보완 문제4
+                        정답: d
+                        """, 150)));
+
+        QuizGenerationResponse response = complete(initial);
+
+        assertThat(response.quizText()).containsExactly(entry(1, "문제1"), entry(2, "보완 문제2"),
+                entry(3, "보완 문제3"), entry(4, "보완 문제4"));
+        assertThat(response.answerMap()).containsExactly(entry(1, "a"), entry(2, "b"), entry(3, "c"), entry(4, "d"));
+
+        ArgumentCaptor<String> prompt = ArgumentCaptor.forClass(String.class);
+        verify(openAIClient).sendRequestAsync(eq(MODEL), prompt.capture(), anyString());
+        assertThat(prompt.getValue()).contains("문제 번호: 2, 3, 4").contains("문제 수: 3");
+
+        assertThat(tokens("initial")).isEqualTo(400);
+        assertThat(tokens("repair")).isEqualTo(150);
+        assertThat(meterRegistry.get("quiz.generator.repair.tokens.saved").counter().count()).isEqualTo(250);
+        assertThat(meterRegistry.get("quiz.generator.repair.latency").tag("outcome", "repaired").timer().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("빠진 번호가 없으면 보완 요청을 하지 않는다")
+    void completeResponseIsUntouched() throws Exception {
+        Completion initial = parser.parseCompletion(body("1. 문제1\n정답: a\n2. 문제2\n정답: b\n3. 문제3\n정답: c\n"
+                + "4. 문제4\n정답: d\n", 300));
+
+        assertThat(complete(initial)).isSameAs(initial.quiz());
+        verifyNoInteractions(openAIClient);
+        assertThat(tokens("initial")).isEqualTo(300);
+    }
+
+    @Test
+    @DisplayName("모델이 번호를 다시 매겨 답하면 남은 번호에 순서대로 채우고, 라운드마다 남은 번호만 요청한다")
+    void renumberedAnswersFillRemainingGaps() throws Exception {
+        Completion initial = parser.parseCompletion(body("1. 문제1\n정답: a\n2. 문제2\n정답: b\n", 200));
+        when(openAIClient.sendRequestAsync(eq(MODEL), anyString(), anyString()))
+                .thenReturn(CompletableFuture.completedFuture(body("1. 보완 문제A\n정답: c\n", 60)))
+                .thenReturn(CompletableFuture.completedFuture(body("4. 보완 문제B\n정답: d\n", 60)));
+
+        QuizGenerationResponse response = complete(initial);
+
+        assertThat(response.quizText()).containsExactly(entry(1, "문제1"), entry(2, "문제2"),
+                entry(3, "보완 문제A"), entry(4, "보완 문제B"));
+        ArgumentCaptor<String> prompt = ArgumentCaptor.forClass(String.class);
+        verify(openAIClient, times(2)).sendRequestAsync(eq(MODEL), prompt.capture(), anyString());
+        assertThat(prompt.getAllValues().get(1)).contains("문제 번호: 4");
+        assertThat(tokens("repair")).isEqualTo(120);
+    }
+
+    @Test
+    @DisplayName("보완 요청이 실패하면 올바른 문제만 담은 짧은 퀴즈를 돌려준다")
+    void repairFailureReturnsPartialQuiz() throws Exception {
+        Completion initial = parser.parseCompletion(body("1. 문제1\n정답: a\n2. 문제2\n정답: z\n3. 문제3\n정답: c\n", 200));
+        when(openAIClient.sendRequestAsync(eq(MODEL), anyString(), anyString()))
+                .thenReturn(CompletableFuture.failedFuture(new IllegalStateException("upstream 500")));
+
+        QuizGenerationResponse response = complete(initial);
+
+        assertThat(response.quizText()).containsOnlyKeys(1, 3);
+        assertThat(response.answerMap()).containsExactly(entry(1, "a"), entry(3, "c"));
+        assertThat(meterRegistry.get("quiz.generator.repair.latency").tag("outcome", "failed").timer().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("OX 퀴즈는 O/X 가 아닌 정답을 잘못된 정답으로 본다")
+    void trueFalseAnswersAreValidated() {
+        QuizGenerationRequest request = new QuizGenerationRequest(
+                MainCategory.SCIENCE, SubCategory.PHYSICS, AnswerType.TRUE_FALSE, 3, Difficulty.EASY);
+        QuizGenerationResponse response = new QuizGenerationResponse(
+                Map.of(1, "문제1", 2, "문제2", 3, " "), Map.of(1, "o", 2, "a", 3, "x"));
+
+        assertThat(QuizRepairStage.findGaps(request, response)).isEqualTo(List.of(2, 3));
+    }
+
+    private QuizGenerationResponse complete(Completion initial) throws Exception {
+        return stage.complete("primary", MODEL, REQUEST, QuizGenerationCaller.INTERACTIVE, initial).get();
+    }
+
+    private double tokens(String phase) {
+        return meterRegistry.get("quiz.generator.tokens").tag("phase", phase).counter().count();
+    }
+
+    private static String body(String content, int totalTokens) throws Exception {
+        return """
+                {"id":"chatcmpl-test","choices":[{"index":0,"message":{"role":"assistant","content":%s}}],\
+                "usage":{"prompt_tokens":100,"completion_tokens":%d,"total_tokens":%d}}
+                """.formatted(new ObjectMapper().writeValueAsString(content), totalTokens - 100, totalTokens);
+    }
+}
@@ -0,0 +1,214 @@
+package com.ll.quizzle.domain.quiz.inventory;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.data.redis.core.DefaultTypedTuple;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.ListOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.SetOperations;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import com.ll.quizzle.domain.quiz.client.QuizGenerationCaller;
+import com.ll.quizzle.domain.quiz.dto.request.QuizGenerationRequest;
+import com.ll.quizzle.domain.quiz.dto.response.QuizGenerationResponse;
+import com.ll.quizzle.domain.quiz.dto.response.QuizInventoryStatusResponse;
+import com.ll.quizzle.domain.quiz.service.GPTQuizService;
+import com.ll.quizzle.domain.room.type.AnswerType;
+import com.ll.quizzle.domain.room.type.Difficulty;
+import com.ll.quizzle.domain.room.type.MainCategory;
+import com.ll.quizzle.domain.room.type.SubCategory;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@MockitoSettings(strictness = Strictness.LENIENT)
+@ExtendWith(MockitoExtension.class)
+class QuizInventoryServiceTest {
+
+    private static final int LOW_WATER = 2;
+    private static final int HIGH_WATER = 5;
+    private static final QuizInventoryKey PHYSICS =
+            new QuizInventoryKey(SubCategory.PHYSICS, AnswerType.MULTIPLE_CHOICE, Difficulty.EASY, 2);
+    private static final QuizInventoryKey KOREAN =
+            new QuizInventoryKey(SubCategory.KOREAN, AnswerType.TRUE_FALSE, Difficulty.HARD, 2);
+    private static final String QUIZ_JSON =
+            "{\"quizText\":{\"1\":\"문제1\",\"2\":\"문제2\"},\"answerMap\":{\"1\":\"a\",\"2\":\"o\"}}";
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Mock
+    private GPTQuizService gptQuizService;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    @Mock
+    private SetOperations<String, String> setOperations;
+
+    @Mock
+    private ListOperations<String, String> listOperations;
+
+    @Mock
+    private HashOperations<String, Object, Object> hashOperations;
+
+    @Mock
+    private ZSetOperations<String, String> zSetOperations;
+
+    private QuizInventoryService inventoryService;
+
+    @BeforeEach
+    void setUp() {
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(redisTemplate.opsForSet()).thenReturn(setOperations);
+        when(redisTemplate.opsForList()).thenReturn(listOperations);
+        when(redisTemplate.<Object, Object>opsForHash()).thenReturn(hashOperations);
+        when(redisTemplate.opsForZSet()).thenReturn(zSetOperations);
+        when(valueOperations.setIfAbsent(anyString(), anyString(), any(Duration.class))).thenReturn(true);
+        inventoryService = service(true, 1);
+    }
+
+    private QuizInventoryService service(boolean enabled, int maxConcurrency) {
+        return new QuizInventoryService(redisTemplate, gptQuizService, new SimpleMeterRegistry(), enabled,
+                LOW_WATER, HIGH_WATER, maxConcurrency, 30, 0.9, 24, List.of(2));
+    }
+
+    private static QuizGenerationRequest request(MainCategory mainCategory, SubCategory subCategory) {
+        return new QuizGenerationRequest(mainCategory, subCategory, AnswerType.MULTIPLE_CHOICE, 2, Difficulty.EASY);
+    }
+
+    /**
+     * 모든 조합의 재고를 high-water 로 채운 상태에서 일부 조합만 바꿔 파이프라인 결과를 돌려줍니다.
+     */
+    @SuppressWarnings("unchecked")
+    private void givenStocks(Map<QuizInventoryKey, Long> stocks, Map<QuizInventoryKey, Double> demand,
+                             Set<String> refilling) {
+        List<Object> results = new ArrayList<>();
+        for (QuizInventoryKey key : QuizInventoryKey.all(List.of(2))) {
+            results.add(stocks.getOrDefault(key, (long) HIGH_WATER));
+        }
+        Set<ZSetOperations.TypedTuple<String>> tuples = new LinkedHashSet<>();
+        demand.forEach((key, score) -> tuples.add(new DefaultTypedTuple<>(key.id(), score)));
+        results.add(tuples);
+        results.add(refilling);
+        when(redisTemplate.executePipelined(any(SessionCallback.class))).thenReturn(results);
+    }
+
+    @Test
+    @DisplayName("재고가 있으면 한 번의 스크립트로 꺼내고 수요와 적중을 함께 집계한다")
+    @SuppressWarnings("unchecked")
+    void takesFromStock() {
+        when(redisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class))).thenReturn(QUIZ_JSON);
+
+        QuizGenerationResponse quiz = inventoryService.take(request(MainCategory.SCIENCE, SubCategory.PHYSICS))
+                .orElseThrow();
+
+        assertThat(quiz.answerMap()).containsEntry(1, "a").containsEntry(2, "o");
+        ArgumentCaptor<List<String>> keys = ArgumentCaptor.forClass(List.class);
+        ArgumentCaptor<Object[]> args = ArgumentCaptor.forClass(Object[].class);
+        verify(redisTemplate).execute(any(RedisScript.class), keys.capture(), args.capture());
+        assertThat(keys.getValue()).containsExactly("quiz:inventory:stock:PHYSICS:MULTIPLE_CHOICE:EASY:2",
+                QuizInventoryService.DEMAND_KEY, QuizInventoryService.STATS_KEY, QuizInventoryService.REFILLING_KEY);
+        assertThat(args.getValue()).containsExactly("PHYSICS:MULTIPLE_CHOICE:EASY:2", String.valueOf(LOW_WATER));
+    }
+
+    @Test
+    @DisplayName("재고가 없거나, 재고 대상이 아닌 요청이거나, 비활성 상태면 비어 있는 결과를 돌려준다")
+    @SuppressWarnings("unchecked")
+    void missesWithoutStock() {
+        when(redisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class))).thenReturn(null);
+        assertThat(inventoryService.take(request(MainCategory.SCIENCE, SubCategory.PHYSICS))).isEmpty();
+
+        // 대분류와 소분류가 맞지 않거나 재고로 관리하지 않는 문제 수는 Redis 를 조회하지 않습니다.
+        clearInvocations(redisTemplate);
+        assertThat(inventoryService.take(request(MainCategory.HISTORY, SubCategory.PHYSICS))).isEmpty();
+        assertThat(inventoryService.take(new QuizGenerationRequest(MainCategory.SCIENCE, SubCategory.PHYSICS,
+                AnswerType.MULTIPLE_CHOICE, 7, Difficulty.EASY))).isEmpty();
+        assertThat(service(false, 1).take(request(MainCategory.SCIENCE, SubCategory.PHYSICS))).isEmpty();
+        verify(redisTemplate, never()).execute(any(RedisScript.class), anyList(), any(Object[].class));
+    }
+
+    @Test
+    @DisplayName("동시 생성 한도 안에서 수요가 많은 조합부터 보충한다")
+    void refillsHighestDemandFirst() {
+        givenStocks(Map.of(PHYSICS, 0L, KOREAN, 0L), Map.of(PHYSICS, 0.0, KOREAN, 8.0), Set.of());
+        when(gptQuizService.generateQuizAsync(any(), any())).thenReturn(new CompletableFuture<>());
+
+        inventoryService.refill();
+
+        verify(gptQuizService, times(1)).generateQuizAsync(KOREAN.toRequest(), QuizGenerationCaller.BACKGROUND);
+        verify(setOperations).add(eq(QuizInventoryService.REFILLING_KEY), any(String[].class));
+    }
+
+    @Test
+    @DisplayName("저수위 아래에서 시작한 보충은 고수위에 도달할 때까지 이어지고, 그 사이에서는 새로 시작하지 않는다")
+    void refillsWithHysteresis() {
+        List<QuizInventoryService.Candidate> candidates = inventoryService.candidates(List.of(
+                new QuizInventoryService.StockLevel(PHYSICS, 3, 0, true),
+                new QuizInventoryService.StockLevel(KOREAN, 3, 0, false)
+        ));
+        assertThat(candidates).extracting(QuizInventoryService.Candidate::key).containsExactly(PHYSICS);
+
+        inventoryService.candidates(List.of(new QuizInventoryService.StockLevel(PHYSICS, HIGH_WATER, 0, true)));
+        verify(setOperations).remove(QuizInventoryService.REFILLING_KEY, PHYSICS.id());
+    }
+
+    @Test
+    @DisplayName("생성된 퀴즈는 재고에 쌓고, 문제 수가 모자란 퀴즈는 버린 뒤 클레임을 풀어 준다")
+    void storesOnlyCompleteQuizzes() {
+        givenStocks(Map.of(PHYSICS, 0L), Map.of(), Set.of());
+        when(gptQuizService.generateQuizAsync(any(), any())).thenReturn(CompletableFuture.completedFuture(
+                new QuizGenerationResponse(Map.of(1, "문제1", 2, "문제2"), Map.of(1, "a", 2, "b"))));
+
+        inventoryService.refill();
+
+        verify(listOperations).rightPush(eq(QuizInventoryService.stockKey(PHYSICS)), contains("\"answerMap\""));
+        verify(redisTemplate).delete("quiz:inventory:claim:" + PHYSICS.id());
+
+        clearInvocations(listOperations);
+        when(gptQuizService.generateQuizAsync(any(), any())).thenReturn(CompletableFuture.completedFuture(
+                new QuizGenerationResponse(Map.of(1, "문제1"), Map.of(1, "a"))));
+
+        inventoryService.refill();
+
+        verify(listOperations, never()).rightPush(anyString(), anyString());
+    }
+
+    @Test
+    @DisplayName("현황은 누적 적중률과 함께 보충 우선순위 순으로 조합을 보여준다")
+    void reportsStatus() {
+        givenStocks(Map.of(PHYSICS, 1L), Map.of(PHYSICS, 3.0), Set.of(PHYSICS.id()));
+        when(hashOperations.entries(QuizInventoryService.STATS_KEY)).thenReturn(Map.of("hits", "3", "misses", "1"));
+
+        QuizInventoryStatusResponse status = inventoryService.status();
+
+        assertThat(status.hitRate()).isEqualTo(0.75);
+        QuizInventoryStatusResponse.Stock first = status.stocks().get(0);
+        assertThat(first.subCategory()).isEqualTo(SubCategory.PHYSICS);
+        assertThat(first.mainCategory()).isEqualTo(MainCategory.SCIENCE);
+        assertThat(first.stock()).isEqualTo(1);
+        assertThat(first.refilling()).isTrue();
+    }
+}
@@ -0,0 +1,98 @@
+package com.ll.quizzle.domain.quiz.job;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ll.quizzle.domain.quiz.dto.response.QuizGenerationJobResponse;
+import com.ll.quizzle.domain.quiz.dto.response.QuizResponse;
+import com.ll.quizzle.domain.room.service.RoomService;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@MockitoSettings(strictness = Strictness.LENIENT)
+@ExtendWith(MockitoExtension.class)
+class QuizGenerationJobServiceTest {
+
+    private static final String JOB_KEY = "quiz:job:job-1";
+    private static final Long ROOM_ID = 7L;
+    private static final Long REQUESTER_ID = 42L;
+    private static final QuizResponse QUIZ = new QuizResponse("quiz-1",
+            Map.of(1, "문제1", 2, "문제2"), Map.of(1, "a", 2, "b"));
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Mock
+    private HashOperations<String, Object, Object> hashOperations;
+
+    @Mock
+    private RoomService roomService;
+
+    private final Map<Object, Object> state = new HashMap<>();
+    private QuizGenerationJobService jobService;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        when(redisTemplate.opsForHash()).thenReturn(hashOperations);
+        when(hashOperations.entries(JOB_KEY)).thenReturn(state);
+        when(hashOperations.get(eq(JOB_KEY), any())).thenAnswer(invocation -> state.get(invocation.getArgument(1)));
+
+        state.put("status", QuizGenerationJobStatus.SUCCEEDED.name());
+        state.put("roomId", String.valueOf(ROOM_ID));
+        state.put("requesterId", String.valueOf(REQUESTER_ID));
+        state.put("attempts", "1");
+        state.put("quizId", QUIZ.quizId());
+        state.put("quiz", new ObjectMapper().writeValueAsString(QUIZ));
+
+        jobService = new QuizGenerationJobService(redisTemplate, roomService, new SimpleMeterRegistry(), 60);
+    }
+
+    @Test
+    @DisplayName("방 작업의 퀴즈는 요청자와 방장에게만 돌려준다")
+    void status_quizOnlyForRequesterAndOwner() {
+        when(roomService.isOwner(ROOM_ID, 1L)).thenReturn(true);
+
+        assertThat(jobService.status("job-1", REQUESTER_ID).quiz()).isEqualTo(QUIZ);
+        assertThat(jobService.status("job-1", 1L).quiz()).isEqualTo(QUIZ);
+    }
+
+    @Test
+    @DisplayName("방 토픽으로 jobId 를 받은 다른 참가자나 비로그인 사용자에게는 퀴즈를 뺀 상태만 돌려준다")
+    void status_withoutQuizForOthers() {
+        when(roomService.isOwner(ROOM_ID, 99L)).thenReturn(false);
+
+        QuizGenerationJobResponse participant = jobService.status("job-1", 99L);
+        QuizGenerationJobResponse anonymous = jobService.status("job-1", null);
+
+        assertThat(participant.quiz()).isNull();
+        assertThat(participant.quizId()).isEqualTo(QUIZ.quizId());
+        assertThat(participant.status()).isEqualTo(QuizGenerationJobStatus.SUCCEEDED);
+        assertThat(anonymous.quiz()).isNull();
+    }
+
+    @Test
+    @DisplayName("방이 없는 작업은 jobId 를 요청자만 알고 있으므로 퀴즈를 그대로 돌려준다")
+    void status_jobWithoutRoom() {
+        state.remove("roomId");
+        state.remove("requesterId");
+
+        assertThat(jobService.status("job-1", null).quiz()).isEqualTo(QUIZ);
+        verifyNoInteractions(roomService);
+    }
+}
@@ -0,0 +1,209 @@
+package com.ll.quizzle.domain.quiz.job;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StreamOperations;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.http.HttpStatus;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ll.quizzle.domain.quiz.dto.request.QuizGenerationRequest;
+import com.ll.quizzle.domain.quiz.dto.response.QuizGenerationJobResponse;
+import com.ll.quizzle.domain.quiz.dto.response.QuizResponse;
+import com.ll.quizzle.domain.quiz.service.QuizGenerationService;
+import com.ll.quizzle.domain.room.type.AnswerType;
+import com.ll.quizzle.domain.room.type.Difficulty;
+import com.ll.quizzle.domain.room.type.MainCategory;
+import com.ll.quizzle.domain.room.type.SubCategory;
+import com.ll.quizzle.global.exceptions.ServiceException;
+import com.ll.quizzle.global.socket.core.MessageService;
+import com.ll.quizzle.global.socket.core.MessageServiceFactory;
+import com.ll.quizzle.global.socket.dto.response.WebSocketRoomMessageResponse;
+import com.ll.quizzle.global.socket.type.RoomMessageType;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@MockitoSettings(strictness = Strictness.LENIENT)
+@ExtendWith(MockitoExtension.class)
+class QuizGenerationJobWorkerTest {
+
+    private static final int MAX_ATTEMPTS = 3;
+    private static final RecordId RECORD_ID = RecordId.of("1-0");
+    private static final QuizGenerationRequest REQUEST = new QuizGenerationRequest(
+            MainCategory.SCIENCE, SubCategory.PHYSICS, AnswerType.MULTIPLE_CHOICE, 2, Difficulty.EASY);
+    private static final QuizResponse QUIZ = new QuizResponse("quiz-1",
+            Map.of(1, "문제1", 2, "문제2"), Map.of(1, "a", 2, "b"));
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Mock
+    private StreamOperations<String, Object, Object> streamOperations;
+
+    @Mock
+    private ZSetOperations<String, String> zSetOperations;
+
+    @Mock
+    private QuizGenerationService quizGenerationService;
+
+    @Mock
+    private QuizGenerationJobService quizGenerationJobService;
+
+    @Mock
+    private MessageServiceFactory messageServiceFactory;
+
+    @Mock
+    private MessageService roomMessageService;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private QuizGenerationJobWorker worker;
+
+    @BeforeEach
+    void setUp() {
+        doReturn(streamOperations).when(redisTemplate).opsForStream();
+        when(redisTemplate.opsForZSet()).thenReturn(zSetOperations);
+        when(messageServiceFactory.getRoomService()).thenReturn(roomMessageService);
+        when(quizGenerationJobService.find(anyString())).thenAnswer(invocation -> new QuizGenerationJobResponse(
+                invocation.getArgument(0), QuizGenerationJobStatus.SUCCEEDED, 7L, 1, QUIZ.quizId(), QUIZ, null, 0L, 0L));
+
+        worker = new QuizGenerationJobWorker(redisTemplate, quizGenerationService, quizGenerationJobService,
+                messageServiceFactory, new SimpleMeterRegistry(),
+                false, 4, MAX_ATTEMPTS, 1000, 30000, 300, 2000, 10000);
+    }
+
+    @Test
+    @DisplayName("생성에 성공하면 결과를 기록하고 방 토픽에는 정답 없이, 요청자에게는 퀴즈와 함께 알린 뒤 항목을 확인한다")
+    void process_success() throws Exception {
+        when(quizGenerationService.generate(eq(REQUEST), any(), any())).thenReturn(CompletableFuture.completedFuture(QUIZ));
+
+        worker.process(record(job(1)));
+
+        verify(quizGenerationJobService).markRunning(job(1));
+        verify(quizGenerationJobService).markSucceeded(job(1), QUIZ);
+        verify(streamOperations).acknowledge(QuizGenerationJobService.STREAM_KEY, QuizGenerationJobWorker.GROUP, RECORD_ID);
+        verify(streamOperations).delete(QuizGenerationJobService.STREAM_KEY, RECORD_ID);
+
+        ArgumentCaptor<Object> roomMessage = ArgumentCaptor.forClass(Object.class);
+        verify(roomMessageService).send(eq("/topic/room/7"), roomMessage.capture());
+        WebSocketRoomMessageResponse pushed = (WebSocketRoomMessageResponse)roomMessage.getValue();
+        assertThat(pushed.type()).isEqualTo(RoomMessageType.QUIZ_JOB_COMPLETED);
+        assertThat(pushed.data()).contains("quiz-1").doesNotContain("answerKey");
+
+        ArgumentCaptor<Object> userMessage = ArgumentCaptor.forClass(Object.class);
+        verify(roomMessageService).sendToUser(eq("user@test.com"), userMessage.capture());
+        assertThat(((QuizGenerationJobResponse)userMessage.getValue()).quiz()).isEqualTo(QUIZ);
+    }
+
+    @Test
+    @DisplayName("시도가 남은 작업이 실패하면 다음 시도를 재시도 대기열에 백오프 시각으로 넣는다")
+    void process_failureSchedulesRetry() throws Exception {
+        when(quizGenerationService.generate(eq(REQUEST), any(), any())).thenReturn(CompletableFuture.failedFuture(
+                new ServiceException(HttpStatus.SERVICE_UNAVAILABLE, "과부하")));
+        long before = System.currentTimeMillis();
+
+        worker.process(record(job(1)));
+
+        ArgumentCaptor<String> member = ArgumentCaptor.forClass(String.class);
+        ArgumentCaptor<Double> dueAt = ArgumentCaptor.forClass(Double.class);
+        verify(zSetOperations).add(eq(QuizGenerationJobWorker.RETRY_KEY), member.capture(), dueAt.capture());
+        QuizGenerationJob retry = QuizGenerationJob.from(objectMapper.readValue(member.getValue(), Map.class), objectMapper);
+        assertThat(retry.attempt()).isEqualTo(2);
+        assertThat(retry.jobId()).isEqualTo("job-1");
+        assertThat(dueAt.getValue()).isBetween((double)before + 500, (double)System.currentTimeMillis() + 1000);
+
+        verify(quizGenerationJobService).markRetryScheduled(job(1), "과부하");
+        verify(quizGenerationJobService, never()).markFailed(any(), any());
+        verify(streamOperations).acknowledge(QuizGenerationJobService.STREAM_KEY, QuizGenerationJobWorker.GROUP, RECORD_ID);
+        verify(roomMessageService, never()).send(anyString(), any());
+    }
+
+    @Test
+    @DisplayName("마지막 시도까지 실패하면 데드 레터 스트림으로 옮기고 실패를 알린다")
+    void process_failureAfterMaxAttemptsDeadLetters() throws Exception {
+        when(quizGenerationService.generate(eq(REQUEST), any(), any()))
+                .thenReturn(CompletableFuture.failedFuture(new IllegalStateException("응답 없음")));
+
+        worker.process(record(job(MAX_ATTEMPTS)));
+
+        ArgumentCaptor<Map<String, String>> fields = ArgumentCaptor.forClass(Map.class);
+        verify(streamOperations).add(eq(QuizGenerationJobWorker.DEAD_LETTER_KEY), fields.capture());
+        assertThat(fields.getValue()).containsEntry("jobId", "job-1").containsEntry("error", "응답 없음");
+        verify(zSetOperations, never()).add(anyString(), anyString(), anyDouble());
+        verify(quizGenerationJobService).markFailed(job(MAX_ATTEMPTS), "응답 없음");
+
+        ArgumentCaptor<Object> roomMessage = ArgumentCaptor.forClass(Object.class);
+        verify(roomMessageService).send(eq("/topic/room/7"), roomMessage.capture());
+        assertThat(((WebSocketRoomMessageResponse)roomMessage.getValue()).type()).isEqualTo(RoomMessageType.QUIZ_JOB_FAILED);
+    }
+
+    @Test
+    @DisplayName("이미 끝난 작업이 다시 전달되면 실행하지 않고 확인만 한다")
+    void process_finishedJobIsSkipped() throws Exception {
+        when(quizGenerationJobService.currentStatus("job-1")).thenReturn(QuizGenerationJobStatus.SUCCEEDED);
+
+        worker.process(record(job(2)));
+
+        verify(quizGenerationService, never()).generate(any());
+        verify(streamOperations).acknowledge(QuizGenerationJobService.STREAM_KEY, QuizGenerationJobWorker.GROUP, RECORD_ID);
+    }
+
+    @Test
+    @DisplayName("결과 기록에 실패하면 확인하지 않아 다른 워커가 회수할 수 있다")
+    void process_unrecordedResultIsNotAcknowledged() throws Exception {
+        when(quizGenerationService.generate(eq(REQUEST), any(), any())).thenReturn(CompletableFuture.completedFuture(QUIZ));
+        doThrow(new IllegalStateException("redis down")).when(quizGenerationJobService).markSucceeded(any(), any());
+
+        worker.process(record(job(1)));
+
+        verify(streamOperations, never()).acknowledge(anyString(), anyString(), any(RecordId[].class));
+    }
+
+    @Test
+    @DisplayName("백오프는 시도마다 두 배로 늘고 상한을 넘지 않으며 절반 이상에서 지터를 준다")
+    void backoffMillis() {
+        for (int i = 0; i < 100; i++) {
+            assertThat(worker.backoffMillis(1)).isBetween(500L, 1000L);
+            assertThat(worker.backoffMillis(3)).isBetween(2000L, 4000L);
+            assertThat(worker.backoffMillis(20)).isBetween(15000L, 30000L);
+        }
+    }
+
+    @Test
+    @DisplayName("작업은 스트림 필드로 바꿨다가 그대로 되살릴 수 있다")
+    void jobFieldsRoundTrip() throws Exception {
+        QuizGenerationJob anonymous = new QuizGenerationJob("job-2", REQUEST, null, null, null, 2, 123L);
+
+        Map<String, String> fields = anonymous.toFields(objectMapper);
+
+        assertThat(fields).doesNotContainKeys("roomId", "requester", "requesterId");
+        assertThat(QuizGenerationJob.from(fields, objectMapper)).isEqualTo(anonymous);
+        assertThat(QuizGenerationJob.from(job(1).toFields(objectMapper), objectMapper)).isEqualTo(job(1));
+    }
+
+    private static QuizGenerationJob job(int attempt) {
+        return new QuizGenerationJob("job-1", REQUEST, 7L, "user@test.com", 42L, attempt, 100L);
+    }
+
+    private MapRecord<String, Object, Object> record(QuizGenerationJob job) throws Exception {
+        return MapRecord.<String, Object, Object>create(QuizGenerationJobService.STREAM_KEY,
+                new HashMap<>(job.toFields(objectMapper))).withId(RECORD_ID);
+    }
+}
@@ -0,0 +1,78 @@
+package com.ll.quizzle.domain.quiz.parser;
+
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ll.quizzle.domain.quiz.dto.response.QuizGenerationResponse;
+
+/**
+ * JSON 트리와 정규식으로 파싱하던 이전 QuizResponseParser 입니다.
+ * 새 파서와 결과가 같은지 비교하고, 벤치마크의 기준선으로 사용하기 위해 테스트에만 남겨 둡니다.
+ */
+class LegacyQuizResponseParser {
+
+    private static final Pattern QUESTION_PATTERN =
+            Pattern.compile("^(?:Question\\s+|문제\\s*)?(\\d+)\\.");
+    private static final Pattern ANSWER_PATTERN =
+            Pattern.compile("(?i)(?:정답|answer)[:：]\\s*([A-DOX])");
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    QuizGenerationResponse parse(String responseBody) throws IOException {
+        JsonNode root = objectMapper.readTree(responseBody);
+        String content = root.path("choices")
+                .get(0)
+                .path("message")
+                .path("content")
+                .asText();
+        return parseContent(content);
+    }
+
+    QuizGenerationResponse parseContent(String content) {
+        Map<Integer, String> questionMap = new LinkedHashMap<>();
+        Map<Integer, String> answerMap = new LinkedHashMap<>();
+        int currentQuestion = 0;
+        StringBuilder currentQuestionText = new StringBuilder();
+
+        for (String line : content.split("\\r?\\n")) {
+            String trimmedLine = line.trim();
+            if (trimmedLine.isEmpty()) {
+                continue;
+            }
+
+            if (QUESTION_PATTERN.matcher(trimmedLine).find()) {
+                if (currentQuestion != 0) {
+                    questionMap.put(currentQuestion, currentQuestionText.toString().trim());
+                }
+                Matcher qm = QUESTION_PATTERN.matcher(trimmedLine);
+                qm.find();
+                currentQuestion = Integer.parseInt(qm.group(1));
+                currentQuestionText = new StringBuilder();
+                String questionText = trimmedLine.replaceFirst("^\\d+\\.\\s*", "");
+                currentQuestionText.append(questionText).append("\n");
+                continue;
+            }
+
+            Matcher am = ANSWER_PATTERN.matcher(trimmedLine);
+            if (am.find() && currentQuestion > 0) {
+                answerMap.put(currentQuestion, am.group(1).toLowerCase());
+                continue;
+            }
+
+            if (currentQuestion != 0) {
+                currentQuestionText.append(line).append("\n");
+            }
+        }
+
+        if (currentQuestion != 0) {
+            questionMap.put(currentQuestion, currentQuestionText.toString().trim());
+        }
+
+        return new QuizGenerationResponse(questionMap, answerMap);
+    }
+}
@@ -0,0 +1,94 @@
+package com.ll.quizzle.domain.quiz.parser;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.sun.management.ThreadMXBean;
+
+/**
+ * 기록된 응답(정상/손상)을 이전 파서(JSON 트리 + 정규식)와 새 파서로 반복 파싱하여 처리량과 호출당 할당량을 비교합니다.
+ * 할당량은 측정 스레드의 누적 할당 바이트(ThreadMXBean)로 계산하며, 예외로 끝나는 손상 응답도 포함합니다.
+ * QUIZZLE_BENCHMARK=true 환경 변수가 있을 때만 실행됩니다.
+ */
+@EnabledIfEnvironmentVariable(named = "QUIZZLE_BENCHMARK", matches = "true")
+class QuizResponseParserBenchmarkTest {
+
+    private static final Logger log = LoggerFactory.getLogger(QuizResponseParserBenchmarkTest.class);
+
+    private static final List<String> RESPONSES = List.of(
+            "multiple-choice-10", "ox-5", "prefixed-crlf",
+            "malformed-content", "malformed-null-content", "malformed-truncated", "malformed-no-choices");
+    private static final int WARMUP_ROUNDS = 20_000;
+    private static final int MEASURE_ROUNDS = 100_000;
+
+    private final ThreadMXBean threadMXBean = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    @Test
+    @DisplayName("응답 파싱 처리량과 할당량 비교")
+    void compareParsers() throws IOException {
+        QuizResponseParser parser = new QuizResponseParser();
+        LegacyQuizResponseParser legacyParser = new LegacyQuizResponseParser();
+
+        List<Result> results = new ArrayList<>();
+        for (String name : RESPONSES) {
+            String body = QuizResponseParserTest.load(name);
+            Result legacy = measure("legacy", name, () -> legacyParser.parse(body));
+            Result current = measure("current", name, () -> parser.parse(body));
+            results.add(legacy);
+            results.add(current);
+        }
+
+        for (Result result : results) {
+            log.info("{} {} - {} ops/s, {} B/op", String.format("%-7s", result.parser()),
+                    String.format("%-22s", result.response()), result.opsPerSecond(), result.bytesPerOp());
+        }
+
+        long legacyBytes = results.stream().filter(r -> r.parser().equals("legacy")).mapToLong(Result::bytesPerOp).sum();
+        long currentBytes = results.stream().filter(r -> r.parser().equals("current")).mapToLong(Result::bytesPerOp).sum();
+        log.info("전체 응답 기준 호출당 할당량: legacy={}B, current={}B", legacyBytes, currentBytes);
+        assertThat(currentBytes).isLessThan(legacyBytes);
+    }
+
+    private Result measure(String parser, String response, ThrowingRunnable task) {
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            runQuietly(task);
+        }
+
+        long allocatedBefore = threadMXBean.getCurrentThreadAllocatedBytes();
+        long start = System.nanoTime();
+        for (int i = 0; i < MEASURE_ROUNDS; i++) {
+            runQuietly(task);
+        }
+        long elapsed = System.nanoTime() - start;
+        long allocated = threadMXBean.getCurrentThreadAllocatedBytes() - allocatedBefore;
+
+        return new Result(parser, response, MEASURE_ROUNDS * 1_000_000_000L / Math.max(1, elapsed),
+                allocated / MEASURE_ROUNDS);
+    }
+
+    private static void runQuietly(ThrowingRunnable task) {
+        try {
+            task.run();
+        } catch (Exception ignored) {
+            // 손상된 응답은 예외로 끝나는 경로까지 측정합니다.
+        }
+    }
+
+    @FunctionalInterface
+    private interface ThrowingRunnable {
+        void run() throws Exception;
+    }
+
+    private record Result(String parser, String response, long opsPerSecond, long bytesPerOp) {
+    }
+}
@@ -0,0 +1,102 @@
+package com.ll.quizzle.domain.quiz.parser;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.core.io.ClassPathResource;
+
+import com.ll.quizzle.domain.quiz.dto.response.QuizGenerationResponse;
+import com.ll.quizzle.global.exceptions.ServiceException;
+
+class QuizResponseParserTest {
+
+    private final QuizResponseParser parser = new QuizResponseParser();
+    private final LegacyQuizResponseParser legacyParser = new LegacyQuizResponseParser();
+
+    static String load(String name) throws IOException {
+        return new ClassPathResource("openai/" + name + ".json").getContentAsString(StandardCharsets.UTF_8);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"multiple-choice-10", "ox-5", "prefixed-crlf", "malformed-content", "malformed-null-content"})
+    @DisplayName("기록된 응답에 대해 이전 파서(JSON 트리 + 정규식)와 결과가 같다")
+    void matchesLegacyParser(String name) throws IOException {
+        String body = load(name);
+
+        QuizGenerationResponse expected = legacyParser.parse(body);
+        QuizGenerationResponse actual = parser.parse(body);
+
+        assertThat(actual.quizText()).containsExactlyEntriesOf(expected.quizText());
+        assertThat(actual.answerMap()).containsExactlyEntriesOf(expected.answerMap());
+    }
+
+    @Test
+    @DisplayName("접두어, 영어 정답 표기, 전각 콜론, CRLF 줄바꿈을 처리한다")
+    void parsesFormattingVariants() throws IOException {
+        QuizGenerationResponse response = parser.parse(load("prefixed-crlf"));
+
+        // 콜론 앞에 공백이 있는 "ANSWER :b", "정답 : b" 는 정답 줄로 보지 않아 4번은 정답이 없습니다.
+        assertThat(response.answerMap()).containsExactly(entry(1, "b"), entry(2, "a"), entry(3, "a"), entry(5, "a"));
+        // "Question N." 과 "문제 N." 접두어는 이전 파서와 같이 본문에 남습니다.
+        assertThat(response.quizText().get(1)).startsWith("Question 1. 태양계에서 가장 큰 행성은?\n  a) 지구");
+        assertThat(response.quizText().get(4)).isEqualTo("바다에서 가장 큰 동물은?\na) 상어\nb) 흰긴수염고래\nc) 문어\nd) 범고래\n"
+                + "ANSWER :b\n정답 : b\n(설명) 흰긴수염고래는 지구에서 가장 큰 동물입니다.");
+        assertThat(response.quizText().values()).noneMatch(text -> text.contains("\r"));
+    }
+
+    @Test
+    @DisplayName("정답이 없거나 번호가 중복된 본문도 이전 파서와 같이 처리한다")
+    void parsesMalformedContent() throws IOException {
+        QuizGenerationResponse response = parser.parse(load("malformed-content"));
+
+        assertThat(response.quizText()).containsOnlyKeys(1, 2, 3);
+        assertThat(response.answerMap()).containsExactly(entry(2, "a"));
+        assertThat(response.quizText().get(2)).isEqualTo("다시 나온 2번 문제");
+    }
+
+    @Test
+    @DisplayName("content 가 null 이면 빈 결과를 돌려준다")
+    void nullContent() throws IOException {
+        QuizGenerationResponse response = parser.parse(load("malformed-null-content"));
+
+        assertThat(response.quizText()).isEmpty();
+        assertThat(response.answerMap()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("parseCompletion 은 parse 와 같은 결과에 최상위 usage.total_tokens 를 더해 돌려준다")
+    void parsesTotalTokens() throws IOException {
+        String body = load("multiple-choice-10");
+
+        QuizResponseParser.Completion completion = parser.parseCompletion(body);
+
+        assertThat(completion.quiz()).isEqualTo(parser.parse(body));
+        assertThat(completion.totalTokens()).isEqualTo(873);
+        assertThat(parser.parseCompletion(load("malformed-null-content")).totalTokens()).isZero();
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"malformed-truncated", "malformed-no-choices"})
+    @DisplayName("잘린 JSON 이나 choices 가 없는 응답은 ServiceException 으로 실패한다")
+    void rejectsBrokenBody(String name) throws IOException {
+        String body = load(name);
+
+        assertThatThrownBy(() -> parser.parse(body)).isInstanceOf(ServiceException.class);
+    }
+
+    @Test
+    @DisplayName("int 범위를 넘는 문제 번호는 이전 파서와 같이 NumberFormatException 을 던진다")
+    void overflowingQuestionNumber() {
+        assertThatThrownBy(() -> parser.parseContent("12345678901. 문제\n정답: a"))
+                .isInstanceOf(NumberFormatException.class);
+        assertThat(parser.parseContent("0000000001. 문제\n정답: a").answerMap()).isEqualTo(Map.of(1, "a"));
+        assertThat(parser.parseContent("12345678901 문제\n정답: a").answerMap()).isEmpty();
+    }
+}
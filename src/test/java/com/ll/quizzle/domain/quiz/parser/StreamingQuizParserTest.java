@@ -0,0 +1,76 @@
+package com.ll.quizzle.domain.quiz.parser;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.ll.quizzle.domain.quiz.dto.response.QuizGenerationResponse;
+import com.ll.quizzle.domain.quiz.parser.StreamingQuizParser.ParsedQuestion;
+
+class StreamingQuizParserTest {
+
+    private static final String CONTENT = """
+            1. 대한민국의 수도는?
+            a) 서울
+            b) 부산
+            c) 대구
+            d) 광주
+            정답: a
+
+            2. 태양계에서 가장 큰 행성은?
+            a) 지구
+            b) 목성
+            c) 화성
+            d) 금성
+            정답: B
+            """;
+
+    @Test
+    @DisplayName("정답 줄이 도착하는 순간 문제가 완성되어 전달된다")
+    void emitsQuestionOnAnswerLine() {
+        List<ParsedQuestion> emitted = new ArrayList<>();
+        StreamingQuizParser parser = new StreamingQuizParser(emitted::add);
+
+        parser.feed("1. 대한민국의 수도는?\na) 서울\nb) 부산\nc) 대구\nd) 광주\n정답: a");
+        // 줄바꿈이 오기 전까지는 정답 줄이 끝난 것으로 보지 않습니다.
+        assertThat(emitted).isEmpty();
+
+        parser.feed("\n\n2. 태양계에서");
+        assertThat(emitted).containsExactly(
+                new ParsedQuestion(1, "대한민국의 수도는?\na) 서울\nb) 부산\nc) 대구\nd) 광주", "a"));
+    }
+
+    @Test
+    @DisplayName("한 글자씩 잘려 도착해도 전체 응답을 한 번에 파싱한 결과와 같다")
+    void matchesBatchParserRegardlessOfChunking() {
+        List<ParsedQuestion> emitted = new ArrayList<>();
+        StreamingQuizParser parser = new StreamingQuizParser(emitted::add);
+
+        for (int i = 0; i < CONTENT.length(); i++) {
+            parser.feed(CONTENT.substring(i, i + 1));
+        }
+        QuizGenerationResponse response = parser.finish();
+
+        assertThat(emitted).extracting(ParsedQuestion::number).containsExactly(1, 2);
+        assertThat(response.answerMap()).containsExactly(entry(1, "a"), entry(2, "b"));
+        assertThat(response.quizText().get(2)).isEqualTo("태양계에서 가장 큰 행성은?\na) 지구\nb) 목성\nc) 화성\nd) 금성");
+    }
+
+    @Test
+    @DisplayName("스트림이 끝날 때 줄바꿈 없이 남은 정답 줄도 처리하고, 정답이 없는 문제는 제외한다")
+    void finishFlushesLastLine() {
+        List<ParsedQuestion> emitted = new ArrayList<>();
+        StreamingQuizParser parser = new StreamingQuizParser(emitted::add);
+
+        parser.feed("1. 물은 100도에서 끓는다\n정답: O\n2. 미완성 문제\n");
+        parser.feed("O 또는 X");
+        QuizGenerationResponse response = parser.finish();
+
+        assertThat(emitted).containsExactly(new ParsedQuestion(1, "물은 100도에서 끓는다", "o"));
+        assertThat(response.answerMap()).containsOnlyKeys(1);
+    }
+}
@@ -0,0 +1,206 @@
+package com.ll.quizzle.domain.room.lobby;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ll.quizzle.domain.room.dto.response.LobbySnapshotResponse;
+import com.ll.quizzle.domain.room.dto.response.RoomSummaryResponse;
+import com.ll.quizzle.domain.room.repository.RoomRepository;
+import com.ll.quizzle.domain.room.type.AnswerType;
+import com.ll.quizzle.domain.room.type.Difficulty;
+import com.ll.quizzle.domain.room.type.MainCategory;
+import com.ll.quizzle.domain.room.type.RoomStatus;
+import com.ll.quizzle.domain.room.type.SubCategory;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@MockitoSettings(strictness = Strictness.LENIENT)
+@ExtendWith(MockitoExtension.class)
+class LobbyRoomViewTest {
+
+    @Mock
+    private RoomRepository roomRepository;
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    @Mock
+    private RedisMessageListenerContainer listenerContainer;
+
+    @Mock
+    private SimpMessagingTemplate messagingTemplate;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private LobbyRoomView view;
+
+    @BeforeEach
+    void setUp() {
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        view = new LobbyRoomView(roomRepository, redisTemplate, listenerContainer, messagingTemplate, objectMapper,
+                meterRegistry, 0, 60_000, 16);
+    }
+
+    @AfterEach
+    void tearDown() {
+        view.shutdown();
+    }
+
+    @Test
+    @DisplayName("처음 조회하면 Redis 버전을 읽은 뒤 DB 를 페이지 단위로 끝까지 읽어 스냅샷을 만든다")
+    void snapshotLoadsAllPages() {
+        when(valueOperations.get(LobbyRoomView.VERSION_KEY)).thenReturn("7");
+        List<RoomSummaryResponse> firstPage = new ArrayList<>();
+        for (long id = 60; id >= 10; id--) {
+            firstPage.add(room(id, 1));
+        }
+        when(roomRepository.findLobbyPage(argThat(query -> query != null && query.cursor() == null)))
+                .thenReturn(firstPage);
+        when(roomRepository.findLobbyPage(argThat(query -> query != null && Long.valueOf(11).equals(query.cursor()))))
+                .thenReturn(List.of(room(10, 1), room(3, 2)));
+
+        LobbySnapshotResponse snapshot = view.snapshot();
+
+        assertThat(snapshot.version()).isEqualTo(7);
+        assertThat(snapshot.rooms()).hasSize(52);
+        assertThat(snapshot.rooms().getFirst().id()).isEqualTo(60);
+        assertThat(snapshot.rooms().getLast().id()).isEqualTo(3);
+        assertThat(view.snapshot()).isSameAs(snapshot);
+    }
+
+    @Test
+    @DisplayName("다음 버전의 변경을 적용하고 그대로 /topic/lobby 로 전달하며, 이미 적용한 버전은 무시한다")
+    void appliesInOrderAndRelays() throws Exception {
+        ready(2, room(1, 1));
+
+        String upsert = upsert(3, room(2, 1));
+        String remove = remove(4, 1);
+        receive(upsert);
+        receive(remove);
+        receive(upsert);
+
+        LobbySnapshotResponse snapshot = view.snapshot();
+        assertThat(snapshot.version()).isEqualTo(4);
+        assertThat(snapshot.rooms()).extracting(RoomSummaryResponse::id).containsExactly(2L);
+        verify(messagingTemplate).convertAndSend(LobbyRoomView.LOBBY_TOPIC, upsert);
+        verify(messagingTemplate).convertAndSend(LobbyRoomView.LOBBY_TOPIC, remove);
+        verify(messagingTemplate, times(2)).convertAndSend(eq(LobbyRoomView.LOBBY_TOPIC), anyString());
+    }
+
+    @Test
+    @DisplayName("순서가 바뀌어 도착한 변경은 빠진 버전이 올 때까지 보관했다가 순서대로 적용한다")
+    void buffersOutOfOrder() throws Exception {
+        ready(0);
+
+        String second = upsert(2, room(1, 2));
+        String first = upsert(1, room(1, 1));
+        receive(second);
+
+        assertThat(view.snapshot().version()).isZero();
+        verify(messagingTemplate, never()).convertAndSend(anyString(), anyString());
+
+        receive(first);
+
+        assertThat(view.snapshot().version()).isEqualTo(2);
+        assertThat(view.snapshot().rooms().getFirst().currentPlayers()).isEqualTo(2);
+        var inOrder = inOrder(messagingTemplate);
+        inOrder.verify(messagingTemplate).convertAndSend(LobbyRoomView.LOBBY_TOPIC, first);
+        inOrder.verify(messagingTemplate).convertAndSend(LobbyRoomView.LOBBY_TOPIC, second);
+    }
+
+    @Test
+    @DisplayName("재구성할 때 읽은 버전 이후에 적용한 변경은 DB 결과 위에 다시 덮어씌운다")
+    void resyncReplaysNewerDeltas() throws Exception {
+        ready(0, room(1, 1));
+        receive(upsert(1, room(1, 2)));
+        receive(upsert(2, room(2, 1)));
+
+        // Redis 버전은 1 이지만 DB 에는 아직 2번 방이 보이지 않는 경우
+        when(valueOperations.get(LobbyRoomView.VERSION_KEY)).thenReturn("1");
+        when(roomRepository.findLobbyPage(any())).thenReturn(List.of(room(1, 2)));
+        view.resync(meterRegistry.counter("test"));
+
+        LobbySnapshotResponse snapshot = view.snapshot();
+        assertThat(snapshot.version()).isEqualTo(2);
+        assertThat(snapshot.rooms()).extracting(RoomSummaryResponse::id).containsExactly(2L, 1L);
+    }
+
+    @Test
+    @DisplayName("재구성 전에 도착한 변경 중 읽은 버전 이하는 버리고 나머지만 적용한다")
+    void pendingBeforeReadyIsTrimmed() throws Exception {
+        receive(upsert(1, room(1, 1)));
+        receive(upsert(2, room(1, 2)));
+        receive(upsert(3, room(2, 1)));
+
+        when(valueOperations.get(LobbyRoomView.VERSION_KEY)).thenReturn("2");
+        when(roomRepository.findLobbyPage(any())).thenReturn(List.of(room(1, 2)));
+
+        LobbySnapshotResponse snapshot = view.snapshot();
+        assertThat(snapshot.version()).isEqualTo(3);
+        assertThat(snapshot.rooms()).extracting(RoomSummaryResponse::id).containsExactly(2L, 1L);
+        verify(messagingTemplate, times(1)).convertAndSend(eq(LobbyRoomView.LOBBY_TOPIC), anyString());
+    }
+
+    @Test
+    @DisplayName("변경은 버전 없이 스크립트로 넘기고, 버전은 스크립트가 붙인다")
+    @SuppressWarnings("unchecked")
+    void publishesWithoutVersion() {
+        view.remove(7L);
+
+        ArgumentCaptor<String> payload = ArgumentCaptor.forClass(String.class);
+        verify(redisTemplate).execute(any(RedisScript.class), eq(List.of(LobbyRoomView.VERSION_KEY)),
+                eq(LobbyRoomView.CHANGES_CHANNEL), payload.capture());
+        assertThat(payload.getValue()).isEqualTo("{\"type\":\"REMOVE\",\"roomId\":7}");
+    }
+
+    private void ready(long version, RoomSummaryResponse... rooms) {
+        when(valueOperations.get(LobbyRoomView.VERSION_KEY)).thenReturn(String.valueOf(version));
+        when(roomRepository.findLobbyPage(any())).thenReturn(List.of(rooms));
+        view.snapshot();
+    }
+
+    private void receive(String raw) {
+        view.onMessage(new DefaultMessage(LobbyRoomView.CHANGES_CHANNEL.getBytes(StandardCharsets.UTF_8),
+                raw.getBytes(StandardCharsets.UTF_8)), null);
+    }
+
+    private String upsert(long version, RoomSummaryResponse room) throws Exception {
+        return "{\"version\":" + version + ",\"type\":\"UPSERT\",\"roomId\":" + room.id()
+                + ",\"room\":" + objectMapper.writeValueAsString(room) + "}";
+    }
+
+    private static String remove(long version, long roomId) {
+        return "{\"version\":" + version + ",\"type\":\"REMOVE\",\"roomId\":" + roomId + "}";
+    }
+
+    private static RoomSummaryResponse room(long id, int currentPlayers) {
+        return new RoomSummaryResponse(id, "방 " + id, 1L, "방장", 4, currentPlayers, RoomStatus.WAITING,
+                Difficulty.EASY, MainCategory.SCIENCE, SubCategory.PHYSICS, AnswerType.MULTIPLE_CHOICE, 10, false);
+    }
+}
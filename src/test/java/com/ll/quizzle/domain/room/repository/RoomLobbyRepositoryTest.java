@@ -0,0 +1,148 @@
+package com.ll.quizzle.domain.room.repository;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.ll.quizzle.domain.member.entity.Member;
+import com.ll.quizzle.domain.room.dto.request.RoomLobbyQuery;
+import com.ll.quizzle.domain.room.dto.response.RoomLobbyPageResponse;
+import com.ll.quizzle.domain.room.dto.response.RoomSummaryResponse;
+import com.ll.quizzle.domain.room.entity.Room;
+import com.ll.quizzle.domain.room.type.AnswerType;
+import com.ll.quizzle.domain.room.type.Difficulty;
+import com.ll.quizzle.domain.room.type.MainCategory;
+import com.ll.quizzle.domain.room.type.RoomStatus;
+import com.ll.quizzle.domain.room.type.SubCategory;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class RoomLobbyRepositoryTest {
+
+    @Autowired
+    private RoomRepository roomRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private Member owner;
+    private Member guest;
+
+    @BeforeEach
+    void setUp() {
+        owner = entityManager.persist(Member.create("방장", "owner@quizzle.com", null));
+        guest = entityManager.persist(Member.create("손님", "guest@quizzle.com", null));
+    }
+
+    @Test
+    @DisplayName("최근 방부터 size 개씩 내려주고, nextCursor 로 다음 페이지를 이어서 읽는다")
+    void pagesWithCursor() {
+        List<Long> ids = List.of(
+                room(SubCategory.PHYSICS, Difficulty.EASY, 4, null).getId(),
+                room(SubCategory.PHYSICS, Difficulty.EASY, 4, null).getId(),
+                room(SubCategory.PHYSICS, Difficulty.EASY, 4, null).getId(),
+                room(SubCategory.PHYSICS, Difficulty.EASY, 4, null).getId(),
+                room(SubCategory.PHYSICS, Difficulty.EASY, 4, null).getId());
+        flush();
+
+        RoomLobbyPageResponse first = page(query(null, null, null, null, null, null), 2);
+        RoomLobbyPageResponse second = page(query(null, null, null, null, null, first.nextCursor()), 2);
+        RoomLobbyPageResponse last = page(query(null, null, null, null, null, second.nextCursor()), 2);
+
+        assertThat(first.rooms()).extracting(RoomSummaryResponse::id).containsExactly(ids.get(4), ids.get(3));
+        assertThat(first.hasNext()).isTrue();
+        assertThat(second.rooms()).extracting(RoomSummaryResponse::id).containsExactly(ids.get(2), ids.get(1));
+        assertThat(last.rooms()).extracting(RoomSummaryResponse::id).containsExactly(ids.get(0));
+        assertThat(last.hasNext()).isFalse();
+        assertThat(last.nextCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("현재 인원 수와 방장 정보를 엔티티 없이 한 번에 읽는다")
+    void projectsPlayerCount() {
+        Room room = room(SubCategory.BIOLOGY, Difficulty.HARD, 4, "1234");
+        room.addPlayer(guest.getId());
+        flush();
+
+        RoomSummaryResponse summary = page(query(null, null, null, null, null, null), 10).rooms().getFirst();
+
+        assertThat(summary.id()).isEqualTo(room.getId());
+        assertThat(summary.currentPlayers()).isEqualTo(2);
+        assertThat(summary.ownerId()).isEqualTo(owner.getId());
+        assertThat(summary.ownerNickname()).isEqualTo("방장");
+        assertThat(summary.mainCategory()).isEqualTo(MainCategory.SCIENCE);
+        assertThat(summary.isPrivate()).isTrue();
+        assertThat(summary.status()).isEqualTo(RoomStatus.WAITING);
+    }
+
+    @Test
+    @DisplayName("분류, 난이도, 상태, 빈자리, 공개 여부 조건을 함께 적용한다")
+    void filters() {
+        Room physicsEasy = room(SubCategory.PHYSICS, Difficulty.EASY, 4, null);
+        Room physicsHard = room(SubCategory.PHYSICS, Difficulty.HARD, 4, null);
+        Room historyFull = room(SubCategory.KOREAN_HISTORY, Difficulty.EASY, 1, null);
+        Room historyPrivate = room(SubCategory.KOREAN_HISTORY, Difficulty.EASY, 4, "1234");
+        Room inGame = room(SubCategory.ENGLISH, Difficulty.NORMAL, 4, null);
+        inGame.startGame(owner.getId());
+        flush();
+
+        assertThat(ids(query(SubCategory.PHYSICS, null, null, null, null, null)))
+                .containsExactly(physicsHard.getId(), physicsEasy.getId());
+        assertThat(ids(new RoomLobbyQuery(MainCategory.HISTORY, null, Difficulty.EASY, null, null, null, null, 10)))
+                .containsExactly(historyPrivate.getId(), historyFull.getId());
+        assertThat(ids(query(null, Difficulty.HARD, null, null, null, null))).containsExactly(physicsHard.getId());
+        assertThat(ids(query(null, null, RoomStatus.IN_GAME, null, null, null))).containsExactly(inGame.getId());
+        assertThat(ids(query(SubCategory.KOREAN_HISTORY, null, null, true, null, null)))
+                .containsExactly(historyPrivate.getId());
+        assertThat(ids(query(null, null, null, false, null, null))).containsExactly(historyFull.getId());
+        assertThat(ids(query(SubCategory.KOREAN_HISTORY, null, null, null, true, null)))
+                .containsExactly(historyPrivate.getId());
+        assertThat(ids(query(null, null, null, null, false, null)))
+                .containsExactly(inGame.getId(), historyFull.getId(), physicsHard.getId(), physicsEasy.getId());
+        assertThat(ids(query(null, null, RoomStatus.FINISHED, null, null, null))).isEmpty();
+    }
+
+    private Room room(SubCategory subCategory, Difficulty difficulty, int capacity, String password) {
+        return roomRepository.save(Room.builder()
+                .title(subCategory.getDescription() + " 방")
+                .owner(owner)
+                .capacity(capacity)
+                .mainCategory(subCategory.getMainCategory())
+                .subCategory(subCategory)
+                .answerType(AnswerType.MULTIPLE_CHOICE)
+                .problemCount(10)
+                .difficulty(difficulty)
+                .password(password)
+                .build());
+    }
+
+    private void flush() {
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    private static RoomLobbyQuery query(SubCategory subCategory, Difficulty difficulty, RoomStatus status,
+                                        Boolean hasFreeSlot, Boolean isPrivate, Long cursor) {
+        return new RoomLobbyQuery(null, subCategory, difficulty, status, hasFreeSlot, isPrivate, cursor, 10);
+    }
+
+    private RoomLobbyPageResponse page(RoomLobbyQuery query, int size) {
+        RoomLobbyQuery sized = new RoomLobbyQuery(query.mainCategory(), query.subCategory(), query.difficulty(),
+                query.status(), query.hasFreeSlot(), query.isPrivate(), query.cursor(), size);
+        return RoomLobbyPageResponse.of(roomRepository.findLobbyPage(sized), size);
+    }
+
+    private List<Long> ids(RoomLobbyQuery query) {
+        return page(query, query.size()).rooms().stream().map(RoomSummaryResponse::id).toList();
+    }
+}
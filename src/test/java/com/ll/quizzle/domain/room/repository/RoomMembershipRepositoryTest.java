@@ -0,0 +1,70 @@
+package com.ll.quizzle.domain.room.repository;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.ll.quizzle.domain.member.entity.Member;
+import com.ll.quizzle.domain.room.entity.Room;
+import com.ll.quizzle.domain.room.type.AnswerType;
+import com.ll.quizzle.domain.room.type.Difficulty;
+import com.ll.quizzle.domain.room.type.SubCategory;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class RoomMembershipRepositoryTest {
+
+    @Autowired
+    private RoomRepository roomRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Test
+    @DisplayName("참가자/준비 테이블을 주어진 상태로 교체하고 방 버전은 올리지 않는다")
+    void replacesMembership() {
+        Member owner = entityManager.persist(Member.create("방장", "owner@quizzle.com", null));
+        Member guest = entityManager.persist(Member.create("손님", "guest@quizzle.com", null));
+        Member late = entityManager.persist(Member.create("늦은 손님", "late@quizzle.com", null));
+        Room room = roomRepository.save(Room.builder()
+                .title("물리 방")
+                .owner(owner)
+                .capacity(4)
+                .mainCategory(SubCategory.PHYSICS.getMainCategory())
+                .subCategory(SubCategory.PHYSICS)
+                .answerType(AnswerType.MULTIPLE_CHOICE)
+                .problemCount(10)
+                .difficulty(Difficulty.EASY)
+                .build());
+        room.addPlayer(guest.getId());
+        room.playerReady(guest.getId());
+        entityManager.flush();
+        entityManager.clear();
+        Long version = roomRepository.findById(room.getId()).orElseThrow().getVersion();
+        entityManager.clear();
+
+        boolean replaced = roomRepository.replaceMembership(room.getId(),
+                List.of(owner.getId(), late.getId()), List.of(late.getId()));
+
+        Room reloaded = roomRepository.findById(room.getId()).orElseThrow();
+        assertThat(replaced).isTrue();
+        assertThat(reloaded.getPlayers()).containsExactlyInAnyOrder(owner.getId(), late.getId());
+        assertThat(reloaded.getReadyPlayers()).containsExactly(late.getId());
+        assertThat(reloaded.getVersion()).isEqualTo(version);
+    }
+
+    @Test
+    @DisplayName("없는 방이면 아무것도 쓰지 않고 false 를 돌려준다")
+    void missingRoom() {
+        assertThat(roomRepository.replaceMembership(-1L, List.of(1L), List.of())).isFalse();
+    }
+}
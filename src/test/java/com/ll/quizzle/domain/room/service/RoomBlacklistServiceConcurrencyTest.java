@@ -26,6 +26,7 @@ import com.ll.quizzle.domain.room.entity.Room;
 import com.ll.quizzle.domain.room.entity.RoomBlacklist;
 import com.ll.quizzle.domain.room.repository.RoomBlacklistRepository;
 import com.ll.quizzle.domain.room.repository.RoomRepository;
+import com.ll.quizzle.domain.room.state.RoomStateStore;
 import com.ll.quizzle.domain.room.type.Difficulty;
 import com.ll.quizzle.domain.room.type.MainCategory;
 import com.ll.quizzle.domain.room.type.SubCategory;
@@ -45,6 +46,8 @@ class RoomBlacklistServiceConcurrencyTest {
     private MemberRepository memberRepository;
     @Mock
     private DistributedLockService distributedLockService;
+    @Mock
+    private RoomStateStore roomStateStore;
 
     @InjectMocks
     private RoomBlacklistService blacklistService;
@@ -25,6 +25,7 @@ import com.ll.quizzle.domain.room.entity.Room;
 import com.ll.quizzle.domain.room.entity.RoomBlacklist;
 import com.ll.quizzle.domain.room.repository.RoomBlacklistRepository;
 import com.ll.quizzle.domain.room.repository.RoomRepository;
+import com.ll.quizzle.domain.room.state.RoomStateStore;
 import com.ll.quizzle.domain.room.type.RoomStatus;
 import com.ll.quizzle.global.exceptions.ServiceException;
 
@@ -43,6 +44,9 @@ class RoomBlacklistServiceTest {
 
     @Mock
     private Avatar defaultAvatar;
+
+    @Mock
+    private RoomStateStore roomStateStore;
     
     @InjectMocks
     private RoomBlacklistService blacklistService;
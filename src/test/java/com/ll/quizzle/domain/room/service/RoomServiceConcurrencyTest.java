@@ -31,6 +31,7 @@ import com.ll.quizzle.domain.member.entity.Member;
 import com.ll.quizzle.domain.member.repository.MemberRepository;
 import com.ll.quizzle.domain.room.entity.Room;
 import com.ll.quizzle.domain.room.repository.RoomRepository;
+import com.ll.quizzle.domain.room.state.RoomStateStore;
 import com.ll.quizzle.domain.room.type.AnswerType;
 import com.ll.quizzle.domain.room.type.Difficulty;
 import com.ll.quizzle.domain.room.type.MainCategory;
@@ -57,6 +58,8 @@ class RoomServiceConcurrencyTest {
     private ValueOperations<String, String> valueOperations;
     @Mock
     private Avatar defaultAvatar;
+    @Mock
+    private RoomStateStore roomStateStore;
 
     @InjectMocks
     private RoomService roomService;
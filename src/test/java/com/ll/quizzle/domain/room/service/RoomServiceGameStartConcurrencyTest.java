@@ -27,6 +27,7 @@ import com.ll.quizzle.domain.avatar.entity.Avatar;
 import com.ll.quizzle.domain.member.entity.Member;
 import com.ll.quizzle.domain.room.entity.Room;
 import com.ll.quizzle.domain.room.repository.RoomRepository;
+import com.ll.quizzle.domain.room.state.RoomStateStore;
 import com.ll.quizzle.domain.room.type.AnswerType;
 import com.ll.quizzle.domain.room.type.Difficulty;
 import com.ll.quizzle.domain.room.type.MainCategory;
@@ -49,6 +50,8 @@ class RoomServiceGameStartConcurrencyTest {
     private ValueOperations<String, String> valueOperations;
     @Mock
     private Avatar defaultAvatar;
+    @Mock
+    private RoomStateStore roomStateStore;
 
     @InjectMocks
     private RoomService roomService;
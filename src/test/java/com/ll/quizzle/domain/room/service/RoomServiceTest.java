@@ -15,6 +15,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockedStatic;
@@ -33,7 +34,10 @@ import com.ll.quizzle.domain.room.dto.request.RoomCreateRequest;
 import com.ll.quizzle.domain.room.dto.request.RoomUpdateRequest;
 import com.ll.quizzle.domain.room.dto.response.RoomResponse;
 import com.ll.quizzle.domain.room.entity.Room;
+import com.ll.quizzle.domain.room.lobby.LobbyRoomView;
 import com.ll.quizzle.domain.room.repository.RoomRepository;
+import com.ll.quizzle.domain.room.state.RoomStateStore;
+import com.ll.quizzle.global.socket.service.WebSocketRoomMessageService;
 import com.ll.quizzle.domain.room.type.AnswerType;
 import com.ll.quizzle.domain.room.type.Difficulty;
 import com.ll.quizzle.domain.room.type.MainCategory;
@@ -67,6 +71,15 @@ class RoomServiceTest {
     @Mock
     private Avatar defaultAvatar;
 
+    @Mock
+    private LobbyRoomView lobbyRoomView;
+
+    @Mock
+    private RoomStateStore roomStateStore;
+
+    @Mock
+    private WebSocketRoomMessageService roomMessageService;
+
 
     @InjectMocks
     private RoomService roomService;
@@ -405,6 +418,58 @@ class RoomServiceTest {
         verify(testRoom, never()).startGame(anyLong());
     }
 
+    @Test
+    @DisplayName("방장 확인 테스트 - 방장 아님")
+    void verifyOwnerNotOwnerTest() {
+        // given
+        when(roomRepository.findRoomById(1L)).thenReturn(Optional.of(testRoom));
+
+        // when & then
+        assertThatThrownBy(() -> roomService.verifyOwner(1L, 2L))
+            .isInstanceOf(ServiceException.class);
+        assertThatCode(() -> roomService.verifyOwner(1L, 1L))
+            .doesNotThrowAnyException();
+    }
+
+    @Test
+    @DisplayName("방장 확인 테스트 - 게임 중이면 방장이어도 실패")
+    void verifyOwnerBeforeGameDuringGameTest() {
+        // given
+        when(roomRepository.findRoomById(1L)).thenReturn(Optional.of(testRoom));
+        assertThatCode(() -> roomService.verifyOwnerBeforeGame(1L, 1L))
+            .doesNotThrowAnyException();
+
+        ReflectionTestUtils.setField(testRoom, "status", RoomStatus.IN_GAME);
+
+        // when & then
+        assertThatThrownBy(() -> roomService.verifyOwnerBeforeGame(1L, 1L))
+            .isInstanceOf(ServiceException.class);
+        assertThatThrownBy(() -> roomService.verifyOwnerBeforeGame(1L, 2L))
+            .isInstanceOf(ServiceException.class);
+    }
+
+    @Test
+    @DisplayName("방 삭제 테스트 - 로비 REMOVE 는 커밋 뒤에 발행")
+    void deleteRoomPublishesRemoveAfterCommitTest() {
+        // given
+        ArgumentCaptor<TransactionSynchronization> synchronization = ArgumentCaptor.forClass(TransactionSynchronization.class);
+
+        // when
+        roomService.deleteRoom(testRoom);
+
+        // then
+        verify(roomRepository).delete(testRoom);
+        verify(lobbyRoomView, never()).remove(anyLong());
+        verify(roomMessageService, never()).sendRoomDeleted(anyLong());
+        mockedTransactionManager.verify(() -> TransactionSynchronizationManager.registerSynchronization(synchronization.capture()));
+
+        synchronization.getValue().afterCommit();
+
+        verify(roomMessageService).sendRoomDeleted(1L);
+        verify(roomStateStore).evict(1L);
+        verify(lobbyRoomView).remove(1L);
+    }
+
     @Test
     @DisplayName("게임 시작 테스트 - 모두 준비 안됨")
     void startGameNotAllReadyTest() {
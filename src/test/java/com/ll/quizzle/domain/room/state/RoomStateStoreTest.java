@@ -0,0 +1,182 @@
+package com.ll.quizzle.domain.room.state;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SetOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.ll.quizzle.domain.member.entity.Member;
+import com.ll.quizzle.domain.room.entity.Room;
+import com.ll.quizzle.domain.room.repository.RoomRepository;
+import com.ll.quizzle.domain.room.type.AnswerType;
+import com.ll.quizzle.domain.room.type.Difficulty;
+import com.ll.quizzle.domain.room.type.SubCategory;
+import com.ll.quizzle.global.exceptions.ErrorCode;
+import com.ll.quizzle.global.exceptions.ServiceException;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@MockitoSettings(strictness = Strictness.LENIENT)
+@ExtendWith(MockitoExtension.class)
+@SuppressWarnings("unchecked")
+class RoomStateStoreTest {
+
+    private static final String TTL_SECONDS = "86400";
+    private static final List<String> STATE_KEYS = List.of("room:10:meta", "room:10:players", "room:10:ready");
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Mock
+    private SetOperations<String, String> setOperations;
+
+    @Mock
+    private RoomRepository roomRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private Room room;
+
+    @BeforeEach
+    void setUp() {
+        when(redisTemplate.opsForSet()).thenReturn(setOperations);
+
+        Member owner = Member.create("방장", "owner@quizzle.com", null);
+        ReflectionTestUtils.setField(owner, "id", 1L);
+        room = Room.builder()
+                .title("물리 방")
+                .owner(owner)
+                .capacity(4)
+                .mainCategory(SubCategory.PHYSICS.getMainCategory())
+                .subCategory(SubCategory.PHYSICS)
+                .answerType(AnswerType.MULTIPLE_CHOICE)
+                .problemCount(10)
+                .difficulty(Difficulty.EASY)
+                .build();
+        ReflectionTestUtils.setField(room, "id", 10L);
+        room.addPlayer(2L);
+        room.playerReady(2L);
+    }
+
+    @Test
+    @DisplayName("JPA 모드에서는 Redis 를 쓰지 않고 엔티티 컬렉션을 그대로 사용한다")
+    void jpaModeKeepsCollections() {
+        RoomStateStore store = store("jpa");
+
+        store.attach(room);
+        room.addPlayer(3L);
+
+        assertThat(room.getPlayers()).containsExactlyInAnyOrder(1L, 2L, 3L);
+        assertThat(room.getCheckpointPlayers()).containsExactlyInAnyOrder(1L, 2L, 3L);
+        verifyNoInteractions(redisTemplate);
+    }
+
+    @Test
+    @DisplayName("REDIS 모드에서는 DB 체크포인트로 초기화한 뒤 참가자를 Redis 에서 읽는다")
+    void redisModeSeedsAndReads() {
+        RoomStateStore store = store("redis");
+        when(setOperations.members("room:10:players")).thenReturn(Set.of("1", "2", "5"));
+        when(setOperations.members("room:10:ready")).thenReturn(Set.of("2"));
+        when(redisTemplate.execute(any(RedisScript.class), eq(STATE_KEYS), eq(TTL_SECONDS))).thenReturn(-1L);
+
+        store.attach(room);
+
+        // 만료 시간, 방장, 정원, 상태, 참가자 수, 참가자(1, 2), 준비한 참가자(2)
+        verify(redisTemplate).execute(any(RedisScript.class),
+                eq(STATE_KEYS),
+                eq(TTL_SECONDS), eq("1"), eq("4"), eq("WAITING"), eq("2"), eq("1"), eq("2"), eq("2"));
+
+        assertThat(room.getPlayers()).containsExactlyInAnyOrder(1L, 2L, 5L);
+        assertThat(room.getReadyPlayers()).containsExactly(2L);
+        assertThat(room.isAllPlayersReady()).isFalse();
+    }
+
+    @Test
+    @DisplayName("REDIS 모드에서 상태가 이미 있으면 DB 체크포인트를 읽지 않고 덮어쓰지도 않는다")
+    void redisModeKeepsExistingState() {
+        RoomStateStore store = store("redis");
+        Room attached = spy(room);
+        when(redisTemplate.execute(any(RedisScript.class), eq(STATE_KEYS), eq(TTL_SECONDS))).thenReturn(0L);
+        when(setOperations.members("room:10:players")).thenReturn(Set.of("1", "7"));
+
+        store.attach(attached);
+
+        verify(redisTemplate, times(1)).execute(any(RedisScript.class), anyList(), any(Object[].class));
+        verify(attached, never()).getCheckpointPlayers();
+        verify(attached, never()).getCheckpointReadyPlayers();
+        assertThat(attached.getPlayers()).containsExactlyInAnyOrder(1L, 7L);
+    }
+
+    @Test
+    @DisplayName("입장 스크립트 결과에 따라 입장, 중복 입장, 정원 초과, 게임 중인 방을 구분한다")
+    void joinResults() {
+        RoomStateStore store = store("redis");
+        store.attach(room);
+        when(redisTemplate.execute(any(RedisScript.class),
+                eq(List.of("room:10:meta", "room:10:players", RoomStateStore.DIRTY_KEY)), eq("3"), eq("10"),
+                eq(TTL_SECONDS)))
+                .thenReturn(1L, 0L, -1L, -3L);
+
+        assertThat(room.addPlayer(3L)).isTrue();
+        assertThat(room.addPlayer(3L)).isFalse();
+        assertThatThrownBy(() -> room.addPlayer(3L))
+                .isInstanceOf(ServiceException.class)
+                .hasMessageContaining(ErrorCode.ROOM_IS_FULL.getMessage());
+        assertThatThrownBy(() -> room.addPlayer(3L))
+                .isInstanceOf(ServiceException.class)
+                .hasMessageContaining(ErrorCode.GAME_ALREADY_STARTED.getMessage());
+    }
+
+    @Test
+    @DisplayName("연결 해제 때 확인할 방에는 체크포인트 대기 중이면서 회원이 참가 중인 방만 더한다")
+    void pendingRoomsOfMember() {
+        when(setOperations.members(RoomStateStore.DIRTY_KEY)).thenReturn(Set.of("10", "11"));
+        when(setOperations.isMember("room:10:players", "3")).thenReturn(true);
+        when(setOperations.isMember("room:11:players", "3")).thenReturn(false);
+
+        assertThat(store("redis").pendingRoomsOf(3L)).containsExactly(10L);
+        assertThat(store("jpa").pendingRoomsOf(3L)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("체크포인트는 dirty 방의 Redis 상태로 테이블을 교체하고, 실패하면 다시 대기열에 넣는다")
+    void checkpointsDirtyRooms() {
+        RoomStateStore store = store("redis");
+        when(setOperations.pop(RoomStateStore.DIRTY_KEY, 100)).thenReturn(List.of("10", "11", "12"));
+        when(setOperations.members("room:10:players")).thenReturn(Set.of("1", "2"));
+        when(setOperations.members("room:10:ready")).thenReturn(Set.of("2"));
+        when(roomRepository.replaceMembership(eq(10L), any(), any())).thenReturn(true);
+        when(roomRepository.replaceMembership(eq(11L), any(), any())).thenReturn(false);
+        when(roomRepository.replaceMembership(eq(12L), any(), any())).thenThrow(new IllegalStateException("db down"));
+
+        assertThat(store.checkpointDirty()).isEqualTo(3);
+
+        verify(roomRepository).replaceMembership(10L, Set.of(1L, 2L), Set.of(2L));
+        verify(redisTemplate).delete(List.of("room:11:meta", "room:11:players", "room:11:ready"));
+        verify(setOperations).add(RoomStateStore.DIRTY_KEY, "12");
+        assertThat(meterRegistry.get("room.state.checkpoints").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("room.state.checkpoint.failures").counter().count()).isEqualTo(1);
+    }
+
+    private RoomStateStore store(String mode) {
+        return new RoomStateStore(mode, redisTemplate, roomRepository, transactionManager, meterRegistry, 0, 100, 24);
+    }
+}
@@ -0,0 +1,133 @@
+package com.ll.quizzle.global.actor;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.ll.quizzle.global.exceptions.ServiceException;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class RoomCommandExecutorTest {
+
+    private final ExecutorService callers = Executors.newFixedThreadPool(8);
+
+    @AfterEach
+    void tearDown() {
+        callers.shutdownNow();
+    }
+
+    private RoomCommandExecutor actorExecutor(int capacity) {
+        return new RoomCommandExecutor("actor", capacity, 32, new SimpleMeterRegistry());
+    }
+
+    @Test
+    @DisplayName("같은 방의 명령은 한 번에 하나씩만 실행되어 락 없이도 상태가 유실되지 않는다")
+    void serializesCommandsPerRoom() throws Exception {
+        RoomCommandExecutor executor = actorExecutor(10_000);
+        int[] counter = {0};
+        AtomicInteger concurrent = new AtomicInteger();
+        AtomicInteger maxConcurrent = new AtomicInteger();
+
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < 2_000; i++) {
+            futures.add(callers.submit(() -> executor.run(RoomCommandExecutor.roomKey(1L), () -> {
+                maxConcurrent.accumulateAndGet(concurrent.incrementAndGet(), Math::max);
+                counter[0]++;
+                concurrent.decrementAndGet();
+            })));
+        }
+        for (Future<?> future : futures) {
+            future.get(10, TimeUnit.SECONDS);
+        }
+
+        assertThat(counter[0]).isEqualTo(2_000);
+        assertThat(maxConcurrent.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("한 호출자가 보낸 명령은 보낸 순서대로 실행된다")
+    void preservesOrderPerCaller() {
+        RoomCommandExecutor executor = actorExecutor(100);
+        List<Integer> executed = new ArrayList<>();
+
+        for (int i = 0; i < 50; i++) {
+            int sequence = i;
+            executor.run(RoomCommandExecutor.roomKey(1L), () -> executed.add(sequence));
+        }
+
+        assertThat(executed).isSorted().hasSize(50);
+    }
+
+    @Test
+    @DisplayName("메일박스가 가득 차면 기다리지 않고 거절한다")
+    void rejectsWhenMailboxIsFull() throws Exception {
+        RoomCommandExecutor executor = actorExecutor(1);
+        CountDownLatch running = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        // 첫 명령이 액터를 붙잡고, 두 번째 명령이 메일박스 한 칸을 채웁니다.
+        Future<?> first = callers.submit(() -> executor.run(RoomCommandExecutor.roomKey(1L), () -> {
+            running.countDown();
+            await(release);
+        }));
+        assertThat(running.await(5, TimeUnit.SECONDS)).isTrue();
+        Future<?> second = callers.submit(() -> executor.run(RoomCommandExecutor.roomKey(1L), () -> { }));
+        Thread.sleep(100);
+
+        assertThatThrownBy(() -> executor.run(RoomCommandExecutor.roomKey(1L), () -> { }))
+                .isInstanceOf(ServiceException.class);
+
+        release.countDown();
+        first.get(5, TimeUnit.SECONDS);
+        second.get(5, TimeUnit.SECONDS);
+    }
+
+    @Test
+    @DisplayName("액터 안에서 같은 방으로 다시 호출하면 바로 실행되고 예외는 호출자에게 전달된다")
+    void reentrantCallRunsInline() {
+        RoomCommandExecutor executor = actorExecutor(10);
+        String key = RoomCommandExecutor.roomKey(1L);
+
+        Integer result = executor.call(key, () -> {
+            assertThat(RoomCommandExecutor.isRunningIn(key)).isTrue();
+            return executor.call(key, () -> 42);
+        });
+
+        assertThat(result).isEqualTo(42);
+        assertThat(RoomCommandExecutor.isRunningIn(key)).isFalse();
+        assertThatThrownBy(() -> executor.run(key, () -> {
+            throw new IllegalStateException("boom");
+        })).isInstanceOf(IllegalStateException.class).hasMessage("boom");
+    }
+
+    @Test
+    @DisplayName("LOCK 모드에서는 호출 스레드에서 그대로 실행한다")
+    void lockModeRunsInline() {
+        RoomCommandExecutor executor = new RoomCommandExecutor("lock", 10, 32, new SimpleMeterRegistry());
+        Thread caller = Thread.currentThread();
+
+        Thread executedOn = executor.call(RoomCommandExecutor.roomKey(1L), Thread::currentThread);
+
+        assertThat(executedOn).isSameAs(caller);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,165 @@
+package com.ll.quizzle.global.actor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.redisson.Redisson;
+import org.redisson.api.RLock;
+import org.redisson.api.RedissonClient;
+import org.redisson.config.Config;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * 같은 방에 동시에 몰리는 명령을 기존 Redisson 방 락 방식과 방 액터 방식으로 처리하여 처리량과 지연 시간을 비교합니다.
+ * 방 액터 안의 명령도 운영과 같이 Redis 방 락을 잡으며, 액터가 줄을 세우므로 락을 기다리지는 않습니다.
+ * 실제 Redis 가 필요하므로 QUIZZLE_BENCHMARK=true 환경 변수가 있을 때만 실행됩니다.
+ * (REDIS_HOST / REDIS_PORT 로 대상 지정, 기본값 localhost:6379)
+ */
+@EnabledIfEnvironmentVariable(named = "QUIZZLE_BENCHMARK", matches = "true")
+class RoomCommandLoadComparisonTest {
+
+    private static final Logger log = LoggerFactory.getLogger(RoomCommandLoadComparisonTest.class);
+
+    private static final int ROOMS = 50;
+    private static final int CALLERS = 64;
+    private static final int COMMANDS_PER_ROOM = 200;
+    // 트랜잭션 안에서 방 상태를 바꾸는 작업을 흉내 냅니다.
+    private static final long WORK_MICROS = 200;
+
+    private RedissonClient redissonClient;
+    private ExecutorService callers;
+
+    @BeforeEach
+    void setUp() {
+        String host = System.getenv().getOrDefault("REDIS_HOST", "localhost");
+        String port = System.getenv().getOrDefault("REDIS_PORT", "6379");
+        Config config = new Config();
+        config.useSingleServer().setAddress("redis://" + host + ":" + port);
+        redissonClient = Redisson.create(config);
+        callers = Executors.newFixedThreadPool(CALLERS);
+    }
+
+    @AfterEach
+    void tearDown() {
+        callers.shutdownNow();
+        redissonClient.shutdown();
+    }
+
+    @Test
+    @DisplayName("방 액터는 방 락보다 경합 상황에서 처리량이 높고 상태가 유실되지 않는다")
+    void compareLockAndActor() throws Exception {
+        String prefix = "bench:" + UUID.randomUUID() + ":room:";
+
+        Result lock = runLockBased(prefix);
+        Result actor = runActorBased(prefix + "actor:");
+
+        log.info("[lock]  throughput={} ops/s, p50={}us, p99={}us", lock.throughput(), lock.p50Micros(), lock.p99Micros());
+        log.info("[actor] throughput={} ops/s, p50={}us, p99={}us", actor.throughput(), actor.p50Micros(), actor.p99Micros());
+
+        assertThat(lock.lostUpdates()).isZero();
+        assertThat(actor.lostUpdates()).isZero();
+        assertThat(actor.throughput()).isGreaterThan(lock.throughput());
+    }
+
+    private Result runLockBased(String prefix) throws Exception {
+        int[] state = new int[ROOMS];
+        return run(state, room -> mutateLocked(prefix, state, room));
+    }
+
+    private Result runActorBased(String prefix) throws Exception {
+        RoomCommandExecutor executor = new RoomCommandExecutor("actor", COMMANDS_PER_ROOM, 32, new SimpleMeterRegistry());
+        int[] state = new int[ROOMS];
+        try {
+            return run(state, room -> executor.run(RoomCommandExecutor.roomKey(room),
+                    () -> mutateLocked(prefix, state, room)));
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private void mutateLocked(String prefix, int[] state, int room) {
+        RLock lock = redissonClient.getLock(prefix + room);
+        try {
+            if (!lock.tryLock(3000, 10000, TimeUnit.MILLISECONDS)) {
+                throw new IllegalStateException("락 획득 실패");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+        try {
+            mutate(state, room);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private Result run(int[] state, RoomCommand command) throws Exception {
+        int total = ROOMS * COMMANDS_PER_ROOM;
+        long[] samples = new long[total];
+        List<Future<?>> futures = new ArrayList<>(total);
+
+        long start = System.nanoTime();
+        for (int i = 0; i < total; i++) {
+            int index = i;
+            int room = i % ROOMS;
+            futures.add(callers.submit(() -> {
+                long begin = System.nanoTime();
+                command.execute(room);
+                samples[index] = System.nanoTime() - begin;
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get(60, TimeUnit.SECONDS);
+        }
+        long elapsed = System.nanoTime() - start;
+
+        int lostUpdates = 0;
+        for (int value : state) {
+            lostUpdates += COMMANDS_PER_ROOM - value;
+        }
+
+        long[] sorted = samples.clone();
+        Arrays.sort(sorted);
+        return new Result(
+                (long) (total / (elapsed / 1_000_000_000.0)),
+                sorted[(int) (sorted.length * 0.50)] / 1_000,
+                sorted[(int) (sorted.length * 0.99)] / 1_000,
+                lostUpdates
+        );
+    }
+
+    private static void mutate(int[] state, int room) {
+        // 읽고, 일하고, 쓰는 사이에 다른 명령이 끼어들면 갱신이 유실됩니다.
+        int value = state[room];
+        long until = System.nanoTime() + TimeUnit.MICROSECONDS.toNanos(WORK_MICROS);
+        while (System.nanoTime() < until) {
+            Thread.onSpinWait();
+        }
+        state[room] = value + 1;
+    }
+
+    @FunctionalInterface
+    private interface RoomCommand {
+        void execute(int room);
+    }
+
+    private record Result(long throughput, long p50Micros, long p99Micros, int lostUpdates) {
+    }
+}
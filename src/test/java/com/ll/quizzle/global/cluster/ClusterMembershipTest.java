@@ -0,0 +1,152 @@
+package com.ll.quizzle.global.cluster;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@MockitoSettings(strictness = Strictness.LENIENT)
+@ExtendWith(MockitoExtension.class)
+class ClusterMembershipTest {
+
+    static final long TTL = 5000;
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Mock
+    private ZSetOperations<String, String> zSetOperations;
+
+    @Mock
+    private HashOperations<String, Object, Object> hashOperations;
+
+    @Mock
+    private RedisMessageListenerContainer listenerContainer;
+
+    private final Map<String, Double> heartbeats = new ConcurrentHashMap<>();
+    private final List<ClusterMembershipChangedEvent> events = new ArrayList<>();
+    private final ApplicationEventPublisher publisher = event -> events.add((ClusterMembershipChangedEvent) event);
+    private ClusterMembership membership;
+
+    @BeforeEach
+    void setUp() {
+        stubNodeRegistry(redisTemplate, zSetOperations, hashOperations, heartbeats);
+        membership = new ClusterMembership(redisTemplate, listenerContainer, publisher, new SimpleMeterRegistry(),
+                true, "node-a", "http://node-a:8080", 1000, TTL);
+    }
+
+    @AfterEach
+    void tearDown() {
+        membership.shutdown();
+    }
+
+    @Test
+    @DisplayName("하트비트로 자신을 등록하고 다른 노드가 보이면 목록 변경 이벤트를 발행한다")
+    void joins() {
+        heartbeats.put("node-b", 1_000.0);
+
+        membership.heartbeat(1_000);
+
+        assertThat(heartbeats).containsKey("node-a");
+        assertThat(membership.liveNodes()).containsExactly("node-a", "node-b");
+        assertThat(events).singleElement().satisfies(event -> {
+            assertThat(event.previousNodes()).containsExactly("node-a");
+            assertThat(event.currentNodes()).containsExactly("node-a", "node-b");
+        });
+
+        membership.heartbeat(1_500);
+        assertThat(events).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("node-ttl 동안 하트비트가 없는 노드는 지우고 다른 노드에 알린다")
+    void evictsSilentNode() {
+        heartbeats.put("node-b", 1_000.0);
+        membership.heartbeat(1_000);
+
+        membership.heartbeat(1_000 + TTL + 1);
+
+        assertThat(heartbeats).containsOnlyKeys("node-a");
+        assertThat(membership.liveNodes()).containsExactly("node-a");
+        assertThat(events).last().satisfies(event -> {
+            assertThat(event.previousNodes()).containsExactly("node-a", "node-b");
+            assertThat(event.currentNodes()).containsExactly("node-a");
+        });
+        verify(hashOperations).delete(ClusterMembership.ADDRESSES_KEY, "node-b");
+        verify(redisTemplate).convertAndSend(ClusterMembership.MEMBERSHIP_CHANNEL, "evict:node-b");
+    }
+
+    @Test
+    @DisplayName("비활성화하면 Redis 를 쓰지 않고 자신만 있는 목록을 돌려준다")
+    void disabled() {
+        ClusterMembership single = new ClusterMembership(redisTemplate, listenerContainer, publisher,
+                new SimpleMeterRegistry(), false, "", "http://localhost:8080", 1000, TTL);
+        single.init();
+
+        assertThat(single.isEnabled()).isFalse();
+        assertThat(single.liveNodes()).containsExactly(single.getNodeId());
+        verifyNoInteractions(redisTemplate, listenerContainer);
+        single.shutdown();
+    }
+
+    /**
+     * cluster:nodes ZSet 을 heartbeats 맵으로 흉내 냅니다.
+     */
+    static void stubNodeRegistry(RedisTemplate<String, String> redisTemplate,
+                                 ZSetOperations<String, String> zSetOperations,
+                                 HashOperations<String, Object, Object> hashOperations,
+                                 Map<String, Double> heartbeats) {
+        when(redisTemplate.opsForZSet()).thenReturn(zSetOperations);
+        when(redisTemplate.opsForHash()).thenReturn(hashOperations);
+        when(zSetOperations.add(eq(ClusterMembership.NODES_KEY), anyString(), anyDouble())).thenAnswer(invocation -> {
+            heartbeats.put(invocation.getArgument(1), invocation.getArgument(2));
+            return true;
+        });
+        when(zSetOperations.rangeByScore(eq(ClusterMembership.NODES_KEY), anyDouble(), anyDouble()))
+                .thenAnswer(invocation -> {
+                    double min = invocation.getArgument(1);
+                    double max = invocation.getArgument(2);
+                    Set<String> nodes = new LinkedHashSet<>();
+                    heartbeats.forEach((node, score) -> {
+                        if (score >= min && score <= max) {
+                            nodes.add(node);
+                        }
+                    });
+                    return nodes;
+                });
+        when(zSetOperations.removeRangeByScore(eq(ClusterMembership.NODES_KEY), anyDouble(), anyDouble()))
+                .thenAnswer(invocation -> {
+                    double max = invocation.getArgument(2);
+                    heartbeats.values().removeIf(score -> score <= max);
+                    return 1L;
+                });
+        when(hashOperations.entries(ClusterMembership.ADDRESSES_KEY)).thenAnswer(invocation -> {
+            Map<Object, Object> addresses = new ConcurrentHashMap<>();
+            heartbeats.keySet().forEach(node -> addresses.put(node, "http://" + node + ":8080"));
+            return addresses;
+        });
+    }
+}
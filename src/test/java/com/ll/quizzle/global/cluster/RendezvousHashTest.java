@@ -0,0 +1,67 @@
+package com.ll.quizzle.global.cluster;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class RendezvousHashTest {
+
+    private static final int ROOMS = 10_000;
+
+    @Test
+    @DisplayName("노드 순서와 관계없이 같은 담당 노드를 고르고, 노드가 없으면 null 이다")
+    void deterministic() {
+        List<String> nodes = List.of("node-a", "node-b", "node-c");
+        List<String> reversed = List.of("node-c", "node-b", "node-a");
+
+        for (int room = 1; room <= 100; room++) {
+            assertThat(RendezvousHash.owner(String.valueOf(room), reversed))
+                    .isEqualTo(RendezvousHash.owner(String.valueOf(room), nodes));
+        }
+        assertThat(RendezvousHash.owner("1", List.of())).isNull();
+    }
+
+    @Test
+    @DisplayName("노드가 빠지면 그 노드가 맡던 방만 옮겨 가고, 나머지 방의 담당 노드는 그대로다")
+    void removalMovesOnlyOrphans() {
+        List<String> before = List.of("node-a", "node-b", "node-c");
+        List<String> after = List.of("node-a", "node-c");
+
+        for (int room = 1; room <= ROOMS; room++) {
+            String key = String.valueOf(room);
+            String previous = RendezvousHash.owner(key, before);
+            String current = RendezvousHash.owner(key, after);
+            if (!previous.equals("node-b")) {
+                assertThat(current).isEqualTo(previous);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("노드가 들어오면 약 1/n 의 방만 새 노드로 옮겨 가고, 방은 노드에 고르게 나뉜다")
+    void additionMovesAboutOneNth() {
+        List<String> before = List.of("node-a", "node-b", "node-c");
+        List<String> after = List.of("node-a", "node-b", "node-c", "node-d");
+
+        Map<String, Integer> counts = new HashMap<>();
+        int moved = 0;
+        for (int room = 1; room <= ROOMS; room++) {
+            String key = String.valueOf(room);
+            String previous = RendezvousHash.owner(key, before);
+            String current = RendezvousHash.owner(key, after);
+            counts.merge(current, 1, Integer::sum);
+            if (!previous.equals(current)) {
+                assertThat(current).isEqualTo("node-d");
+                moved++;
+            }
+        }
+
+        assertThat(moved).isBetween(ROOMS / 4 - ROOMS / 20, ROOMS / 4 + ROOMS / 20);
+        assertThat(counts.values()).allSatisfy(count -> assertThat(count).isBetween(2_000, 3_000));
+    }
+}
@@ -0,0 +1,132 @@
+package com.ll.quizzle.global.cluster;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.util.StreamUtils;
+import org.springframework.web.client.ResourceAccessException;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.http.HttpServletResponse;
+
+@MockitoSettings(strictness = Strictness.LENIENT)
+@ExtendWith(MockitoExtension.class)
+class RoomAffinityFilterTest {
+
+    private static final String OWNER = "http://node-b:8080";
+
+    @Mock
+    private RoomOwnership roomOwnership;
+
+    @Mock
+    private RoomRequestForwarder forwarder;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final MockHttpServletResponse response = new MockHttpServletResponse();
+    private final MockFilterChain chain = new MockFilterChain();
+    private RoomAffinityFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        when(roomOwnership.isEnabled()).thenReturn(true);
+        when(roomOwnership.remoteOwnerAddress("7")).thenReturn(OWNER);
+        filter = new RoomAffinityFilter(roomOwnership, forwarder, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("다른 노드가 담당하는 방의 명령은 담당 노드로 넘기고 이 노드에서 처리하지 않는다")
+    void forwardsToOwner() throws Exception {
+        when(forwarder.forward(any(), any(), any(), eq(OWNER))).thenReturn(true);
+        MockHttpServletRequest request = request("POST", "/api/v1/rooms/7/join");
+
+        filter.doFilter(request, response, chain);
+
+        verify(forwarder).forward(any(), any(), eq(response), eq(OWNER));
+        assertThat(chain.getRequest()).isNull();
+        assertThat(count("forwarded")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("조회, 이미 넘어온 요청, 이 노드가 담당하는 방, 방 경로가 아닌 요청은 이 노드에서 처리한다")
+    void handlesLocally() throws Exception {
+        when(roomOwnership.remoteOwnerAddress("8")).thenReturn(null);
+        MockHttpServletRequest forwarded = request("POST", "/api/v1/rooms/7/ready");
+        when(forwarder.isForwardedByPeer(forwarded)).thenReturn(true);
+
+        for (MockHttpServletRequest request : new MockHttpServletRequest[] {
+                request("GET", "/api/v1/rooms/7"),
+                forwarded,
+                request("POST", "/api/v1/rooms/8/ready"),
+                request("POST", "/api/v1/rooms"),
+                request("GET", "/api/v1/rooms/lobby")}) {
+            MockFilterChain localChain = new MockFilterChain();
+            filter.doFilter(request, new MockHttpServletResponse(), localChain);
+            assertThat(localChain.getRequest()).isNotNull();
+        }
+        verify(forwarder, never()).forward(any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("클라이언트가 붙인 전달 헤더는 믿지 않고 담당 노드로 넘긴다")
+    void ignoresUntrustedForwardedHeader() throws Exception {
+        when(forwarder.isForwardedByPeer(any())).thenReturn(false);
+        when(forwarder.forward(any(), any(), any(), eq(OWNER))).thenReturn(true);
+        MockHttpServletRequest request = request("POST", "/api/v1/rooms/7/start");
+        request.addHeader(RoomRequestForwarder.FORWARDED_HEADER, "node-c");
+
+        filter.doFilter(request, response, chain);
+
+        verify(forwarder).forward(any(), any(), eq(response), eq(OWNER));
+        assertThat(chain.getRequest()).isNull();
+    }
+
+    @Test
+    @DisplayName("담당 노드에 연결하지 못하면 읽어 둔 본문으로 이 노드에서 처리한다")
+    void fallsBackWhenOwnerUnreachable() throws Exception {
+        when(forwarder.forward(any(), any(), any(), eq(OWNER))).thenReturn(false);
+        MockHttpServletRequest request = request("PUT", "/api/v1/rooms/7");
+        request.setContent("{\"title\":\"새 제목\"}".getBytes(StandardCharsets.UTF_8));
+
+        filter.doFilter(request, response, chain);
+
+        assertThat(chain.getRequest()).isNotNull();
+        assertThat(StreamUtils.copyToString(chain.getRequest().getInputStream(), StandardCharsets.UTF_8))
+                .isEqualTo("{\"title\":\"새 제목\"}");
+        assertThat(count("fallback")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("담당 노드가 요청을 받은 뒤 실패하면 중복 실행하지 않고 502 로 응답한다")
+    void doesNotRetryAfterOwnerAccepted() throws Exception {
+        when(forwarder.forward(any(), any(), any(), eq(OWNER))).thenThrow(new ResourceAccessException("Read timed out"));
+
+        filter.doFilter(request("POST", "/api/v1/rooms/7/start"), response, chain);
+
+        assertThat(chain.getRequest()).isNull();
+        assertThat(response.getStatus()).isEqualTo(HttpServletResponse.SC_BAD_GATEWAY);
+        assertThat(count("failed")).isEqualTo(1);
+    }
+
+    private static MockHttpServletRequest request(String method, String uri) {
+        return new MockHttpServletRequest(method, uri);
+    }
+
+    private double count(String outcome) {
+        return meterRegistry.get("room.affinity.requests").tag("transport", "rest").tag("outcome", outcome)
+                .counter().count();
+    }
+}
@@ -0,0 +1,146 @@
+package com.ll.quizzle.global.cluster;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.data.redis.core.DefaultTypedTuple;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import com.ll.quizzle.domain.quiz.cache.QuizAnswerKey;
+import com.ll.quizzle.domain.quiz.cache.QuizAnswerKeyCache;
+import com.ll.quizzle.domain.quiz.service.QuizScoreboardService;
+import com.ll.quizzle.global.socket.core.MessageService;
+import com.ll.quizzle.global.socket.core.MessageServiceFactory;
+import com.ll.quizzle.global.socket.scheduler.QuizRoundScheduler;
+import com.ll.quizzle.global.socket.service.quiz.QuizUpdateCoalescer;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * 게임 도중 방 담당 노드(node-b)가 하트비트 없이 사라졌을 때, 남은 노드(node-a)가 방을 이어받는 과정을 확인합니다.
+ */
+@MockitoSettings(strictness = Strictness.LENIENT)
+@ExtendWith(MockitoExtension.class)
+class RoomFailoverTest {
+
+    private static final long TTL = 5000;
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Mock
+    private ZSetOperations<String, String> zSetOperations;
+
+    @Mock
+    private HashOperations<String, Object, Object> hashOperations;
+
+    @Mock
+    private RedisMessageListenerContainer listenerContainer;
+
+    @Mock
+    private QuizAnswerKeyCache answerKeyCache;
+
+    @Mock
+    private MessageServiceFactory messageServiceFactory;
+
+    @Mock
+    private MessageService roomMessageService;
+
+    @Mock
+    private QuizScoreboardService scoreboardService;
+
+    @Mock
+    private QuizUpdateCoalescer updateCoalescer;
+
+    private final Map<String, Double> heartbeats = new ConcurrentHashMap<>();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private ClusterMembership membership;
+    private RoomOwnership ownership;
+    private QuizRoundScheduler scheduler;
+
+    @BeforeEach
+    void setUp() {
+        ClusterMembershipTest.stubNodeRegistry(redisTemplate, zSetOperations, hashOperations, heartbeats);
+        when(messageServiceFactory.getRoomService()).thenReturn(roomMessageService);
+
+        membership = new ClusterMembership(redisTemplate, listenerContainer, event -> {
+            ownership.onMembershipChanged((ClusterMembershipChangedEvent) event);
+            scheduler.onMembershipChanged((ClusterMembershipChangedEvent) event);
+        }, meterRegistry, true, "node-a", "http://node-a:8080", 1000, TTL);
+        ownership = new RoomOwnership(membership, meterRegistry, true, 0);
+        scheduler = new QuizRoundScheduler(redisTemplate, answerKeyCache, messageServiceFactory, scoreboardService,
+                updateCoalescer, ownership, 30, 3600, 3);
+        scheduler.init();
+    }
+
+    @AfterEach
+    void tearDown() {
+        scheduler.shutdown();
+        membership.shutdown();
+    }
+
+    @Test
+    @DisplayName("담당 노드가 게임 도중 사라지면 남은 노드가 방을 맡아 요청을 직접 처리하고, 진행 중인 라운드를 제 시각에 닫는다")
+    void survivorAdoptsRoomMidGame() {
+        String quizId = roomOwnedBy("node-b", List.of("node-a", "node-b"));
+        String localQuizId = roomOwnedBy("node-a", List.of("node-a", "node-b"));
+
+        long start = System.currentTimeMillis();
+        heartbeats.put("node-b", (double) start);
+        membership.heartbeat(start);
+
+        assertThat(ownership.isLocal(quizId)).isFalse();
+        assertThat(ownership.remoteOwnerAddress(quizId)).isEqualTo("http://node-b:8080");
+        assertThat(ownership.holdsLocalLock(quizId)).isFalse();
+
+        // node-b 가 2번 문제를 진행하던 중 하트비트가 끊깁니다.
+        long deadline = start + 300;
+        when(zSetOperations.rangeWithScores(QuizRoundScheduler.DEADLINES_KEY, 0, -1)).thenReturn(Set.of(
+                new DefaultTypedTuple<>(quizId + ":2", (double) deadline),
+                new DefaultTypedTuple<>(localQuizId + ":1", (double) deadline)));
+        when(answerKeyCache.get(quizId)).thenReturn(QuizAnswerKey.of(new char[] {'1', '2', '3'}, Long.MAX_VALUE));
+
+        membership.heartbeat(start + TTL + 1);
+
+        assertThat(membership.liveNodes()).containsExactly("node-a");
+        assertThat(ownership.isLocal(quizId)).isTrue();
+        assertThat(ownership.remoteOwnerAddress(quizId)).isNull();
+        assertThat(ownership.holdsLocalLock(quizId)).isTrue();
+        // 원래 node-a 가 맡던 방은 이미 node-a 의 타이머에 걸려 있으므로 다시 걸지 않습니다.
+        assertThat(meterRegistry.get("room.ownership.adopted").counter().count()).isEqualTo(1);
+
+        verify(redisTemplate, timeout(3000)).execute(
+                any(RedisScript.class),
+                eq(List.of(QuizRoundScheduler.DEADLINES_KEY, "quiz:" + quizId + ":currentQuestion",
+                        "quiz:" + quizId + ":notifications")),
+                eq(quizId), eq("2"), eq("3"), anyString(), anyString(), eq("1"));
+    }
+
+    private static String roomOwnedBy(String node, List<String> nodes) {
+        return IntStream.rangeClosed(1, 1000)
+                .mapToObj(String::valueOf)
+                .filter(roomId -> node.equals(RendezvousHash.owner(roomId, nodes)))
+                .findFirst()
+                .orElseThrow();
+    }
+}
@@ -0,0 +1,62 @@
+package com.ll.quizzle.global.cluster;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+@MockitoSettings(strictness = Strictness.LENIENT)
+@ExtendWith(MockitoExtension.class)
+class RoomRequestForwarderTest {
+
+    @Mock
+    private ClusterMembership membership;
+
+    @BeforeEach
+    void setUp() {
+        when(membership.isEnabled()).thenReturn(true);
+        when(membership.getNodeId()).thenReturn("node-a");
+        when(membership.liveNodes()).thenReturn(List.of("node-a", "node-b"));
+    }
+
+    @Test
+    @DisplayName("살아 있는 노드가 비밀값을 붙여 넘긴 요청만 넘어온 요청으로 본다")
+    void trustsOnlyLivePeersWithSecret() {
+        RoomRequestForwarder forwarder = new RoomRequestForwarder(membership, 500, 15000, "cluster-secret");
+
+        assertThat(forwarder.isForwardedByPeer(request("node-b", "cluster-secret"))).isTrue();
+        assertThat(forwarder.isForwardedByPeer(request("node-b", null))).isFalse();
+        assertThat(forwarder.isForwardedByPeer(request("node-b", "guess"))).isFalse();
+        assertThat(forwarder.isForwardedByPeer(request("node-z", "cluster-secret"))).isFalse();
+        assertThat(forwarder.isForwardedByPeer(request(null, "cluster-secret"))).isFalse();
+    }
+
+    @Test
+    @DisplayName("비밀값을 설정하지 않으면 어떤 전달 헤더도 믿지 않는다")
+    void trustsNothingWithoutSecret() {
+        RoomRequestForwarder forwarder = new RoomRequestForwarder(membership, 500, 15000, "");
+
+        assertThat(forwarder.isForwardedByPeer(request("node-b", ""))).isFalse();
+    }
+
+    private static MockHttpServletRequest request(String from, String secret) {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/v1/rooms/7/ready");
+        if (from != null) {
+            request.addHeader(RoomRequestForwarder.FORWARDED_HEADER, from);
+        }
+        if (secret != null) {
+            request.addHeader(RoomRequestForwarder.SECRET_HEADER, secret);
+        }
+        return request;
+    }
+}
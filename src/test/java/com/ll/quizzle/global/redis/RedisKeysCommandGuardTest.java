@@ -0,0 +1,51 @@
+package com.ll.quizzle.global.redis;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * KEYS 는 전체 키 공간을 훑으며 Redis 를 막으므로 운영 코드에서 사용하지 않습니다.
+ * 키 목록이 필요하면 RedisKeyIndex(보조 인덱스 + SCAN 복구)를 사용합니다.
+ */
+class RedisKeysCommandGuardTest {
+
+    private static final Path MAIN_SOURCES = Path.of("src", "main");
+    private static final Pattern KEYS_CALL = Pattern.compile("\\.keys\\s*\\(");
+    private static final Pattern LUA_KEYS_CALL = Pattern.compile("redis\\.call\\(\\s*'KEYS'", Pattern.CASE_INSENSITIVE);
+
+    @Test
+    @DisplayName("운영 코드와 Lua 스크립트에서 KEYS 명령을 호출하지 않는다")
+    void productionCodeDoesNotUseKeys() throws IOException {
+        List<String> violations = new ArrayList<>();
+
+        try (Stream<Path> files = Files.walk(MAIN_SOURCES)) {
+            for (Path file : files.filter(Files::isRegularFile).toList()) {
+                String name = file.getFileName().toString();
+                Pattern pattern = name.endsWith(".java") ? KEYS_CALL : name.endsWith(".lua") ? LUA_KEYS_CALL : null;
+                if (pattern == null) {
+                    continue;
+                }
+
+                List<String> lines = Files.readAllLines(file, StandardCharsets.UTF_8);
+                for (int i = 0; i < lines.size(); i++) {
+                    if (pattern.matcher(lines.get(i)).find()) {
+                        violations.add(file + ":" + (i + 1));
+                    }
+                }
+            }
+        }
+
+        assertThat(violations).as("KEYS 호출 위치").isEmpty();
+    }
+}
@@ -0,0 +1,290 @@
+package com.ll.quizzle.global.redis.lock;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.redisson.api.RLock;
+import org.redisson.api.RReadWriteLock;
+import org.redisson.api.RedissonClient;
+
+import com.ll.quizzle.global.actor.RoomCommandExecutor;
+import com.ll.quizzle.global.cluster.RoomOwnership;
+import com.ll.quizzle.global.exceptions.ServiceException;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@MockitoSettings(strictness = Strictness.LENIENT)
+@ExtendWith(MockitoExtension.class)
+class DistributedLockAspectTest {
+
+    @Mock
+    private RedissonClient redissonClient;
+
+    @Mock
+    private RoomOwnership roomOwnership;
+
+    @Mock
+    private ProceedingJoinPoint joinPoint;
+
+    @Mock
+    private MethodSignature signature;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private DistributedLockAspect aspect;
+
+    @BeforeEach
+    void setUp() throws Throwable {
+        aspect = new DistributedLockAspect(redissonClient, roomOwnership, meterRegistry);
+        when(joinPoint.getSignature()).thenReturn(signature);
+        when(joinPoint.proceed()).thenReturn("ok");
+    }
+
+    @Test
+    @DisplayName("네임스페이스를 붙인 락 이름으로 잡고, 키 식은 메서드마다 한 번만 파싱한다")
+    void locksWithNamespace() throws Throwable {
+        RLock lock = lock("lock:room:42");
+        invoke("joinRoom", new String[] {"roomId"}, 42L);
+
+        assertThat(aspect.lock(joinPoint)).isEqualTo("ok");
+        assertThat(aspect.lock(joinPoint)).isEqualTo("ok");
+
+        verify(lock, times(2)).unlock();
+        assertThat(aspect.cachedExpressionCount()).isEqualTo(1);
+        assertThat(meterRegistry.get("lock.hold").tag("namespace", "room").timer().count()).isEqualTo(2);
+        assertThat(meterRegistry.get("lock.wait").tag("outcome", "acquired").timer().count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("같은 ID 라도 회원 네임스페이스는 방 락과 다른 이름을 쓴다")
+    void memberNamespaceDoesNotShareRoomLock() throws Throwable {
+        RLock lock = lock("lock:member:42");
+        invoke("createRoom", new String[] {"ownerId"}, 42L);
+
+        aspect.lock(joinPoint);
+
+        verify(redissonClient).getLock("lock:member:42");
+        verify(redissonClient, never()).getLock("lock:room:42");
+        verify(lock).unlock();
+    }
+
+    @Test
+    @DisplayName("바로 얻지 못하면 경합으로 기록하고, 대기 시간 안에 얻지 못하면 실패한다")
+    void contentionAndTimeout() throws Throwable {
+        RLock lock = mock(RLock.class);
+        when(redissonClient.getLock("lock:room:7")).thenReturn(lock);
+        when(lock.tryLock(anyLong(), anyLong(), any(TimeUnit.class))).thenReturn(false);
+        invoke("joinRoom", new String[] {"roomId"}, 7L);
+
+        assertThatThrownBy(() -> aspect.lock(joinPoint)).isInstanceOf(ServiceException.class);
+
+        verify(lock).tryLock(0, 5000, TimeUnit.MILLISECONDS);
+        verify(lock).tryLock(3000, 5000, TimeUnit.MILLISECONDS);
+        verify(joinPoint, never()).proceed();
+        verify(lock, never()).unlock();
+        assertThat(meterRegistry.get("lock.contended").tag("namespace", "room").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("lock.timeouts").tag("namespace", "room").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("lock.wait").tag("outcome", "timeout").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("여러 키는 중복을 빼고 이름 순서로 잡은 뒤 역순으로 풀며, 하나라도 실패하면 잡은 락을 모두 푼다")
+    void orderedMultiKey() throws Throwable {
+        RLock first = writeLock("lock:member:1:rw", true);
+        RLock second = writeLock("lock:member:2:rw", true);
+        RLock third = writeLock("lock:member:3:rw", true);
+        invoke("transfer", new String[] {"memberIds"}, List.of(3L, 1L, 2L, 1L));
+
+        aspect.lock(joinPoint);
+
+        InOrder order = inOrder(first, second, third);
+        order.verify(first).tryLock(0, 5000, TimeUnit.MILLISECONDS);
+        order.verify(second).tryLock(0, 5000, TimeUnit.MILLISECONDS);
+        order.verify(third).tryLock(0, 5000, TimeUnit.MILLISECONDS);
+        order.verify(third).unlock();
+        order.verify(second).unlock();
+        order.verify(first).unlock();
+
+        when(third.tryLock(anyLong(), anyLong(), any(TimeUnit.class))).thenReturn(false);
+        assertThatThrownBy(() -> aspect.lock(joinPoint)).isInstanceOf(ServiceException.class);
+        verify(first, times(2)).unlock();
+        verify(second, times(2)).unlock();
+        verify(third, times(1)).unlock();
+    }
+
+    @Test
+    @DisplayName("READ 모드는 읽기/쓰기 락의 읽기 락을 잡는다")
+    void readMode() throws Throwable {
+        RReadWriteLock readWriteLock = mock(RReadWriteLock.class);
+        RLock readLock = mock(RLock.class);
+        when(redissonClient.getReadWriteLock("lock:room:5:rw")).thenReturn(readWriteLock);
+        when(readWriteLock.readLock()).thenReturn(readLock);
+        when(readLock.tryLock(anyLong(), anyLong(), any(TimeUnit.class))).thenReturn(true);
+        invoke("getRoom", new String[] {"roomId"}, 5L);
+
+        aspect.lock(joinPoint);
+
+        verify(readLock).unlock();
+        verify(readWriteLock, never()).writeLock();
+        assertThat(meterRegistry.get("lock.hold").tag("mode", "read").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("이 노드가 담당하는 방은 노드 로컬 락을 먼저 잡고, 연결 해제 처리와 겹치지 않도록 Redis 락도 잡는다")
+    void ownedRoomUsesLocalLock() throws Throwable {
+        RLock lock = lock("lock:room:9");
+        when(roomOwnership.holdsLocalLock("9")).thenReturn(true);
+        invoke("joinRoom", new String[] {"roomId"}, 9L);
+
+        assertThat(aspect.lock(joinPoint)).isEqualTo("ok");
+
+        verify(lock).tryLock(0, 5000, TimeUnit.MILLISECONDS);
+        verify(lock).unlock();
+        assertThat(meterRegistry.get("lock.wait").tag("scope", "local").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("lock.wait").tag("scope", "redis").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("lock.hold").tag("scope", "local").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("노드 로컬 락도 같은 방의 다른 스레드가 잡고 있으면 대기 시간 뒤 실패한다")
+    void localLockTimesOut() throws Throwable {
+        RLock lock = lock("lock:room:9");
+        when(roomOwnership.holdsLocalLock("9")).thenReturn(true);
+        invoke("startGame", new String[] {"roomId"}, 9L);
+
+        CountDownLatch entered = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(joinPoint.proceed()).thenAnswer(invocation -> {
+            entered.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return "ok";
+        });
+        Thread holder = Thread.ofVirtual().start(() -> {
+            try {
+                aspect.lock(joinPoint);
+            } catch (Throwable ignored) {
+            }
+        });
+        assertThat(entered.await(5, TimeUnit.SECONDS)).isTrue();
+
+        try {
+            assertThatThrownBy(() -> aspect.lock(joinPoint)).isInstanceOf(ServiceException.class);
+            assertThat(meterRegistry.get("lock.timeouts").tag("scope", "local").counter().count()).isEqualTo(1);
+            // 로컬 락에서 기다리므로 Redis 락은 잡고 있는 스레드만 시도합니다.
+            verify(lock, times(1)).tryLock(0, 5000, TimeUnit.MILLISECONDS);
+        } finally {
+            release.countDown();
+            holder.join();
+        }
+    }
+
+    @Test
+    @DisplayName("방 액터 안의 명령도 Redis 방 락을 잡아, 액터를 거치지 않는 연결 해제 처리와 겹치지 않는다")
+    void actorCommandExcludesDisconnect() throws Throwable {
+        // Redis 락을 스레드 단위 락으로 흉내 냅니다.
+        ReentrantLock redisLock = new ReentrantLock();
+        RLock lock = mock(RLock.class);
+        when(redissonClient.getLock("lock:room:9")).thenReturn(lock);
+        when(lock.tryLock(anyLong(), anyLong(), any(TimeUnit.class))).thenAnswer(invocation ->
+                redisLock.tryLock(invocation.<Long>getArgument(0), invocation.getArgument(2)));
+        doAnswer(invocation -> {
+            redisLock.unlock();
+            return null;
+        }).when(lock).unlock();
+        invoke("joinRoom", new String[] {"roomId"}, 9L);
+
+        CountDownLatch entered = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(joinPoint.proceed()).thenAnswer(invocation -> {
+            entered.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return "ok";
+        });
+
+        RoomCommandExecutor executor = new RoomCommandExecutor("actor", 16, 4, new SimpleMeterRegistry());
+        Thread caller = Thread.ofVirtual().start(() -> executor.run(RoomCommandExecutor.roomKey(9L), () -> {
+            try {
+                aspect.lock(joinPoint);
+            } catch (Throwable e) {
+                throw new IllegalStateException(e);
+            }
+        }));
+        try {
+            assertThat(entered.await(5, TimeUnit.SECONDS)).isTrue();
+
+            // RoomService.handleDisconnect 는 액터를 거치지 않고 같은 이름의 Redis 락을 잡습니다.
+            assertThat(redissonClient.getLock("lock:room:9").tryLock(0, 5000, TimeUnit.MILLISECONDS)).isFalse();
+        } finally {
+            release.countDown();
+            caller.join();
+            executor.shutdown();
+        }
+
+        assertThat(redissonClient.getLock("lock:room:9").tryLock(0, 5000, TimeUnit.MILLISECONDS)).isTrue();
+        redissonClient.getLock("lock:room:9").unlock();
+    }
+
+    private void invoke(String methodName, String[] parameterNames, Object arg) throws NoSuchMethodException {
+        Method method = Fixture.class.getDeclaredMethod(methodName, arg instanceof List ? List.class : Long.class);
+        when(signature.getMethod()).thenReturn(method);
+        when(signature.getParameterNames()).thenReturn(parameterNames);
+        when(joinPoint.getArgs()).thenReturn(new Object[] {arg});
+    }
+
+    private RLock lock(String name) throws InterruptedException {
+        RLock lock = mock(RLock.class);
+        when(redissonClient.getLock(name)).thenReturn(lock);
+        when(lock.tryLock(anyLong(), anyLong(), any(TimeUnit.class))).thenReturn(true);
+        return lock;
+    }
+
+    private RLock writeLock(String name, boolean acquired) throws InterruptedException {
+        RReadWriteLock readWriteLock = mock(RReadWriteLock.class);
+        RLock lock = mock(RLock.class);
+        when(redissonClient.getReadWriteLock(name)).thenReturn(readWriteLock);
+        when(readWriteLock.writeLock()).thenReturn(lock);
+        when(lock.tryLock(anyLong(), anyLong(), any(TimeUnit.class))).thenReturn(acquired);
+        return lock;
+    }
+
+    @SuppressWarnings("unused")
+    private static class Fixture {
+
+        @DistributedLock(namespace = LockNamespace.ROOM, key = "#roomId")
+        void joinRoom(Long roomId) {
+        }
+
+        @DistributedLock(namespace = LockNamespace.ROOM, key = "#roomId", waitTime = 100)
+        void startGame(Long roomId) {
+        }
+
+        @DistributedLock(namespace = LockNamespace.MEMBER, key = "#ownerId")
+        void createRoom(Long ownerId) {
+        }
+
+        @DistributedLock(namespace = LockNamespace.MEMBER, key = "#memberIds", mode = LockMode.WRITE)
+        void transfer(List<Long> memberIds) {
+        }
+
+        @DistributedLock(namespace = LockNamespace.ROOM, key = "#roomId", mode = LockMode.READ)
+        void getRoom(Long roomId) {
+        }
+    }
+}
@@ -0,0 +1,200 @@
+package com.ll.quizzle.global.socket;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.SetOperations;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+import com.ll.quizzle.global.socket.core.SessionInfo;
+import com.ll.quizzle.global.socket.session.RedisWebSocketSessionManager;
+
+/**
+ * 세션 등록/제거 스크립트와 ws:users 인덱스를 메모리에서 흉내 내어,
+ * 인덱스로 접속 사용자를 찾고 마지막 세션이 빠지면 인덱스에서도 지우는지 확인합니다.
+ */
+@MockitoSettings(strictness = Strictness.LENIENT)
+@ExtendWith(MockitoExtension.class)
+@SuppressWarnings("unchecked")
+class RedisWebSocketSessionManagerTest {
+
+    @Mock
+    private RedisTemplate<String, Object> redisTemplate;
+
+    @Mock
+    private RedisTemplate<String, String> stringRedisTemplate;
+
+    @Mock
+    private ValueOperations<String, Object> valueOperations;
+
+    @Mock
+    private HashOperations<String, Object, Object> hashOperations;
+
+    @Mock
+    private SetOperations<String, String> setOperations;
+
+    @Mock
+    private RedisSerializer<Object> serializer;
+
+    private final Map<String, Object> values = new HashMap<>();
+    private final Map<String, Map<Object, Object>> hashes = new HashMap<>();
+    private final Map<String, Set<String>> sets = new HashMap<>();
+    // 직렬화한 값을 스크립트 인자에서 다시 찾기 위한 표
+    private final Map<String, Object> serialized = new HashMap<>();
+
+    private RedisWebSocketSessionManager sessionManager;
+
+    @BeforeEach
+    void setUp() {
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(redisTemplate.opsForHash()).thenReturn(hashOperations);
+        when(stringRedisTemplate.opsForSet()).thenReturn(setOperations);
+        when(redisTemplate.getValueSerializer()).thenReturn((RedisSerializer) serializer);
+        when(redisTemplate.getHashValueSerializer()).thenReturn((RedisSerializer) serializer);
+
+        when(serializer.serialize(any())).thenAnswer(invocation -> {
+            String token = "value-" + serialized.size();
+            serialized.put(token, invocation.getArgument(0));
+            return token.getBytes(StandardCharsets.UTF_8);
+        });
+        when(valueOperations.get(anyString())).thenAnswer(invocation -> values.get(invocation.<String>getArgument(0)));
+        when(hashOperations.entries(anyString())).thenAnswer(invocation ->
+                new LinkedHashMap<>(hashes.getOrDefault(invocation.<String>getArgument(0), Map.of())));
+        when(setOperations.scan(anyString(), any(ScanOptions.class))).thenAnswer(invocation ->
+                cursor(new LinkedHashSet<>(sets.getOrDefault(invocation.<String>getArgument(0), Set.of()))));
+        when(setOperations.add(anyString(), any(String[].class))).thenAnswer(invocation -> {
+            Set<String> set = sets.computeIfAbsent(invocation.getArgument(0), key -> new LinkedHashSet<>());
+            set.addAll(varargs(invocation, 1).stream().map(String::valueOf).toList());
+            return 1L;
+        });
+        when(setOperations.remove(anyString(), any(Object[].class))).thenAnswer(invocation -> {
+            Set<String> set = sets.getOrDefault(invocation.<String>getArgument(0), new LinkedHashSet<>());
+            varargs(invocation, 1).forEach(set::remove);
+            return 1L;
+        });
+        // 인덱스 복구의 SCAN 은 사용자별 세션 목록 키만 찾습니다.
+        when(stringRedisTemplate.scan(any(ScanOptions.class))).thenAnswer(invocation ->
+                cursor(new LinkedHashSet<>(hashes.keySet())));
+        when(stringRedisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class)))
+                .thenAnswer(invocation -> runScript(invocation.getArgument(1), varargs(invocation, 2).toArray()));
+
+        sessionManager = new RedisWebSocketSessionManager(redisTemplate, stringRedisTemplate);
+    }
+
+    @Test
+    @DisplayName("등록한 세션을 ws:users 인덱스로 찾아 돌려준다")
+    void registersAndLooksUpThroughIndex() {
+        long expiry = System.currentTimeMillis() + 60_000;
+
+        sessionManager.registerSession("a@quizzle.com", "s1", "token-a", expiry);
+        sessionManager.registerSession("b@quizzle.com", "s2", "token-b", expiry);
+
+        assertThat(sets.get("ws:users")).containsExactlyInAnyOrder("a@quizzle.com", "b@quizzle.com");
+
+        Map<String, Map<String, SessionInfo>> active = sessionManager.getActiveUserSessions();
+        assertThat(active).containsOnlyKeys("a@quizzle.com", "b@quizzle.com");
+        assertThat(active.get("a@quizzle.com")).containsOnlyKeys("s1");
+        assertThat(active.get("a@quizzle.com").get("s1").accessToken()).isEqualTo("token-a");
+        assertThat(sessionManager.isSessionValid("b@quizzle.com", "s2")).isTrue();
+        verify(stringRedisTemplate, never()).keys(anyString());
+        verify(redisTemplate, never()).keys(anyString());
+    }
+
+    @Test
+    @DisplayName("마지막 세션을 제거하면 인덱스에서도 사용자를 지운다")
+    void removesUserFromIndexWithLastSession() {
+        long expiry = System.currentTimeMillis() + 60_000;
+        sessionManager.registerSession("a@quizzle.com", "s1", "token-1", expiry);
+        sessionManager.registerSession("a@quizzle.com", "s2", "token-2", expiry);
+
+        sessionManager.removeSession("a@quizzle.com", "s1");
+
+        assertThat(sets.get("ws:users")).containsExactly("a@quizzle.com");
+        assertThat(sessionManager.getActiveUserSessions().get("a@quizzle.com")).containsOnlyKeys("s2");
+        assertThat(sessionManager.isSessionValid("a@quizzle.com", "s1")).isFalse();
+
+        sessionManager.removeSession("a@quizzle.com", "s2");
+
+        assertThat(sets.get("ws:users")).isEmpty();
+        assertThat(sessionManager.getActiveUserSessions()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("세션 목록이 TTL 로 사라진 사용자는 만료 처리 때 인덱스에서 지운다")
+    void prunesUsersWhoseSessionsExpired() {
+        long expiry = System.currentTimeMillis() + 60_000;
+        sessionManager.registerSession("a@quizzle.com", "s1", "token-a", expiry);
+        hashes.remove("ws:user:a@quizzle.com");
+        values.remove("ws:session:s1");
+
+        sessionManager.removeExpiredSessions(System.currentTimeMillis(), null);
+
+        assertThat(sets.get("ws:users")).isEmpty();
+    }
+
+    /**
+     * register-session.lua 와 remove-session.lua 를 흉내 냅니다. 인자 수로 스크립트를 구분합니다.
+     */
+    private Long runScript(List<String> keys, Object[] args) {
+        String sessionKey = keys.get(0);
+        String userKey = keys.get(1);
+        String indexKey = keys.get(2);
+
+        if (args.length == 5) {
+            values.put(sessionKey, serialized.get(args[0]));
+            hashes.computeIfAbsent(userKey, key -> new LinkedHashMap<>()).put(args[1], serialized.get(args[2]));
+            sets.computeIfAbsent(indexKey, key -> new LinkedHashSet<>()).add((String) args[4]);
+            return 1L;
+        }
+
+        values.remove(sessionKey);
+        Map<Object, Object> sessions = hashes.getOrDefault(userKey, new LinkedHashMap<>());
+        sessions.remove(args[0]);
+        if (sessions.isEmpty()) {
+            hashes.remove(userKey);
+            sets.getOrDefault(indexKey, new LinkedHashSet<>()).remove((String) args[1]);
+        }
+        return (long) sessions.size();
+    }
+
+    // Mockito 는 가변 인자를 펼쳐서 넘기므로 start 번째 인자부터가 가변 인자입니다.
+    private static List<Object> varargs(InvocationOnMock invocation, int start) {
+        Object[] arguments = invocation.getArguments();
+        return Arrays.asList(arguments).subList(start, arguments.length);
+    }
+
+    private static Cursor<String> cursor(Set<String> members) {
+        Iterator<String> iterator = members.iterator();
+        Cursor<String> cursor = mock(Cursor.class);
+        when(cursor.hasNext()).thenAnswer(invocation -> iterator.hasNext());
+        when(cursor.next()).thenAnswer(invocation -> iterator.next());
+        doCallRealMethod().when(cursor).forEachRemaining(any());
+        return cursor;
+    }
+}
@@ -20,6 +20,7 @@ import com.ll.quizzle.domain.member.entity.Member;
 import com.ll.quizzle.domain.member.service.MemberService;
 import com.ll.quizzle.domain.member.type.Role;
 import com.ll.quizzle.global.socket.config.WebSocketConfig;
+import com.ll.quizzle.global.socket.interceptor.StompAffinityInterceptor;
 import com.ll.quizzle.global.socket.interceptor.StompChannelInterceptor;
 import com.ll.quizzle.global.socket.interceptor.WebSocketHandshakeInterceptor;
 import com.ll.quizzle.global.socket.service.WebSocketNotificationService;
@@ -40,6 +41,9 @@ class WebSocketConfigTest {
     @Mock
     private StompChannelInterceptor channelInterceptor;
 
+    @Mock
+    private StompAffinityInterceptor affinityInterceptor;
+
     @Mock
     private WebSocketSession webSocketSession;
 
@@ -51,7 +55,7 @@ class WebSocketConfigTest {
 
     @BeforeEach
     void setUp() {
-        webSocketConfig = new WebSocketConfig(handshakeInterceptor, channelInterceptor);
+        webSocketConfig = new WebSocketConfig(handshakeInterceptor, channelInterceptor, affinityInterceptor);
         
         // 테스트 멤버 생성
         testMember = Member.builder()
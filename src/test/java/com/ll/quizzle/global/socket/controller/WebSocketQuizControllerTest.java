@@ -0,0 +1,143 @@
+package com.ll.quizzle.global.socket.controller;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.Optional;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.http.HttpStatus;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+
+import com.ll.quizzle.domain.quiz.service.QuizRoomRegistry;
+import com.ll.quizzle.domain.room.service.RoomService;
+import com.ll.quizzle.global.actor.RoomCommandExecutor;
+import com.ll.quizzle.global.exceptions.ServiceException;
+import com.ll.quizzle.global.security.oauth2.dto.SecurityUser;
+import com.ll.quizzle.global.socket.dto.request.WebSocketQuizSubmitRequest;
+import com.ll.quizzle.global.socket.scheduler.QuizRoundScheduler;
+import com.ll.quizzle.global.socket.service.quiz.RedisQuizSubmissionService;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * 생성 API 가 발급하는 UUID quizId 로 라운드를 시작할 때, 방은 quizId 가 아니라 기록된 퀴즈 소유 정보로 찾는지 확인합니다.
+ */
+@MockitoSettings(strictness = Strictness.LENIENT)
+@ExtendWith(MockitoExtension.class)
+class WebSocketQuizControllerTest {
+
+    private static final String QUIZ_ID = UUID.randomUUID().toString();
+    private static final long MEMBER_ID = 3L;
+
+    @Mock
+    private RedisQuizSubmissionService quizSubmissionService;
+
+    @Mock
+    private QuizRoundScheduler roundScheduler;
+
+    @Mock
+    private RoomService roomService;
+
+    @Mock
+    private QuizRoomRegistry quizRoomRegistry;
+
+    private WebSocketQuizController controller;
+
+    @BeforeEach
+    void setUp() {
+        RoomCommandExecutor roomCommandExecutor = new RoomCommandExecutor("lock", 16, 4, new SimpleMeterRegistry());
+        controller = new WebSocketQuizController(quizSubmissionService, roundScheduler, roomCommandExecutor,
+                roomService, quizRoomRegistry);
+    }
+
+    @Test
+    @DisplayName("방 퀴즈는 기록된 방의 방장인지 확인한 뒤 라운드를 시작한다")
+    void startsRoomQuizForOwner() {
+        when(quizRoomRegistry.roomOf(QUIZ_ID)).thenReturn(Optional.of(42L));
+
+        controller.handleQuizStart(QUIZ_ID, member(MEMBER_ID));
+
+        verify(roomService).verifyOwner(42L, MEMBER_ID);
+        verify(roundScheduler).start(QUIZ_ID);
+    }
+
+    @Test
+    @DisplayName("방장이 아니면 라운드를 시작하지 않는다")
+    void rejectsNonOwner() {
+        when(quizRoomRegistry.roomOf(QUIZ_ID)).thenReturn(Optional.of(42L));
+        doThrow(new ServiceException(HttpStatus.FORBIDDEN, "방장만 이 작업을 수행할 수 있습니다."))
+                .when(roomService).verifyOwner(42L, MEMBER_ID);
+
+        assertThatThrownBy(() -> controller.handleQuizStart(QUIZ_ID, member(MEMBER_ID)))
+                .isInstanceOf(ServiceException.class);
+        verify(roundScheduler, never()).start(any());
+    }
+
+    @Test
+    @DisplayName("방이 없는 퀴즈는 만든 회원만 라운드를 시작할 수 있다")
+    void startsStandaloneQuizForCreatorOnly() {
+        when(quizRoomRegistry.roomOf(QUIZ_ID)).thenReturn(Optional.empty());
+        when(quizRoomRegistry.creatorOf(QUIZ_ID)).thenReturn(Optional.of(MEMBER_ID));
+
+        controller.handleQuizStart(QUIZ_ID, member(MEMBER_ID));
+        assertThatThrownBy(() -> controller.handleQuizStart(QUIZ_ID, member(MEMBER_ID + 1)))
+                .isInstanceOf(ServiceException.class);
+
+        verify(roundScheduler, times(1)).start(QUIZ_ID);
+        verifyNoInteractions(roomService);
+    }
+
+    @Test
+    @DisplayName("소유 기록이 없는 퀴즈는 시작하지 않는다")
+    void rejectsUnknownQuiz() {
+        when(quizRoomRegistry.roomOf(QUIZ_ID)).thenReturn(Optional.empty());
+        when(quizRoomRegistry.creatorOf(QUIZ_ID)).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> controller.handleQuizStart(QUIZ_ID, member(MEMBER_ID)))
+                .isInstanceOf(ServiceException.class);
+        verify(roundScheduler, never()).start(any());
+    }
+
+    @Test
+    @DisplayName("방 퀴즈의 제출은 퀴즈 ID 가 아니라 방 ID 의 액터에서 실행한다")
+    void submitsOnRoomActor() {
+        RoomCommandExecutor actorExecutor = new RoomCommandExecutor("actor", 16, 4, new SimpleMeterRegistry());
+        controller = new WebSocketQuizController(quizSubmissionService, roundScheduler, actorExecutor,
+                roomService, quizRoomRegistry);
+        when(quizRoomRegistry.actorKey(QUIZ_ID)).thenReturn(RoomCommandExecutor.roomKey(42L));
+        boolean[] onRoomActor = new boolean[1];
+        when(quizSubmissionService.submitAnswer(eq(QUIZ_ID), anyString(), eq(1), eq("2"))).thenAnswer(invocation -> {
+            onRoomActor[0] = RoomCommandExecutor.isRunningIn(RoomCommandExecutor.roomKey(42L));
+            return null;
+        });
+
+        try {
+            controller.handleQuizSubmission(QUIZ_ID, new WebSocketQuizSubmitRequest(1, "2"), member(MEMBER_ID));
+        } finally {
+            actorExecutor.shutdown();
+        }
+
+        verify(quizSubmissionService).submitAnswer(eq(QUIZ_ID), anyString(), eq(1), eq("2"));
+        assertThat(onRoomActor[0]).isTrue();
+    }
+
+    private static SimpMessageHeaderAccessor member(long memberId) {
+        SecurityUser user = SecurityUser.of(memberId, "user" + memberId, "user" + memberId + "@quizzle.com",
+                "ROLE_MEMBER");
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        accessor.setUser(new UsernamePasswordAuthenticationToken(user, null, user.getAuthorities()));
+        return accessor;
+    }
+}
@@ -0,0 +1,187 @@
+package com.ll.quizzle.global.socket.interceptor;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.nio.charset.StandardCharsets;
+import java.security.Principal;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.util.MimeTypeUtils;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ll.quizzle.domain.quiz.service.QuizRoomRegistry;
+import com.ll.quizzle.domain.room.service.RoomService;
+import com.ll.quizzle.global.actor.RoomCommandExecutor;
+import com.ll.quizzle.global.cluster.RoomOwnership;
+import com.ll.quizzle.global.security.oauth2.dto.SecurityUser;
+import com.ll.quizzle.global.socket.controller.WebSocketQuizController;
+import com.ll.quizzle.global.socket.scheduler.QuizRoundScheduler;
+import com.ll.quizzle.global.socket.service.quiz.RedisQuizSubmissionService;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@MockitoSettings(strictness = Strictness.LENIENT)
+@ExtendWith(MockitoExtension.class)
+class StompAffinityInterceptorTest {
+
+    private static final String ROOM_QUIZ_ID = UUID.randomUUID().toString();
+    private static final String STANDALONE_QUIZ_ID = UUID.randomUUID().toString();
+    private static final long MEMBER_ID = 3L;
+
+    @Mock
+    private RoomOwnership roomOwnership;
+
+    @Mock
+    private QuizRoomRegistry quizRoomRegistry;
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Mock
+    private RedisMessageListenerContainer listenerContainer;
+
+    @Mock
+    private MessageChannel clientInboundChannel;
+
+    @Mock
+    private MessageChannel channel;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private StompAffinityInterceptor interceptor;
+
+    @BeforeEach
+    void setUp() {
+        when(roomOwnership.isEnabled()).thenReturn(true);
+        when(roomOwnership.localNode()).thenReturn("node-a");
+        when(roomOwnership.isLocal("7")).thenReturn(false);
+        when(roomOwnership.ownerOf("7")).thenReturn("node-b");
+        when(roomOwnership.isLocal("8")).thenReturn(true);
+        when(roomOwnership.isLocal(STANDALONE_QUIZ_ID)).thenReturn(false);
+        when(roomOwnership.ownerOf(STANDALONE_QUIZ_ID)).thenReturn("node-c");
+        when(quizRoomRegistry.roomOf(ROOM_QUIZ_ID)).thenReturn(Optional.of(7L));
+        when(quizRoomRegistry.roomOf(STANDALONE_QUIZ_ID)).thenReturn(Optional.empty());
+        interceptor = new StompAffinityInterceptor(roomOwnership, quizRoomRegistry, redisTemplate, listenerContainer,
+                clientInboundChannel, objectMapper, new SimpleMeterRegistry());
+    }
+
+    @Test
+    @DisplayName("방 퀴즈의 명령 프레임은 quizId 가 아니라 퀴즈가 속한 방의 담당 노드 채널로 넘긴다")
+    void forwardsQuizFrameToRoomOwner() throws Exception {
+        String destination = "/app/quiz/" + ROOM_QUIZ_ID + "/submit";
+        Message<?> result = interceptor.preSend(send(destination, "{\"questionNumber\":1}"), channel);
+
+        assertThat(result).isNull();
+        ArgumentCaptor<String> payload = ArgumentCaptor.forClass(String.class);
+        verify(redisTemplate).convertAndSend(eq("cluster:node:node-b:stomp"), payload.capture());
+        StompAffinityInterceptor.ForwardedFrame frame =
+                objectMapper.readValue(payload.getValue(), StompAffinityInterceptor.ForwardedFrame.class);
+        assertThat(frame.from()).isEqualTo("node-a");
+        assertThat(frame.destination()).isEqualTo(destination);
+        assertThat(frame.memberId()).isEqualTo(MEMBER_ID);
+        assertThat(frame.nickname()).isEqualTo("player");
+        assertThat(frame.email()).isEqualTo("player@quizzle.com");
+        assertThat(frame.role()).isEqualTo("ROLE_MEMBER");
+        assertThat(frame.payload()).isEqualTo("{\"questionNumber\":1}");
+    }
+
+    @Test
+    @DisplayName("방이 없는 퀴즈의 명령 프레임은 quizId 의 담당 노드로 넘긴다")
+    void forwardsStandaloneQuizByQuizId() {
+        Message<?> result = interceptor.preSend(send("/app/quiz/" + STANDALONE_QUIZ_ID + "/start", "{}"), channel);
+
+        assertThat(result).isNull();
+        verify(redisTemplate).convertAndSend(eq("cluster:node:node-c:stomp"), anyString());
+    }
+
+    @Test
+    @DisplayName("이 노드가 담당하는 방이나 방 명령이 아닌 프레임은 그대로 통과시킨다")
+    void passesThroughLocal() {
+        Message<byte[]> local = send("/app/room/8", "{}");
+        Message<byte[]> chat = send("/app/room/chat/7", "{}");
+
+        assertThat(interceptor.preSend(local, channel)).isSameAs(local);
+        assertThat(interceptor.preSend(chat, channel)).isSameAs(chat);
+        verifyNoInteractions(redisTemplate);
+    }
+
+    @Test
+    @DisplayName("넘어온 프레임은 원래 회원의 인증 정보로 다시 넣어, 담당 노드의 퀴즈 컨트롤러가 회원을 확인할 수 있다")
+    void forwardedFrameReachesControllerAuthenticated() throws Exception {
+        String destination = "/app/quiz/" + ROOM_QUIZ_ID + "/start";
+        interceptor.preSend(send(destination, "{}"), channel);
+        ArgumentCaptor<String> payload = ArgumentCaptor.forClass(String.class);
+        verify(redisTemplate).convertAndSend(eq("cluster:node:node-b:stomp"), payload.capture());
+
+        interceptor.onMessage(new DefaultMessage("cluster:node:node-b:stomp".getBytes(StandardCharsets.UTF_8),
+                payload.getValue().getBytes(StandardCharsets.UTF_8)), null);
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Message<?>> captor = ArgumentCaptor.forClass(Message.class);
+        verify(clientInboundChannel).send(captor.capture());
+        Message<?> message = captor.getValue();
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.wrap(message);
+        assertThat(accessor.getDestination()).isEqualTo(destination);
+        assertThat(accessor.getUser()).isInstanceOf(Authentication.class);
+        assertThat(accessor.getUser().getName()).isEqualTo("player");
+        assertThat(accessor.getContentType()).isEqualTo(MimeTypeUtils.APPLICATION_JSON);
+        assertThat(interceptor.preSend(message, channel)).isSameAs(message);
+
+        RoomService roomService = mock(RoomService.class);
+        QuizRoundScheduler roundScheduler = mock(QuizRoundScheduler.class);
+        WebSocketQuizController controller = new WebSocketQuizController(mock(RedisQuizSubmissionService.class),
+                roundScheduler, new RoomCommandExecutor("lock", 16, 4, new SimpleMeterRegistry()), roomService,
+                quizRoomRegistry);
+
+        controller.handleQuizStart(ROOM_QUIZ_ID, accessor);
+
+        verify(roomService).verifyOwner(7L, MEMBER_ID);
+        verify(roundScheduler).start(ROOM_QUIZ_ID);
+    }
+
+    @Test
+    @DisplayName("인증 정보가 없는 프레임은 넘기지 않고 이 노드의 검증에 맡긴다")
+    void keepsUnauthenticatedFrameLocal() {
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.SEND);
+        accessor.setDestination("/app/room/7");
+        accessor.setUser((Principal) () -> "anonymous");
+        accessor.setLeaveMutable(true);
+        Message<byte[]> message = MessageBuilder.createMessage("{}".getBytes(StandardCharsets.UTF_8),
+                accessor.getMessageHeaders());
+
+        assertThat(interceptor.preSend(message, channel)).isSameAs(message);
+        verifyNoInteractions(redisTemplate);
+    }
+
+    private static Message<byte[]> send(String destination, String body) {
+        SecurityUser user = SecurityUser.of(MEMBER_ID, "player", "player@quizzle.com", "ROLE_MEMBER");
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.SEND);
+        accessor.setDestination(destination);
+        accessor.setUser(new UsernamePasswordAuthenticationToken(user, null, user.getAuthorities()));
+        accessor.setContentType(MimeTypeUtils.APPLICATION_JSON);
+        accessor.setLeaveMutable(true);
+        return MessageBuilder.createMessage(body.getBytes(StandardCharsets.UTF_8), accessor.getMessageHeaders());
+    }
+}
@@ -0,0 +1,58 @@
+package com.ll.quizzle.global.socket.scheduler;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class HierarchicalTimingWheelTest {
+
+    // 단계당 4칸, 3단계로 작게 만들어 상위 단계에서 내려오는 경로까지 검증합니다. (5ms * 4^3 = 320ms)
+    private final HierarchicalTimingWheel timingWheel =
+            new HierarchicalTimingWheel(5, TimeUnit.MILLISECONDS, 2, 3, Runnable::run, "test-timing-wheel");
+
+    @AfterEach
+    void tearDown() {
+        timingWheel.close();
+    }
+
+    @Test
+    @DisplayName("여러 단계에 걸친 작업이 마감 시각 이후에 모두 실행된다")
+    void expiresAcrossLevels() throws InterruptedException {
+        long[] delays = {1, 12, 45, 130, 500};
+        CountDownLatch latch = new CountDownLatch(delays.length);
+        List<Long> lateness = new CopyOnWriteArrayList<>();
+
+        for (long delay : delays) {
+            long scheduledAt = System.nanoTime();
+            timingWheel.schedule(() -> {
+                lateness.add(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - scheduledAt) - delay);
+                latch.countDown();
+            }, delay, TimeUnit.MILLISECONDS);
+        }
+
+        assertThat(latch.await(3, TimeUnit.SECONDS)).isTrue();
+        assertThat(lateness).allSatisfy(late -> assertThat(late).isGreaterThanOrEqualTo(0));
+    }
+
+    @Test
+    @DisplayName("취소한 작업은 실행되지 않는다")
+    void cancelledTaskDoesNotRun() throws InterruptedException {
+        CountDownLatch cancelled = new CountDownLatch(1);
+        CountDownLatch marker = new CountDownLatch(1);
+
+        HierarchicalTimingWheel.Timeout timeout = timingWheel.schedule(cancelled::countDown, 20, TimeUnit.MILLISECONDS);
+        timingWheel.schedule(marker::countDown, 60, TimeUnit.MILLISECONDS);
+
+        assertThat(timeout.cancel()).isTrue();
+        assertThat(marker.await(1, TimeUnit.SECONDS)).isTrue();
+        assertThat(cancelled.getCount()).isEqualTo(1);
+        assertThat(timeout.isCancelled()).isTrue();
+    }
+}
@@ -0,0 +1,150 @@
+package com.ll.quizzle.global.socket.scheduler;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import com.ll.quizzle.domain.quiz.cache.QuizAnswerKey;
+import com.ll.quizzle.domain.quiz.cache.QuizAnswerKeyCache;
+import com.ll.quizzle.domain.quiz.service.QuizScoreboardService;
+import com.ll.quizzle.global.cluster.RoomOwnership;
+import com.ll.quizzle.global.socket.core.MessageService;
+import com.ll.quizzle.global.socket.core.MessageServiceFactory;
+import com.ll.quizzle.global.socket.service.quiz.QuizUpdateCoalescer;
+
+/**
+ * close-round.lua 를 메모리에서 흉내 내어, 이미 닫힌 라운드의 마감 항목이 회수 한 번으로 지워져
+ * 다음 회수 때 실제로 마감을 넘긴 라운드를 가리지 않는지 확인합니다.
+ */
+@MockitoSettings(strictness = Strictness.LENIENT)
+@ExtendWith(MockitoExtension.class)
+@SuppressWarnings("unchecked")
+class QuizRoundSchedulerTest {
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Mock
+    private ZSetOperations<String, String> zSetOperations;
+
+    @Mock
+    private QuizAnswerKeyCache answerKeyCache;
+
+    @Mock
+    private MessageServiceFactory messageServiceFactory;
+
+    @Mock
+    private MessageService roomMessageService;
+
+    @Mock
+    private QuizScoreboardService scoreboardService;
+
+    @Mock
+    private QuizUpdateCoalescer updateCoalescer;
+
+    @Mock
+    private RoomOwnership roomOwnership;
+
+    private final Map<String, Double> deadlines = new ConcurrentHashMap<>();
+    private final Map<String, Integer> currentQuestions = new ConcurrentHashMap<>();
+    private QuizRoundScheduler scheduler;
+
+    @BeforeEach
+    void setUp() {
+        when(redisTemplate.opsForZSet()).thenReturn(zSetOperations);
+        when(messageServiceFactory.getRoomService()).thenReturn(roomMessageService);
+        when(answerKeyCache.get(anyString())).thenReturn(QuizAnswerKey.of(new char[] {'1', '2', '3'}, Long.MAX_VALUE));
+        when(zSetOperations.rangeByScore(eq(QuizRoundScheduler.DEADLINES_KEY), anyDouble(), anyDouble(), anyLong(),
+                anyLong())).thenAnswer(invocation -> overdue(invocation.getArgument(2), invocation.getArgument(4)));
+        when(redisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class)))
+                .thenAnswer(invocation -> {
+                    Object[] arguments = invocation.getArguments();
+                    return closeRound(Arrays.copyOfRange(arguments, 2, arguments.length));
+                });
+
+        scheduler = new QuizRoundScheduler(redisTemplate, answerKeyCache, messageServiceFactory, scoreboardService,
+                updateCoalescer, roomOwnership, 30, 3600, 0);
+        scheduler.init();
+    }
+
+    @AfterEach
+    void tearDown() {
+        scheduler.shutdown();
+    }
+
+    @Test
+    @DisplayName("이미 닫힌 라운드의 마감 항목은 회수할 때 지워져, 다음 회수에서 실제 마감 초과 라운드를 닫는다")
+    void staleDeadlinesDoNotCrowdOutOverdueRounds() {
+        long past = System.currentTimeMillis() - 60_000;
+        // 회수 한 번의 최대 건수(100)보다 많은, 이미 다음 문제로 넘어간 퀴즈의 마감 항목
+        for (int i = 0; i < 150; i++) {
+            deadlines.put("stale-" + i + ":1", (double) past + i);
+            currentQuestions.put("stale-" + i, 2);
+        }
+        deadlines.put("live:1", (double) past + 1_000);
+        currentQuestions.put("live", 1);
+
+        scheduler.recoverOverdueRounds();
+        assertThat(deadlines).hasSize(51);
+        assertThat(currentQuestions.get("live")).isEqualTo(1);
+
+        scheduler.recoverOverdueRounds();
+        assertThat(currentQuestions.get("live")).isEqualTo(2);
+        assertThat(deadlines.keySet()).containsExactly("live:2");
+    }
+
+    private Set<String> overdue(double max, long count) {
+        Set<String> members = new LinkedHashSet<>();
+        deadlines.entrySet().stream()
+                .filter(entry -> entry.getValue() <= max)
+                .sorted(Map.Entry.comparingByValue())
+                .limit(count)
+                .forEachOrdered(entry -> members.add(entry.getKey()));
+        return members;
+    }
+
+    /**
+     * close-round.lua 를 흉내 냅니다.
+     */
+    private List<String> closeRound(Object[] args) {
+        String quizId = (String) args[0];
+        int questionNumber = Integer.parseInt((String) args[1]);
+        int totalQuestions = Integer.parseInt((String) args[2]);
+        String member = quizId + ":" + questionNumber;
+
+        Integer current = currentQuestions.get(quizId);
+        if (current == null || current != questionNumber) {
+            deadlines.remove(member);
+            return List.of("STALE");
+        }
+        boolean timed = deadlines.remove(member) != null;
+        currentQuestions.put(quizId, questionNumber + 1);
+        if (questionNumber >= totalQuestions) {
+            return List.of("END");
+        }
+        if (timed) {
+            deadlines.put(quizId + ":" + (questionNumber + 1), Double.parseDouble((String) args[3]));
+        }
+        return List.of("NEXT", timed ? "1" : "0");
+    }
+}
@@ -0,0 +1,226 @@
+package com.ll.quizzle.global.socket.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+
+/**
+ * 답안 제출 경로의 Redis 왕복 횟수와 지연 시간을 기존 명령 나열 방식과 스크립트 방식으로 비교합니다.
+ * 실제 Redis 가 필요하므로 QUIZZLE_BENCHMARK=true 환경 변수가 있을 때만 실행됩니다.
+ * (REDIS_HOST / REDIS_PORT 로 대상 지정, 기본값 localhost:6379)
+ */
+@EnabledIfEnvironmentVariable(named = "QUIZZLE_BENCHMARK", matches = "true")
+class QuizSubmissionBenchmarkTest {
+
+    private static final Logger log = LoggerFactory.getLogger(QuizSubmissionBenchmarkTest.class);
+
+    private static final Duration QUIZ_TTL = Duration.ofMinutes(30);
+    private static final int QUESTIONS = 10;
+    private static final int PLAYERS = 8;
+    private static final int ROUNDS = 50;
+
+    @SuppressWarnings("rawtypes")
+    private static final DefaultRedisScript<List> SCRIPT =
+            new DefaultRedisScript<>(new ClassPathResource("scripts/quiz/submit-answer.lua"), List.class);
+
+    private LettuceConnectionFactory connectionFactory;
+    private RedisTemplate<String, Object> jsonTemplate;
+    private StringRedisTemplate stringTemplate;
+
+    @BeforeEach
+    void setUp() {
+        String host = System.getenv().getOrDefault("REDIS_HOST", "localhost");
+        int port = Integer.parseInt(System.getenv().getOrDefault("REDIS_PORT", "6379"));
+        connectionFactory = new LettuceConnectionFactory(host, port);
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+
+        jsonTemplate = new RedisTemplate<>();
+        jsonTemplate.setConnectionFactory(connectionFactory);
+        jsonTemplate.setKeySerializer(new StringRedisSerializer());
+        jsonTemplate.setValueSerializer(new GenericJackson2JsonRedisSerializer());
+        jsonTemplate.afterPropertiesSet();
+
+        stringTemplate = new StringRedisTemplate(connectionFactory);
+    }
+
+    @AfterEach
+    void tearDown() {
+        connectionFactory.destroy();
+    }
+
+    @Test
+    @DisplayName("스크립트 제출은 왕복 1회로 기존 방식보다 지연 시간이 짧다")
+    void compareLegacyAndScriptedSubmission() {
+        // 워밍업 (스크립트 SHA 캐시 적재 포함)
+        runLegacy(5);
+        runScripted(5);
+
+        Result legacy = runLegacy(ROUNDS);
+        Result scripted = runScripted(ROUNDS);
+
+        log.info("[legacy]   round trips/submit={}, p50={}us, p99={}us", legacy.roundTripsPerSubmit(), legacy.p50Micros(), legacy.p99Micros());
+        log.info("[scripted] round trips/submit={}, p50={}us, p99={}us", scripted.roundTripsPerSubmit(), scripted.p50Micros(), scripted.p99Micros());
+
+        assertThat(scripted.roundTripsPerSubmit()).isEqualTo(1);
+        assertThat(legacy.roundTripsPerSubmit()).isGreaterThanOrEqualTo(10);
+        assertThat(scripted.p50Micros()).isLessThan(legacy.p50Micros());
+    }
+
+    private Result runLegacy(int rounds) {
+        long[] samples = new long[rounds * QUESTIONS * PLAYERS];
+        long roundTrips = 0;
+        int index = 0;
+        for (int round = 0; round < rounds; round++) {
+            String quizId = prepareQuiz();
+            for (int question = 1; question <= QUESTIONS; question++) {
+                for (int player = 1; player <= PLAYERS; player++) {
+                    long start = System.nanoTime();
+                    roundTrips += legacySubmit(quizId, String.valueOf(player), question, "a");
+                    samples[index++] = System.nanoTime() - start;
+                }
+                jsonTemplate.opsForValue().set(String.format("quiz:%s:currentQuestion", quizId), question + 1, QUIZ_TTL);
+            }
+        }
+        return Result.of(samples, roundTrips);
+    }
+
+    private Result runScripted(int rounds) {
+        long[] samples = new long[rounds * QUESTIONS * PLAYERS];
+        int index = 0;
+        for (int round = 0; round < rounds; round++) {
+            String quizId = prepareQuiz();
+            for (int question = 1; question <= QUESTIONS; question++) {
+                for (int player = 1; player <= PLAYERS; player++) {
+                    long start = System.nanoTime();
+                    scriptedSubmit(quizId, String.valueOf(player), question, "a");
+                    samples[index++] = System.nanoTime() - start;
+                }
+                jsonTemplate.opsForValue().set(String.format("quiz:%s:currentQuestion", quizId), question + 1, QUIZ_TTL);
+            }
+        }
+        return Result.of(samples, samples.length);
+    }
+
+    private String prepareQuiz() {
+        String quizId = "bench-" + UUID.randomUUID();
+        String answerKey = String.format("quiz:%s:answers", quizId);
+        for (int question = 1; question <= QUESTIONS; question++) {
+            jsonTemplate.opsForList().rightPush(answerKey, question + ":a");
+        }
+        jsonTemplate.expire(answerKey, QUIZ_TTL);
+        for (int player = 1; player <= PLAYERS; player++) {
+            stringTemplate.opsForSet().add(String.format("quiz:%s:participants", quizId), String.valueOf(player));
+        }
+        stringTemplate.expire(String.format("quiz:%s:participants", quizId), QUIZ_TTL);
+        return quizId;
+    }
+
+    /**
+     * 스크립트 도입 전 RedisQuizSubmissionService.submitAnswer 의 명령 순서를 그대로 재현합니다.
+     * 반환값은 이번 제출에 사용된 Redis 왕복 횟수입니다.
+     */
+    private int legacySubmit(String quizId, String memberId, int questionNumber, String submittedAnswer) {
+        int roundTrips = 0;
+        String answerListKey = String.format("quiz:%s:answers", quizId);
+        Long totalQuestions = jsonTemplate.opsForList().size(answerListKey);
+        roundTrips++;
+        Object answerObj = jsonTemplate.opsForList().index(answerListKey, questionNumber - 1);
+        roundTrips++;
+        String correctAnswer = answerObj.toString().split(":")[1].trim().toLowerCase();
+        boolean isCorrect = correctAnswer.equals(submittedAnswer.trim().toLowerCase());
+
+        String currentQuestionKey = String.format("quiz:%s:currentQuestion", quizId);
+        Object currentQuestion = jsonTemplate.opsForValue().get(currentQuestionKey);
+        roundTrips++;
+        if (currentQuestion == null) {
+            jsonTemplate.opsForValue().set(currentQuestionKey, 1, QUIZ_TTL);
+            roundTrips++;
+        }
+
+        String submissionKey = String.format("quiz:%s:memberId:%s:submissions", quizId, memberId);
+        jsonTemplate.opsForList().range(submissionKey, 0, -1);
+        roundTrips++;
+        String resultStr = isCorrect ? "correct" : "incorrect";
+        jsonTemplate.opsForList().rightPush(submissionKey, String.format("%d:%s:%s", questionNumber, submittedAnswer, resultStr));
+        roundTrips++;
+        jsonTemplate.expire(submissionKey, QUIZ_TTL);
+        roundTrips++;
+
+        String submittedSetKey = String.format("quiz:%s:submitted:%d", quizId, questionNumber);
+        jsonTemplate.opsForSet().isMember(submittedSetKey, memberId);
+        roundTrips++;
+        jsonTemplate.opsForSet().add(submittedSetKey, memberId);
+        roundTrips++;
+        jsonTemplate.expire(submittedSetKey, QUIZ_TTL);
+        roundTrips++;
+
+        Long totalParticipants = jsonTemplate.opsForSet().size(String.format("quiz:%s:participants", quizId));
+        roundTrips++;
+        Long submittedCount = jsonTemplate.opsForSet().size(submittedSetKey);
+        roundTrips++;
+        if (totalParticipants != null && totalParticipants.equals(submittedCount)) {
+            String event = (questionNumber == totalQuestions.intValue()) ? "quizEnd" : "nextQuestion";
+            jsonTemplate.convertAndSend(String.format("quiz:%s:notifications", quizId), event);
+            roundTrips++;
+        }
+        return roundTrips;
+    }
+
+    private void scriptedSubmit(String quizId, String memberId, int questionNumber, String submittedAnswer) {
+        // 채점은 노드 로컬 정답표 캐시에서 끝나므로 스크립트에는 결과만 전달합니다.
+        List<?> result = stringTemplate.execute(
+                SCRIPT,
+                List.of(
+                        String.format("quiz:%s:currentQuestion", quizId),
+                        String.format("quiz:%s:memberId:%s:submissions", quizId, memberId),
+                        String.format("quiz:%s:submitted:%d", quizId, questionNumber),
+                        String.format("quiz:%s:participants", quizId),
+                        String.format("quiz:%s:scoreboard", quizId),
+                        String.format("quiz:%s:correct", quizId),
+                        String.format("quiz:%s:answered", quizId)
+                ),
+                memberId,
+                String.valueOf(questionNumber),
+                submittedAnswer,
+                String.valueOf(QUIZ_TTL.toSeconds()),
+                String.format("quiz:%s:notifications", quizId),
+                "1",
+                String.valueOf(QUESTIONS),
+                String.valueOf(System.currentTimeMillis())
+        );
+        assertThat(result).isNotEmpty();
+        assertThat(result.get(0)).isEqualTo("OK");
+    }
+
+    private record Result(double roundTripsPerSubmit, long p50Micros, long p99Micros) {
+
+        static Result of(long[] samples, long roundTrips) {
+            long[] sorted = samples.clone();
+            Arrays.sort(sorted);
+            return new Result(
+                    (double) roundTrips / samples.length,
+                    sorted[(int) (sorted.length * 0.50)] / 1_000,
+                    sorted[(int) (sorted.length * 0.99)] / 1_000
+            );
+        }
+    }
+}
@@ -0,0 +1,120 @@
+package com.ll.quizzle.global.socket.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import com.ll.quizzle.global.socket.core.MessageService;
+import com.ll.quizzle.global.socket.core.MessageServiceFactory;
+import com.ll.quizzle.global.socket.dto.response.WebSocketQuizSubmitBatchResponse;
+import com.ll.quizzle.global.socket.dto.response.WebSocketQuizSubmitResponse;
+import com.ll.quizzle.global.socket.service.quiz.QuizUpdateCoalescer;
+import com.ll.quizzle.global.socket.type.RoomMessageType;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@MockitoSettings(strictness = Strictness.LENIENT)
+@ExtendWith(MockitoExtension.class)
+class QuizUpdateCoalescerTest {
+
+    private static final String TOPIC = "/topic/quiz/quiz1/updates";
+
+    @Mock
+    private MessageServiceFactory messageServiceFactory;
+
+    @Mock
+    private MessageService messageService;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private QuizUpdateCoalescer coalescer;
+
+    @AfterEach
+    void tearDown() {
+        if (coalescer != null) {
+            coalescer.shutdown();
+        }
+    }
+
+    private QuizUpdateCoalescer coalescer(long windowMillis, int maxBatchSize) {
+        when(messageServiceFactory.getRoomService()).thenReturn(messageService);
+        coalescer = new QuizUpdateCoalescer(messageServiceFactory, windowMillis, maxBatchSize, meterRegistry);
+        return coalescer;
+    }
+
+    private static WebSocketQuizSubmitResponse submission(String memberId, int questionNumber, int submittedCount) {
+        return new WebSocketQuizSubmitResponse(RoomMessageType.ANSWER_SUBMIT, questionNumber, true, "a",
+                memberId, memberId, true, System.currentTimeMillis(), "quiz1", submittedCount, 8);
+    }
+
+    @Test
+    @DisplayName("구간 안에 들어온 제출은 한 프레임으로 묶여 최대 지연 시간 안에 전송된다")
+    void coalescesWithinWindow() {
+        QuizUpdateCoalescer coalescer = coalescer(50, 64);
+
+        for (int i = 1; i <= 8; i++) {
+            coalescer.publish(submission(String.valueOf(i), 1, i));
+        }
+
+        ArgumentCaptor<Object> message = ArgumentCaptor.forClass(Object.class);
+        verify(messageService, timeout(1_000).times(1)).send(eq(TOPIC), message.capture());
+        WebSocketQuizSubmitBatchResponse batch = (WebSocketQuizSubmitBatchResponse) message.getValue();
+        assertThat(batch.type()).isEqualTo(RoomMessageType.ANSWER_BATCH);
+        assertThat(batch.submissions()).extracting(WebSocketQuizSubmitResponse::memberId)
+                .containsExactly("1", "2", "3", "4", "5", "6", "7", "8");
+        assertThat(batch.submittedCount()).isEqualTo(8);
+        assertThat(batch.participantCount()).isEqualTo(8);
+        assertThat(meterRegistry.get("quiz.updates.frame.reduction").gauge().value()).isEqualTo(1 - 1 / 8.0);
+    }
+
+    @Test
+    @DisplayName("라운드를 닫을 때 남은 제출을 즉시 전송하고 문제 번호가 바뀌면 이전 묶음을 먼저 보낸다")
+    void flushesOnRoundCloseAndQuestionChange() {
+        QuizUpdateCoalescer coalescer = coalescer(60_000, 64);
+
+        coalescer.publish(submission("1", 1, 1));
+        coalescer.publish(submission("2", 2, 1));
+        coalescer.flush("quiz1");
+
+        ArgumentCaptor<Object> message = ArgumentCaptor.forClass(Object.class);
+        verify(messageService, times(2)).send(eq(TOPIC), message.capture());
+        List<Integer> questions = message.getAllValues().stream()
+                .map(value -> ((WebSocketQuizSubmitBatchResponse) value).questionNumber())
+                .toList();
+        assertThat(questions).containsExactly(1, 2);
+    }
+
+    @Test
+    @DisplayName("묶음이 최대 크기에 도달하면 구간을 기다리지 않고 전송한다")
+    void flushesWhenBatchIsFull() {
+        QuizUpdateCoalescer coalescer = coalescer(60_000, 2);
+
+        coalescer.publish(submission("1", 1, 1));
+        verifyNoInteractions(messageService);
+        coalescer.publish(submission("2", 1, 2));
+
+        verify(messageService, times(1)).send(eq(TOPIC), any(WebSocketQuizSubmitBatchResponse.class));
+    }
+
+    @Test
+    @DisplayName("구간이 0 이면 묶지 않고 제출마다 바로 전송한다")
+    void sendsImmediatelyWhenDisabled() {
+        QuizUpdateCoalescer coalescer = coalescer(0, 64);
+        WebSocketQuizSubmitResponse submission = submission("1", 1, 1);
+
+        coalescer.publish(submission);
+
+        verify(messageService).send(TOPIC, submission);
+    }
+}
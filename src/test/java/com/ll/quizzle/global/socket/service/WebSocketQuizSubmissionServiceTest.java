@@ -1,27 +1,31 @@
 package com.ll.quizzle.global.socket.service;
 
-import com.ll.quizzle.domain.member.service.MemberService;
+import com.ll.quizzle.domain.member.cache.MemberProfileCache;
+import com.ll.quizzle.domain.quiz.cache.QuizAnswerKey;
+import com.ll.quizzle.domain.quiz.cache.QuizAnswerKeyCache;
 import com.ll.quizzle.global.socket.dto.response.WebSocketQuizSubmitResponse;
+import com.ll.quizzle.global.socket.scheduler.QuizRoundScheduler;
+import com.ll.quizzle.global.socket.service.quiz.QuizUpdateCoalescer;
 import com.ll.quizzle.global.socket.service.quiz.RedisQuizSubmissionService;
 import com.ll.quizzle.global.socket.type.RoomMessageType;
-import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
-import org.springframework.data.redis.core.ListOperations;
 import org.springframework.data.redis.core.RedisTemplate;
-import org.springframework.data.redis.core.SetOperations;
-import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
 
-import java.util.Collections;
+import java.util.Arrays;
+import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
@@ -32,19 +36,19 @@ import static org.mockito.Mockito.*;
 class RedisQuizSubmissionServiceTest {
 
     @Mock
-    private RedisTemplate<String, Object> redisTemplate;
+    private RedisTemplate<String, String> redisTemplate;
 
     @Mock
-    private ListOperations<String, Object> listOps;
+    private QuizAnswerKeyCache answerKeyCache;
 
     @Mock
-    private SetOperations<String, Object> setOps;
+    private MemberProfileCache memberProfileCache;
 
     @Mock
-    private ValueOperations<String, Object> valueOps;
+    private QuizRoundScheduler roundScheduler;
 
     @Mock
-    private MemberService memberService;
+    private QuizUpdateCoalescer updateCoalescer;
 
     @InjectMocks
     private RedisQuizSubmissionService quizSubmissionService;
@@ -54,36 +58,33 @@ class RedisQuizSubmissionServiceTest {
     private final String memberId = "12";
     private final int questionNumber = 1;
     private final String submittedAnswer = "a";
-    private final String answerKey = "quiz:" + quizId + ":answers";
     private final String currentQuestionKey = "quiz:" + quizId + ":currentQuestion";
     // 수정된 제출 키: "quiz:%s:memberId:%s:submissions"
     private final String submissionKey = String.format("quiz:%s:memberId:%s:submissions", quizId, memberId);
     private final String submittedSetKey = String.format("quiz:%s:submitted:%d", quizId, questionNumber);
     private final String participantsKey = String.format("quiz:%s:participants", quizId);
+    private final String scoreboardKey = String.format("quiz:%s:scoreboard", quizId);
+    private final String correctKey = String.format("quiz:%s:correct", quizId);
+    private final String answeredKey = String.format("quiz:%s:answered", quizId);
 
-    @BeforeEach
-    void setUp() {
-        // 각 Operations 객체를 목(mock)으로 설정
-        when(redisTemplate.opsForList()).thenReturn(listOps);
-        when(redisTemplate.opsForSet()).thenReturn(setOps);
-        when(redisTemplate.opsForValue()).thenReturn(valueOps);
+    private void givenAnswerKey(String... entries) {
+        when(answerKeyCache.get(eq(quizId))).thenReturn(QuizAnswerKey.parse(List.of(entries), 1_000_000_000L));
+    }
+
+    @SuppressWarnings("unchecked")
+    private void givenScriptResult(List<?>... results) {
+        var stubbing = when(redisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class)));
+        for (List<?> result : results) {
+            stubbing = stubbing.thenReturn(result);
+        }
     }
 
     @Test
     @DisplayName("정상 제출 흐름 - 올바른 WebSocketQuizSubmitResponse 반환")
     void testValidSubmissionFlow() {
-        // 전체 문제 수 1, 정답 리스트에 "1:a" 저장되어 있다고 가정
-        when(listOps.size(eq(answerKey))).thenReturn(1L);
-        when(listOps.index(eq(answerKey), eq((long) questionNumber - 1))).thenReturn("1:a");
-        // 활성 문제 번호가 없으므로 null -> 서비스 내에서 1로 초기화
-        when(valueOps.get(eq(currentQuestionKey))).thenReturn(null);
-        // 중복 제출 검사: 제출 키의 range는 빈 리스트 반환
-        when(listOps.range(eq(submissionKey), anyLong(), anyLong())).thenReturn(Collections.emptyList());
-        // 제출 Set: 아직 제출되지 않음
-        when(setOps.isMember(eq(submittedSetKey), eq(memberId))).thenReturn(false);
-        // 참가자 수와 제출된 인원이 모두 2명인 경우 -> 이벤트 발행 대상
-        when(setOps.size(eq(participantsKey))).thenReturn(2L);
-        when(setOps.size(eq(submittedSetKey))).thenReturn(2L);
+        // 전체 문제 수 1, 정답 "a", 모든 참가자가 제출하여 quizEnd 이벤트가 발행된 경우
+        givenAnswerKey("1:a");
+        givenScriptResult(List.of("OK", "quizEnd", 3L, 3L));
 
         WebSocketQuizSubmitResponse response = quizSubmissionService.submitAnswer(
                 quizId, memberId, questionNumber, submittedAnswer
@@ -95,36 +96,72 @@ class RedisQuizSubmissionServiceTest {
         assertThat(response.questionNumber()).isEqualTo(questionNumber);
         assertThat(response.correct()).isTrue();
         assertThat(response.correctAnswer()).isEqualTo("a");
-        // DTO에는 message 필드가 없으므로 검증하지 않음.
         assertThat(response.memberId()).isEqualTo(memberId);
         // 테스트 환경에서는 nickname을 memberId로 설정했다고 가정함.
         assertThat(response.nickname()).isEqualTo(memberId);
         assertThat(response.isSubmitted()).isTrue();
         assertThat(response.quizId()).isEqualTo(quizId);
+        assertThat(response.submittedCount()).isEqualTo(3);
+        assertThat(response.participantCount()).isEqualTo(3);
+        // 제출 알림이 라운드 종료보다 먼저 버퍼에 들어간 뒤, 마감을 기다리지 않고 라운드를 닫는다
+        InOrder inOrder = inOrder(updateCoalescer, roundScheduler);
+        inOrder.verify(updateCoalescer).publish(response);
+        inOrder.verify(roundScheduler).onAllSubmitted(quizId, questionNumber);
+    }
 
-        // 모든 참가자가 제출되었으므로, convertAndSend()가 호출되어 "quizEnd" 이벤트가 발행되어야 함.
-        ArgumentCaptor<String> channelCaptor = ArgumentCaptor.forClass(String.class);
-        ArgumentCaptor<Object> eventCaptor = ArgumentCaptor.forClass(Object.class);
-        verify(redisTemplate, times(1))
-                .convertAndSend(channelCaptor.capture(), eventCaptor.capture());
-        assertThat(channelCaptor.getValue()).isEqualTo(String.format("quiz:%s:notifications", quizId));
-        assertThat(eventCaptor.getValue()).isEqualTo("quizEnd");
+    @Test
+    @DisplayName("제출 한 건은 스크립트 한 번(단일 왕복)으로 처리되고 올바른 키와 인자가 전달된다")
+    @SuppressWarnings("unchecked")
+    void testSingleRoundTrip() {
+        givenAnswerKey("1:b", "2:c", "3:d");
+        givenScriptResult(List.of("OK", "", 1L, 4L));
+
+        WebSocketQuizSubmitResponse response = quizSubmissionService.submitAnswer(quizId, memberId, questionNumber, "  A ");
+
+        ArgumentCaptor<List<String>> keysCaptor = ArgumentCaptor.forClass(List.class);
+        ArgumentCaptor<Object[]> argsCaptor = ArgumentCaptor.forClass(Object[].class);
+        verify(redisTemplate, times(1)).execute(any(RedisScript.class), keysCaptor.capture(), argsCaptor.capture());
+        verifyNoMoreInteractions(redisTemplate);
+
+        assertThat(keysCaptor.getValue())
+                .containsExactly(currentQuestionKey, submissionKey, submittedSetKey, participantsKey,
+                        scoreboardKey, correctKey, answeredKey);
+        Object[] args = argsCaptor.getValue();
+        assertThat(args).hasSize(8);
+        assertThat(Arrays.copyOf(args, 7))
+                .containsExactly(memberId, "1", "a", "1800", String.format("quiz:%s:notifications", quizId), "0", "3");
+        // 마지막 인자는 동점 순서를 가르는 제출 시각(epoch ms)
+        assertThat(Long.parseLong(args[7].toString())).isCloseTo(System.currentTimeMillis(), within(5_000L));
+        assertThat(response.correct()).isFalse();
+        assertThat(response.correctAnswer()).isEqualTo("b");
+        verify(updateCoalescer).publish(response);
+        verifyNoInteractions(roundScheduler);
     }
 
     @Test
     @DisplayName("잘못된 문제 번호 처리 - 문제 번호가 전체 문제 수 초과인 경우 예외 발생")
     void testInvalidQuestionNumber() {
-        when(listOps.size(eq(answerKey))).thenReturn(2L);
+        givenAnswerKey("1:a", "2:b");
         assertThrows(IllegalArgumentException.class, () ->
                 quizSubmissionService.submitAnswer(quizId, memberId, 3, submittedAnswer)
         );
+        verifyNoInteractions(redisTemplate);
+    }
+
+    @Test
+    @DisplayName("정답표가 없는 퀴즈 - 예외 발생")
+    void testUnknownQuiz() {
+        when(answerKeyCache.get(eq(quizId))).thenReturn(null);
+        assertThrows(IllegalArgumentException.class, () ->
+                quizSubmissionService.submitAnswer(quizId, memberId, questionNumber, submittedAnswer)
+        );
+        verifyNoInteractions(redisTemplate);
     }
 
     @Test
     @DisplayName("정답 형식 오류 - Redis에 저장된 정답 형식이 잘못된 경우 예외 발생")
     void testAnswerFormatError() {
-        when(listOps.size(eq(answerKey))).thenReturn(1L);
-        when(listOps.index(eq(answerKey), eq((long) questionNumber - 1))).thenReturn("invalidFormat");
+        givenAnswerKey("invalidFormat");
         assertThrows(IllegalStateException.class, () ->
                 quizSubmissionService.submitAnswer(quizId, memberId, questionNumber, submittedAnswer)
         );
@@ -133,16 +170,11 @@ class RedisQuizSubmissionServiceTest {
     @Test
     @DisplayName("중복 제출 방지 - 같은 사용자가 두 번 제출 시 예외 발생")
     void testDuplicateSubmission() {
-        when(listOps.size(eq(answerKey))).thenReturn(1L);
-        when(listOps.index(eq(answerKey), eq((long) questionNumber - 1))).thenReturn("1:a");
-        when(valueOps.get(eq(currentQuestionKey))).thenReturn(1);
-        // 첫 호출: 빈 리스트, 두 번째 호출: 이미 제출된 기록이 포함되어 중복 제출로 판단
-        when(listOps.range(eq(submissionKey), anyLong(), anyLong()))
-                .thenReturn(Collections.emptyList())
-                .thenReturn(Collections.singletonList("1:a:correct"));
-        when(setOps.isMember(eq(submittedSetKey), eq(memberId))).thenReturn(false);
-        when(setOps.size(eq(participantsKey))).thenReturn(1L);
-        when(setOps.size(eq(submittedSetKey))).thenReturn(1L);
+        givenAnswerKey("1:a");
+        givenScriptResult(
+                List.of("OK", ""),
+                List.of("DUPLICATE_SUBMISSION")
+        );
 
         WebSocketQuizSubmitResponse firstResponse = quizSubmissionService.submitAnswer(quizId, memberId, questionNumber, submittedAnswer);
         assertThat(firstResponse).isNotNull();
@@ -155,30 +187,20 @@ class RedisQuizSubmissionServiceTest {
     @Test
     @DisplayName("현재 활성 문제 번호 검증 - 제출 요청 문제 번호가 활성 문제 번호와 다르면 예외 발생")
     void testCurrentQuestionMismatch() {
-        when(listOps.size(eq(answerKey))).thenReturn(1L);
-        when(listOps.index(eq(answerKey), eq((long) questionNumber - 1))).thenReturn("1:a");
-        when(valueOps.get(eq(currentQuestionKey))).thenReturn(2);
+        givenAnswerKey("1:a", "2:b");
+        givenScriptResult(List.of("NOT_CURRENT_QUESTION"));
         assertThrows(IllegalStateException.class, () ->
                 quizSubmissionService.submitAnswer(quizId, memberId, questionNumber, submittedAnswer)
         );
     }
 
     @Test
-    @DisplayName("모든 참가자 제출 후 이벤트 발행 테스트 - 제출 인원과 참가자 수가 일치하면 이벤트 발행")
-    void testAllParticipantsSubmittedEventEmitted() {
-        when(listOps.size(eq(answerKey))).thenReturn(1L);
-        when(listOps.index(eq(answerKey), eq((long) questionNumber - 1))).thenReturn("1:a");
-        when(valueOps.get(eq(currentQuestionKey))).thenReturn(1);
-        when(listOps.range(eq(submissionKey), anyLong(), anyLong())).thenReturn(Collections.emptyList());
-        when(setOps.isMember(eq(submittedSetKey), eq(memberId))).thenReturn(false);
-        when(setOps.size(eq(participantsKey))).thenReturn(3L);
-        when(setOps.size(eq(submittedSetKey))).thenReturn(3L);
-
-        WebSocketQuizSubmitResponse response = quizSubmissionService.submitAnswer(quizId, memberId, questionNumber, submittedAnswer);
-
-        verify(redisTemplate, times(1)).convertAndSend(eq(String.format("quiz:%s:notifications", quizId)), eq("quizEnd"));
-        assertThat(response).isNotNull();
-        assertThat(response.questionNumber()).isEqualTo(questionNumber);
-        assertThat(response.quizId()).isEqualTo(quizId);
+    @DisplayName("스크립트 결과가 비어 있으면 예외 발생")
+    void testEmptyScriptResult() {
+        givenAnswerKey("1:a");
+        givenScriptResult(List.of());
+        assertThrows(IllegalStateException.class, () ->
+                quizSubmissionService.submitAnswer(quizId, memberId, questionNumber, submittedAnswer)
+        );
     }
 }